@@ -0,0 +1,95 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.task.enumeration.ETaskRole;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAssignment;
+import br.com.teamtacles.user.enumeration.ERole;
+import br.com.teamtacles.user.model.Role;
+import br.com.teamtacles.user.model.User;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {}
+
+    static User user(long id) {
+        User user = new User();
+        setField(User.class, user, "id", id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@teamtacles.com");
+        user.definePassword("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm");
+        user.addRole(new Role(1L, ERole.USER));
+        user.confirmAccountVerification();
+        return user;
+    }
+
+    static Project project(long id, User owner) {
+        Project project = new Project("Benchmark Project " + id, "Project used by the JMH benchmarks.", owner);
+        setField(Project.class, project, "id", id);
+        return project;
+    }
+
+    // Gera tarefas com status, prazos e responsáveis distribuídos de forma determinística
+    static List<Task> tasks(int count, int memberCount) {
+        Random random = new Random(SEED);
+        List<User> members = new ArrayList<>(memberCount);
+        for (long i = 1; i <= memberCount; i++) {
+            members.add(user(i));
+        }
+
+        Project project = project(1L, members.get(0));
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            User owner = members.get(random.nextInt(memberCount));
+            OffsetDateTime dueDate = random.nextBoolean() ? now.plusDays(random.nextInt(30) - 15L) : null;
+
+            Task task = new Task(project, "Task " + i, "Benchmark task " + i, owner, dueDate);
+            setField(Task.class, task, "id", (long) i + 1);
+            setField(Task.class, task, "createdAt", now.minusDays(30));
+
+            switch (random.nextInt(3)) {
+                case 0 -> task.updateStatus(ETaskStatus.IN_PROGRESS);
+                case 1 -> task.completedTask("Done during benchmark setup");
+                default -> { }
+            }
+
+            task.addAssigment(new TaskAssignment(task, owner, ETaskRole.OWNER));
+            int assignees = random.nextInt(3);
+            for (int a = 0; a < assignees; a++) {
+                User assignee = members.get(random.nextInt(memberCount));
+                if (!assignee.equals(owner)) {
+                    task.addAssigment(new TaskAssignment(task, assignee, ETaskRole.ASSIGNEE));
+                }
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static Set<Task> taskSet(int count, int memberCount) {
+        return new HashSet<>(tasks(count, memberCount));
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(type, name);
+        if (field == null) {
+            throw new IllegalStateException("Field '" + name + "' not found on " + type.getSimpleName());
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.teamtacles.benchmark;
+
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compara a inserção de tarefas + atribuição de owner com IDENTITY (antes) e com sequência pooled (depois).
+// Por padrão roda em H2 em memória; para PostgreSQL: -p jdbcUrl=jdbc:postgresql://host/db?reWriteBatchedInserts=true -p username=... -p password=...
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark {
+
+    @Param({"IDENTITY", "SEQUENCE"})
+    private String idStrategy;
+
+    @Param({"500"})
+    private int taskCount;
+
+    @Param({"jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+
+    @Param({"sa"})
+    private String username;
+
+    @Param({""})
+    private String password;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityTask.class)
+                .addAnnotatedClass(IdentityAssignment.class)
+                .addAnnotatedClass(SequenceTask.class)
+                .addAnnotatedClass(SequenceAssignment.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, jdbcUrl)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityAssignment").executeUpdate();
+            session.createMutationQuery("delete from IdentityTask").executeUpdate();
+            session.createMutationQuery("delete from SequenceAssignment").executeUpdate();
+            session.createMutationQuery("delete from SequenceTask").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Object> insertTasksWithOwnerAssignment() {
+        List<Object> tasks = new ArrayList<>(taskCount);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < taskCount; i++) {
+                Object task = "IDENTITY".equals(idStrategy)
+                        ? IdentityTask.withOwner("Task " + i, i)
+                        : SequenceTask.withOwner("Task " + i, i);
+                session.persist(task);
+                tasks.add(task);
+            }
+        });
+        return tasks;
+    }
+
+    @Entity(name = "IdentityTask")
+    @Table(name = "benchmark_identity_task")
+    public static class IdentityTask {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String title;
+
+        @OneToMany(mappedBy = "task", cascade = CascadeType.ALL)
+        private List<IdentityAssignment> assignments = new ArrayList<>();
+
+        static IdentityTask withOwner(String title, long ownerId) {
+            IdentityTask task = new IdentityTask();
+            task.title = title;
+            IdentityAssignment assignment = new IdentityAssignment();
+            assignment.task = task;
+            assignment.userId = ownerId;
+            task.assignments.add(assignment);
+            return task;
+        }
+    }
+
+    @Entity(name = "IdentityAssignment")
+    @Table(name = "benchmark_identity_assignment")
+    public static class IdentityAssignment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY, optional = false)
+        private IdentityTask task;
+
+        private long userId;
+    }
+
+    @Entity(name = "SequenceTask")
+    @Table(name = "benchmark_sequence_task")
+    public static class SequenceTask {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_task_seq")
+        @SequenceGenerator(name = "benchmark_task_seq", sequenceName = "benchmark_task_seq", allocationSize = 50)
+        private Long id;
+
+        private String title;
+
+        @OneToMany(mappedBy = "task", cascade = CascadeType.ALL)
+        private List<SequenceAssignment> assignments = new ArrayList<>();
+
+        static SequenceTask withOwner(String title, long ownerId) {
+            SequenceTask task = new SequenceTask();
+            task.title = title;
+            SequenceAssignment assignment = new SequenceAssignment();
+            assignment.task = task;
+            assignment.userId = ownerId;
+            task.assignments.add(assignment);
+            return task;
+        }
+    }
+
+    @Entity(name = "SequenceAssignment")
+    @Table(name = "benchmark_sequence_assignment")
+    public static class SequenceAssignment {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_assignment_seq")
+        @SequenceGenerator(name = "benchmark_assignment_seq", sequenceName = "benchmark_assignment_seq", allocationSize = 50)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY, optional = false)
+        private SequenceTask task;
+
+        private long userId;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.authentication.service.JwtService;
+import br.com.teamtacles.user.model.User;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.TimeUnit;
+
+// Usa as mesmas chaves RSA e a mesma configuração de SecurityConfiguration
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private JwtDecoder jwtDecoder;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        RSAPublicKey publicKey;
+        RSAPrivateKey privateKey;
+        try (InputStream pub = new ClassPathResource("app.pub").getInputStream();
+             InputStream priv = new ClassPathResource("app.key").getInputStream()) {
+            publicKey = RsaKeyConverters.x509().convert(pub);
+            privateKey = RsaKeyConverters.pkcs8().convert(priv);
+        }
+
+        var jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        jwtService = new JwtService(new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk))));
+        jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+
+        user = BenchmarkFixtures.user(1L);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+}
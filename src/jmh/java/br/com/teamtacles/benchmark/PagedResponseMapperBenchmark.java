@@ -0,0 +1,56 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.common.dto.response.page.PagedResponse;
+import br.com.teamtacles.common.mapper.PagedResponseMapper;
+import br.com.teamtacles.project.mapper.ProjectMapperImpl;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.mapper.TaskMapperImpl;
+import br.com.teamtacles.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagedResponseMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private PagedResponseMapper pagedResponseMapper;
+    private TaskMapper taskMapper;
+    private Page<Task> taskPage;
+    private Page<TaskResponseDTO> dtoPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pagedResponseMapper = new PagedResponseMapper();
+        taskMapper = new TaskMapperImpl(new ProjectMapperImpl());
+
+        List<Task> tasks = BenchmarkFixtures.tasks(pageSize, 10);
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        taskPage = new PageImpl<>(tasks, pageable, pageSize * 10L);
+        dtoPage = taskPage.map(taskMapper::toTaskResponseDTO);
+    }
+
+    // Página de entidades convertida pelo mapper gerado, como fazem os serviços
+    @Benchmark
+    public PagedResponse<TaskResponseDTO> entityPage() {
+        return pagedResponseMapper.toPagedResponse(taskPage.map(taskMapper::toTaskResponseDTO));
+    }
+
+    // Página que já contém DTOs: só o envelope de paginação
+    @Benchmark
+    public PagedResponse<TaskResponseDTO> dtoPage() {
+        return pagedResponseMapper.toPagedResponse(dtoPage);
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.project.dto.response.MemberTaskDistributionDTO;
+import br.com.teamtacles.project.service.ProjectReportCalculator;
+import br.com.teamtacles.task.dto.response.TaskSummaryDTO;
+import br.com.teamtacles.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectReportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"50"})
+    private int memberCount;
+
+    private Set<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tasks = BenchmarkFixtures.taskSet(taskCount, memberCount);
+    }
+
+    @Benchmark
+    public TaskSummaryDTO calculateTaskSummary() {
+        return ProjectReportCalculator.calculateTaskSummary(tasks);
+    }
+
+    @Benchmark
+    public List<MemberTaskDistributionDTO> calculateMemberTaskDistribution() {
+        return ProjectReportCalculator.calculateMemberTaskDistribution(tasks);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.user.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskEffectiveStatusBenchmark {
+
+    public enum Scenario { DONE, OVERDUE, IN_PROGRESS_WITH_DUE_DATE, TO_DO_WITHOUT_DUE_DATE }
+
+    @Param
+    private Scenario scenario;
+
+    private Task task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User owner = BenchmarkFixtures.user(1L);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        task = switch (scenario) {
+            case DONE -> {
+                Task done = new Task(BenchmarkFixtures.project(1L, owner), "Done", null, owner, now.minusDays(1));
+                done.completedTask("ok");
+                yield done;
+            }
+            case OVERDUE -> new Task(BenchmarkFixtures.project(1L, owner), "Overdue", null, owner, now.minusDays(1));
+            case IN_PROGRESS_WITH_DUE_DATE -> {
+                Task inProgress = new Task(BenchmarkFixtures.project(1L, owner), "In progress", null, owner, now.plusDays(7));
+                inProgress.updateStatus(ETaskStatus.IN_PROGRESS);
+                yield inProgress;
+            }
+            case TO_DO_WITHOUT_DUE_DATE -> new Task(BenchmarkFixtures.project(1L, owner), "To do", null, owner, null);
+        };
+    }
+
+    @Benchmark
+    public ETaskStatus getEffectiveStatus() {
+        return task.getEffectiveStatus();
+    }
+}
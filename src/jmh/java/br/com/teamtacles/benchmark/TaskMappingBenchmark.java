@@ -0,0 +1,40 @@
+package br.com.teamtacles.benchmark;
+
+import br.com.teamtacles.project.mapper.ProjectMapperImpl;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.dto.response.UserTaskResponseDTO;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.mapper.TaskMapperImpl;
+import br.com.teamtacles.task.model.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo por elemento dos mappers gerados pelo MapStruct
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    private TaskMapper taskMapper;
+    private Task task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        taskMapper = new TaskMapperImpl(new ProjectMapperImpl());
+        task = BenchmarkFixtures.tasks(1, 5).get(0);
+    }
+
+    @Benchmark
+    public TaskResponseDTO generatedTaskResponse() {
+        return taskMapper.toTaskResponseDTO(task);
+    }
+
+    @Benchmark
+    public UserTaskResponseDTO generatedUserTaskResponse() {
+        return taskMapper.toUserTaskResponseDTO(task);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.teamtacles.audit.dto.response;
+
+import br.com.teamtacles.audit.enumeration.EActivityOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ActivityLogResponse", description = "DTO for an audited business action.")
+public class ActivityLogResponseDTO {
+
+    @Schema(description = "Identifier of the audit entry", example = "1024")
+    private Long id;
+
+    @Schema(description = "When the action finished", example = "2025-01-01T10:00:00Z")
+    private OffsetDateTime occurredAt;
+
+    @Schema(description = "Audited action", example = "Update Task Status")
+    private String action;
+
+    @Schema(description = "Whether the action succeeded", example = "SUCCESS")
+    private EActivityOutcome outcome;
+
+    @Schema(description = "User who performed the action; empty for system actions", example = "7")
+    private Long actorId;
+
+    @Schema(description = "Project the action referred to, when any", example = "3")
+    private Long projectId;
+
+    @Schema(description = "Team the action referred to, when any")
+    private Long teamId;
+
+    @Schema(description = "Task the action referred to, when any", example = "42")
+    private Long taskId;
+
+    @Schema(description = "Identifiers and options passed to the action", example = "projectId=3, taskId=42")
+    private String details;
+
+    @Schema(description = "Exception type when the action failed", example = "AccessDeniedException")
+    private String error;
+}
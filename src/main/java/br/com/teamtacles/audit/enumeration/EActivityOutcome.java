@@ -0,0 +1,6 @@
+package br.com.teamtacles.audit.enumeration;
+
+public enum EActivityOutcome {
+    SUCCESS,
+    FAILURE
+}
@@ -0,0 +1,12 @@
+package br.com.teamtacles.audit.mapper;
+
+import br.com.teamtacles.audit.dto.response.ActivityLogResponseDTO;
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.common.mapper.CentralMapperConfig;
+import org.mapstruct.Mapper;
+
+@Mapper(config = CentralMapperConfig.class)
+public interface ActivityLogMapper {
+
+    ActivityLogResponseDTO toResponseDTO(ActivityLogEntry entry);
+}
@@ -0,0 +1,66 @@
+package br.com.teamtacles.audit.model;
+
+import br.com.teamtacles.audit.enumeration.EActivityOutcome;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+// Gravada só pelo ActivityLogJdbcRepository (INSERT em lote); pelo JPA a tabela é apenas lida
+@Getter
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "id")
+@Immutable
+@Entity
+@Table(name = "activity_log")
+public class ActivityLogEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private OffsetDateTime occurredAt;
+
+    @Column(nullable = false, length = 100)
+    private String action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EActivityOutcome outcome;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(length = 500)
+    private String details;
+
+    @Column(length = 100)
+    private String error;
+
+    public ActivityLogEntry(OffsetDateTime occurredAt, String action, EActivityOutcome outcome, Long actorId,
+                            Long projectId, Long teamId, Long taskId, String details, String error) {
+        this.occurredAt = occurredAt;
+        this.action = action;
+        this.outcome = outcome;
+        this.actorId = actorId;
+        this.projectId = projectId;
+        this.teamId = teamId;
+        this.taskId = taskId;
+        this.details = details;
+        this.error = error;
+    }
+}
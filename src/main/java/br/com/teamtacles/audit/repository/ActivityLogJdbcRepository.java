@@ -0,0 +1,50 @@
+package br.com.teamtacles.audit.repository;
+
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+// Escrita direta via JDBC: um único batch por lote, sem persistence context nem SELECT do id
+@Repository
+public class ActivityLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO activity_log (occurred_at, action, outcome, actor_id, project_id, team_id, task_id, details, error)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityLogJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<ActivityLogEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setObject(1, entry.getOccurredAt());
+            statement.setString(2, entry.getAction());
+            statement.setString(3, entry.getOutcome().name());
+            statement.setObject(4, entry.getActorId(), Types.BIGINT);
+            statement.setObject(5, entry.getProjectId(), Types.BIGINT);
+            statement.setObject(6, entry.getTeamId(), Types.BIGINT);
+            statement.setObject(7, entry.getTaskId(), Types.BIGINT);
+            statement.setString(8, entry.getDetails());
+            statement.setString(9, entry.getError());
+        });
+    }
+
+    // As funções existem só na migração PostgreSQL
+    public int ensurePartitions(int monthsAhead) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_activity_log_partitions(?)", Integer.class, monthsAhead);
+        return created == null ? 0 : created;
+    }
+
+    public int dropPartitionsBefore(LocalDate cutoff) {
+        Integer dropped = jdbcTemplate.queryForObject("SELECT drop_activity_log_partitions_before(?)", Integer.class, cutoff);
+        return dropped == null ? 0 : dropped;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.teamtacles.audit.repository;
+
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// Cobertas pelos índices (project_id, occurred_at DESC) e (actor_id, occurred_at DESC)
+public interface ActivityLogRepository extends JpaRepository<ActivityLogEntry, Long> {
+
+    Page<ActivityLogEntry> findAllByProjectIdOrderByOccurredAtDesc(Long projectId, Pageable pageable);
+
+    Page<ActivityLogEntry> findAllByActorIdOrderByOccurredAtDesc(Long actorId, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package br.com.teamtacles.audit.service;
+
+import br.com.teamtacles.audit.repository.ActivityLogJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+// Mantém partições mensais criadas à frente e apaga as que passaram da retenção (só no PostgreSQL;
+// nos testes com H2 o cron vem desligado com "-")
+@Component
+public class ActivityLogPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityLogPartitionMaintainer.class);
+
+    private final ActivityLogJdbcRepository activityLogJdbcRepository;
+    private final int monthsAhead;
+    private final Period retention;
+
+    public ActivityLogPartitionMaintainer(ActivityLogJdbcRepository activityLogJdbcRepository,
+                                          @Value("${app.activity-log.partitions-ahead:2}") int monthsAhead,
+                                          @Value("${app.activity-log.retention:P1Y}") Period retention) {
+        this.activityLogJdbcRepository = activityLogJdbcRepository;
+        this.monthsAhead = monthsAhead;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.activity-log.partition-cron:0 0 3 * * *}")
+    public void maintain() {
+        int created = activityLogJdbcRepository.ensurePartitions(monthsAhead);
+        int dropped = activityLogJdbcRepository.dropPartitionsBefore(LocalDate.now().minus(retention));
+
+        if (created > 0 || dropped > 0) {
+            log.info("Activity log partitions maintained: {} created, {} dropped", created, dropped);
+        }
+    }
+}
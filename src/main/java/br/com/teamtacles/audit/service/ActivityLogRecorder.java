@@ -0,0 +1,88 @@
+package br.com.teamtacles.audit.service;
+
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.audit.repository.ActivityLogJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A requisição só enfileira o registro; a escrita acontece fora da transação da ação, em lotes JDBC.
+// Com o buffer cheio o registro é descartado e contado, em vez de atrasar a operação auditada.
+@Component
+public class ActivityLogRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityLogRecorder.class);
+
+    private final ActivityLogBuffer<ActivityLogEntry> buffer;
+    private final ActivityLogJdbcRepository activityLogJdbcRepository;
+    private final int batchSize;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    public ActivityLogRecorder(ActivityLogJdbcRepository activityLogJdbcRepository, MeterRegistry meterRegistry,
+                               @Value("${app.activity-log.buffer-capacity:65536}") int bufferCapacity,
+                               @Value("${app.activity-log.batch-size:500}") int batchSize) {
+        this.activityLogJdbcRepository = activityLogJdbcRepository;
+        this.buffer = new ActivityLogBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.droppedCounter = outcomeCounter(meterRegistry, "dropped");
+        this.writtenCounter = outcomeCounter(meterRegistry, "written");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        Gauge.builder("teamtacles.activity-log.pending", buffer, ActivityLogBuffer::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void record(ActivityLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            droppedCounter.increment();
+        }
+    }
+
+    // Esvazia o buffer inteiro em lotes de batchSize; um lote que falha é descartado para não travar os seguintes
+    @Scheduled(fixedDelayString = "${app.activity-log.flush-interval:PT0.5S}")
+    public synchronized int flush() {
+        List<ActivityLogEntry> batch = new ArrayList<>(batchSize);
+        int written = 0;
+
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                activityLogJdbcRepository.insertAll(batch);
+                written += batch.size();
+                writtenCounter.increment(batch.size());
+            } catch (DataAccessException ex) {
+                failedCounter.increment(batch.size());
+                log.error("Could not write {} activity log entries: {}", batch.size(), ex.getMessage());
+            }
+            batch.clear();
+        }
+        return written;
+    }
+
+    // O DataSource só é fechado depois deste bean, então o que estiver no buffer ainda é gravado
+    @PreDestroy
+    public void shutdown() {
+        int written = flush();
+        if (written > 0) {
+            log.info("Flushed {} activity log entries on shutdown", written);
+        }
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("teamtacles.activity-log.entries")
+                .description("Audit entries by what happened to them after being captured")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.teamtacles.audit.service;
+
+import br.com.teamtacles.audit.dto.response.ActivityLogResponseDTO;
+import br.com.teamtacles.audit.mapper.ActivityLogMapper;
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.audit.repository.ActivityLogRepository;
+import br.com.teamtacles.common.dto.response.page.PagedResponse;
+import br.com.teamtacles.common.mapper.PagedResponseMapper;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.user.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Registros chegam com o atraso do flush (app.activity-log.flush-interval)
+@Service
+public class ActivityLogService {
+
+    private final ActivityLogRepository activityLogRepository;
+    private final ProjectService projectService;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final ActivityLogMapper activityLogMapper;
+    private final PagedResponseMapper pagedResponseMapper;
+
+    public ActivityLogService(ActivityLogRepository activityLogRepository, ProjectService projectService,
+                              ProjectAuthorizationService projectAuthorizationService, ActivityLogMapper activityLogMapper,
+                              PagedResponseMapper pagedResponseMapper) {
+        this.activityLogRepository = activityLogRepository;
+        this.projectService = projectService;
+        this.projectAuthorizationService = projectAuthorizationService;
+        this.activityLogMapper = activityLogMapper;
+        this.pagedResponseMapper = pagedResponseMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<ActivityLogResponseDTO> getProjectActivityLog(Long projectId, Pageable pageable, User actingUser) {
+        Project project = projectService.findProjectEntityById(projectId);
+        projectAuthorizationService.checkProjectAdmin(actingUser, project);
+
+        Page<ActivityLogEntry> entries = activityLogRepository.findAllByProjectIdOrderByOccurredAtDesc(projectId, pageable);
+        Page<ActivityLogResponseDTO> entryDTOPage = entries.map(activityLogMapper::toResponseDTO);
+
+        return pagedResponseMapper.toPagedResponse(entryDTOPage);
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<ActivityLogResponseDTO> getUserActivityLog(Pageable pageable, User actingUser) {
+        Page<ActivityLogEntry> entries = activityLogRepository.findAllByActorIdOrderByOccurredAtDesc(actingUser.getId(), pageable);
+        Page<ActivityLogResponseDTO> entryDTOPage = entries.map(activityLogMapper::toResponseDTO);
+
+        return pagedResponseMapper.toPagedResponse(entryDTOPage);
+    }
+}
@@ -3,7 +3,6 @@ package br.com.teamtacles.authentication.controller;
 import br.com.teamtacles.authentication.dto.request.ResetPasswordWebDTO;
 import br.com.teamtacles.authentication.service.AuthenticationService;
 import br.com.teamtacles.user.model.User;
-import br.com.teamtacles.user.repository.UserRepository;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -15,27 +14,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
 import java.util.Optional;
 
 @Controller
 @RequestMapping("/forgot-password-web")
 public class ResetPasswordWebController {
 
-    private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
 
-    public ResetPasswordWebController(UserRepository userRepository, AuthenticationService authenticationService) {
-        this.userRepository = userRepository;
+    public ResetPasswordWebController(AuthenticationService authenticationService) {
         this.authenticationService = authenticationService;
     }
 
     @GetMapping
     public String showResetPasswordForm(@RequestParam String token, Model model) {
-        Optional<User> userOpt = userRepository.findByResetPasswordToken(token);
+        Optional<User> userOpt = authenticationService.findUserByValidResetToken(token);
 
-        if (userOpt.isEmpty() || userOpt.get().getResetPasswordTokenExpiry().isBefore(OffsetDateTime.now())) {
+        if (userOpt.isEmpty()) {
             model.addAttribute("error", "Este link de redefinição é inválido ou já expirou. Por favor, solicite um novo.");
             model.addAttribute("expired", true);
             return "reset-password-form";
@@ -61,7 +56,7 @@ public class ResetPasswordWebController {
 
         // Se houver erros de validação, volta para o formulário
         if (bindingResult.hasErrors()) {
-            User user = userRepository.findByResetPasswordToken(form.getToken()).orElse(null);
+            User user = authenticationService.findUserByValidResetToken(form.getToken()).orElse(null);
             if (user != null) {
                 model.addAttribute("email", user.getEmail());
             }
@@ -2,6 +2,10 @@ package br.com.teamtacles.authentication.service;
 
 import br.com.teamtacles.common.dto.response.AuthenticationResponseDTO;
 import br.com.teamtacles.security.UserAuthenticated;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.infrastructure.email.EmailService;
 import br.com.teamtacles.user.repository.UserRepository;
@@ -12,9 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import java.time.OffsetDateTime;
+import java.time.Duration;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class AuthenticationService {
@@ -25,6 +28,7 @@ public class AuthenticationService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final SecureTokenService secureTokenService;
 
     @Value("${app.web.forgot-password-url}")
     private String webResetPasswordUrl;
@@ -33,11 +37,13 @@ public class AuthenticationService {
             JwtService jwtService,
             UserRepository userRepository,
             EmailService emailService,
-            PasswordEncoder passwordEncoder) {
+            PasswordEncoder passwordEncoder,
+            SecureTokenService secureTokenService) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
         this.emailService = emailService;
         this.passwordEncoder = passwordEncoder;
+        this.secureTokenService = secureTokenService;
     }
 
 
@@ -60,13 +66,9 @@ public class AuthenticationService {
                 return;
             }
 
-            user.clearPasswordResetToken();
+            IssuedToken token = secureTokenService.issue(ETokenType.PASSWORD_RESET, user.getId(), Duration.ofHours(1));
 
-            String token = UUID.randomUUID().toString();
-            user.assignPasswordResetToken(token, OffsetDateTime.now().plusHours(1));
-            userRepository.save(user);
-
-            String resetUrl = webResetPasswordUrl + "?token=" + token;
+            String resetUrl = webResetPasswordUrl + "?token=" + token.getValue();
             emailService.sendPasswordResetEmail(user.getEmail(), resetUrl);
 
             log.info("[SECURITY] Password reset email sent to verified user. User ID: {}", user.getId());
@@ -76,17 +78,29 @@ public class AuthenticationService {
 
     @Transactional
     public void resetPassword(String token, String newPassword) {
-        User user = userRepository.findByResetPasswordToken(token)
+        SecureToken resetToken = secureTokenService.find(ETokenType.PASSWORD_RESET, token)
                 .orElseThrow(() -> new RuntimeException("Invalid token or not found."));
 
-        if (user.getResetPasswordTokenExpiry().isBefore(OffsetDateTime.now())) {
-            log.warn("[SECURITY] Attempt to use expired reset token. User ID: {}", user.getId());
+        if (resetToken.isExpired()) {
+            log.warn("[SECURITY] Attempt to use expired reset token. User ID: {}", resetToken.getSubjectId());
             throw new RuntimeException("Token has expired.");
         }
 
+        User user = userRepository.findById(resetToken.getSubjectId())
+                .orElseThrow(() -> new RuntimeException("Invalid token or not found."));
+
         user.updatePassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        secureTokenService.revoke(ETokenType.PASSWORD_RESET, user.getId());
 
         log.info("[SECURITY] Password successfully reset. User ID: {}", user.getId());
     }
-}
\ No newline at end of file
+
+    // Usado pelo formulário web para decidir se o link de redefinição ainda pode ser exibido
+    @Transactional(readOnly = true)
+    public Optional<User> findUserByValidResetToken(String token) {
+        return secureTokenService.find(ETokenType.PASSWORD_RESET, token)
+                .filter(resetToken -> !resetToken.isExpired())
+                .flatMap(resetToken -> userRepository.findById(resetToken.getSubjectId()));
+    }
+}
@@ -2,6 +2,7 @@ package br.com.teamtacles.common.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -15,6 +16,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -127,6 +129,20 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.CONFLICT, "Resource cannot be modified", ex.getMessage());
     }
 
+    // Chega aqui quando a operação não tem @RetryOnConflict ou esgotou as tentativas
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        String genericErrorMessage = "The resource was modified by another request. Reload it and try again.";
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Concurrent Modification",
+                genericErrorMessage,
+                "CONCURRENT_MODIFICATION"
+        );
+        log.warn("Optimistic lock conflict: {}", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(SameAsCurrentPasswordException.class)
     public ResponseEntity<ErrorResponse> handleSameAsCurrentPasswordException(SameAsCurrentPasswordException ex) {
         String genericErrorMessage = "The new password cannot be the same as your current password.";
@@ -179,6 +195,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(LockedException.class)
+    public ResponseEntity<ErrorResponse> handleLockedException(LockedException ex) {
+        String friendlyErrorMessage = "This account is being deleted and can no longer sign in.";
+        log.warn("Login attempt with an account pending deletion: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Account Deletion In Progress",
+                friendlyErrorMessage,
+                "ACCOUNT_DELETION_IN_PROGRESS"
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String errorTitle, String errorMessage) {
         ErrorResponse errorResponse = new ErrorResponse(status.value(), errorTitle, errorMessage);
         return new ResponseEntity<>(errorResponse, status);
@@ -0,0 +1,9 @@
+package br.com.teamtacles.common.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+// Configuração comum dos mappers MapStruct: campo de destino sem mapeamento quebra a compilação
+@MapperConfig(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CentralMapperConfig {
+}
@@ -3,32 +3,20 @@ package br.com.teamtacles.common.mapper;
 import org.springframework.data.domain.Page;
 
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
+// Recebe páginas já convertidas em DTO pelos mappers MapStruct; nenhuma conversão acontece aqui
 @Component
 public class PagedResponseMapper {
-    private final ModelMapper modelMapper;
-
-    public PagedResponseMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
-    }
-
-    public <S, T> PagedResponse<T> toPagedResponse (Page<S> sourcePage, Class<T> targetClass) {
-        List<T> mappedContent = sourcePage.getContent()
-                .stream()
-                .map(source -> modelMapper.map(source, targetClass))
-                .toList();
 
+    public <T> PagedResponse<T> toPagedResponse(Page<T> page) {
         return new PagedResponse<>(
-                mappedContent,
-                sourcePage.getNumber(),
-                sourcePage.getSize(),
-                sourcePage.getTotalElements(),
-                sourcePage.getTotalPages(),
-                sourcePage.isLast()
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast()
         );
     }
 }
@@ -1,12 +1,23 @@
 package br.com.teamtacles.config;
 
+import br.com.teamtacles.config.idempotency.IdempotencyFilter;
+import br.com.teamtacles.config.idempotency.IdempotencyProperties;
+import br.com.teamtacles.config.idempotency.IdempotencyStore;
+import br.com.teamtacles.config.ratelimit.RateLimitFilter;
+import br.com.teamtacles.config.ratelimit.RateLimitProperties;
+import br.com.teamtacles.config.ratelimit.RateLimiter;
 import br.com.teamtacles.security.CustomJwtAuthenticationConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -20,6 +31,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -32,6 +44,7 @@ import org.springframework.security.config.Customizer;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties({RateLimitProperties.class, IdempotencyProperties.class})
 public class SecurityConfiguration {
 
     @Value("${jwt.public.key}")
@@ -62,14 +75,40 @@ public class SecurityConfiguration {
         return new CustomJwtAuthenticationConverter();
     }
 
+    // Acompanhamento da exclusão de conta: basta a assinatura do token, sem carregar o usuário do banco, porque a conta
+    // some no fim do job. O dono do job é conferido pelo subject no AccountDeletionJobService
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, CustomJwtAuthenticationConverter customJwtAuthenticationConverter) throws Exception {
+    @Order(1)
+    public SecurityFilterChain accountDeletionJobFilterChain(HttpSecurity http) throws Exception {
+        http.securityMatcher("/api/user/deletion-jobs/**")
+                .csrf(csrf -> csrf.disable())
+                .cors(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> auth.anyRequest().authenticated())
+                .oauth2ResourceServer(conf -> conf.jwt(Customizer.withDefaults()))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, CustomJwtAuthenticationConverter customJwtAuthenticationConverter,
+                                           RateLimiter rateLimiter, RateLimitProperties rateLimitProperties,
+                                           IdempotencyStore idempotencyStore, IdempotencyProperties idempotencyProperties,
+                                           ObjectMapper objectMapper, MeterRegistry meterRegistry) throws Exception {
+
+        // Instanciados aqui (e não como @Bean) para não serem registrados também como filtros do servlet
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper, meterRegistry);
+        IdempotencyFilter idempotencyFilter = new IdempotencyFilter(idempotencyStore, idempotencyProperties, objectMapper, meterRegistry);
 
         http.csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
+                .addFilterBefore(rateLimitFilter, BearerTokenAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, BearerTokenAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
+                        // O dispatch assíncrono que encerra o stream SSE reaproveita a requisição já autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/user/register").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/user/availability").permitAll()
                         .requestMatchers(HttpMethod.GET, "/verify-account").permitAll()
                         .requestMatchers(HttpMethod.GET, "/accept-project-invitation-email").permitAll()
                         .requestMatchers(HttpMethod.GET, "/accept-team-invitation-email").permitAll()
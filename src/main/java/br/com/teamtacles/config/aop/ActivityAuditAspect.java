@@ -0,0 +1,92 @@
+package br.com.teamtacles.config.aop;
+
+import br.com.teamtacles.audit.enumeration.EActivityOutcome;
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.audit.service.ActivityLogRecorder;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.user.model.User;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.StringJoiner;
+
+// Grava na trilha de auditoria o resultado final de cada ação @BusinessActivityLog.
+// Fica por fora do @RetryOnConflict e do @Transactional: um conflito repetido com sucesso vira um único SUCCESS
+// e o registro só é capturado depois do commit (ou da falha) da ação.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ActivityAuditAspect {
+
+    private static final int MAX_DETAILS_LENGTH = 500;
+
+    private final ActivityLogRecorder activityLogRecorder;
+
+    public ActivityAuditAspect(ActivityLogRecorder activityLogRecorder) {
+        this.activityLogRecorder = activityLogRecorder;
+    }
+
+    @Around("@annotation(businessActivityLog)")
+    public Object audit(ProceedingJoinPoint joinPoint, BusinessActivityLog businessActivityLog) throws Throwable {
+        try {
+            Object result = joinPoint.proceed();
+            activityLogRecorder.record(toEntry(joinPoint, businessActivityLog, EActivityOutcome.SUCCESS, null));
+            return result;
+        } catch (Throwable throwable) {
+            activityLogRecorder.record(toEntry(joinPoint, businessActivityLog, EActivityOutcome.FAILURE, throwable));
+            throw throwable;
+        }
+    }
+
+    // Os alvos vêm dos parâmetros projectId/teamId/taskId (ou de um ProjectAccessContext); nos detalhes entram só números, enums e booleanos,
+    // nunca Strings (tokens de convite) nem DTOs (senhas)
+    private ActivityLogEntry toEntry(ProceedingJoinPoint joinPoint, BusinessActivityLog businessActivityLog,
+                                     EActivityOutcome outcome, Throwable throwable) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+
+        Long actorId = null;
+        Long projectId = null;
+        Long teamId = null;
+        Long taskId = null;
+        StringJoiner details = new StringJoiner(", ");
+
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            String name = names != null ? names[i] : "arg" + i;
+
+            if (arg instanceof User user) {
+                actorId = user.getId();
+            } else if (arg instanceof ProjectAccessContext access) {
+                projectId = access.getProjectId();
+            } else if (arg instanceof Number || arg instanceof Enum<?> || arg instanceof Boolean) {
+                details.add(name + "=" + arg);
+                if (arg instanceof Long id) {
+                    switch (name) {
+                        case "projectId" -> projectId = id;
+                        case "teamId" -> teamId = id;
+                        case "taskId" -> taskId = id;
+                        default -> { }
+                    }
+                }
+            }
+        }
+
+        return new ActivityLogEntry(OffsetDateTime.now(), businessActivityLog.action(), outcome, actorId,
+                projectId, teamId, taskId, truncate(details.toString()),
+                throwable != null ? throwable.getClass().getSimpleName() : null);
+    }
+
+    private static String truncate(String details) {
+        if (details.isEmpty()) {
+            return null;
+        }
+        return details.length() <= MAX_DETAILS_LENGTH ? details : details.substring(0, MAX_DETAILS_LENGTH);
+    }
+}
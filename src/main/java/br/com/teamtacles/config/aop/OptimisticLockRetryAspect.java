@@ -0,0 +1,94 @@
+package br.com.teamtacles.config.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Roda por fora do @Transactional (precedência maior que a do interceptor de transação), então cada
+// tentativa abre uma transação nova e o conflito detectado no commit também é capturado.
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private static final String CONFLICTS_METRIC = "teamtacles.optimistic-lock.conflicts";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration backoff;
+
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry,
+                                     @Value("${app.optimistic-lock.retry-backoff:PT0.02S}") Duration backoff) {
+        this.meterRegistry = meterRegistry;
+        this.backoff = backoff;
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        // Dentro de uma transação externa a nova tentativa veria o mesmo contexto de persistência: não adianta repetir
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                boolean exhausted = attempt >= retryOnConflict.maxAttempts();
+                conflictCounter(operation, entityOf(ex), exhausted ? "exhausted" : "retried").increment();
+
+                if (exhausted) {
+                    log.warn("Optimistic lock conflict in {} not resolved after {} attempts.", operation, attempt);
+                    throw ex;
+                }
+
+                log.debug("Optimistic lock conflict in {} (attempt {}), retrying.", operation, attempt);
+                pause(attempt);
+                attempt++;
+            }
+        }
+    }
+
+    private Counter conflictCounter(String operation, String entity, String outcome) {
+        return Counter.builder(CONFLICTS_METRIC)
+                .description("Optimistic lock conflicts per service operation and entity")
+                .tag("operation", operation)
+                .tag("entity", entity)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String entityOf(OptimisticLockingFailureException ex) {
+        if (ex instanceof ObjectOptimisticLockingFailureException objectFailure && objectFailure.getPersistentClassName() != null) {
+            String className = objectFailure.getPersistentClassName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return "unknown";
+    }
+
+    // Espera crescente com jitter para que as tentativas concorrentes não colidam de novo no mesmo instante
+    private void pause(int attempt) throws InterruptedException {
+        long baseMillis = backoff.toMillis() * attempt;
+        if (baseMillis > 0) {
+            Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis + 1));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.teamtacles.config.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Reexecuta a operação inteira (nova transação, estado relido) quando ela perde uma disputa de @Version.
+// Só para operações sem efeitos fora do banco, que podem rodar de novo sem duplicar nada.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    int maxAttempts() default 3;
+}
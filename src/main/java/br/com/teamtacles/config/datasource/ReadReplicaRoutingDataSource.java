@@ -0,0 +1,78 @@
+package br.com.teamtacles.config.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+// Transações readOnly vão para a réplica; todo o resto (e qualquer falha da réplica) vai para o primário.
+// Precisa estar atrás de um LazyConnectionDataSourceProxy para a conexão ser obtida só depois que a transação já foi marcada como readOnly
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final boolean replicaConfigured;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        this.replicaConfigured = replica != null;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        if (replicaConfigured) {
+            targets.put(Route.REPLICA, replica);
+        }
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public Route currentRoute() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return replicaConfigured && readOnly ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException ex) {
+            if (target == primary) {
+                throw ex;
+            }
+            log.warn("[DATASOURCE] Read replica unavailable, falling back to primary: {}", ex.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection(username, password);
+        } catch (SQLException ex) {
+            if (target == primary) {
+                throw ex;
+            }
+            log.warn("[DATASOURCE] Read replica unavailable, falling back to primary: {}", ex.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+}
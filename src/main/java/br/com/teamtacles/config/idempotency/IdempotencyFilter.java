@@ -0,0 +1,170 @@
+package br.com.teamtacles.config.idempotency;
+
+import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.config.web.CachedBodyRequest;
+import br.com.teamtacles.security.UserAuthenticated;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+// Honra o cabeçalho Idempotency-Key nas rotas configuradas: a primeira requisição com a chave roda e tem a resposta
+// registrada; repetições do mesmo usuário recebem essa resposta sem refazer o trabalho (nem reenviar e-mails).
+// Roda depois da autenticação porque a chave vale por usuário. Só respostas de sucesso são registradas: um erro não
+// alterou nada, então a repetição executa de novo (um 409 de lock otimista, por exemplo, não fica gravado para sempre).
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxBodyBytes;
+    private final int maxResponseBytes;
+    private final List<AntPathRequestMatcher> matchers;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        this.maxResponseBytes = properties.getMaxResponseBytes();
+        this.matchers = !properties.isEnabled() ? List.of() : properties.getEndpoints().values().stream()
+                .map(endpoint -> new AntPathRequestMatcher(endpoint.getPath(), endpoint.getMethod()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || matchers.stream().noneMatch(matcher -> matcher.matches(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = authenticatedUserId();
+        if (userId == null) {
+            // Sem usuário a requisição será recusada pela autorização de qualquer forma
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "The Idempotency-Key header must have between 1 and " + MAX_KEY_LENGTH + " characters.",
+                    "INVALID_IDEMPOTENCY_KEY");
+            return;
+        }
+
+        CachedBodyRequest cached = CachedBodyRequest.of(request, maxBodyBytes);
+        if (cached == null) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Requests with an Idempotency-Key must have a body of at most " + maxBodyBytes + " bytes.",
+                    "IDEMPOTENT_BODY_TOO_LARGE");
+            return;
+        }
+
+        String fingerprint = fingerprint(cached);
+        IdempotencyStore.Outcome outcome = store.begin(userId, key, fingerprint);
+        meterRegistry.counter("teamtacles.idempotency.requests", "outcome", outcome.decision().name().toLowerCase()).increment();
+
+        switch (outcome.decision()) {
+            case EXECUTE -> execute(cached, response, filterChain, userId, key, fingerprint);
+            case REPLAY -> replay(response, outcome.response());
+            case KEY_REUSED -> reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "The Idempotency-Key was already used for a different request.", "IDEMPOTENCY_KEY_REUSED");
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(response, HttpStatus.CONFLICT,
+                        "A request with this Idempotency-Key is still being processed. Try again shortly.", "IDEMPOTENCY_REQUEST_IN_PROGRESS");
+            }
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         Long userId, String key, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            store.release(userId, key);
+            throw ex;
+        }
+
+        try {
+            if (wrapper.getStatus() < 400 && wrapper.getContentSize() <= maxResponseBytes) {
+                store.complete(userId, key, fingerprint, wrapper.getStatus(), wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+            } else {
+                store.release(userId, key);
+            }
+        } catch (RuntimeException ex) {
+            // A requisição já rodou e a resposta segue para o cliente; só a repetição dela não fica protegida
+            log.warn("Could not record the response for idempotency key '{}' of user {}", key, userId, ex);
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message, String errorCode) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), status.getReasonPhrase(), message, errorCode));
+    }
+
+    private static Long authenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserAuthenticated principal) {
+            return principal.getUser().getId();
+        }
+        return null;
+    }
+
+    // Método, rota, query e corpo: a mesma chave com outra requisição é recusada em vez de devolver a resposta errada
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+}
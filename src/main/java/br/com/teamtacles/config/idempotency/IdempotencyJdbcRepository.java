@@ -0,0 +1,104 @@
+package br.com.teamtacles.config.idempotency;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+// Cada comando roda em autocommit, fora da transação da requisição: a reserva precisa ser visível para as outras
+// instâncias antes de a requisição começar, e a chave primária (usuário, chave) é o que decide quem a executa
+@Repository
+public class IdempotencyJdbcRepository {
+
+    private static final String INSERT_CLAIM_SQL = """
+            INSERT INTO idempotency_keys (user_id, idempotency_key, request_fingerprint, created_at)
+            VALUES (:userId, :key, :fingerprint, :now)
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT request_fingerprint, status_code, content_type, response_body, created_at FROM idempotency_keys
+            WHERE user_id = :userId AND idempotency_key = :key
+            """;
+
+    // Retoma a chave quando a reserva foi abandonada por uma instância que caiu ou quando o registro já expirou
+    private static final String RECLAIM_SQL = """
+            UPDATE idempotency_keys SET request_fingerprint = :fingerprint, created_at = :now,
+                status_code = NULL, content_type = NULL, response_body = NULL, completed_at = NULL
+            WHERE user_id = :userId AND idempotency_key = :key
+                AND ((status_code IS NULL AND created_at < :staleBefore) OR created_at < :expiredBefore)
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys SET status_code = :statusCode, content_type = :contentType,
+                response_body = :body, completed_at = :now
+            WHERE user_id = :userId AND idempotency_key = :key AND status_code IS NULL
+            """;
+
+    private static final String RELEASE_SQL = """
+            DELETE FROM idempotency_keys WHERE user_id = :userId AND idempotency_key = :key AND status_code IS NULL
+            """;
+
+    private static final String DELETE_OLDER_THAN_SQL = """
+            DELETE FROM idempotency_keys WHERE (user_id, idempotency_key) IN (
+                SELECT user_id, idempotency_key FROM idempotency_keys WHERE created_at < :cutoff ORDER BY created_at LIMIT :limit)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public IdempotencyJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Lança DuplicateKeyException quando a chave já existe
+    public void insertClaim(Long userId, String key, String fingerprint, OffsetDateTime now) {
+        jdbcTemplate.update(INSERT_CLAIM_SQL, keyParameters(userId, key)
+                .addValue("fingerprint", fingerprint)
+                .addValue("now", now));
+    }
+
+    public Optional<StoredResponse> find(Long userId, String key) {
+        return jdbcTemplate.query(FIND_SQL, keyParameters(userId, key), (resultSet, row) -> new StoredResponse(
+                        resultSet.getString("request_fingerprint"),
+                        resultSet.getObject("status_code", Integer.class),
+                        resultSet.getString("content_type"),
+                        resultSet.getString("response_body"),
+                        resultSet.getObject("created_at", OffsetDateTime.class)))
+                .stream()
+                .findFirst();
+    }
+
+    public boolean reclaim(Long userId, String key, String fingerprint, OffsetDateTime now,
+                           OffsetDateTime staleBefore, OffsetDateTime expiredBefore) {
+        return jdbcTemplate.update(RECLAIM_SQL, keyParameters(userId, key)
+                .addValue("fingerprint", fingerprint)
+                .addValue("now", now)
+                .addValue("staleBefore", staleBefore)
+                .addValue("expiredBefore", expiredBefore)) == 1;
+    }
+
+    public void complete(Long userId, String key, int statusCode, String contentType, String body, OffsetDateTime now) {
+        jdbcTemplate.update(COMPLETE_SQL, keyParameters(userId, key)
+                .addValue("statusCode", statusCode)
+                .addValue("contentType", contentType)
+                .addValue("body", body)
+                .addValue("now", now));
+    }
+
+    public void release(Long userId, String key) {
+        jdbcTemplate.update(RELEASE_SQL, keyParameters(userId, key));
+    }
+
+    public int deleteOlderThan(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit));
+    }
+
+    private static MapSqlParameterSource keyParameters(Long userId, String key) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("key", key);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.teamtacles.config.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("app.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    // Por quanto tempo repetir uma chave devolve a resposta registrada em vez de refazer a requisição
+    private Duration ttl = Duration.ofHours(24);
+
+    // Quanto uma repetição espera a requisição original terminar antes de receber 409
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    // Intervalo entre consultas ao banco quando a requisição original roda em outra instância
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    // Reserva sem resposta há mais tempo que isso é de uma instância que caiu no meio da requisição e pode ser retomada
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    // Maior corpo aceito junto com uma chave; ele entra na impressão digital da requisição
+    private int maxBodyBytes = 64 * 1024;
+
+    // Respostas maiores não são registradas: a reserva é liberada e uma repetição refaz a requisição
+    private int maxResponseBytes = 256 * 1024;
+
+    // Respostas mantidas em memória na frente da tabela
+    private int cacheSize = 10_000;
+
+    private int pruneBatchSize = 10_000;
+
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+        private String method = "POST";
+        private String path;
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.teamtacles.config.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Decide se uma requisição com Idempotency-Key roda ou devolve a resposta registrada. Repetições concorrentes na mesma
+// instância esperam o futuro da original; entre instâncias, a reserva na tabela decide quem executa e as demais
+// consultam o banco até a resposta aparecer. Respostas concluídas ficam num cache LRU em memória na frente da tabela.
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    enum Decision { EXECUTE, REPLAY, KEY_REUSED, IN_PROGRESS }
+
+    record Outcome(Decision decision, StoredResponse response) {
+
+        static final Outcome EXECUTE = new Outcome(Decision.EXECUTE, null);
+        static final Outcome IN_PROGRESS = new Outcome(Decision.IN_PROGRESS, null);
+    }
+
+    private record Scope(Long userId, String key) {}
+
+    private final IdempotencyJdbcRepository repository;
+    private final IdempotencyProperties properties;
+    private final Supplier<OffsetDateTime> clock;
+    // Futuro completado com nulo quando a original não deixou resposta e a chave foi liberada
+    private final ConcurrentHashMap<Scope, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Scope, StoredResponse> completed;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyJdbcRepository repository, IdempotencyProperties properties) {
+        this(repository, properties, OffsetDateTime::now);
+    }
+
+    IdempotencyStore(IdempotencyJdbcRepository repository, IdempotencyProperties properties, Supplier<OffsetDateTime> clock) {
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+        int cacheSize = properties.getCacheSize();
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Scope, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    Outcome begin(Long userId, String key, String fingerprint) {
+        Scope scope = new Scope(userId, key);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            StoredResponse cached = cached(scope);
+            if (cached != null) {
+                return replay(cached, fingerprint);
+            }
+
+            CompletableFuture<StoredResponse> flight = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> original = inFlight.putIfAbsent(scope, flight);
+            if (original != null) {
+                StoredResponse response;
+                try {
+                    response = original.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ex) {
+                    return Outcome.IN_PROGRESS;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return Outcome.IN_PROGRESS;
+                } catch (ExecutionException ex) {
+                    response = null;
+                }
+                if (response != null) {
+                    return replay(response, fingerprint);
+                }
+                // A original liberou a chave sem resposta: esta repetição tenta executar
+                continue;
+            }
+
+            Outcome outcome;
+            try {
+                outcome = claim(scope, fingerprint, deadline);
+            } catch (RuntimeException ex) {
+                finish(scope, null);
+                throw ex;
+            }
+            if (outcome.decision() != Decision.EXECUTE) {
+                finish(scope, outcome.response());
+            }
+            return outcome;
+        }
+    }
+
+    void complete(Long userId, String key, String fingerprint, int statusCode, String contentType, String body) {
+        Scope scope = new Scope(userId, key);
+        OffsetDateTime now = clock.get();
+        StoredResponse response = new StoredResponse(fingerprint, statusCode, contentType, body, now);
+        try {
+            repository.complete(userId, key, statusCode, contentType, body, now);
+            synchronized (completed) {
+                completed.put(scope, response);
+            }
+        } finally {
+            finish(scope, response);
+        }
+    }
+
+    void release(Long userId, String key) {
+        Scope scope = new Scope(userId, key);
+        try {
+            repository.release(userId, key);
+        } finally {
+            finish(scope, null);
+        }
+    }
+
+    @Scheduled(cron = "${app.idempotency.prune-cron:0 15 3 * * *}")
+    public void pruneExpiredKeys() {
+        OffsetDateTime cutoff = clock.get().minus(properties.getTtl());
+        int batchSize = properties.getPruneBatchSize();
+        int deleted = 0;
+        int batch;
+        do {
+            batch = repository.deleteOlderThan(cutoff, batchSize);
+            deleted += batch;
+        } while (batch == batchSize);
+
+        if (deleted > 0) {
+            log.info("Pruned {} idempotency keys older than {}", deleted, cutoff);
+        }
+    }
+
+    private Outcome claim(Scope scope, String fingerprint, long deadline) {
+        while (true) {
+            OffsetDateTime now = clock.get();
+            try {
+                repository.insertClaim(scope.userId(), scope.key(), fingerprint, now);
+                return Outcome.EXECUTE;
+            } catch (DuplicateKeyException ex) {
+                // Chave já usada: resposta registrada, requisição rodando em outra instância ou registro vencido
+            }
+
+            StoredResponse stored = repository.find(scope.userId(), scope.key()).orElse(null);
+            if (stored != null && stored.isComplete() && !isExpired(stored, now)) {
+                synchronized (completed) {
+                    completed.put(scope, stored);
+                }
+                return replay(stored, fingerprint);
+            }
+            if (repository.reclaim(scope.userId(), scope.key(), fingerprint, now,
+                    now.minus(properties.getStaleAfter()), now.minus(properties.getTtl()))) {
+                return Outcome.EXECUTE;
+            }
+
+            if (System.nanoTime() >= deadline) {
+                return Outcome.IN_PROGRESS;
+            }
+            try {
+                Thread.sleep(properties.getPollInterval());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Outcome.IN_PROGRESS;
+            }
+        }
+    }
+
+    private StoredResponse cached(Scope scope) {
+        synchronized (completed) {
+            StoredResponse response = completed.get(scope);
+            if (response != null && isExpired(response, clock.get())) {
+                completed.remove(scope);
+                return null;
+            }
+            return response;
+        }
+    }
+
+    private boolean isExpired(StoredResponse response, OffsetDateTime now) {
+        return response.createdAt().isBefore(now.minus(properties.getTtl()));
+    }
+
+    private void finish(Scope scope, StoredResponse response) {
+        CompletableFuture<StoredResponse> flight = inFlight.remove(scope);
+        if (flight != null) {
+            flight.complete(response);
+        }
+    }
+
+    private static Outcome replay(StoredResponse response, String fingerprint) {
+        return new Outcome(response.fingerprint().equals(fingerprint) ? Decision.REPLAY : Decision.KEY_REUSED, response);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.teamtacles.config.idempotency;
+
+import java.time.OffsetDateTime;
+
+// Estado de uma chave: statusCode nulo enquanto a requisição original ainda está rodando
+record StoredResponse(String fingerprint, Integer statusCode, String contentType, String body, OffsetDateTime createdAt) {
+
+    boolean isComplete() {
+        return statusCode != null;
+    }
+}
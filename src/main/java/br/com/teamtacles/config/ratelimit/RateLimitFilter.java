@@ -0,0 +1,143 @@
+package br.com.teamtacles.config.ratelimit;
+
+import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.config.web.CachedBodyRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Limita as rotas públicas que custam BCrypt ou envio de e-mail, por IP e pelo e-mail do corpo.
+// Roda antes da autenticação para que requisições recusadas não cheguem a tocar no banco.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxBodyBytes;
+    private final List<MatchedRule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        this.rules = !properties.isEnabled() ? List.of() : properties.getRules().entrySet().stream()
+                .map(entry -> new MatchedRule(entry.getKey(), entry.getValue(),
+                        new AntPathRequestMatcher(entry.getValue().getPath(), entry.getValue().getMethod())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        MatchedRule matched = findRule(request);
+        if (matched == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Rule rule = matched.rule();
+        if (rule.getIpCapacity() > 0) {
+            long waitNanos = rateLimiter.tryAcquire(matched.name() + ":ip:" + request.getRemoteAddr(), request.getRemoteAddr(),
+                    rule.getIpCapacity(), rule.getPeriod());
+            if (waitNanos > 0) {
+                reject(response, matched.name(), "ip", waitNanos);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (rule.getEmailCapacity() > 0) {
+            // Corpo que não dá para ler inteiro é recusado: deixá-lo passar escaparia do limite por e-mail
+            CachedBodyRequest cached = CachedBodyRequest.of(request, maxBodyBytes);
+            if (cached == null) {
+                rejectTooLarge(response, matched.name());
+                return;
+            }
+            forwarded = cached;
+            String email = extractEmail(cached.getBody());
+            if (email != null) {
+                long waitNanos = rateLimiter.tryAcquire(matched.name() + ":email:" + email, request.getRemoteAddr(),
+                        rule.getEmailCapacity(), rule.getPeriod());
+                if (waitNanos > 0) {
+                    reject(response, matched.name(), "email", waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private MatchedRule findRule(HttpServletRequest request) {
+        for (MatchedRule rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() && !email.asText().isBlank() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // JSON inválido segue adiante e é recusado pela validação do controller
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, String ruleName, String keyType, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        meterRegistry.counter("teamtacles.rate-limit.rejections", "rule", ruleName, "key", keyType).increment();
+        log.debug("Rate limit exceeded for rule '{}' by {} key; retry after {}s.", ruleName, keyType, retryAfterSeconds);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Too many requests. Try again in " + retryAfterSeconds + " seconds.",
+                "RATE_LIMITED"));
+    }
+
+    private void rejectTooLarge(HttpServletResponse response, String ruleName) throws IOException {
+        meterRegistry.counter("teamtacles.rate-limit.rejections", "rule", ruleName, "key", "body").increment();
+
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                "Payload Too Large",
+                "Request body must be at most " + maxBodyBytes + " bytes.",
+                "BODY_TOO_LARGE"));
+    }
+
+    private record MatchedRule(String name, RateLimitProperties.Rule rule, AntPathRequestMatcher matcher) {}
+}
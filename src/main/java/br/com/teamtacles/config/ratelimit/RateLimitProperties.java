@@ -0,0 +1,37 @@
+package br.com.teamtacles.config.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Teto de baldes em memória; acima dele chaves novas são cobradas nos baldes de transbordo da regra
+    private int maxBuckets = 100_000;
+
+    // Baldes de transbordo por regra, escolhidos pelo prefixo de rede de quem chamou
+    private int overflowStripes = 1024;
+
+    // Maior corpo lido para extrair o e-mail; nas rotas com limite por e-mail, corpos maiores (com ou sem Content-Length) recebem 413
+    private int maxBodyBytes = 16 * 1024;
+
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Data
+    public static class Rule {
+        private String method = "POST";
+        private String path;
+
+        // Cada balde guarda até 'capacity' requisições e se recompõe por inteiro em 'period'; 0 desliga a chave
+        private int ipCapacity;
+        private int emailCapacity;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
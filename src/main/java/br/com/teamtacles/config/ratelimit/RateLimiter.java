@@ -0,0 +1,103 @@
+package br.com.teamtacles.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// Sem trava no caminho da requisição: a tabela é um ConcurrentHashMap (leitura sem lock, inserção só trava o bin
+// da chave) e cada balde é um CAS (TokenBucket). A tabela tem teto; cheia, uma chave nova é cobrada num balde de
+// transbordo escolhido pelo prefixo de rede de quem chamou (/24 no IPv4, /48 no IPv6), entre 'overflow-stripes'
+// baldes por regra. Quem inunda o limitador com chaves novas (e-mails do corpo, por exemplo) só esgota os baldes
+// dos próprios prefixos; clientes de outras redes continuam com fichas, e o limite nunca é desligado.
+// Baldes recompostos saem na varredura agendada, que devolve espaço à tabela.
+@Component
+public class RateLimiter {
+
+    private record OverflowKey(int capacity, Duration period) {}
+
+    private static final int IPV4_PREFIX_BYTES = 3;
+    private static final int IPV6_PREFIX_BYTES = 6;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<OverflowKey, TokenBucket[]> overflowBuckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Counter overflowCounter;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.overflowCounter = Counter.builder("teamtacles.rate-limit.overflow")
+                .description("Requests charged to an overflow bucket because the bucket table was full")
+                .register(meterRegistry);
+        Gauge.builder("teamtacles.rate-limit.buckets", this, RateLimiter::bucketCount)
+                .description("Rate limit buckets currently held in memory")
+                .register(meterRegistry);
+    }
+
+    // 0 quando a requisição pode seguir; senão, quantos nanos até a próxima ficha da chave
+    public long tryAcquire(String key, String clientAddress, int capacity, Duration period) {
+        long now = nanoClock.getAsLong();
+
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            // A contagem pode passar do teto por algumas inserções concorrentes; o teto é de memória, não de segurança
+            if (buckets.size() < properties.getMaxBuckets()) {
+                bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(capacity, period.toNanos(), now));
+            } else {
+                overflowCounter.increment();
+                bucket = overflowBucket(clientAddress, capacity, period, now);
+            }
+        }
+        return bucket.tryConsume(now);
+    }
+
+    // Fora do caminho da requisição: devolve à tabela o espaço dos baldes que já se recompuseram
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:PT1M}")
+    public void evictFullBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket overflowBucket(String clientAddress, int capacity, Duration period, long now) {
+        TokenBucket[] stripes = overflowBuckets.computeIfAbsent(new OverflowKey(capacity, period), ignored -> {
+            TokenBucket[] created = new TokenBucket[properties.getOverflowStripes()];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new TokenBucket(capacity, period.toNanos(), now);
+            }
+            return created;
+        });
+        return stripes[Math.floorMod(networkPrefixHash(clientAddress), stripes.length)];
+    }
+
+    // getRemoteAddr é sempre um IP literal, então getByName não consulta DNS
+    static int networkPrefixHash(String clientAddress) {
+        try {
+            byte[] address = InetAddress.getByName(clientAddress).getAddress();
+            int prefixBytes = address.length == 4 ? IPV4_PREFIX_BYTES : IPV6_PREFIX_BYTES;
+            int hash = Arrays.hashCode(Arrays.copyOf(address, prefixBytes));
+            return hash ^ (hash >>> 16);
+        } catch (UnknownHostException e) {
+            return clientAddress.hashCode();
+        }
+    }
+}
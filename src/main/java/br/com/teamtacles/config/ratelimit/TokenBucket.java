@@ -0,0 +1,38 @@
+package br.com.teamtacles.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Balde de fichas sem trava no formato GCRA: o estado é um único instante teórico de chegada (TAT).
+// Cada requisição empurra o TAT em 'interval'; ela é aceita enquanto o TAT não passar de now + burst.
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, long periodNanos, long nowNanos) {
+        this.intervalNanos = Math.max(1, periodNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 0 quando a ficha foi consumida; senão, quantos nanos faltam para a próxima ficha
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long overflow = next - nowNanos - burstNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Um balde cheio é indistinguível de um recém-criado, então pode ser descartado sem perda
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
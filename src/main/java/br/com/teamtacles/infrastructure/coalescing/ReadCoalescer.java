@@ -0,0 +1,117 @@
+package br.com.teamtacles.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Leituras caras com a mesma chave compartilham um único cálculo: quem chega enquanto ele roda espera o resultado,
+// e quem chega até grace-period depois de ele terminar reaproveita o mesmo valor. Falhas não ficam guardadas.
+// A chave precisa conter tudo que muda o resultado (versões dos dados incluídas) e a autorização deve ser checada
+// por quem chama antes de entrar aqui; o valor é compartilhado entre usuários e não pode ser alterado por eles.
+@Component
+public class ReadCoalescer {
+
+    private record FlightKey(String operation, Object key) {}
+
+    private static final class Flight {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        volatile long completedAt;
+    }
+
+    private final ConcurrentHashMap<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long gracePeriodNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ReadCoalescer(MeterRegistry meterRegistry,
+                         @Value("${app.read-coalescing.grace-period:PT5S}") Duration gracePeriod) {
+        this(meterRegistry, gracePeriod, System::nanoTime);
+    }
+
+    ReadCoalescer(MeterRegistry meterRegistry, Duration gracePeriod, LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.gracePeriodNanos = gracePeriod.toNanos();
+        this.nanoClock = nanoClock;
+        Gauge.builder("teamtacles.read-coalescing.entries", flights, Map::size)
+                .description("Coalesced reads currently running or inside the grace period")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> computation) {
+        FlightKey flightKey = new FlightKey(operation, key);
+
+        while (true) {
+            Flight flight = new Flight();
+            Flight existing = flights.putIfAbsent(flightKey, flight);
+            if (existing == null) {
+                return (T) compute(operation, flightKey, flight, computation);
+            }
+
+            if (!existing.result.isDone()) {
+                count(operation, "joined");
+                return (T) await(existing);
+            }
+            if (isFresh(existing)) {
+                count(operation, "reused");
+                return (T) await(existing);
+            }
+            // Resultado vencido: quem conseguir removê-lo primeiro recalcula na próxima volta
+            flights.remove(flightKey, existing);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-coalescing.sweep-interval:PT1M}")
+    public void evictExpired() {
+        flights.entrySet().removeIf(entry -> entry.getValue().result.isDone() && !isFresh(entry.getValue()));
+    }
+
+    private Object compute(String operation, FlightKey flightKey, Flight flight, Supplier<?> computation) {
+        count(operation, "computed");
+        try {
+            Object value = computation.get();
+            flight.completedAt = nanoClock.getAsLong();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            // Quem já estava esperando recebe a mesma falha; a próxima chamada tenta de novo
+            flights.remove(flightKey, flight);
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private Object await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isFresh(Flight flight) {
+        return !flight.result.isCompletedExceptionally() && nanoClock.getAsLong() - flight.completedAt <= gracePeriodNanos;
+    }
+
+    private void count(String operation, String outcome) {
+        meterRegistry.counter("teamtacles.read-coalescing.calls", "operation", operation, "outcome", outcome).increment();
+    }
+}
@@ -2,10 +2,13 @@ package br.com.teamtacles.infrastructure.export;
 
 import br.com.teamtacles.common.exception.PdfGenerationException;
 import br.com.teamtacles.common.util.ReportFileNameGenerator;
+import br.com.teamtacles.infrastructure.coalescing.ReadCoalescer;
 import br.com.teamtacles.project.dto.response.PdfExportResult;
 import br.com.teamtacles.project.model.ProjectMember;
 import br.com.teamtacles.task.dto.response.TaskSummaryDTO;
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectReportKey;
+import br.com.teamtacles.project.service.ProjectReportCalculator;
 import br.com.teamtacles.project.service.ProjectService;
 import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
 import br.com.teamtacles.task.model.Task;
@@ -26,20 +29,38 @@ import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
 public class ProjectPdfExportService {
 
+    private record PdfKey(ProjectReportKey report, ZoneId zoneId) {}
+
     private final TemplateEngine templateEngine;
     private final ProjectService projectService;
+    private final ReadCoalescer readCoalescer;
 
-    public ProjectPdfExportService(TemplateEngine templateEngine, ProjectService projectService, TaskService taskService) {
+    public ProjectPdfExportService(TemplateEngine templateEngine, ProjectService projectService, TaskService taskService,
+                                   ReadCoalescer readCoalescer) {
         this.templateEngine = templateEngine;
         this.projectService = projectService;
+        this.readCoalescer = readCoalescer;
     }
 
+    // Membros que exportam o mesmo projeto com o mesmo filtro e fuso ao mesmo tempo recebem o mesmo PDF
     public PdfExportResult generateProjectPdf(Long projectId, User actingUser, TaskFilterReportDTO taskFilter, String userTimezone) {
+        Optional<ProjectReportKey> key = projectService.findReportKey(projectId, taskFilter, actingUser);
+        if (key.isEmpty()) {
+            return renderProjectPdf(projectId, actingUser, taskFilter, userTimezone);
+        }
+
+        PdfKey pdfKey = new PdfKey(key.get(), resolveZone(userTimezone));
+        return readCoalescer.execute("project-pdf", pdfKey,
+                () -> renderProjectPdf(projectId, actingUser, taskFilter, pdfKey.zoneId().getId()));
+    }
+
+    private PdfExportResult renderProjectPdf(Long projectId, User actingUser, TaskFilterReportDTO taskFilter, String userTimezone) {
         Project project = projectService.getProjectByIdForReport(projectId, taskFilter.getAssignedUserId(), actingUser);
         Set<Task> tasks = projectService.findFilteredTasksForProject(projectId, taskFilter);
 
@@ -51,7 +72,7 @@ public class ProjectPdfExportService {
                 .sorted(Comparator.comparingInt(member -> member.getProjectRole().getValue()))
                 .toList();
 
-        TaskSummaryDTO summary = projectService.calculateTaskSummary(tasks);
+        TaskSummaryDTO summary = ProjectReportCalculator.calculateTaskSummary(tasks);
 
         byte[] pdfContent = export(project, summary, membersSorted, tasksSorted, taskFilter, userTimezone);
 
@@ -65,14 +86,7 @@ public class ProjectPdfExportService {
 
             String logoDataUri = loadLogoAsBase64("static/images/icon.png");
 
-            ZoneId zoneId;
-            try {
-                zoneId = ZoneId.of(userTimezone);
-            } catch (Exception e) {
-                zoneId = ZoneId.of("UTC");
-            }
-
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(zoneId);
+            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss").withZone(resolveZone(userTimezone));
 
             Context context = new Context();
             context.setVariable("project", project);
@@ -100,6 +114,14 @@ public class ProjectPdfExportService {
         }
     }
 
+    private static ZoneId resolveZone(String userTimezone) {
+        try {
+            return ZoneId.of(userTimezone);
+        } catch (Exception e) {
+            return ZoneId.of("UTC");
+        }
+    }
+
     private String loadLogoAsBase64(String classpathResource) throws IOException {
         ClassPathResource logoResource = new ClassPathResource(classpathResource);
         if (!logoResource.exists()) {
@@ -0,0 +1,69 @@
+package br.com.teamtacles.infrastructure.stream;
+
+import br.com.teamtacles.project.dto.response.ProjectActivityEventDTO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+// Assinantes e histórico recente de um projeto. O histórico é o que permite retomar pelo Last-Event-ID.
+// Quem chama sincroniza no próprio canal para que registro + replay e append + fan-out não se intercalem.
+final class ActivityChannel {
+
+    record StoredEvent(long id, ProjectActivityEventDTO payload) {}
+
+    private final int historySize;
+    private final ArrayDeque<StoredEvent> history;
+    private final Set<ActivitySubscriber> subscribers = new CopyOnWriteArraySet<>();
+    // Todo evento do projeto com id >= coveredFrom ainda está no histórico
+    private long coveredFrom;
+    private long lastActivityNanos;
+
+    ActivityChannel(int historySize, long nextEventId, long nowNanos) {
+        this.historySize = historySize;
+        this.history = new ArrayDeque<>(historySize);
+        this.coveredFrom = nextEventId;
+        this.lastActivityNanos = nowNanos;
+    }
+
+    synchronized void append(StoredEvent event, long nowNanos) {
+        if (history.size() == historySize) {
+            coveredFrom = history.removeFirst().id() + 1;
+        }
+        history.addLast(event);
+        lastActivityNanos = nowNanos;
+    }
+
+    // Vazio quando há lacuna: algum evento depois de lastEventId já saiu do histórico (ou é de antes de um restart)
+    synchronized Optional<List<StoredEvent>> since(long lastEventId) {
+        if (lastEventId < coveredFrom - 1) {
+            return Optional.empty();
+        }
+        List<StoredEvent> missed = new ArrayList<>();
+        for (StoredEvent event : history) {
+            if (event.id() > lastEventId) {
+                missed.add(event);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    void add(ActivitySubscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    void remove(ActivitySubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    Set<ActivitySubscriber> subscribers() {
+        return subscribers;
+    }
+
+    synchronized boolean isIdleSince(long cutoffNanos) {
+        return subscribers.isEmpty() && lastActivityNanos - cutoffNanos < 0;
+    }
+}
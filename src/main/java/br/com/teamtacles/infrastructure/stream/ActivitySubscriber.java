@@ -0,0 +1,93 @@
+package br.com.teamtacles.infrastructure.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Uma conexão SSE. Quem publica só enfileira (nunca escreve no socket); a escrita é feita por uma tarefa
+// de drenagem no executor, no máximo uma por assinante, o que mantém a ordem dos eventos.
+final class ActivitySubscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final ArrayBlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final Executor sender;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed;
+    private volatile boolean closing;
+
+    ActivitySubscriber(Long userId, SseEmitter emitter, int bufferSize, Executor sender) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // false quando o buffer está cheio: o assinante é encerrado e o cliente retoma pelo Last-Event-ID
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return true;
+        }
+        if (!buffer.offer(event)) {
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // Encerra depois de enviar o que já está no buffer, como o aviso de projeto apagado
+    void closeAfterPending() {
+        closing = true;
+        scheduleDrain();
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Cliente desconectado ou emitter já finalizado
+            close();
+        } finally {
+            draining.set(false);
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            } else if (closing) {
+                close();
+            }
+        }
+    }
+}
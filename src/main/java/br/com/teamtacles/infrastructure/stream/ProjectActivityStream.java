@@ -0,0 +1,229 @@
+package br.com.teamtacles.infrastructure.stream;
+
+import br.com.teamtacles.infrastructure.stream.ActivityChannel.StoredEvent;
+import br.com.teamtacles.project.dto.response.ProjectActivityEventDTO;
+import br.com.teamtacles.project.enumeration.EProjectActivityType;
+import br.com.teamtacles.project.service.ProjectAccessRevokedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Fan-out das atividades de cada projeto para as conexões SSE deste nó.
+// Conexões ociosas não prendem thread nem conexão de banco (request assíncrono do servlet + open-in-view desligado);
+// a escrita fica em virtual threads, uma drenagem por assinante, então cliente lento não atrasa os demais.
+@Component
+public class ProjectActivityStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectActivityStream.class);
+
+    private final ConcurrentHashMap<Long, ActivityChannel> channels = new ConcurrentHashMap<>();
+    // Semeado com o relógio para que ids continuem crescendo após um restart (ids antigos caem em RESYNC_REQUIRED)
+    private final AtomicLong sequence;
+    private final ObjectMapper objectMapper;
+    private final Executor sender;
+    private final Function<Long, SseEmitter> emitterFactory;
+    private final LongSupplier nanoClock;
+    private final int bufferSize;
+    private final int historySize;
+    private final Duration timeout;
+    private final Duration historyRetention;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public ProjectActivityStream(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                 @Value("${app.activity-stream.buffer-size:64}") int bufferSize,
+                                 @Value("${app.activity-stream.history-size:256}") int historySize,
+                                 @Value("${app.activity-stream.timeout:PT30M}") Duration timeout,
+                                 @Value("${app.activity-stream.history-retention:PT10M}") Duration historyRetention) {
+        this(objectMapper, meterRegistry, bufferSize, historySize, timeout, historyRetention,
+                Executors.newVirtualThreadPerTaskExecutor(), SseEmitter::new, System::nanoTime, System.currentTimeMillis() << 20);
+    }
+
+    ProjectActivityStream(ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferSize, int historySize,
+                          Duration timeout, Duration historyRetention, Executor sender,
+                          Function<Long, SseEmitter> emitterFactory, LongSupplier nanoClock, long initialSequence) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.timeout = timeout;
+        this.historyRetention = historyRetention;
+        this.sender = sender;
+        this.emitterFactory = emitterFactory;
+        this.nanoClock = nanoClock;
+        this.sequence = new AtomicLong(initialSequence);
+        this.droppedCounter = Counter.builder("teamtacles.activity-stream.dropped")
+                .description("Subscribers disconnected because their send buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("teamtacles.activity-stream.subscribers", channels,
+                        map -> map.values().stream().mapToInt(channel -> channel.subscribers().size()).sum())
+                .description("Open activity stream connections on this node")
+                .register(meterRegistry);
+    }
+
+    // lastEventId (cabeçalho Last-Event-ID) reenvia o que o cliente perdeu; se já saiu do histórico, envia RESYNC_REQUIRED
+    public SseEmitter subscribe(Long projectId, Long userId, Long lastEventId) {
+        SseEmitter emitter = emitterFactory.apply(timeout.toMillis());
+        ActivitySubscriber subscriber = new ActivitySubscriber(userId, emitter, bufferSize, sender);
+
+        ActivityChannel channel = channels.compute(projectId, (id, existing) -> {
+            ActivityChannel target = existing != null ? existing : new ActivityChannel(historySize, sequence.get() + 1, nanoClock.getAsLong());
+            synchronized (target) {
+                target.add(subscriber);
+                if (lastEventId != null) {
+                    replay(projectId, target, subscriber, lastEventId);
+                }
+            }
+            return target;
+        });
+
+        emitter.onCompletion(() -> channel.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        return emitter;
+    }
+
+    // Só depois do commit: uma tentativa revertida (ou repetida pelo @RetryOnConflict) não gera evento
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ProjectActivityEventDTO payload) {
+        // Projeto apagado: o canal sai do mapa antes da entrega (fora do lock do canal, que o subscribe pega dentro do
+        // compute), então nenhuma conexão nova entra nele depois do aviso
+        boolean projectDeleted = payload.getType() == EProjectActivityType.PROJECT_DELETED;
+        ActivityChannel channel = projectDeleted ? channels.remove(payload.getProjectId()) : channels.get(payload.getProjectId());
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            StoredEvent event = new StoredEvent(sequence.incrementAndGet(), payload);
+            channel.append(event, nanoClock.getAsLong());
+
+            String json = toJson(payload);
+            for (ActivitySubscriber subscriber : channel.subscribers()) {
+                if (subscriber.isClosed()) {
+                    channel.remove(subscriber);
+                } else if (!subscriber.offer(toSse(event.id(), payload.getType(), json))) {
+                    droppedCounter.increment();
+                    channel.remove(subscriber);
+                }
+            }
+
+            // Quem saiu do projeto deixa de receber as atividades dele
+            if (payload.getType() == EProjectActivityType.MEMBER_LEFT && payload.getUserId() != null) {
+                for (ActivitySubscriber subscriber : channel.subscribers()) {
+                    if (payload.getUserId().equals(subscriber.getUserId())) {
+                        subscriber.close();
+                        channel.remove(subscriber);
+                    }
+                }
+            }
+
+            if (projectDeleted) {
+                for (ActivitySubscriber subscriber : channel.subscribers()) {
+                    subscriber.closeAfterPending();
+                    channel.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    // Conta excluída: fecha as conexões do usuário em todos os canais deste nó
+    @TransactionalEventListener(fallbackExecution = true)
+    public void closeSubscriptionsOf(ProjectAccessRevokedEvent revoked) {
+        for (ActivityChannel channel : channels.values()) {
+            synchronized (channel) {
+                for (ActivitySubscriber subscriber : channel.subscribers()) {
+                    if (revoked.userId().equals(subscriber.getUserId())) {
+                        subscriber.close();
+                        channel.remove(subscriber);
+                    }
+                }
+            }
+        }
+    }
+
+    // O heartbeat mantém proxies e balanceadores sem derrubar a conexão ociosa e revela clientes que sumiram
+    @Scheduled(fixedDelayString = "${app.activity-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        long idleCutoff = nanoClock.getAsLong() - historyRetention.toNanos();
+
+        for (Map.Entry<Long, ActivityChannel> entry : channels.entrySet()) {
+            ActivityChannel channel = entry.getValue();
+            for (ActivitySubscriber subscriber : channel.subscribers()) {
+                if (subscriber.isClosed()) {
+                    channel.remove(subscriber);
+                } else if (!subscriber.offer(SseEmitter.event().comment("heartbeat"))) {
+                    droppedCounter.increment();
+                    channel.remove(subscriber);
+                }
+            }
+            channels.computeIfPresent(entry.getKey(), (id, current) -> current.isIdleSince(idleCutoff) ? null : current);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(channel -> channel.subscribers().forEach(ActivitySubscriber::close));
+        channels.clear();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void replay(Long projectId, ActivityChannel channel, ActivitySubscriber subscriber, long lastEventId) {
+        Optional<List<StoredEvent>> missed = channel.since(lastEventId);
+
+        // Um replay maior que o buffer derrubaria a conexão logo de cara; nesse caso é mais barato recarregar
+        if (missed.isEmpty() || missed.get().size() > bufferSize) {
+            ProjectActivityEventDTO resync = new ProjectActivityEventDTO(EProjectActivityType.RESYNC_REQUIRED, projectId,
+                    null, null, null, null, OffsetDateTime.now());
+            subscriber.offer(toSse(sequence.get(), resync.getType(), toJson(resync)));
+            return;
+        }
+
+        for (StoredEvent event : missed.get()) {
+            subscriber.offer(toSse(event.id(), event.payload().getType(), toJson(event.payload())));
+        }
+    }
+
+    // O JSON é gerado uma vez por evento e reaproveitado para todos os assinantes
+    private SseEmitter.SseEventBuilder toSse(long id, EProjectActivityType type, String json) {
+        return SseEmitter.event()
+                .id(Long.toString(id))
+                .name(type.name())
+                .data(json, MediaType.APPLICATION_JSON);
+    }
+
+    private String toJson(ProjectActivityEventDTO payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize activity event {} of project {}", payload.getType(), payload.getProjectId(), e);
+            throw new IllegalStateException("Activity event serialization failed.", e);
+        }
+    }
+}
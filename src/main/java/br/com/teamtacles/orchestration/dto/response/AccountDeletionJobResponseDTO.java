@@ -0,0 +1,46 @@
+package br.com.teamtacles.orchestration.dto.response;
+
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionPhase;
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionStatus;
+import br.com.teamtacles.orchestration.job.AccountDeletionJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "AccountDeletionJobResponse", description = "Progress of an account deletion running in the background.")
+public class AccountDeletionJobResponseDTO {
+
+    @Schema(description = "Identifier used to poll the job progress.", example = "3f2b8c1e-6d4a-4f7e-9a0b-5c1d2e3f4a5b")
+    private UUID jobId;
+
+    @Schema(description = "Current status of the job.", example = "RUNNING")
+    private EAccountDeletionStatus status;
+
+    @Schema(description = "Step being processed: tasks, teams, projects and finally the account itself.", example = "TEAMS")
+    private EAccountDeletionPhase phase;
+
+    @Schema(description = "Rows (assignments, memberships, transferred or deleted items) processed so far.", example = "4200")
+    private long processedRows;
+
+    @Schema(description = "Approximate number of rows to process, estimated when the job was created.", example = "10000")
+    private long estimatedRows;
+
+    private OffsetDateTime startedAt;
+
+    private OffsetDateTime finishedAt;
+
+    @Schema(description = "Failure reason, present only when the status is FAILED.")
+    private String error;
+
+    public static AccountDeletionJobResponseDTO from(AccountDeletionJob job) {
+        return new AccountDeletionJobResponseDTO(job.getId(), job.getStatus(), job.getPhase(), job.getProcessedRows(),
+                job.getEstimatedRows(), job.getStartedAt(), job.getFinishedAt(), job.getError());
+    }
+}
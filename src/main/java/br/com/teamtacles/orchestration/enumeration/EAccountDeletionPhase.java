@@ -0,0 +1,8 @@
+package br.com.teamtacles.orchestration.enumeration;
+
+public enum EAccountDeletionPhase {
+    TASKS,
+    TEAMS,
+    PROJECTS,
+    ACCOUNT
+}
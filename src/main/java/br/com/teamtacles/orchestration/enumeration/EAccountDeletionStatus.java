@@ -0,0 +1,8 @@
+package br.com.teamtacles.orchestration.enumeration;
+
+public enum EAccountDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,30 @@
+package br.com.teamtacles.orchestration.job;
+
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionPhase;
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Leitura de uma linha de account_deletion_jobs; o estado em si só muda no banco, pelo AccountDeletionJobJdbcRepository
+@Getter
+@AllArgsConstructor
+public class AccountDeletionJob {
+
+    private final UUID id;
+    private final Long userId;
+    private final EAccountDeletionStatus status;
+    private final EAccountDeletionPhase phase;
+    private final long processedRows;
+    private final long estimatedRows;
+    private final OffsetDateTime createdAt;
+    private final OffsetDateTime startedAt;
+    private final OffsetDateTime finishedAt;
+    private final String error;
+
+    public boolean isFinished() {
+        return status == EAccountDeletionStatus.COMPLETED || status == EAccountDeletionStatus.FAILED;
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.teamtacles.orchestration.repository;
+
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionPhase;
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionStatus;
+import br.com.teamtacles.orchestration.job.AccountDeletionJob;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Estado das exclusões de conta em segundo plano. Cada escrita é um comando único e autocommit: o progresso fica
+// visível para as requisições de acompanhamento em qualquer nó assim que o lote termina.
+// heartbeat_at avança a cada lote; um job não terminado com heartbeat antigo ficou órfão e pode ser retomado.
+@Repository
+public class AccountDeletionJobJdbcRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, user_id, status, phase, processed_rows, estimated_rows, created_at, started_at, finished_at, error
+            FROM account_deletion_jobs
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO account_deletion_jobs (id, user_id, running_user_id, status, phase, estimated_rows, created_at, heartbeat_at)
+            VALUES (:id, :userId, :userId, 'PENDING', 'TASKS', :estimatedRows, :now, :now)
+            """;
+
+    private static final String FIND_STALE_SQL = """
+            SELECT id FROM account_deletion_jobs
+            WHERE running_user_id IS NOT NULL AND heartbeat_at < :staleBefore
+            ORDER BY heartbeat_at LIMIT :limit
+            """;
+
+    // A condição repetida no UPDATE faz com que só um nó consiga assumir o job órfão
+    private static final String CLAIM_SQL = """
+            UPDATE account_deletion_jobs SET heartbeat_at = :now
+            WHERE id = :id AND running_user_id IS NOT NULL AND heartbeat_at < :staleBefore
+            """;
+
+    private static final String MARK_RUNNING_SQL = """
+            UPDATE account_deletion_jobs SET status = 'RUNNING', started_at = COALESCE(started_at, :now), heartbeat_at = :now
+            WHERE id = :id AND running_user_id IS NOT NULL
+            """;
+
+    private static final String RECORD_PROGRESS_SQL = """
+            UPDATE account_deletion_jobs SET phase = :phase, processed_rows = processed_rows + :rows, heartbeat_at = :now
+            WHERE id = :id
+            """;
+
+    private static final String FINISH_SQL = """
+            UPDATE account_deletion_jobs
+            SET status = :status, error = :error, finished_at = :now, heartbeat_at = :now, running_user_id = NULL
+            WHERE id = :id AND running_user_id IS NOT NULL
+            """;
+
+    private static final String DELETE_FINISHED_BEFORE_SQL = """
+            DELETE FROM account_deletion_jobs WHERE id IN (
+                SELECT id FROM account_deletion_jobs WHERE finished_at < :cutoff ORDER BY finished_at LIMIT :limit)
+            """;
+
+    private static final RowMapper<AccountDeletionJob> ROW_MAPPER = (resultSet, rowNum) -> new AccountDeletionJob(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getLong("user_id"),
+            EAccountDeletionStatus.valueOf(resultSet.getString("status")),
+            EAccountDeletionPhase.valueOf(resultSet.getString("phase")),
+            resultSet.getLong("processed_rows"),
+            resultSet.getLong("estimated_rows"),
+            resultSet.getObject("created_at", OffsetDateTime.class),
+            resultSet.getObject("started_at", OffsetDateTime.class),
+            resultSet.getObject("finished_at", OffsetDateTime.class),
+            resultSet.getString("error"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AccountDeletionJobJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Lança DuplicateKeyException se o usuário já tiver um job não terminado
+    public void insert(UUID id, Long userId, long estimatedRows, OffsetDateTime now) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("userId", userId)
+                .addValue("estimatedRows", estimatedRows)
+                .addValue("now", now));
+    }
+
+    public Optional<AccountDeletionJob> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE id = :id", new MapSqlParameterSource("id", id), ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    public Optional<AccountDeletionJob> findUnfinishedByUser(Long userId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE running_user_id = :userId", new MapSqlParameterSource("userId", userId), ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    public List<UUID> findStale(OffsetDateTime staleBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_STALE_SQL, new MapSqlParameterSource()
+                .addValue("staleBefore", staleBefore)
+                .addValue("limit", limit), UUID.class);
+    }
+
+    public boolean claim(UUID id, OffsetDateTime now, OffsetDateTime staleBefore) {
+        return jdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", now)
+                .addValue("staleBefore", staleBefore)) == 1;
+    }
+
+    public void markRunning(UUID id, OffsetDateTime now) {
+        jdbcTemplate.update(MARK_RUNNING_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", now));
+    }
+
+    public void recordProgress(UUID id, EAccountDeletionPhase phase, long rows, OffsetDateTime now) {
+        jdbcTemplate.update(RECORD_PROGRESS_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("phase", phase.name())
+                .addValue("rows", rows)
+                .addValue("now", now));
+    }
+
+    public void markCompleted(UUID id, OffsetDateTime now) {
+        finish(id, EAccountDeletionStatus.COMPLETED, null, now);
+    }
+
+    public void markFailed(UUID id, String error, OffsetDateTime now) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        finish(id, EAccountDeletionStatus.FAILED, truncated, now);
+    }
+
+    public int deleteFinishedBefore(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_FINISHED_BEFORE_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit));
+    }
+
+    private void finish(UUID id, EAccountDeletionStatus status, String error, OffsetDateTime now) {
+        jdbcTemplate.update(FINISH_SQL, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("status", status.name())
+                .addValue("error", error)
+                .addValue("now", now));
+    }
+}
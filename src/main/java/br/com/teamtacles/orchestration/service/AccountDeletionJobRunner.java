@@ -0,0 +1,110 @@
+package br.com.teamtacles.orchestration.service;
+
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionPhase;
+import br.com.teamtacles.orchestration.job.AccountDeletionJob;
+import br.com.teamtacles.orchestration.repository.AccountDeletionJobJdbcRepository;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.user.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+@Component
+public class AccountDeletionJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionJobRunner.class);
+    private static final int MAX_FINAL_SWEEP_ATTEMPTS = 3;
+
+    private final AccountDeletionJobJdbcRepository jobRepository;
+    private final UserService userService;
+    private final UserAccountService userAccountService;
+    private final TeamService teamService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+
+    public AccountDeletionJobRunner(AccountDeletionJobJdbcRepository jobRepository, UserService userService,
+                                    UserAccountService userAccountService, TeamService teamService,
+                                    ProjectService projectService, TaskService taskService) {
+        this.jobRepository = jobRepository;
+        this.userService = userService;
+        this.userAccountService = userAccountService;
+        this.teamService = teamService;
+        this.projectService = projectService;
+        this.taskService = taskService;
+    }
+
+    // Cada lote roda na sua própria transação, evitando locks longos em contas grandes; a conta só é apagada no final.
+    // A conta já está bloqueada (deletion_requested_at) quando o job começa, então os lotes não competem com o usuário.
+    // Um job retomado pula as fases já concluídas e refaz a interrompida: cada lote só enxerga o que ainda é do usuário
+    @Async
+    public void run(UUID jobId, int chunkSize) {
+        AccountDeletionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isFinished()) {
+            return;
+        }
+
+        Long userId = job.getUserId();
+        jobRepository.markRunning(jobId, OffsetDateTime.now());
+
+        try {
+            drain(job, EAccountDeletionPhase.TASKS, () -> taskService.releaseTasksOfUser(userId, null, chunkSize));
+            drain(job, EAccountDeletionPhase.TEAMS, () -> teamService.releaseTeamsOfUser(userId, chunkSize));
+            drain(job, EAccountDeletionPhase.PROJECTS, () -> projectService.releaseProjectsOfUser(userId, null, chunkSize));
+
+            jobRepository.recordProgress(jobId, EAccountDeletionPhase.ACCOUNT, 0, OffsetDateTime.now());
+            deleteAccount(userId);
+            jobRepository.recordProgress(jobId, EAccountDeletionPhase.ACCOUNT, 1, OffsetDateTime.now());
+            jobRepository.markCompleted(jobId, OffsetDateTime.now());
+        } catch (RuntimeException ex) {
+            log.error("Account deletion job {} failed for user {}", jobId, userId, ex);
+            jobRepository.markFailed(jobId, ex.getMessage(), OffsetDateTime.now());
+            // A conta continua existindo: libera o login para que o usuário possa pedir a exclusão de novo
+            userService.clearDeletionRequest(userId);
+        }
+    }
+
+    // Varredura final numa única transação com a exclusão: libera o que ainda restar (linhas gravadas por requisições
+    // que já estavam em andamento quando a conta foi bloqueada) e apaga a conta. Uma linha nova gravada no meio faz a
+    // exclusão violar a chave estrangeira; a transação é desfeita e a varredura recomeça
+    private void deleteAccount(Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            // Ausente quando o nó anterior caiu entre a exclusão da conta e o registro da conclusão
+            User user = userService.findOptionalUserEntityById(userId).orElse(null);
+            if (user == null) {
+                return;
+            }
+
+            try {
+                userAccountService.handleUserDeletion(user);
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                if (attempt >= MAX_FINAL_SWEEP_ATTEMPTS) {
+                    throw ex;
+                }
+                log.warn("Rows were added to user {} during the final sweep (attempt {}); sweeping again", userId, attempt);
+            }
+        }
+    }
+
+    private void drain(AccountDeletionJob job, EAccountDeletionPhase phase, IntSupplier chunk) {
+        if (phase.compareTo(job.getPhase()) < 0) {
+            return;
+        }
+
+        jobRepository.recordProgress(job.getId(), phase, 0, OffsetDateTime.now());
+        int affected;
+        do {
+            affected = chunk.getAsInt();
+            jobRepository.recordProgress(job.getId(), phase, affected, OffsetDateTime.now());
+        } while (affected > 0);
+    }
+}
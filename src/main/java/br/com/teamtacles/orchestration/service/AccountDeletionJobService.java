@@ -0,0 +1,129 @@
+package br.com.teamtacles.orchestration.service;
+
+import br.com.teamtacles.common.exception.ResourceNotFoundException;
+import br.com.teamtacles.orchestration.dto.response.AccountDeletionJobResponseDTO;
+import br.com.teamtacles.orchestration.job.AccountDeletionJob;
+import br.com.teamtacles.orchestration.repository.AccountDeletionJobJdbcRepository;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.user.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+// Exclusões de conta em segundo plano. O estado fica em account_deletion_jobs, então o progresso pode ser consultado
+// em qualquer nó e um job interrompido por deploy ou queda do nó é retomado por outro
+@Service
+public class AccountDeletionJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionJobService.class);
+
+    private final AccountDeletionJobJdbcRepository jobRepository;
+    private final AccountDeletionJobRunner jobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final UserService userService;
+    private final TeamService teamService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final long asyncThreshold;
+    private final int chunkSize;
+    private final Duration staleAfter;
+    private final Duration retention;
+
+    public AccountDeletionJobService(AccountDeletionJobJdbcRepository jobRepository, AccountDeletionJobRunner jobRunner,
+                                     TransactionTemplate transactionTemplate, UserService userService,
+                                     TeamService teamService, ProjectService projectService, TaskService taskService,
+                                     @Value("${app.account-deletion.async-threshold:5000}") long asyncThreshold,
+                                     @Value("${app.account-deletion.chunk-size:1000}") int chunkSize,
+                                     @Value("${app.account-deletion.stale-after:PT5M}") Duration staleAfter,
+                                     @Value("${app.account-deletion.retention:PT1H}") Duration retention) {
+        this.jobRepository = jobRepository;
+        this.jobRunner = jobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.userService = userService;
+        this.teamService = teamService;
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = chunkSize;
+        this.staleAfter = staleAfter;
+        this.retention = retention;
+    }
+
+    // Estimativa pelas linhas de associação do usuário; itens possuídos sem associação própria não entram na conta
+    public long estimateRows(User user) {
+        return taskService.countAssignmentsOfUser(user)
+                + teamService.countMembershipsOfUser(user)
+                + projectService.countMembershipsOfUser(user);
+    }
+
+    public boolean shouldRunInBackground(long estimatedRows) {
+        return estimatedRows > asyncThreshold;
+    }
+
+    public AccountDeletionJobResponseDTO submit(User user, long estimatedRows) {
+        Optional<AccountDeletionJob> running = jobRepository.findUnfinishedByUser(user.getId());
+        if (running.isPresent()) {
+            return AccountDeletionJobResponseDTO.from(running.get());
+        }
+
+        // O job e a marcação da conta entram juntos: a partir do commit os tokens da conta são recusados e nenhuma
+        // requisição nova cria linhas que o job já tenha deixado para trás
+        UUID jobId = UUID.randomUUID();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jobRepository.insert(jobId, user.getId(), estimatedRows, OffsetDateTime.now());
+                userService.markDeletionRequested(user.getId());
+            });
+        } catch (DuplicateKeyException ex) {
+            // Outra requisição do mesmo usuário criou o job entre a busca e o insert
+            return AccountDeletionJobResponseDTO.from(jobRepository.findUnfinishedByUser(user.getId()).orElseThrow(() -> ex));
+        }
+
+        jobRunner.run(jobId, chunkSize);
+        return AccountDeletionJobResponseDTO.from(findJobOrThrow(jobId));
+    }
+
+    // O job continua consultável depois que a conta some, então o dono é conferido pelo id gravado no job
+    public AccountDeletionJobResponseDTO getJob(UUID jobId, Long requestingUserId) {
+        AccountDeletionJob job = findJobOrThrow(jobId);
+        if (!job.getUserId().equals(requestingUserId)) {
+            throw new AccessDeniedException("You can only follow the deletion of your own account.");
+        }
+        return AccountDeletionJobResponseDTO.from(job);
+    }
+
+    // Roda logo após a subida e depois a cada intervalo. Sem heartbeat recente o job ficou sem nó e é retomado da fase
+    // registrada; o claim condicional garante que só um nó o assuma
+    @Scheduled(fixedDelayString = "${app.account-deletion.resume-interval:PT1M}")
+    public void resumeStaleJobs() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime staleBefore = now.minus(staleAfter);
+
+        for (UUID jobId : jobRepository.findStale(staleBefore, chunkSize)) {
+            if (jobRepository.claim(jobId, now, staleBefore)) {
+                log.info("Resuming account deletion job {}", jobId);
+                jobRunner.run(jobId, chunkSize);
+            }
+        }
+
+        jobRepository.deleteFinishedBefore(now.minus(retention), chunkSize);
+    }
+
+    private AccountDeletionJob findJobOrThrow(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Account deletion job not found with id: " + jobId));
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.teamtacles.orchestration.service;
+
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.token.service.SecureTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.function.IntSupplier;
+
+@Component
+public class ExpiredTokenSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenSweeper.class);
+
+    private final SecureTokenService secureTokenService;
+    private final TeamService teamService;
+    private final ProjectService projectService;
+    private final int batchSize;
+    private final Duration staleInvitationAge;
+
+    public ExpiredTokenSweeper(SecureTokenService secureTokenService, TeamService teamService, ProjectService projectService,
+                               @Value("${app.tokens.sweep-batch-size:1000}") int batchSize,
+                               @Value("${app.tokens.stale-invitation-age:P7D}") Duration staleInvitationAge) {
+        this.secureTokenService = secureTokenService;
+        this.teamService = teamService;
+        this.projectService = projectService;
+        this.batchSize = batchSize;
+        this.staleInvitationAge = staleInvitationAge;
+    }
+
+    // Apaga em lotes, cada um na sua transação, para não segurar locks sobre as tabelas de membros
+    @Scheduled(cron = "${app.tokens.sweep-cron:0 */30 * * * *}")
+    public void sweep() {
+        OffsetDateTime invitedBefore = OffsetDateTime.now().minus(staleInvitationAge);
+
+        int invitations = drain(() -> teamService.purgeStaleInvitations(invitedBefore, batchSize))
+                + drain(() -> projectService.purgeStaleInvitations(invitedBefore, batchSize));
+        int tokens = drain(() -> secureTokenService.purgeExpired(batchSize));
+
+        if (invitations > 0 || tokens > 0) {
+            log.info("Token sweep removed {} expired tokens and {} stale invitations", tokens, invitations);
+        }
+    }
+
+    private int drain(IntSupplier batch) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+        } while (deleted >= batchSize);
+        return total;
+    }
+}
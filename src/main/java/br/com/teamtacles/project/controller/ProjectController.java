@@ -1,13 +1,17 @@
 package br.com.teamtacles.project.controller;
 
+import br.com.teamtacles.audit.dto.response.ActivityLogResponseDTO;
+import br.com.teamtacles.audit.service.ActivityLogService;
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
 import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.common.util.EntityTags;
 import br.com.teamtacles.orchestration.service.UserAccountService;
 import br.com.teamtacles.project.dto.response.PdfExportResult;
 import br.com.teamtacles.project.dto.response.ProjectReportDTO;
 import br.com.teamtacles.project.dto.request.*;
 import br.com.teamtacles.project.dto.response.ProjectMemberResponseDTO;
 import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.dto.response.TeamImportResponseDTO;
 import br.com.teamtacles.project.dto.response.UserProjectResponseDTO;
 import br.com.teamtacles.infrastructure.export.ProjectPdfExportService;
 import br.com.teamtacles.project.service.ProjectService;
@@ -21,6 +25,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.data.domain.Pageable;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,11 +44,14 @@ public class ProjectController {
     private final ProjectService projectService;
     private final ProjectPdfExportService projectPdfExportService;
     private final UserAccountService userAccountService;
+    private final ActivityLogService activityLogService;
 
-    public ProjectController(ProjectService projectService, ProjectPdfExportService projectPdfExportService, UserAccountService userAccountService) {
+    public ProjectController(ProjectService projectService, ProjectPdfExportService projectPdfExportService, UserAccountService userAccountService,
+                             ActivityLogService activityLogService) {
         this.projectService = projectService;
         this.projectPdfExportService = projectPdfExportService;
         this.userAccountService = userAccountService;
+        this.activityLogService = activityLogService;
     }
 
     @Operation(summary = "Create a new project", description = "Creates a new project and sets the authenticated user as the owner.", security = @SecurityRequirement(name = "bearerAuth"))
@@ -124,9 +132,10 @@ public class ProjectController {
         return ResponseEntity.ok(projectMemberDTO);
     }
 
-    @Operation(summary = "Import team members to a project", description = "Imports all members of a specified team into a project. Requires project ADMIN or OWNER role.")
+    @Operation(summary = "Import team members to a project", description = "Imports all accepted members of a specified team into a project as MEMBER, accepting any pending project invitation they had. Returns how many members were inserted and upgraded. Requires project ADMIN or OWNER role.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Team members imported successfully"),
+            @ApiResponse(responseCode = "200", description = "Team members imported successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TeamImportResponseDTO.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden, user lacks permission to import members",
@@ -135,12 +144,12 @@ public class ProjectController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/{projectId}/import-team/{teamId}")
-    public ResponseEntity<Void> importTeamToProject(
+    public ResponseEntity<TeamImportResponseDTO> importTeamToProject(
             @PathVariable Long projectId,
             @PathVariable Long teamId,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
-        projectService.importTeamMembersToProject(projectId, teamId, authenticatedUser.getUser());
-        return ResponseEntity.noContent().build();
+        TeamImportResponseDTO importResult = projectService.importTeamMembersToProject(projectId, teamId, authenticatedUser.getUser());
+        return ResponseEntity.ok(importResult);
     }
 
     @Operation(summary = "Update a project member's role", description = "Updates the role of a member within a project. Requires ADMIN or OWNER role.")
@@ -170,6 +179,7 @@ public class ProjectController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ProjectResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden, user is not a member of the project",
@@ -180,9 +190,15 @@ public class ProjectController {
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectResponseDTO> getProjectById(
             @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        String etag = projectService.findProjectETag(projectId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         ProjectResponseDTO projectDTO = projectService.getProjectById(projectId, authenticatedUser.getUser());
-        return ResponseEntity.ok(projectDTO);
+        return ResponseEntity.ok().eTag(etag).body(projectDTO);
     }
 
     @Operation(summary = "List projects for the authenticated user", description = "Retrieves a paginated list of projects associated with the authenticated user, with optional filtering.")
@@ -203,6 +219,7 @@ public class ProjectController {
     @Operation(summary = "List members of a project", description = "Retrieves a paginated list of all members in a specific project.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Members retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden, user is not a member of the project",
@@ -213,10 +230,16 @@ public class ProjectController {
     @GetMapping("/{projectId}/members")
     public ResponseEntity<PagedResponse<ProjectMemberResponseDTO>> getAllMembersFromProject(
             @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser,
             Pageable pageable) {
+        String etag = projectService.findMembersETag(projectId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         PagedResponse<ProjectMemberResponseDTO> usersFromProject = projectService.getAllMembersFromProject(pageable, projectId, authenticatedUser.getUser());
-        return ResponseEntity.ok(usersFromProject);
+        return ResponseEntity.ok().eTag(etag).body(usersFromProject);
     }
 
     @Operation(summary = "Export a project report to PDF", description = "Exports the project report to a PDF file.")
@@ -270,6 +293,51 @@ public class ProjectController {
         return ResponseEntity.ok(report);
     }
 
+    @Operation(summary = "List the project activity log", description = "Retrieves the audited actions performed on a project, newest first. Requires ADMIN or OWNER role. "
+            + "Entries are written in the background and may take a moment to appear.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Activity log retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden, user is not an admin of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{projectId}/activity-log")
+    public ResponseEntity<PagedResponse<ActivityLogResponseDTO>> getProjectActivityLog(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser,
+            Pageable pageable) {
+        PagedResponse<ActivityLogResponseDTO> activityLog = activityLogService.getProjectActivityLog(projectId, pageable, authenticatedUser.getUser());
+        return ResponseEntity.ok(activityLog);
+    }
+
+    @Operation(summary = "Stream project activity", description = "Opens a Server-Sent Events stream with task and membership changes of the project, delivered after each change is committed. "
+            + "Reconnecting with Last-Event-ID replays missed events; a RESYNC_REQUIRED event means the client must reload the project state. "
+            + "PROJECT_DELETED is the last event of the stream; the connection is closed right after it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/{projectId}/activity", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjectActivity(
+            @PathVariable Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        SseEmitter emitter = projectService.subscribeToActivity(projectId, lastEventId, authenticatedUser.getUser());
+        // Desliga o buffer de proxies (nginx) para que cada evento chegue assim que é enviado
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
     @Operation(summary = "Update a project", description = "Updates the details of an existing project. Requires ADMIN or OWNER role.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project updated successfully",
@@ -0,0 +1,38 @@
+package br.com.teamtacles.project.dto.response;
+
+import br.com.teamtacles.project.enumeration.EProjectActivityType;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ProjectActivityEvent", description = "Payload of an event pushed on the project activity stream.")
+public class ProjectActivityEventDTO {
+
+    @Schema(description = "What happened in the project.", example = "TASK_STATUS_CHANGED")
+    private EProjectActivityType type;
+
+    @Schema(description = "The project where the activity happened.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "The task involved, when the activity is about a task.", example = "42")
+    private Long taskId;
+
+    @Schema(description = "The user the activity is about (assignee, member who joined or left).", example = "7")
+    private Long userId;
+
+    @Schema(description = "The new status, for status changes.", example = "IN_PROGRESS")
+    private ETaskStatus status;
+
+    @Schema(description = "The user who performed the action, when known.", example = "3")
+    private Long actorId;
+
+    @Schema(description = "When the change was committed.", example = "2025-01-15T10:30:00Z")
+    private OffsetDateTime occurredAt;
+}
@@ -0,0 +1,19 @@
+package br.com.teamtacles.project.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TeamImportResponse", description = "Result of importing a team's members into a project.")
+public class TeamImportResponseDTO {
+
+    @Schema(description = "Team members that were not in the project and were added as MEMBER.", example = "12")
+    private long insertedMembers;
+
+    @Schema(description = "Team members that had a pending project invitation, now accepted as MEMBER.", example = "3")
+    private long upgradedMembers;
+}
@@ -0,0 +1,14 @@
+package br.com.teamtacles.project.enumeration;
+
+public enum EProjectActivityType {
+    TASK_CREATED,
+    TASK_STATUS_CHANGED,
+    TASK_ASSIGNED,
+    MEMBER_JOINED,
+    MEMBER_LEFT,
+    MEMBERS_IMPORTED,
+    // Último evento do stream do projeto: as conexões são encerradas logo após recebê-lo
+    PROJECT_DELETED,
+    // Enviado a quem retoma o stream de um ponto que não está mais no histórico: o cliente deve recarregar os dados
+    RESYNC_REQUIRED
+}
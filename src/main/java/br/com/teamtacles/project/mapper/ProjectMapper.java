@@ -0,0 +1,29 @@
+package br.com.teamtacles.project.mapper;
+
+import br.com.teamtacles.common.mapper.CentralMapperConfig;
+import br.com.teamtacles.project.dto.response.ProjectMemberResponseDTO;
+import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.dto.response.UserProjectResponseDTO;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectMember;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = CentralMapperConfig.class)
+public interface ProjectMapper {
+
+    ProjectResponseDTO toProjectResponseDTO(Project project);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "username", source = "user.username")
+    @Mapping(target = "email", source = "user.email")
+    ProjectMemberResponseDTO toProjectMemberResponseDTO(ProjectMember membership);
+
+    @Mapping(target = "id", source = "project.id")
+    @Mapping(target = "title", source = "project.title")
+    @Mapping(target = "description", source = "project.description")
+    @Mapping(target = "projectRole", source = "membership.projectRole")
+    UserProjectResponseDTO toUserProjectResponseDTO(Project project, ProjectMember membership, List<String> memberNames, long taskCount);
+}
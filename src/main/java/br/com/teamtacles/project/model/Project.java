@@ -9,7 +9,6 @@ import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -20,9 +19,15 @@ import java.util.UUID;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada a cada alteração da linha; é a base do ETag do recurso
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Setter
     @Column(nullable = false, length = 50)
     private String title;
@@ -38,11 +43,9 @@ public class Project {
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @Column(name = "invitation_token")
-    private String invitationToken;
-
-    @Column(name = "invitation_token_expiry")
-    private OffsetDateTime invitationTokenExpiry;
+    // Links de convite assinados com uma geração anterior deixam de valer
+    @Column(name = "invite_link_generation", nullable = false)
+    private int inviteLinkGeneration;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProjectMember> members = new HashSet<>();
@@ -72,24 +75,14 @@ public class Project {
         member.setProject(null);
     }
 
-    public String generateInviteLinkToken() {
-        String token = UUID.randomUUID().toString();
-
-        this.invitationToken = token;
-        this.invitationTokenExpiry = OffsetDateTime.now().plusHours(24);
-
-        return token;
-    }
-
-    public void expiryInviteLinkToken() {
-        this.invitationToken = null;
-        this.invitationTokenExpiry = null;
-    }
-
     public void transferOwnership(User newOwner) {
         this.owner = newOwner;
     }
 
+    public int rotateInviteLinkGeneration() {
+        return ++this.inviteLinkGeneration;
+    }
+
     public Set<ProjectMember> getMembers() {
         return Collections.unmodifiableSet(members);
     }
@@ -0,0 +1,26 @@
+package br.com.teamtacles.project.model;
+
+import br.com.teamtacles.project.enumeration.EProjectRole;
+import lombok.Getter;
+
+// Papel do usuário num projeto lido numa única consulta; guarda só o id para valer em transações posteriores à leitura
+@Getter
+public class ProjectAccessContext {
+    private final Long projectId;
+    private final EProjectRole projectRole;
+    private final boolean acceptedInvite;
+
+    public ProjectAccessContext(Long projectId, EProjectRole projectRole, Boolean acceptedInvite) {
+        this.projectId = projectId;
+        this.projectRole = projectRole;
+        this.acceptedInvite = Boolean.TRUE.equals(acceptedInvite);
+    }
+
+    public boolean isProjectMember() {
+        return projectRole != null && acceptedInvite;
+    }
+
+    public boolean isProjectAdmin() {
+        return isProjectMember() && projectRole.isPrivileged();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.teamtacles.project.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Contadores das coleções do projeto, usados como ETag das listagens de membros e de tarefas.
+// Só são alterados por UPDATE em lote (ProjectCollectionVersionRepository), nunca pela entidade.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "project_collection_versions")
+public class ProjectCollectionVersion {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "members_version", nullable = false)
+    private long membersVersion;
+
+    @Column(name = "tasks_version", nullable = false)
+    private long tasksVersion;
+}
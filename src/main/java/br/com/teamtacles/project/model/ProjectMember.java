@@ -6,7 +6,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.OffsetDateTime;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -17,9 +16,15 @@ import java.util.UUID;
 public class ProjectMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_members_seq")
+    @SequenceGenerator(name = "project_members_seq", sequenceName = "project_members_seq", allocationSize = 50)
     private Long id;
 
+    // Controle otimista: alterações concorrentes no mesmo vínculo falham em vez de se sobrescreverem
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Setter(AccessLevel.PACKAGE)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
@@ -39,12 +44,6 @@ public class ProjectMember {
     @Column(name = "project_role", nullable = false)
     private EProjectRole projectRole;
 
-    @Column(name = "invitation_token")
-    private String invitationToken;
-
-    @Column(name = "invitation_token_expiry")
-    private OffsetDateTime invitationTokenExpiry;
-
     public ProjectMember(User user, Project project, EProjectRole projectRole) {
         this.user = user;
         this.project = project;
@@ -58,19 +57,8 @@ public class ProjectMember {
         }
     }
 
-    public String generateInvitation() {
-        String token = UUID.randomUUID().toString();
-
-        this.invitationToken = token;
-        this.invitationTokenExpiry = OffsetDateTime.now().plusHours(24);
-
-        return token;
-    }
-
     public void acceptedInvitation() {
         this.acceptedInvite = true;
-        this.invitationToken = null;
-        this.invitationTokenExpiry = null;
     }
 
     public void changeRole(EProjectRole role) {
@@ -0,0 +1,20 @@
+package br.com.teamtacles.project.model;
+
+import br.com.teamtacles.project.repository.ProjectReportVersions;
+import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+
+import java.time.LocalDate;
+
+// Identifica o conteúdo de um relatório do projeto: a versão do projeto muda com título, descrição e dono, as das coleções
+// a cada escrita em membros ou tarefas, e do filtro ficam só os campos que a consulta do relatório e o PDF usam
+// (isOverdue falso equivale a ausente)
+public record ProjectReportKey(Long projectId, long projectVersion, long membersVersion, long tasksVersion,
+                               ETaskStatus status, boolean overdueOnly, Long assignedUserId, LocalDate updatedAtAfter, LocalDate updatedAtBefore) {
+
+    public static ProjectReportKey of(ProjectReportVersions versions, TaskFilterReportDTO filter) {
+        return new ProjectReportKey(versions.getProjectId(), versions.getProjectVersion(), versions.getMembersVersion(), versions.getTasksVersion(),
+                filter.getStatus(), Boolean.TRUE.equals(filter.getIsOverdue()), filter.getAssignedUserId(),
+                filter.getUpdatedAtAfter(), filter.getUpdatedAtBefore());
+    }
+}
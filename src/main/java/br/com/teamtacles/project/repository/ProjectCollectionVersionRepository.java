@@ -0,0 +1,54 @@
+package br.com.teamtacles.project.repository;
+
+import br.com.teamtacles.project.model.ProjectCollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// Todo incremento é um UPDATE atômico nesta tabela, nunca em project: assim não conflita com o @Version
+// (lock otimista) do projeto nem trava a linha dele; escritas concorrentes na mesma coleção só se serializam aqui
+public interface ProjectCollectionVersionRepository extends JpaRepository<ProjectCollectionVersion, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO project_collection_versions (project_id, members_version, tasks_version) " +
+            "VALUES (:projectId, 0, 0)", nativeQuery = true)
+    void insertForProject(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectCollectionVersion v SET v.membersVersion = v.membersVersion + 1 WHERE v.projectId = :projectId")
+    int bumpMembersVersion(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectCollectionVersion v SET v.tasksVersion = v.tasksVersion + 1 WHERE v.projectId = :projectId")
+    int bumpTasksVersion(@Param("projectId") Long projectId);
+
+    // Mudanças do próprio usuário (nome, e-mail, saída) aparecem nas duas listagens de todos os projetos dele
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectCollectionVersion v SET v.membersVersion = v.membersVersion + 1, v.tasksVersion = v.tasksVersion + 1 " +
+            "WHERE v.projectId IN (SELECT pm.project.id FROM ProjectMember pm WHERE pm.user.id = :userId)")
+    int bumpVersionsOfUserProjects(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProjectCollectionVersion v SET v.membersVersion = v.membersVersion + 1, v.tasksVersion = v.tasksVersion + 1 " +
+            "WHERE v.projectId IN :projectIds")
+    int bumpVersionsOfProjects(@Param("projectIds") Collection<Long> projectIds);
+
+    // Vazio quando o projeto não existe ou o usuário não é membro aceito; quem chama cai no caminho completo
+    @Query("SELECT v.membersVersion FROM ProjectCollectionVersion v WHERE v.projectId = :projectId " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = v.projectId AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    Optional<Long> findMembersVersionVisibleTo(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query("SELECT v.tasksVersion FROM ProjectCollectionVersion v WHERE v.projectId = :projectId " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = v.projectId AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    Optional<Long> findTasksVersionVisibleTo(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // O relatório e o PDF também mostram título, descrição e dono, que mudam a versão do próprio projeto
+    @Query("SELECT v.projectId AS projectId, p.version AS projectVersion, v.membersVersion AS membersVersion, v.tasksVersion AS tasksVersion " +
+            "FROM ProjectCollectionVersion v JOIN Project p ON p.id = v.projectId WHERE v.projectId = :projectId " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = v.projectId AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    Optional<ProjectReportVersions> findReportVersionsVisibleTo(@Param("projectId") Long projectId, @Param("userId") Long userId);
+}
@@ -1,15 +1,22 @@
 package br.com.teamtacles.project.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import br.com.teamtacles.project.model.Project;
 import br.com.teamtacles.project.model.ProjectMember;
 import br.com.teamtacles.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,14 +25,51 @@ import java.util.Set;
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
     Optional<ProjectMember> findByUserAndProject(User user, Project project);
     Page<ProjectMember> findByUserAndAcceptedInviteTrue(User user, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
     Page<ProjectMember> findByProjectAndAcceptedInviteTrue(Project project, Pageable pageable);
-    Optional<ProjectMember> findByInvitationToken(String token);
     long countByProjectAndAcceptedInviteTrue(Project project);
+    long countByUser(User user);
 
     @Query("SELECT pm.user FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id IN :userIds AND pm.acceptedInvite = true")
     Set<User> findProjectMembersAsUsers(@Param("projectId") Long projectId, @Param("userIds") List<Long> userIds);
 
+    // Pode trazer pares além dos pedidos (produto dos dois conjuntos); quem chama filtra
+    @Query("SELECT pm FROM ProjectMember pm JOIN FETCH pm.user " +
+            "WHERE pm.project.id IN :projectIds AND pm.user.id IN :userIds AND pm.acceptedInvite = true")
+    List<ProjectMember> findAcceptedByProjectIdsAndUserIds(@Param("projectIds") Collection<Long> projectIds,
+                                                           @Param("userIds") Collection<Long> userIds);
+
     boolean existsByUserAndProject(User user, Project project);
 
     boolean existsByUserAndProjectAndAcceptedInviteIsFalse(User user, Project project);
-}
\ No newline at end of file
+
+    // Upsert em uma única instrução (PostgreSQL). Membros aceitos não são alterados; convites pendentes viram MEMBER aceito.
+    // xmax = 0 identifica as linhas inseridas, as demais foram atualizadas pelo ON CONFLICT.
+    @Query(value = "WITH upserted AS ( " +
+            "INSERT INTO project_members (project_id, user_id, joined_at, accepted_invite, project_role) " +
+            "SELECT :projectId, tm.user_id, CURRENT_TIMESTAMP, TRUE, 'MEMBER' " +
+            "FROM team_members tm WHERE tm.team_id = :teamId AND tm.accepted_invite = TRUE " +
+            "ON CONFLICT (project_id, user_id) DO UPDATE " +
+            "SET accepted_invite = TRUE, project_role = 'MEMBER', version = project_members.version + 1 " +
+            "WHERE project_members.accepted_invite = FALSE " +
+            "RETURNING (xmax = 0) AS inserted ) " +
+            "SELECT COUNT(*) FILTER (WHERE inserted) AS inserted, COUNT(*) FILTER (WHERE NOT inserted) AS upgraded FROM upserted",
+            nativeQuery = true)
+    TeamImportCounts upsertAcceptedTeamMembers(@Param("projectId") Long projectId, @Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "DELETE FROM project_members WHERE user_id = :userId AND project_id IN (:projectIds)", nativeQuery = true)
+    int deleteAllOfUser(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
+
+    // Convites não aceitos, feitos antes do corte e sem token de convite válido
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "DELETE FROM project_members WHERE id IN ( " +
+            "SELECT pm.id FROM project_members pm WHERE pm.accepted_invite = FALSE AND pm.joined_at < :invitedBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM secure_tokens st WHERE st.token_type = 'PROJECT_INVITATION' " +
+            "AND st.subject_id = pm.id AND st.expires_at >= :now) " +
+            "ORDER BY pm.id LIMIT :limit)", nativeQuery = true)
+    int deleteStaleInvitations(@Param("invitedBefore") OffsetDateTime invitedBefore, @Param("now") OffsetDateTime now,
+                               @Param("limit") int limit);
+}
@@ -0,0 +1,8 @@
+package br.com.teamtacles.project.repository;
+
+public interface ProjectReportVersions {
+    Long getProjectId();
+    long getProjectVersion();
+    long getMembersVersion();
+    long getTasksVersion();
+}
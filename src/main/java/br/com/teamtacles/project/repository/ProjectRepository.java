@@ -1,7 +1,12 @@
 package br.com.teamtacles.project.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import br.com.teamtacles.project.dto.request.ProjectFilterDTO;
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectAccessContext;
 import br.com.teamtacles.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,13 +15,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     boolean existsByTitleIgnoreCaseAndOwner(String title, User owner);
-    Optional<Project> findByInvitationToken(String token);
 
     List<Project> findAllByOwner(User owner);
 
@@ -36,7 +41,63 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findProjectByIdForReport(@Param("projectId") Long projectId, @Param("userId") Long userId);
 
 
+    // Papel do usuário no projeto sem carregar o projeto; vazio só quando o projeto não existe
+    @Query("SELECT new br.com.teamtacles.project.model.ProjectAccessContext(p.id, pm.projectRole, pm.acceptedInvite) " +
+            "FROM Project p " +
+            "LEFT JOIN ProjectMember pm ON pm.project.id = p.id AND pm.user.id = :userId " +
+            "WHERE p.id = :projectId")
+    Optional<ProjectAccessContext> findAccessContext(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Versão para o ETag sem carregar o projeto; vazio se o usuário não for membro aceito
+    @Query("SELECT p.version FROM Project p WHERE p.id = :projectId " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project = p AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    Optional<Long> findVersionVisibleTo(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // Consulta escalar: não passa pelo cache L2 de Project, que em cada nó pode não ter visto a revogação feita em outro
+    @Query("SELECT p.inviteLinkGeneration FROM Project p WHERE p.id = :projectId")
+    Optional<Integer> findInviteLinkGeneration(@Param("projectId") Long projectId);
+
+    // Usado pela sincronização: os que faltarem no resultado foram apagados ou deixaram de ser visíveis
+    @Query("SELECT p FROM Project p WHERE p.id IN :projectIds " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project = p AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    List<Project> findAllVisibleTo(@Param("projectIds") Collection<Long> projectIds, @Param("userId") Long userId);
+
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.members LEFT JOIN FETCH p.tasks WHERE p.id = :projectId")
     Optional<Project> findByIdWithMembersAndTasks(@Param("projectId") Long projectId);
 
+    // Saída do usuário em lote (exclusão de conta / saída de projeto): o próximo lote são os projetos em que ele é membro,
+    // inclusive por convite pendente, ou dono; projectId nulo = todos os projetos
+    @Query(value = "SELECT ids.id FROM ( " +
+            "SELECT pm.project_id AS id FROM project_members pm WHERE pm.user_id = :userId " +
+            "UNION SELECT p.id FROM project p WHERE p.owner_id = :userId) ids " +
+            "WHERE CAST(:projectId AS BIGINT) IS NULL OR ids.id = :projectId " +
+            "ORDER BY ids.id LIMIT :limit", nativeQuery = true)
+    List<Long> findProjectIdsToRelease(@Param("userId") Long userId, @Param("projectId") Long projectId, @Param("limit") int limit);
+
+    // Dentre os projetos do lote, os sem outro membro aceito são apagados; membros e tarefas caem por ON DELETE CASCADE.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+    @Query(value = "DELETE FROM project p WHERE p.id IN (:projectIds) AND p.owner_id = :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id <> :userId AND pm.accepted_invite = TRUE)",
+            nativeQuery = true)
+    int deleteOwnedProjectsWithoutOtherMembers(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
+
+    // A posse passa ao ADMIN mais antigo ou, se não houver, ao membro aceito mais antigo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+    @Query(value = "WITH candidates AS ( " +
+            "SELECT p.id FROM project p WHERE p.id IN (:projectIds) AND p.owner_id = :userId " +
+            "AND EXISTS (SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id <> :userId AND pm.accepted_invite = TRUE)), " +
+            "successors AS ( " +
+            "SELECT ranked.project_id, ranked.user_id FROM ( " +
+            "SELECT pm.project_id, pm.user_id, ROW_NUMBER() OVER (PARTITION BY pm.project_id " +
+            "ORDER BY CASE WHEN pm.project_role = 'ADMIN' THEN 0 ELSE 1 END, pm.joined_at, pm.id) AS position " +
+            "FROM project_members pm JOIN candidates c ON c.id = pm.project_id " +
+            "WHERE pm.user_id <> :userId AND pm.accepted_invite = TRUE) ranked " +
+            "WHERE ranked.position = 1), " +
+            "transferred AS ( " +
+            "UPDATE project p SET owner_id = s.user_id, version = p.version + 1 FROM successors s WHERE p.id = s.project_id RETURNING p.id, p.owner_id) " +
+            "UPDATE project_members pm SET project_role = 'OWNER', version = pm.version + 1 FROM transferred tr " +
+            "WHERE pm.project_id = tr.id AND pm.user_id = tr.owner_id", nativeQuery = true)
+    int transferOwnedProjectsToSuccessor(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
 }
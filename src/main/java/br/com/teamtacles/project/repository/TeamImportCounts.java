@@ -0,0 +1,6 @@
+package br.com.teamtacles.project.repository;
+
+public interface TeamImportCounts {
+    long getInserted();
+    long getUpgraded();
+}
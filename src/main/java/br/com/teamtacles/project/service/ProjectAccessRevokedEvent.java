@@ -0,0 +1,4 @@
+package br.com.teamtacles.project.service;
+
+// A conta saiu de todos os projetos de uma vez (exclusão de conta); não vira evento SSE, só encerra as conexões dela
+public record ProjectAccessRevokedEvent(Long userId) {}
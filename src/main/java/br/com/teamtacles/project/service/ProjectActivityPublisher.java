@@ -0,0 +1,56 @@
+package br.com.teamtacles.project.service;
+
+import br.com.teamtacles.project.dto.response.ProjectActivityEventDTO;
+import br.com.teamtacles.project.enumeration.EProjectActivityType;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+// Os eventos seguem pelo ApplicationEventPublisher e só chegam ao stream depois do commit da transação que os gerou
+@Component
+public class ProjectActivityPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProjectActivityPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void taskCreated(Long projectId, Long taskId, Long actorId) {
+        publish(EProjectActivityType.TASK_CREATED, projectId, taskId, null, null, actorId);
+    }
+
+    public void taskStatusChanged(Long projectId, Long taskId, ETaskStatus status, Long actorId) {
+        publish(EProjectActivityType.TASK_STATUS_CHANGED, projectId, taskId, null, status, actorId);
+    }
+
+    public void taskAssigned(Long projectId, Long taskId, Long userId, Long actorId) {
+        publish(EProjectActivityType.TASK_ASSIGNED, projectId, taskId, userId, null, actorId);
+    }
+
+    public void memberJoined(Long projectId, Long userId) {
+        publish(EProjectActivityType.MEMBER_JOINED, projectId, null, userId, null, userId);
+    }
+
+    public void memberLeft(Long projectId, Long userId, Long actorId) {
+        publish(EProjectActivityType.MEMBER_LEFT, projectId, null, userId, null, actorId);
+    }
+
+    public void accessRevoked(Long userId) {
+        eventPublisher.publishEvent(new ProjectAccessRevokedEvent(userId));
+    }
+
+    public void membersImported(Long projectId, Long actorId) {
+        publish(EProjectActivityType.MEMBERS_IMPORTED, projectId, null, null, null, actorId);
+    }
+
+    public void projectDeleted(Long projectId, Long actorId) {
+        publish(EProjectActivityType.PROJECT_DELETED, projectId, null, null, null, actorId);
+    }
+
+    private void publish(EProjectActivityType type, Long projectId, Long taskId, Long userId, ETaskStatus status, Long actorId) {
+        eventPublisher.publishEvent(new ProjectActivityEventDTO(type, projectId, taskId, userId, status, actorId, OffsetDateTime.now()));
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.teamtacles.project.service;
 
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectAccessContext;
 import br.com.teamtacles.project.repository.ProjectMemberRepository;
 import br.com.teamtacles.user.model.User;
 import org.springframework.security.access.AccessDeniedException;
@@ -47,4 +48,17 @@ public class ProjectAuthorizationService {
             throw new AccessDeniedException("Permission denied. Action requires ADMIN or OWNER role for this project.");
         }
     }
+
+    // Variantes sobre o contexto de ProjectService.findAccessContext: nenhuma consulta extra
+    public void checkProjectMembership(ProjectAccessContext context) {
+        if (!context.isProjectMember()) {
+            throw new AccessDeniedException("Access denied. You are not a member of this project.");
+        }
+    }
+
+    public void checkProjectAdmin(ProjectAccessContext context) {
+        if (!context.isProjectAdmin()) {
+            throw new AccessDeniedException("Permission denied. Action requires ADMIN or OWNER role for this project.");
+        }
+    }
 }
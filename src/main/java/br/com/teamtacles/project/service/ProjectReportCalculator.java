@@ -0,0 +1,69 @@
+package br.com.teamtacles.project.service;
+
+import br.com.teamtacles.project.dto.response.MemberTaskDistributionDTO;
+import br.com.teamtacles.task.dto.response.TaskSummaryDTO;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAssignment;
+import br.com.teamtacles.user.model.User;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Cálculos puros do relatório de projeto, compartilhados pelo relatório JSON e pelo PDF
+public final class ProjectReportCalculator {
+
+    private ProjectReportCalculator() {}
+
+    public static TaskSummaryDTO calculateTaskSummary(Set<Task> tasks) {
+        long doneCount = 0;
+        long inProgressCount = 0;
+        long toDoCount = 0;
+        long overdueCount = 0;
+
+        for (Task task : tasks) {
+            switch (task.getEffectiveStatus()) {
+                case DONE:
+                    doneCount++;
+                    break;
+                case IN_PROGRESS:
+                    inProgressCount++;
+                    break;
+                case TO_DO:
+                    toDoCount++;
+                    break;
+                case OVERDUE:
+                    overdueCount++;
+                    break;
+            }
+        }
+
+        long totalCount = tasks.size();
+        return new TaskSummaryDTO(totalCount, doneCount, inProgressCount, toDoCount, overdueCount);
+    }
+
+    public static List<MemberTaskDistributionDTO> calculateMemberTaskDistribution(Set<Task> tasks) {
+        Map<Long, MemberTaskDistributionDTO> distributionMap = new HashMap<>();
+
+        for (Task task : tasks) {
+            for (TaskAssignment assignment : task.getAssignments()) {
+                User assignmentUser = assignment.getUser();
+                Long userId = assignmentUser.getId();
+
+                // O métodos computeIfAbsent cria um novo MemberTaskDistributionDTO se o userId não existir no mapa
+                MemberTaskDistributionDTO userDistribution = distributionMap.computeIfAbsent(
+                        userId,
+                        key -> new MemberTaskDistributionDTO(userId, assignmentUser.getUsername())
+                );
+
+                userDistribution.incrementTaskStatus(task.getEffectiveStatus());
+            }
+        }
+
+        return distributionMap.values().stream()
+                .sorted(Comparator.comparing(MemberTaskDistributionDTO::getUsername))
+                .toList();
+    }
+}
@@ -4,44 +4,62 @@ import br.com.teamtacles.common.dto.response.InviteTokenLinkResponseDTO;
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
 import br.com.teamtacles.common.mapper.PagedResponseMapper;
+import br.com.teamtacles.common.util.EntityTags;
+import br.com.teamtacles.infrastructure.coalescing.ReadCoalescer;
 import br.com.teamtacles.infrastructure.email.EmailService;
+import br.com.teamtacles.infrastructure.stream.ProjectActivityStream;
 import br.com.teamtacles.project.dto.request.*;
 import br.com.teamtacles.project.dto.response.*;
 import br.com.teamtacles.project.enumeration.EProjectRole;
+import br.com.teamtacles.project.mapper.ProjectMapper;
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectAccessContext;
 import br.com.teamtacles.project.model.ProjectMember;
+import br.com.teamtacles.project.model.ProjectReportKey;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
 import br.com.teamtacles.project.repository.ProjectMemberRepository;
 import br.com.teamtacles.project.repository.ProjectRepository;
+import br.com.teamtacles.project.repository.TeamImportCounts;
 import br.com.teamtacles.project.validator.*;
+import br.com.teamtacles.sync.service.ChangeLogService;
 import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
 import br.com.teamtacles.task.dto.response.TaskSummaryDTO;
 import br.com.teamtacles.task.model.Task;
-import br.com.teamtacles.task.model.TaskAssignment;
 import br.com.teamtacles.task.repository.TaskRepository;
 import br.com.teamtacles.team.model.Team;
-import br.com.teamtacles.team.model.TeamMember;
 import br.com.teamtacles.team.service.TeamAuthorizationService;
 import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.InviteLinkTokenService;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.user.service.UserService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import br.com.teamtacles.config.aop.BusinessActivityLog;
-import br.com.teamtacles.team.repository.TeamMemberRepository;
+import br.com.teamtacles.config.aop.RetryOnConflict;
 
 @Service
 public class ProjectService {
 
+    private static final Duration INVITATION_TTL = Duration.ofHours(24);
+
     @Value("${app.base-url}")
     private String baseUrl;
 
@@ -59,14 +77,21 @@ public class ProjectService {
     private final TeamService teamService;
     private final TeamAuthorizationService teamAuthorizationService;
 
-    private final ModelMapper modelMapper;
+    private final ProjectMapper projectMapper;
     private final PagedResponseMapper pagedResponseMapper;
     private final TaskRepository taskRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final SecureTokenService secureTokenService;
+    private final InviteLinkTokenService inviteLinkTokenService;
+    private final ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    private final ProjectActivityPublisher projectActivityPublisher;
+    private final ProjectActivityStream projectActivityStream;
+    private final ChangeLogService changeLogService;
+    private final ReadCoalescer readCoalescer;
+    private final TransactionTemplate readOnlyTransaction;
 
     public ProjectService(
             ProjectRepository projectRepository, ProjectMemberRepository projectMemberRepository,
-            ModelMapper modelMapper, ProjectAuthorizationService projectAuthorizationService,
+            ProjectMapper projectMapper, ProjectAuthorizationService projectAuthorizationService,
             PagedResponseMapper pagedResponseMapper, UserService userService, TaskRepository taskRepository,
             EmailService emailService, TeamService teamService,
             TeamAuthorizationService teamAuthorizationService,
@@ -75,11 +100,18 @@ public class ProjectService {
             ProjectTokenValidator projectTokenValidator,
             ProjectMembershipActionValidator projectMembershipActionValidator,
             ProjectInvitationValidator projectInvitationValidator,
-            TeamMemberRepository teamMemberRepository
+            SecureTokenService secureTokenService,
+            InviteLinkTokenService inviteLinkTokenService,
+            ProjectCollectionVersionRepository projectCollectionVersionRepository,
+            ProjectActivityPublisher projectActivityPublisher,
+            ProjectActivityStream projectActivityStream,
+            ChangeLogService changeLogService,
+            ReadCoalescer readCoalescer,
+            PlatformTransactionManager transactionManager
     ) {
         this.projectRepository = projectRepository;
         this.projectMemberRepository = projectMemberRepository;
-        this.modelMapper = modelMapper;
+        this.projectMapper = projectMapper;
         this.projectAuthorizationService = projectAuthorizationService;
         this.pagedResponseMapper = pagedResponseMapper;
         this.userService = userService;
@@ -92,7 +124,15 @@ public class ProjectService {
         this.projectMembershipActionValidator = projectMembershipActionValidator;
         this.projectInvitationValidator = projectInvitationValidator;
         this.taskRepository = taskRepository;
-        this.teamMemberRepository = teamMemberRepository;
+        this.secureTokenService = secureTokenService;
+        this.inviteLinkTokenService = inviteLinkTokenService;
+        this.projectCollectionVersionRepository = projectCollectionVersionRepository;
+        this.projectActivityPublisher = projectActivityPublisher;
+        this.projectActivityStream = projectActivityStream;
+        this.changeLogService = changeLogService;
+        this.readCoalescer = readCoalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @BusinessActivityLog(action = "Create Project")
@@ -104,18 +144,35 @@ public class ProjectService {
 
         ProjectMember creatorMembership = new ProjectMember(actingUser, newProject, EProjectRole.OWNER);
         creatorMembership.acceptedInvitation();
-        newProject.addMember(creatorMembership);
 
+        // A associação é gravada direto pelo repositório, nunca via project.members (ver acceptInvitationFromLink)
         Project savedProject = projectRepository.save(newProject);
-        return modelMapper.map(savedProject, ProjectResponseDTO.class);
+        projectMemberRepository.save(creatorMembership);
+        projectCollectionVersionRepository.insertForProject(savedProject.getId());
+        changeLogService.projectChanged(savedProject.getId());
+        changeLogService.projectMemberChanged(savedProject.getId(), actingUser.getId());
+        return projectMapper.toProjectResponseDTO(savedProject);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Project")
     @Transactional
     public ProjectResponseDTO updateProject(Long projectId, ProjectRequestUpdateDTO requestDTO, User actingUser) {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectAdmin(actingUser, project);
+        return applyUpdate(projectId, project, requestDTO);
+    }
 
+    // Lote de mutações offline: o papel já foi lido uma vez por projeto, então não se consulta a associação de novo
+    @RetryOnConflict
+    @BusinessActivityLog(action = "Update Project")
+    @Transactional
+    public ProjectResponseDTO updateProject(ProjectAccessContext access, ProjectRequestUpdateDTO requestDTO, User actingUser) {
+        projectAuthorizationService.checkProjectAdmin(access);
+        return applyUpdate(access.getProjectId(), findProjectByIdOrThrow(access.getProjectId()), requestDTO);
+    }
+
+    private ProjectResponseDTO applyUpdate(Long projectId, Project project, ProjectRequestUpdateDTO requestDTO) {
         if (requestDTO.getTitle() != null && !requestDTO.getTitle().equalsIgnoreCase(project.getTitle())) {
             projectTitleUniquenessValidator.validate(requestDTO.getTitle(), project.getOwner());
         }
@@ -129,9 +186,11 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
-        return modelMapper.map(updatedProject, ProjectResponseDTO.class);
+        changeLogService.projectChanged(projectId);
+        return projectMapper.toProjectResponseDTO(updatedProject);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Project Member Role")
     @Transactional
     public ProjectMemberResponseDTO updateMemberRole(Long projectId, Long userIdToUpdate, UpdateMemberRoleProjectRequestDTO dto, User actingUser) {
@@ -146,51 +205,60 @@ public class ProjectService {
 
         membershipToUpdate.changeRole(dto.getNewRole());
         ProjectMember updatedMembership = projectMemberRepository.save(membershipToUpdate);
+        projectCollectionVersionRepository.bumpMembersVersion(projectId);
+        changeLogService.projectMemberChanged(projectId, userIdToUpdate);
 
-        return toProjectMemberResponseDTO(updatedMembership);
+        return projectMapper.toProjectMemberResponseDTO(updatedMembership);
     }
 
+    // Um único upsert no banco: nem os membros do time nem a coleção project.members são carregados
     @BusinessActivityLog(action = "Import Team Members to Project")
     @Transactional
-    public void importTeamMembersToProject(Long projectId, Long teamId, User actingUser) {
+    public TeamImportResponseDTO importTeamMembersToProject(Long projectId, Long teamId, User actingUser) {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectAdmin(actingUser, project);
 
         Team teamToImport = teamService.findTeamEntityById(teamId);
         teamAuthorizationService.checkTeamMembership(actingUser, teamToImport);
-       
-        List<TeamMember> teamMembers = teamMemberRepository.findAcceptedByTeamIdWithUser(teamToImport.getId());
-
-        for (TeamMember teamMember : teamMembers) {
 
-            Optional<ProjectMember> existingMembershipOpt = projectMemberRepository.findByUserAndProject(teamMember.getUser(), project);
-
-            if (existingMembershipOpt.isPresent()) {
-                ProjectMember existingMembership = existingMembershipOpt.get();
+        TeamImportCounts counts = projectMemberRepository.upsertAcceptedTeamMembers(project.getId(), teamToImport.getId());
+        if (counts.getInserted() + counts.getUpgraded() > 0) {
+            projectCollectionVersionRepository.bumpMembersVersion(project.getId());
+            changeLogService.projectNeedsResync(project.getId());
+            projectActivityPublisher.membersImported(project.getId(), actingUser.getId());
+        }
+        return new TeamImportResponseDTO(counts.getInserted(), counts.getUpgraded());
+    }
 
-                if (existingMembership.isAcceptedInvite()) {
-                    continue;
-                }
+    // Vazio quando o projeto não existe ou o usuário não é membro: o caminho completo gera o erro adequado
+    @Transactional(readOnly = true)
+    public Optional<String> findProjectETag(Long projectId, User actingUser) {
+        return projectRepository.findVersionVisibleTo(projectId, actingUser.getId())
+                .map(version -> EntityTags.strong("project", projectId, version));
+    }
 
-                existingMembership.changeRole(EProjectRole.MEMBER);
-                existingMembership.acceptedInvitation();
-                projectMemberRepository.save(existingMembership);
-            } else {
-                ProjectMember newProjectMembership = new ProjectMember(teamMember.getUser(), project, EProjectRole.MEMBER);
-                newProjectMembership.acceptedInvitation();
-                project.addMember(newProjectMembership);
-            }
-        }
+    @Transactional(readOnly = true)
+    public Optional<String> findMembersETag(Long projectId, User actingUser) {
+        return projectCollectionVersionRepository.findMembersVersionVisibleTo(projectId, actingUser.getId())
+                .map(version -> EntityTags.strong("project-members", projectId, version));
+    }
 
-        projectRepository.save(project);
+    // A transação só cobre a checagem de acesso; a conexão SSE aberta depois não segura conexão de banco
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToActivity(Long projectId, Long lastEventId, User actingUser) {
+        Project project = findProjectByIdOrThrow(projectId);
+        projectAuthorizationService.checkProjectMembership(actingUser, project);
+        return projectActivityStream.subscribe(projectId, actingUser.getId(), lastEventId);
     }
 
+    @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectById(Long projectId, User actingUser) {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
-        return modelMapper.map(project, ProjectResponseDTO.class);
+        return projectMapper.toProjectResponseDTO(project);
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<UserProjectResponseDTO> getAllProjectsByUser(Pageable pageable, ProjectFilterDTO filter, User actingUser) {
         Page<Project> projectsPage = projectRepository.findProjectsByUserWithFilters(actingUser, filter, pageable);
 
@@ -208,37 +276,58 @@ public class ProjectService {
                     .map(member -> member.getUser().getUsername())
                     .collect(Collectors.toList());
 
-            return toUserProjectResponseDTO(project, membership, memberNames, taskCount);
+            return projectMapper.toUserProjectResponseDTO(project, membership, memberNames, taskCount);
         });
 
-        return pagedResponseMapper.toPagedResponse(userProjectDTOPage, UserProjectResponseDTO.class);
+        return pagedResponseMapper.toPagedResponse(userProjectDTOPage);
     }
 
 
+    @Transactional(readOnly = true)
     public PagedResponse<ProjectMemberResponseDTO> getAllMembersFromProject(Pageable pageable, Long projectId, User actingUser) {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
 
         Page<ProjectMember> projectMembersPage = projectMemberRepository.findByProjectAndAcceptedInviteTrue(project, pageable);
-        Page<ProjectMemberResponseDTO> projectMemberResponseDTOPage = projectMembersPage.map(this::toProjectMemberResponseDTO);
+        Page<ProjectMemberResponseDTO> projectMemberResponseDTOPage = projectMembersPage.map(projectMapper::toProjectMemberResponseDTO);
 
-        return pagedResponseMapper.toPagedResponse(projectMemberResponseDTOPage, ProjectMemberResponseDTO.class);
+        return pagedResponseMapper.toPagedResponse(projectMemberResponseDTOPage);
     }
 
+    @Transactional(readOnly = true)
     public Project getProjectByIdForReport(Long projectId, Long userId, User actingUser) {
         Project project = findProjectByIdForReportOrThrow(projectId, userId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
         return project;
     }
 
+    // Vazio quando o projeto não existe ou o usuário não é membro: o caminho completo gera o erro adequado
+    @Transactional(readOnly = true)
+    public Optional<ProjectReportKey> findReportKey(Long projectId, TaskFilterReportDTO filter, User actingUser) {
+        return projectCollectionVersionRepository.findReportVersionsVisibleTo(projectId, actingUser.getId())
+                .map(versions -> ProjectReportKey.of(versions, filter));
+    }
+
+    // Sem transação no método: quem espera o cálculo iniciado por outro membro não segura conexão de banco
     @BusinessActivityLog(action = "Generate Project Report")
     public ProjectReportDTO getProjectReport(Long projectId, TaskFilterReportDTO filter, User actingUser) {
-        projectAuthorizationService.checkProjectMembership(actingUser, findProjectByIdOrThrow(projectId));
+        Optional<ProjectReportKey> key = findReportKey(projectId, filter, actingUser);
+        if (key.isEmpty()) {
+            return readOnlyTransaction.execute(status -> {
+                projectAuthorizationService.checkProjectMembership(actingUser, findProjectByIdOrThrow(projectId));
+                return buildProjectReport(projectId, filter);
+            });
+        }
 
+        return readCoalescer.execute("project-report", key.get(),
+                () -> readOnlyTransaction.execute(status -> buildProjectReport(projectId, filter)));
+    }
+
+    private ProjectReportDTO buildProjectReport(Long projectId, TaskFilterReportDTO filter) {
         Set<Task> tasks = taskRepository.findTasksByProjectWithFiltersForReport(projectId, filter);
-        TaskSummaryDTO summary = calculateTaskSummary(tasks);
+        TaskSummaryDTO summary = ProjectReportCalculator.calculateTaskSummary(tasks);
 
-        List<MemberTaskDistributionDTO> distribution = calculateMemberTaskDistribution(tasks);
+        List<MemberTaskDistributionDTO> distribution = ProjectReportCalculator.calculateMemberTaskDistribution(tasks);
 
         return ProjectReportDTO.builder()
                 .summary(summary)
@@ -259,21 +348,19 @@ public class ProjectService {
         Optional<ProjectMember> existingMembership = projectMemberRepository.findByUserAndProject(userToInvite, project);
 
         ProjectMember memberToInvite;
-        String token;
 
         if (existingMembership.isPresent()) {
             memberToInvite = existingMembership.get();
             memberToInvite.changeRole(requestDTO.getRole());
-            token = memberToInvite.generateInvitation();
-            projectMemberRepository.save(memberToInvite);
         } else {
             memberToInvite = new ProjectMember(userToInvite, project, requestDTO.getRole());
-            token = memberToInvite.generateInvitation();
-            project.addMember(memberToInvite);
-            projectRepository.save(project);
         }
 
-        emailService.sendProjectInvitationEmail(userToInvite.getEmail(), project.getTitle(), token);
+        // O id da associação é o sujeito do token, por isso ela é salva antes da emissão
+        memberToInvite = projectMemberRepository.save(memberToInvite);
+        IssuedToken token = secureTokenService.issue(ETokenType.PROJECT_INVITATION, memberToInvite.getId(), INVITATION_TTL);
+
+        emailService.sendProjectInvitationEmail(userToInvite.getEmail(), project.getTitle(), token.getValue());
     }
 
     @BusinessActivityLog(action = "Accept Project Invitation via Email Token")
@@ -283,12 +370,17 @@ public class ProjectService {
             throw new IllegalArgumentException("Invitation token cannot be null or empty.");
         }
 
-        ProjectMember membership = findByInvitationTokenEmailOrThrow(token);
-        projectTokenValidator.validateInvitationEmailToken(membership);
+        SecureToken invitation = findInvitationTokenOrThrow(ETokenType.PROJECT_INVITATION, token, "Invalid invitation token.");
+        projectTokenValidator.validateInvitationEmailToken(invitation);
 
+        ProjectMember membership = findMembershipByInvitationOrThrow(invitation);
         membership.acceptedInvitation();
 
         projectMemberRepository.save(membership);
+        projectCollectionVersionRepository.bumpMembersVersion(membership.getProject().getId());
+        changeLogService.projectMemberJoined(membership.getProject().getId(), membership.getUser().getId());
+        projectActivityPublisher.memberJoined(membership.getProject().getId(), membership.getUser().getId());
+        secureTokenService.revoke(ETokenType.PROJECT_INVITATION, membership.getId());
     }
 
     @BusinessActivityLog(action = "Generate Project Invitation Link")
@@ -297,12 +389,13 @@ public class ProjectService {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectAdmin(actingUser, project);
 
-        String token = project.generateInviteLinkToken();
-
+        // Um novo link invalida os anteriores ao avançar a geração gravada no projeto
+        int generation = project.rotateInviteLinkGeneration();
         projectRepository.save(project);
 
-        return new InviteTokenLinkResponseDTO(token,
-                project.getInvitationTokenExpiry());
+        IssuedToken token = inviteLinkTokenService.issue(EInviteScope.PROJECT, project.getId(), EProjectRole.MEMBER.name(), generation, INVITATION_TTL);
+
+        return new InviteTokenLinkResponseDTO(token.getValue(), token.getExpiresAt());
     }
 
     @BusinessActivityLog(action = "Accept Project Invitation via Link")
@@ -312,26 +405,39 @@ public class ProjectService {
             throw new IllegalArgumentException("Invitation token cannot be null or empty.");
         }
 
-        Project project = findByInvitationTokenLinkOrThrow(token);
+        // Assinatura e expiração são conferidas em memória; o banco só é consultado para links íntegros
+        InviteLinkClaims invitation = inviteLinkTokenService.parse(EInviteScope.PROJECT, token)
+                .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
+        projectTokenValidator.validateInvitationLinkToken(invitation);
+
+        // A geração vem direto do banco: a entidade em cache neste nó pode ser anterior a uma revogação feita em outro
+        int currentGeneration = projectRepository.findInviteLinkGeneration(invitation.getTargetId())
+                .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
+        projectTokenValidator.validateInvitationLinkGeneration(invitation, currentGeneration);
 
-        projectTokenValidator.validateInvitationLinkToken(project);
+        Project project = findProjectByInvitationOrThrow(invitation);
 
         projectMembershipValidator.validateNewMember(actingUser, project);
 
+        EProjectRole role = EProjectRole.valueOf(invitation.getRole());
+
         Optional<ProjectMember> existingMembership = projectMemberRepository.findByUserAndProject(actingUser, project);
+        projectCollectionVersionRepository.bumpMembersVersion(project.getId());
+        changeLogService.projectMemberJoined(project.getId(), actingUser.getId());
+        projectActivityPublisher.memberJoined(project.getId(), actingUser.getId());
 
         if(existingMembership.isPresent()) {
             ProjectMember membership = existingMembership.get();
             membership.acceptedInvitation();
-            membership.changeRole(EProjectRole.MEMBER);
+            membership.changeRole(role);
             projectMemberRepository.save(membership);
-            return toProjectMemberResponseDTO(membership);
+            return projectMapper.toProjectMemberResponseDTO(membership);
         } else {
-            ProjectMember newMember = new ProjectMember(actingUser, project, EProjectRole.MEMBER);
+            // INSERT só da nova associação: passar por project.addMember inicializaria a coleção inteira de membros
+            ProjectMember newMember = new ProjectMember(actingUser, project, role);
             newMember.acceptedInvitation();
-            project.addMember(newMember);
-            projectRepository.save(project);
-            return toProjectMemberResponseDTO(newMember);
+            projectMemberRepository.save(newMember);
+            return projectMapper.toProjectMemberResponseDTO(newMember);
         }
     }
 
@@ -340,9 +446,12 @@ public class ProjectService {
     public void deleteProject(Long projectId, User actingUser) {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectOwner(actingUser, project);
+        changeLogService.projectDeleted(projectId);
         projectRepository.delete(project);
+        projectActivityPublisher.projectDeleted(projectId, actingUser.getId());
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Remove Member from Project")
     @Transactional
     public void deleteMembershipFromProject(Long projectId, Long userIdToDelete, User actingUser) {
@@ -356,8 +465,10 @@ public class ProjectService {
         ProjectMember membershipToDelete = findMembershipByIdOrThrow(userToDelete, project);
         ProjectMember actingMembership = findMembershipByIdOrThrow(actingUser, project);
         projectMembershipActionValidator.validateDeletion(actingMembership, membershipToDelete);
-        project.removeMember(membershipToDelete);
-        projectRepository.save(project);
+        projectMemberRepository.delete(membershipToDelete);
+        projectCollectionVersionRepository.bumpMembersVersion(projectId);
+        changeLogService.projectMemberRemoved(projectId, userIdToDelete);
+        projectActivityPublisher.memberLeft(projectId, userIdToDelete, actingUser.getId());
     }
 
     @Transactional
@@ -365,69 +476,51 @@ public class ProjectService {
         Project project = findProjectByIdOrThrow(projectId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
 
-        boolean isOwner = project.getOwner().equals(actingUser);
-
-        if(isOwner) {
-            List<ProjectMember> members = project.getMembers().stream()
-                    .filter(m -> !m.getUser().equals(actingUser) && m.isAcceptedInvite())
-                    .toList();
-
-            if(members.isEmpty()) {
-                projectRepository.delete(project);
-            } else {
-                transferProjectOwnership(members, project);
-                removeAssignmentForUser(project, actingUser);
-            }
-        } else {
-            removeAssignmentForUser(project, actingUser);
-        }
+        releaseProjectsOfUser(actingUser.getId(), projectId, Integer.MAX_VALUE);
+        projectActivityPublisher.memberLeft(projectId, actingUser.getId(), actingUser.getId());
     }
 
     @Transactional
     public void handleOwnerDeletion(User actingUser) {
-        List<Project> projects = projectRepository.findAllByOwner(actingUser);
-
-        for(Project project : projects) {
-            List<ProjectMember> members = project.getMembers().stream()
-                    .filter(m -> !m.getUser().equals(actingUser) && m.isAcceptedInvite())
-                    .toList();
+        releaseProjectsOfUser(actingUser.getId(), null, Integer.MAX_VALUE);
+    }
 
-            if(members.isEmpty()) {
-                projectRepository.delete(project);
+    // Sem membros aceitos o projeto é apagado; senão a posse vai para o ADMIN (ou membro) mais antigo.
+    // projectId nulo = todos os projetos; cada chamada trata no máximo "limit" projetos, e o change log e as versões
+    // cobrem só esses, para que a exclusão de conta em lotes não reescreva a cada lote os projetos que ainda faltam.
+    @Transactional
+    public int releaseProjectsOfUser(Long userId, Long projectId, int limit) {
+        List<Long> projectIds = projectRepository.findProjectIdsToRelease(userId, projectId, limit);
+        int affected = 0;
+
+        if (!projectIds.isEmpty()) {
+            // Antes de apagar os vínculos, enquanto a subconsulta ainda enxerga os projetos do usuário
+            changeLogService.projectMembershipsOfUserReleased(userId, projectIds);
+            if (projectId != null) {
+                projectCollectionVersionRepository.bumpMembersVersion(projectId);
             } else {
-                transferProjectOwnership(members, project);
-                removeAssignmentForUser(project, actingUser);
+                projectCollectionVersionRepository.bumpVersionsOfProjects(projectIds);
             }
-        }
-    }
-
-    private void transferProjectOwnership(List<ProjectMember> members, Project project) {
-        Optional<ProjectMember> newOwnerMember = members.stream()
-                .filter(m -> m.getProjectRole().equals(EProjectRole.ADMIN))
-                .min(Comparator.comparing(ProjectMember::getJoinedAt));
 
-        if(newOwnerMember.isEmpty()) {
-            newOwnerMember = members.stream()
-                    .min(Comparator.comparing(ProjectMember::getJoinedAt));
+            affected += projectRepository.deleteOwnedProjectsWithoutOtherMembers(userId, projectIds);
+            affected += projectRepository.transferOwnedProjectsToSuccessor(userId, projectIds);
+            affected += projectMemberRepository.deleteAllOfUser(userId, projectIds);
         }
 
-        newOwnerMember.ifPresent(member -> {
-            User newOwner = member.getUser();
-            project.transferOwnership(newOwner);
-            member.changeRole(EProjectRole.OWNER);
-            projectMemberRepository.save(member);
-            projectRepository.save(project);
-        });
+        // Exclusão de conta: os projetos não recebem MEMBER_LEFT um a um, então as conexões do usuário caem de uma vez
+        if (projectId == null) {
+            projectActivityPublisher.accessRevoked(userId);
+        }
+        return affected;
     }
 
-    private void removeAssignmentForUser(Project project, User actingUser) {
-        ProjectMember member = project.getMembers().stream()
-                .filter(m -> m.getUser().equals(actingUser))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("User to update not found in this project."));
+    @Transactional
+    public int purgeStaleInvitations(OffsetDateTime invitedBefore, int limit) {
+        return projectMemberRepository.deleteStaleInvitations(invitedBefore, OffsetDateTime.now(), limit);
+    }
 
-        project.removeMember(member);
-        projectRepository.save(project);
+    public long countMembershipsOfUser(User user) {
+        return projectMemberRepository.countByUser(user);
     }
 
     public Set<User> findProjectMembersFromIdList(Long projectId, List<Long> userIds) {
@@ -437,64 +530,23 @@ public class ProjectService {
         return projectMemberRepository.findProjectMembersAsUsers(projectId, userIds);
     }
 
-    public TaskSummaryDTO calculateTaskSummary(Set<Task> tasks) {
-        long doneCount = 0;
-        long inProgressCount = 0;
-        long toDoCount = 0;
-        long overdueCount = 0;
-
-        OffsetDateTime now = OffsetDateTime.now();
-
-        for (Task task : tasks) {
-            switch (task.getEffectiveStatus()) {
-                case DONE:
-                    doneCount++;
-                    break;
-                case IN_PROGRESS:
-                    inProgressCount++;
-                    break;
-                case TO_DO:
-                    toDoCount++;
-                    break;
-                case OVERDUE:
-                    overdueCount++;
-                    break;
-            }
-        }
-
-        long totalCount = tasks.size();
-        return new TaskSummaryDTO(totalCount, doneCount, inProgressCount, toDoCount, overdueCount);
-    }
-
+    @Transactional(readOnly = true)
     public Set<Task> findFilteredTasksForProject(Long projectId, TaskFilterReportDTO filter) {
         return taskRepository.findTasksByProjectWithFiltersForReport(projectId, filter);
     }
 
-    private List<MemberTaskDistributionDTO> calculateMemberTaskDistribution(Set<Task> tasks) {
-        Map<Long, MemberTaskDistributionDTO> distributionMap = new HashMap<>();
-
-        for (Task task : tasks) {
-            for (TaskAssignment assignment : task.getAssignments()) {
-                User assignmentUser = assignment.getUser();
-                Long userId = assignmentUser.getId();
-
-                // O métodos computeIfAbsent cria um novo MemberTaskDistributionDTO se o userId não existir no mapa
-                MemberTaskDistributionDTO userDistribution = distributionMap.computeIfAbsent(
-                        userId,
-                        key -> new MemberTaskDistributionDTO(userId, assignmentUser.getUsername())
-                );
-
-                userDistribution.incrementTaskStatus(task.getEffectiveStatus());
-            }
-        }
+    public Project findProjectEntityById(Long teamId) {
+        return findProjectByIdOrThrow(teamId);
+    }
 
-        return distributionMap.values().stream()
-                .sorted(Comparator.comparing(MemberTaskDistributionDTO::getUsername))
-                .toList();
+    public ProjectAccessContext findAccessContext(Long projectId, User user) {
+        return projectRepository.findAccessContext(projectId, user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
     }
 
-    public Project findProjectEntityById(Long teamId) {
-        return findProjectByIdOrThrow(teamId);
+    // Proxy sem consulta, para associar entidades a um projeto cujo acesso já foi verificado
+    public Project getProjectReference(Long projectId) {
+        return projectRepository.getReferenceById(projectId);
     }
 
     private Project findProjectByIdForReportOrThrow(Long projectId, Long userId) {
@@ -507,13 +559,18 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
     }
 
-    private ProjectMember findByInvitationTokenEmailOrThrow(String token) {
-        return projectMemberRepository.findByInvitationToken(token)
+    private SecureToken findInvitationTokenOrThrow(ETokenType tokenType, String token, String errorMessage) {
+        return secureTokenService.find(tokenType, token)
+                .orElseThrow(() -> new ResourceNotFoundException(errorMessage));
+    }
+
+    private ProjectMember findMembershipByInvitationOrThrow(SecureToken invitation) {
+        return projectMemberRepository.findById(invitation.getSubjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation token."));
     }
 
-    private Project findByInvitationTokenLinkOrThrow(String token) {
-        return projectRepository.findByInvitationToken(token)
+    private Project findProjectByInvitationOrThrow(InviteLinkClaims invitation) {
+        return projectRepository.findById(invitation.getTargetId())
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
     }
 
@@ -522,26 +579,6 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("User to update not found in this team."));
     }
 
-    private ProjectMemberResponseDTO toProjectMemberResponseDTO(ProjectMember membership) {
-        ProjectMemberResponseDTO dto = new ProjectMemberResponseDTO();
-        dto.setUserId(membership.getUser().getId());
-        dto.setUsername(membership.getUser().getUsername());
-        dto.setEmail(membership.getUser().getEmail());
-        dto.setProjectRole(membership.getProjectRole());
-        return dto;
-    }
-
-    private UserProjectResponseDTO toUserProjectResponseDTO(Project project, ProjectMember membership, List<String> membersName, Long taskCount) {
-        UserProjectResponseDTO dto = new UserProjectResponseDTO();
-        dto.setId(project.getId());
-        dto.setTitle(project.getTitle());
-        dto.setDescription(project.getDescription());
-        dto.setProjectRole(membership.getProjectRole());
-        dto.setTaskCount(taskCount);
-        dto.setMemberNames(membersName);
-        return dto;
-    }
-
     private Project findProjectWithMembersAndTasksOrThrow(Long projectId) {
         return projectRepository.findByIdWithMembersAndTasks(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
@@ -1,23 +1,27 @@
 package br.com.teamtacles.project.validator;
 
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
-import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.SecureToken;
 import org.springframework.stereotype.Component;
-import br.com.teamtacles.project.model.ProjectMember;
-
-import java.time.OffsetDateTime;
 
 @Component
 public class ProjectTokenValidator {
 
-    public void validateInvitationLinkToken(Project project) {
-        if (project.getInvitationToken() == null || project.getInvitationTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validateInvitationLinkToken(InviteLinkClaims claims) {
+        if (claims.isExpired()) {
             throw new ResourceNotFoundException("Invitation token has expired.");
         }
     }
 
-    public void validateInvitationEmailToken(ProjectMember projectMember) {
-        if (projectMember.getInvitationToken() == null || projectMember.getInvitationTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validateInvitationLinkGeneration(InviteLinkClaims claims, int currentGeneration) {
+        if (claims.getGeneration() != currentGeneration) {
+            throw new ResourceNotFoundException("Invitation link has been revoked.");
+        }
+    }
+
+    public void validateInvitationEmailToken(SecureToken token) {
+        if (token.isExpired()) {
             throw new ResourceNotFoundException("Invitation token has expired.");
         }
     }
@@ -6,6 +6,7 @@ import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -29,6 +30,10 @@ public class CustomJwtAuthenticationConverter implements Converter<Jwt, Abstract
         Long userId = Long.valueOf(jwt.getSubject());
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        // Tokens emitidos antes da exclusão em segundo plano deixam de valer assim que ela começa
+        if (user.isDeletionRequested()) {
+            throw new LockedException("Account deletion in progress for user id: " + userId);
+        }
         return new UserAuthenticated(user);
     }
 }
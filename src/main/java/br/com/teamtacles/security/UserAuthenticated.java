@@ -42,7 +42,7 @@ public class UserAuthenticated implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return !user.isDeletionRequested();
     }
 
     @Override
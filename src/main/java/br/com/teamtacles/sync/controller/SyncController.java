@@ -0,0 +1,78 @@
+package br.com.teamtacles.sync.controller;
+
+import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.security.UserAuthenticated;
+import br.com.teamtacles.sync.dto.request.MutationBatchRequestDTO;
+import br.com.teamtacles.sync.dto.response.MutationBatchResponseDTO;
+import br.com.teamtacles.sync.dto.response.SyncResponseDTO;
+import br.com.teamtacles.sync.service.MutationBatchService;
+import br.com.teamtacles.sync.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sync", description = "Incremental synchronization of tasks, projects, teams and memberships.")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final MutationBatchService mutationBatchService;
+
+    public SyncController(SyncService syncService, MutationBatchService mutationBatchService) {
+        this.syncService = syncService;
+        this.mutationBatchService = mutationBatchService;
+    }
+
+    @Operation(summary = "Get changes since a sync token", description = "Returns the tasks, projects, teams, memberships and deletions "
+            + "visible to the authenticated user that changed since the token. Call without a token (or after fullResyncRequired) "
+            + "to get a starting token, and keep calling while hasMore is true.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = SyncResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Malformed sync token",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<SyncResponseDTO> getChanges(@RequestParam(required = false) String token,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        return ResponseEntity.ok(syncService.getChanges(token, limit, authenticatedUser.getUser()));
+    }
+
+    @Operation(summary = "Apply edits made offline", description = "Replays up to 100 task and project edits queued while the app was offline, "
+            + "in order. Each operation is applied or rejected on its own and reported by its clientOperationId; resending an operation "
+            + "that was already applied returns DUPLICATE without changing anything. Operations on a task created in the same or an "
+            + "earlier batch can reference it by the clientOperationId of its CREATE_TASK.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the status of each operation",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = MutationBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data (e.g., empty list, more than 100 operations, missing clientOperationId)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/mutations")
+    public ResponseEntity<MutationBatchResponseDTO> applyMutations(@RequestBody @Valid MutationBatchRequestDTO request,
+                                                                   @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        return ResponseEntity.ok(mutationBatchService.applyMutations(request, authenticatedUser.getUser()));
+    }
+}
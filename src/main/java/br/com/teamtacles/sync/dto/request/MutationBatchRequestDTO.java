@@ -0,0 +1,23 @@
+package br.com.teamtacles.sync.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "MutationBatchRequest", description = "DTO for replaying the edits queued while the app was offline.")
+public class MutationBatchRequestDTO {
+
+    @Schema(description = "The operations, in the order they were made on the device.", required = true)
+    @NotEmpty(message = "The list of operations cannot be empty")
+    @Size(max = 100, message = "A mutation batch cannot contain more than 100 operations.")
+    private List<@Valid MutationRequestDTO> operations;
+}
@@ -0,0 +1,69 @@
+package br.com.teamtacles.sync.dto.request;
+
+import br.com.teamtacles.project.dto.request.ProjectRequestUpdateDTO;
+import br.com.teamtacles.sync.enumeration.EMutationType;
+import br.com.teamtacles.task.dto.request.TaskAssignmentRequestDTO;
+import br.com.teamtacles.task.dto.request.TaskRequestRegisterDTO;
+import br.com.teamtacles.task.dto.request.TaskRequestUpdateDTO;
+import br.com.teamtacles.task.dto.request.UpdateTaskStatusRequestDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "MutationRequest", description = "A single edit made offline. Only the payload field that matches the type is read.")
+public class MutationRequestDTO {
+
+    @Schema(description = "Identifier generated by the app for this operation. Replaying it returns the recorded result instead of applying it again.",
+            example = "7f9c2b1e-4d3a-4c55-9a41-0b6f0f1d2e3a", required = true)
+    @NotBlank(message = "The client operation ID cannot be blank.")
+    @Size(max = 64, message = "The client operation ID cannot exceed 64 characters.")
+    private String clientOperationId;
+
+    @Schema(description = "The operation to apply.", example = "UPDATE_TASK_STATUS", required = true)
+    @NotNull(message = "The operation type cannot be null.")
+    private EMutationType type;
+
+    @Schema(description = "The project the operation applies to.", example = "1", required = true)
+    @NotNull(message = "The project ID cannot be null.")
+    private Long projectId;
+
+    @Schema(description = "The task the operation applies to. Required by task operations other than CREATE_TASK, unless taskOperationId is given.", example = "12")
+    private Long taskId;
+
+    @Schema(description = "For tasks created offline: the clientOperationId of the CREATE_TASK operation, in this or an earlier request.",
+            example = "0c1d8e2f-5b6a-4f7e-8d9c-1a2b3c4d5e6f")
+    @Size(max = 64, message = "The task operation ID cannot exceed 64 characters.")
+    private String taskOperationId;
+
+    @Schema(description = "Payload of CREATE_TASK.")
+    @Valid
+    private TaskRequestRegisterDTO task;
+
+    @Schema(description = "Payload of UPDATE_TASK_DETAILS.")
+    @Valid
+    private TaskRequestUpdateDTO details;
+
+    @Schema(description = "Payload of UPDATE_TASK_STATUS.")
+    @Valid
+    private UpdateTaskStatusRequestDTO status;
+
+    @Schema(description = "Payload of ASSIGN_TASK_USERS.")
+    private Set<@Valid TaskAssignmentRequestDTO> assignments;
+
+    @Schema(description = "Payload of REMOVE_TASK_USERS: the users to unassign.")
+    private Set<Long> userIds;
+
+    @Schema(description = "Payload of UPDATE_PROJECT.")
+    @Valid
+    private ProjectRequestUpdateDTO project;
+}
@@ -0,0 +1,40 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.sync.enumeration.EMutationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "MutationBatchResponse", description = "Summary of a mutation batch with the outcome of each operation.")
+public class MutationBatchResponseDTO {
+
+    @Schema(description = "Number of operations in the request.", example = "20")
+    private int requested;
+
+    @Schema(description = "Number of operations applied by this request.", example = "17")
+    private int applied;
+
+    @Schema(description = "Number of operations already applied by an earlier request.", example = "2")
+    private int duplicates;
+
+    @Schema(description = "Number of operations rejected.", example = "1")
+    private int failed;
+
+    @Schema(description = "Outcome of each operation, in request order.")
+    private List<MutationResultDTO> results;
+
+    public static MutationBatchResponseDTO of(List<MutationResultDTO> results) {
+        return new MutationBatchResponseDTO(results.size(), count(results, EMutationStatus.APPLIED),
+                count(results, EMutationStatus.DUPLICATE), count(results, EMutationStatus.FAILED), results);
+    }
+
+    private static int count(List<MutationResultDTO> results, EMutationStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
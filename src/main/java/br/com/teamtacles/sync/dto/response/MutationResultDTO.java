@@ -0,0 +1,38 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.sync.enumeration.EMutationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "MutationResult", description = "Outcome of a single operation of a mutation batch.")
+public class MutationResultDTO {
+
+    @Schema(description = "The clientOperationId sent with the operation.", example = "7f9c2b1e-4d3a-4c55-9a41-0b6f0f1d2e3a")
+    private String clientOperationId;
+
+    @Schema(description = "Whether the operation was applied now, had already been applied, or was rejected.", example = "APPLIED")
+    private EMutationStatus status;
+
+    @Schema(description = "The task or project the operation changed. For CREATE_TASK, the ID of the new task.", example = "12")
+    private Long entityId;
+
+    @Schema(description = "Why the operation was rejected. Null unless the status is FAILED.", example = "Not allowed to change status of a completed task.")
+    private String error;
+
+    public static MutationResultDTO applied(String clientOperationId, Long entityId) {
+        return new MutationResultDTO(clientOperationId, EMutationStatus.APPLIED, entityId, null);
+    }
+
+    public static MutationResultDTO duplicate(String clientOperationId, Long entityId) {
+        return new MutationResultDTO(clientOperationId, EMutationStatus.DUPLICATE, entityId, null);
+    }
+
+    public static MutationResultDTO failed(String clientOperationId, String error) {
+        return new MutationResultDTO(clientOperationId, EMutationStatus.FAILED, null, error);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SyncDeletion", description = "An entity that was deleted or is no longer visible to the user since the sync token.")
+public class SyncDeletionDTO {
+
+    @Schema(description = "Kind of entity removed.", example = "TASK")
+    private EChangeType entityType;
+
+    @Schema(description = "Identifier of the removed entity. For memberships, the id of the member's user.", example = "42")
+    private Long id;
+
+    @Schema(description = "Project of the removed task or project membership.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Team of the removed team membership.", example = "3")
+    private Long teamId;
+}
@@ -0,0 +1,20 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.project.dto.response.ProjectMemberResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SyncProjectMember", description = "A project membership that changed since the sync token.")
+public class SyncProjectMemberDTO {
+
+    @Schema(description = "The project the membership belongs to.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Current state of the membership.")
+    private ProjectMemberResponseDTO member;
+}
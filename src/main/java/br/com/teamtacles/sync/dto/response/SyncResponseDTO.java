@@ -0,0 +1,56 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.team.dto.response.TeamResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SyncResponse", description = "Changes visible to the user since the given sync token.")
+public class SyncResponseDTO {
+
+    @Schema(description = "Tasks created or changed, in their current state.")
+    private List<TaskResponseDTO> tasks;
+
+    @Schema(description = "Projects created, changed or joined, in their current state.")
+    private List<ProjectResponseDTO> projects;
+
+    @Schema(description = "Project memberships added or changed.")
+    private List<SyncProjectMemberDTO> projectMembers;
+
+    @Schema(description = "Teams created, changed or joined, in their current state.")
+    private List<TeamResponseDTO> teams;
+
+    @Schema(description = "Team memberships added or changed.")
+    private List<SyncTeamMemberDTO> teamMembers;
+
+    @Schema(description = "Entities deleted or no longer visible to the user.")
+    private List<SyncDeletionDTO> deletions;
+
+    @Schema(description = "Projects whose tasks and members must be reloaded in full (e.g. just joined, or changed in bulk).")
+    private List<Long> resyncProjectIds;
+
+    @Schema(description = "Teams whose members must be reloaded in full.")
+    private List<Long> resyncTeamIds;
+
+    @Schema(description = "True when the token is missing or expired: reload everything, then continue from nextToken.", example = "false")
+    private boolean fullResyncRequired;
+
+    @Schema(description = "True when more changes are waiting; call again right away with nextToken.", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "Opaque token to send on the next sync.", example = "AAYa3mCqW4A.0")
+    private String nextToken;
+
+    public static SyncResponseDTO empty(String nextToken, boolean fullResyncRequired) {
+        return new SyncResponseDTO(List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                fullResyncRequired, false, nextToken);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.teamtacles.sync.dto.response;
+
+import br.com.teamtacles.team.dto.response.TeamMemberResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SyncTeamMember", description = "A team membership that changed since the sync token.")
+public class SyncTeamMemberDTO {
+
+    @Schema(description = "The team the membership belongs to.", example = "3")
+    private Long teamId;
+
+    @Schema(description = "Current state of the membership.")
+    private TeamMemberResponseDTO member;
+}
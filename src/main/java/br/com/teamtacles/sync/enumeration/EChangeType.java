@@ -0,0 +1,13 @@
+package br.com.teamtacles.sync.enumeration;
+
+public enum EChangeType {
+    TASK,
+    PROJECT,
+    // entity_id é o id do usuário; o vínculo é identificado pelo par (projeto, usuário)
+    PROJECT_MEMBER,
+    TEAM,
+    TEAM_MEMBER,
+    // Alterações set-based (importação de time, saída em massa) e entrada de novo membro: o cliente recarrega o projeto/time inteiro
+    PROJECT_RESYNC,
+    TEAM_RESYNC
+}
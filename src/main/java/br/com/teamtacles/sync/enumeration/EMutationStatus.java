@@ -0,0 +1,8 @@
+package br.com.teamtacles.sync.enumeration;
+
+public enum EMutationStatus {
+    APPLIED,
+    // Já aplicada por um envio anterior com o mesmo clientOperationId; nada foi alterado agora
+    DUPLICATE,
+    FAILED
+}
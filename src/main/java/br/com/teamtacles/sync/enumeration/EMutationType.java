@@ -0,0 +1,11 @@
+package br.com.teamtacles.sync.enumeration;
+
+public enum EMutationType {
+    CREATE_TASK,
+    UPDATE_TASK_DETAILS,
+    UPDATE_TASK_STATUS,
+    ASSIGN_TASK_USERS,
+    REMOVE_TASK_USERS,
+    DELETE_TASK,
+    UPDATE_PROJECT
+}
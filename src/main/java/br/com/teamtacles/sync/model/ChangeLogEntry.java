@@ -0,0 +1,59 @@
+package br.com.teamtacles.sync.model;
+
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+// Gravada só pelo ChangeLogJdbcRepository (changed_at vem do banco); pelo JPA a tabela é apenas lida
+@Getter
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "id")
+@Immutable
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "changed_at", nullable = false)
+    private OffsetDateTime changedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EChangeType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    public ChangeLogEntry(Long id, OffsetDateTime changedAt, EChangeType entityType, Long entityId,
+                          Long projectId, Long teamId, Long userId, boolean deleted) {
+        this.id = id;
+        this.changedAt = changedAt;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+        this.teamId = teamId;
+        this.userId = userId;
+        this.deleted = deleted;
+    }
+}
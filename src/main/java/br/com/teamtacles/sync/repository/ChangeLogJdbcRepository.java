@@ -0,0 +1,117 @@
+package br.com.teamtacles.sync.repository;
+
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Escrita direta via JDBC na mesma transação da alteração. id e changed_at ficam com os DEFAULTs do banco:
+// changed_at é o início da transação, o que o cursor da sincronização precisa (ver SyncService)
+@Repository
+public class ChangeLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO change_log (entity_type, entity_id, project_id, team_id, user_id, deleted)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    // Uma linha por membro aceito: usada antes de apagar um projeto/time, quando o escopo deixa de existir
+    private static final String INSERT_FOR_PROJECT_MEMBERS_SQL = """
+            INSERT INTO change_log (entity_type, entity_id, user_id, deleted)
+            SELECT ?, ?, pm.user_id, ? FROM project_members pm WHERE pm.project_id = ? AND pm.accepted_invite = TRUE
+            """;
+
+    private static final String INSERT_FOR_TEAM_MEMBERS_SQL = """
+            INSERT INTO change_log (entity_type, entity_id, user_id, deleted)
+            SELECT ?, ?, tm.user_id, ? FROM team_members tm WHERE tm.team_id = ? AND tm.accepted_invite = TRUE
+            """;
+
+    private static final String PROJECT_MEMBERSHIPS_OF_USER = """
+            FROM project_members pm WHERE pm.user_id = :userId AND pm.accepted_invite = TRUE AND pm.project_id IN (:projectIds)
+            """;
+
+    private static final String TEAM_MEMBERSHIPS_OF_USER = """
+            FROM team_members tm WHERE tm.user_id = ? AND tm.accepted_invite = TRUE
+            """;
+
+    private static final String INSERT_PROJECT_RESYNC_FOR_TASKS_OF_USER_SQL = """
+            INSERT INTO change_log (entity_type, entity_id, project_id)
+            SELECT DISTINCT 'PROJECT_RESYNC', t.project_id, t.project_id
+            FROM task_assignments ta JOIN tasks t ON t.id = ta.task_id
+            WHERE ta.user_id = ? AND (CAST(? AS BIGINT) IS NULL OR t.project_id = ?)
+            """;
+
+    private static final String DELETE_OLDER_THAN_SQL = """
+            DELETE FROM change_log WHERE id IN (
+                SELECT id FROM change_log WHERE changed_at < ? ORDER BY changed_at LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ChangeLogJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void insertAll(EChangeType entityType, List<Long> entityIds, Long projectId, Long teamId, Long userId, boolean deleted) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entityIds, entityIds.size(), (statement, entityId) -> {
+            statement.setString(1, entityType.name());
+            statement.setLong(2, entityId);
+            statement.setObject(3, projectId, Types.BIGINT);
+            statement.setObject(4, teamId, Types.BIGINT);
+            statement.setObject(5, userId, Types.BIGINT);
+            statement.setBoolean(6, deleted);
+        });
+    }
+
+    public int insertForProjectMembers(EChangeType entityType, Long entityId, Long projectId, boolean deleted) {
+        return jdbcTemplate.update(INSERT_FOR_PROJECT_MEMBERS_SQL, entityType.name(), entityId, deleted, projectId);
+    }
+
+    public int insertForTeamMembers(EChangeType entityType, Long entityId, Long teamId, boolean deleted) {
+        return jdbcTemplate.update(INSERT_FOR_TEAM_MEMBERS_SQL, entityType.name(), entityId, deleted, teamId);
+    }
+
+    // Saída de um usuário de um lote de projetos: os demais membros veem o vínculo removido, recarregam os projetos em
+    // que ele era dono (a posse muda de mãos) e o usuário recebe o tombstone de cada projeto.
+    // Comandos separados para manter a ordem dos ids.
+    public int insertProjectDepartureOfUser(Long userId, Collection<Long> projectIds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("projectIds", projectIds);
+        int inserted = namedJdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, project_id, deleted) "
+                + "SELECT 'PROJECT_MEMBER', pm.user_id, pm.project_id, TRUE " + PROJECT_MEMBERSHIPS_OF_USER, parameters);
+        inserted += namedJdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, project_id) "
+                + "SELECT 'PROJECT_RESYNC', pm.project_id, pm.project_id " + PROJECT_MEMBERSHIPS_OF_USER + " AND pm.project_role = 'OWNER'",
+                parameters);
+        inserted += namedJdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, user_id, deleted) "
+                + "SELECT 'PROJECT', pm.project_id, pm.user_id, TRUE " + PROJECT_MEMBERSHIPS_OF_USER, parameters);
+        return inserted;
+    }
+
+    // Mesma regra de insertProjectDepartureOfUser, para todos os times do usuário
+    public int insertTeamDepartureOfUser(Long userId) {
+        int inserted = jdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, team_id, deleted) "
+                + "SELECT 'TEAM_MEMBER', tm.user_id, tm.team_id, TRUE " + TEAM_MEMBERSHIPS_OF_USER, userId);
+        inserted += jdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, team_id) "
+                + "SELECT 'TEAM_RESYNC', tm.team_id, tm.team_id " + TEAM_MEMBERSHIPS_OF_USER + " AND tm.team_role = 'OWNER'", userId);
+        inserted += jdbcTemplate.update("INSERT INTO change_log (entity_type, entity_id, user_id, deleted) "
+                + "SELECT 'TEAM', tm.team_id, tm.user_id, TRUE " + TEAM_MEMBERSHIPS_OF_USER, userId);
+        return inserted;
+    }
+
+    public int insertProjectResyncForTasksOfUser(Long userId, Long projectId) {
+        return jdbcTemplate.update(INSERT_PROJECT_RESYNC_FOR_TASKS_OF_USER_SQL, userId, projectId, projectId);
+    }
+
+    public int deleteOlderThan(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, cutoff, limit);
+    }
+}
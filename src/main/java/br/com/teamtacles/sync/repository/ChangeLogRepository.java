@@ -0,0 +1,28 @@
+package br.com.teamtacles.sync.repository;
+
+import br.com.teamtacles.sync.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    // Entradas depois do cursor (changed_at, id) e antes do horizonte, nos escopos visíveis ao usuário agora.
+    // Cada ramo do OR usa um dos índices (escopo, changed_at, id); cliente em dia = uma consulta sem linhas.
+    @Query("SELECT c FROM ChangeLogEntry c " +
+            "WHERE c.changedAt < :horizon " +
+            "AND (c.changedAt > :afterChangedAt OR (c.changedAt = :afterChangedAt AND c.id > :afterId)) " +
+            "AND (c.userId = :userId " +
+            "OR c.projectId IN (SELECT pm.project.id FROM ProjectMember pm WHERE pm.user.id = :userId AND pm.acceptedInvite = true) " +
+            "OR c.teamId IN (SELECT tm.team.id FROM TeamMember tm WHERE tm.user.id = :userId AND tm.acceptedInvite = true)) " +
+            "ORDER BY c.changedAt, c.id")
+    List<ChangeLogEntry> findVisibleChanges(@Param("userId") Long userId,
+                                            @Param("afterChangedAt") OffsetDateTime afterChangedAt,
+                                            @Param("afterId") Long afterId,
+                                            @Param("horizon") OffsetDateTime horizon,
+                                            Pageable pageable);
+}
@@ -0,0 +1,68 @@
+package br.com.teamtacles.sync.repository;
+
+import br.com.teamtacles.sync.enumeration.EMutationType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// Recibos das operações offline aplicadas. A chave primária (usuário, clientOperationId) é o que impede dois envios
+// simultâneos do mesmo lote de aplicarem a mesma operação duas vezes: o segundo insert falha e desfaz a transação dele
+@Repository
+public class ClientMutationJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO client_mutations (user_id, client_operation_id, operation_type, entity_id)
+            VALUES (:userId, :clientOperationId, :operationType, :entityId)
+            """;
+
+    private static final String FIND_APPLIED_SQL = """
+            SELECT client_operation_id, entity_id FROM client_mutations
+            WHERE user_id = :userId AND client_operation_id IN (:clientOperationIds)
+            """;
+
+    private static final String DELETE_OLDER_THAN_SQL = """
+            DELETE FROM client_mutations WHERE (user_id, client_operation_id) IN (
+                SELECT user_id, client_operation_id FROM client_mutations WHERE applied_at < :cutoff ORDER BY applied_at LIMIT :limit)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ClientMutationJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(Long userId, String clientOperationId, EMutationType operationType, Long entityId) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("clientOperationId", clientOperationId)
+                .addValue("operationType", operationType.name())
+                .addValue("entityId", entityId));
+    }
+
+    // clientOperationId -> id da entidade alterada (nulo quando a operação não tem uma)
+    public Map<String, Long> findApplied(Long userId, Collection<String> clientOperationIds) {
+        Map<String, Long> applied = new HashMap<>();
+        if (clientOperationIds.isEmpty()) {
+            return applied;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("clientOperationIds", clientOperationIds);
+        jdbcTemplate.query(FIND_APPLIED_SQL, parameters, resultSet -> {
+            applied.put(resultSet.getString("client_operation_id"), resultSet.getObject("entity_id", Long.class));
+        });
+        return applied;
+    }
+
+    public int deleteOlderThan(OffsetDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit));
+    }
+}
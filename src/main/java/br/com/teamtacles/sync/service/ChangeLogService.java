@@ -0,0 +1,107 @@
+package br.com.teamtacles.sync.service;
+
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import br.com.teamtacles.sync.repository.ChangeLogJdbcRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+// Chamado pelos serviços de tarefa, projeto e time dentro da própria transação da alteração: a entrada só existe se a
+// alteração foi confirmada. Guarda apenas "o quê" e "para quem"; o conteúdo é relido na sincronização.
+@Service
+public class ChangeLogService {
+
+    private final ChangeLogJdbcRepository changeLogJdbcRepository;
+
+    public ChangeLogService(ChangeLogJdbcRepository changeLogJdbcRepository) {
+        this.changeLogJdbcRepository = changeLogJdbcRepository;
+    }
+
+    public void taskChanged(Long projectId, Long taskId) {
+        tasksChanged(projectId, List.of(taskId));
+    }
+
+    public void tasksChanged(Long projectId, Collection<Long> taskIds) {
+        insert(EChangeType.TASK, taskIds, projectId, null, null, false);
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        tasksDeleted(projectId, List.of(taskId));
+    }
+
+    public void tasksDeleted(Long projectId, Collection<Long> taskIds) {
+        insert(EChangeType.TASK, taskIds, projectId, null, null, true);
+    }
+
+    public void projectChanged(Long projectId) {
+        insert(EChangeType.PROJECT, List.of(projectId), projectId, null, null, false);
+    }
+
+    // Antes do DELETE: depois dele não há mais membros para endereçar os tombstones
+    public void projectDeleted(Long projectId) {
+        changeLogJdbcRepository.insertForProjectMembers(EChangeType.PROJECT, projectId, projectId, true);
+    }
+
+    public void projectMemberChanged(Long projectId, Long userId) {
+        insert(EChangeType.PROJECT_MEMBER, List.of(userId), projectId, null, null, false);
+    }
+
+    // Quem entra não conhece o histórico do projeto: recebe um pedido de recarga só para si
+    public void projectMemberJoined(Long projectId, Long userId) {
+        projectMemberChanged(projectId, userId);
+        insert(EChangeType.PROJECT_RESYNC, List.of(projectId), null, null, userId, false);
+    }
+
+    public void projectMemberRemoved(Long projectId, Long userId) {
+        insert(EChangeType.PROJECT_MEMBER, List.of(userId), projectId, null, null, true);
+        insert(EChangeType.PROJECT, List.of(projectId), null, null, userId, true);
+    }
+
+    // projectId nulo = todos os projetos do usuário; precisa rodar antes de os vínculos serem apagados
+    public void projectMembershipsOfUserReleased(Long userId, Collection<Long> projectIds) {
+        changeLogJdbcRepository.insertProjectDepartureOfUser(userId, projectIds);
+    }
+
+    public void projectNeedsResync(Long projectId) {
+        insert(EChangeType.PROJECT_RESYNC, List.of(projectId), projectId, null, null, false);
+    }
+
+    // projectId nulo = todos os projetos em que o usuário tem tarefas; precisa rodar antes de as atribuições serem apagadas
+    public void tasksOfUserReleased(Long userId, Long projectId) {
+        changeLogJdbcRepository.insertProjectResyncForTasksOfUser(userId, projectId);
+    }
+
+    public void teamChanged(Long teamId) {
+        insert(EChangeType.TEAM, List.of(teamId), null, teamId, null, false);
+    }
+
+    public void teamDeleted(Long teamId) {
+        changeLogJdbcRepository.insertForTeamMembers(EChangeType.TEAM, teamId, teamId, true);
+    }
+
+    public void teamMemberChanged(Long teamId, Long userId) {
+        insert(EChangeType.TEAM_MEMBER, List.of(userId), null, teamId, null, false);
+    }
+
+    public void teamMemberJoined(Long teamId, Long userId) {
+        teamMemberChanged(teamId, userId);
+        insert(EChangeType.TEAM_RESYNC, List.of(teamId), null, null, userId, false);
+    }
+
+    public void teamMemberRemoved(Long teamId, Long userId) {
+        insert(EChangeType.TEAM_MEMBER, List.of(userId), null, teamId, null, true);
+        insert(EChangeType.TEAM, List.of(teamId), null, null, userId, true);
+    }
+
+    public void teamMembershipsOfUserReleased(Long userId) {
+        changeLogJdbcRepository.insertTeamDepartureOfUser(userId);
+    }
+
+    private void insert(EChangeType entityType, Collection<Long> entityIds, Long projectId, Long teamId, Long userId, boolean deleted) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        changeLogJdbcRepository.insertAll(entityType, List.copyOf(entityIds), projectId, teamId, userId, deleted);
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.teamtacles.sync.service;
+
+import br.com.teamtacles.common.exception.InvalidTaskStateException;
+import br.com.teamtacles.common.exception.ResourceAlreadyExistsException;
+import br.com.teamtacles.common.exception.ResourceNotFoundException;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.sync.dto.request.MutationBatchRequestDTO;
+import br.com.teamtacles.sync.dto.request.MutationRequestDTO;
+import br.com.teamtacles.sync.dto.response.MutationBatchResponseDTO;
+import br.com.teamtacles.sync.dto.response.MutationResultDTO;
+import br.com.teamtacles.sync.enumeration.EMutationStatus;
+import br.com.teamtacles.sync.repository.ClientMutationJdbcRepository;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.user.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Reaplica as edições que o app enfileirou offline, na ordem em que foram feitas, chamando as mesmas operações dos
+// endpoints REST.
+// Transação: cada operação roda numa transação própria junto com o seu recibo, e uma falha desfaz só ela. Não dá
+// para usar uma transação única com savepoints: quando um método @Transactional participante lança exceção, a
+// transação JPA inteira fica marcada como rollback-only e voltar ao savepoint não desfaz a marca.
+// Autorização: o papel do usuário é lido uma vez por projeto (ProjectAccessContext) antes das transações. Criar
+// tarefa e editar projeto recebem esse contexto e não consultam a associação de novo; as operações sobre uma tarefa
+// já leem tarefa e papéis numa consulta só (TaskAccessContext), então continuam pelo caminho normal. Uma mudança de
+// papel durante o lote só vale no próximo envio, como numa requisição REST já autorizada.
+@Service
+public class MutationBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(MutationBatchService.class);
+
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final ClientMutationJdbcRepository clientMutationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration receiptRetention;
+    private final int pruneBatchSize;
+    private final Supplier<OffsetDateTime> clock;
+
+    @Autowired
+    public MutationBatchService(TaskService taskService, ProjectService projectService,
+                                ProjectAuthorizationService projectAuthorizationService,
+                                ClientMutationJdbcRepository clientMutationJdbcRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.sync.mutation-receipt-retention:P30D}") Duration receiptRetention,
+                                @Value("${app.sync.prune-batch-size:10000}") int pruneBatchSize) {
+        this(taskService, projectService, projectAuthorizationService, clientMutationJdbcRepository, transactionTemplate,
+                receiptRetention, pruneBatchSize, OffsetDateTime::now);
+    }
+
+    MutationBatchService(TaskService taskService, ProjectService projectService,
+                         ProjectAuthorizationService projectAuthorizationService,
+                         ClientMutationJdbcRepository clientMutationJdbcRepository, TransactionTemplate transactionTemplate,
+                         Duration receiptRetention, int pruneBatchSize, Supplier<OffsetDateTime> clock) {
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.projectAuthorizationService = projectAuthorizationService;
+        this.clientMutationJdbcRepository = clientMutationJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.receiptRetention = receiptRetention;
+        this.pruneBatchSize = pruneBatchSize;
+        this.clock = clock;
+    }
+
+    public MutationBatchResponseDTO applyMutations(MutationBatchRequestDTO request, User actingUser) {
+        List<MutationRequestDTO> operations = request.getOperations();
+        // Inclui as criações referenciadas por taskOperationId, que podem ter vindo num envio anterior
+        Map<String, Long> appliedEntityIds = findApplied(operations, actingUser);
+        Map<Long, ProjectAccessContext> accessByProject = new HashMap<>();
+        Map<Long, String> deniedProjects = authorizeProjects(operations, appliedEntityIds, actingUser, accessByProject);
+
+        List<MutationResultDTO> results = new ArrayList<>(operations.size());
+        for (MutationRequestDTO operation : operations) {
+            String operationId = operation.getClientOperationId();
+            if (appliedEntityIds.containsKey(operationId)) {
+                results.add(MutationResultDTO.duplicate(operationId, appliedEntityIds.get(operationId)));
+                continue;
+            }
+
+            String denied = deniedProjects.get(operation.getProjectId());
+            if (denied != null) {
+                results.add(MutationResultDTO.failed(operationId, denied));
+                continue;
+            }
+
+            MutationResultDTO result = apply(operation, accessByProject.get(operation.getProjectId()), appliedEntityIds, actingUser);
+            if (result.getStatus() != EMutationStatus.FAILED) {
+                appliedEntityIds.put(operationId, result.getEntityId());
+            }
+            results.add(result);
+        }
+        return MutationBatchResponseDTO.of(results);
+    }
+
+    // Recibos fora da retenção são descartados: um app tanto tempo offline reenvia contra um estado que já sincronizou do zero
+    @Scheduled(cron = "${app.sync.prune-cron:0 30 3 * * *}")
+    public void pruneExpiredReceipts() {
+        OffsetDateTime cutoff = clock.get().minus(receiptRetention);
+        int deleted = 0;
+        int batch;
+        do {
+            batch = clientMutationJdbcRepository.deleteOlderThan(cutoff, pruneBatchSize);
+            deleted += batch;
+        } while (batch == pruneBatchSize);
+
+        if (deleted > 0) {
+            log.info("Pruned {} client mutation receipts older than {}", deleted, cutoff);
+        }
+    }
+
+    private Map<String, Long> findApplied(List<MutationRequestDTO> operations, User actingUser) {
+        Set<String> operationIds = new LinkedHashSet<>();
+        for (MutationRequestDTO operation : operations) {
+            operationIds.add(operation.getClientOperationId());
+            if (operation.getTaskOperationId() != null) {
+                operationIds.add(operation.getTaskOperationId());
+            }
+        }
+        return clientMutationJdbcRepository.findApplied(actingUser.getId(), operationIds);
+    }
+
+    // Uma consulta por projeto; o contexto de quem passa segue para as operações em accessByProject
+    private Map<Long, String> authorizeProjects(List<MutationRequestDTO> operations, Map<String, Long> appliedEntityIds,
+                                                User actingUser, Map<Long, ProjectAccessContext> accessByProject) {
+        Map<Long, String> deniedProjects = new HashMap<>();
+        operations.stream()
+                .filter(operation -> !appliedEntityIds.containsKey(operation.getClientOperationId()))
+                .map(MutationRequestDTO::getProjectId)
+                .distinct()
+                .forEach(projectId -> {
+                    try {
+                        ProjectAccessContext access = projectService.findAccessContext(projectId, actingUser);
+                        projectAuthorizationService.checkProjectMembership(access);
+                        accessByProject.put(projectId, access);
+                    } catch (ResourceNotFoundException | AccessDeniedException ex) {
+                        deniedProjects.put(projectId, ex.getMessage());
+                    }
+                });
+        return deniedProjects;
+    }
+
+    private MutationResultDTO apply(MutationRequestDTO operation, ProjectAccessContext access, Map<String, Long> appliedEntityIds,
+                                    User actingUser) {
+        String operationId = operation.getClientOperationId();
+        try {
+            Long entityId = transactionTemplate.execute(status -> {
+                Long id = execute(operation, access, appliedEntityIds, actingUser);
+                clientMutationJdbcRepository.insert(actingUser.getId(), operationId, operation.getType(), id);
+                return id;
+            });
+            return MutationResultDTO.applied(operationId, entityId);
+        } catch (DuplicateKeyException ex) {
+            // Outro envio do mesmo lote aplicou a operação enquanto esta rodava; o recibo dele desfez esta
+            Map<String, Long> applied = clientMutationJdbcRepository.findApplied(actingUser.getId(), List.of(operationId));
+            if (!applied.containsKey(operationId)) {
+                throw ex;
+            }
+            return MutationResultDTO.duplicate(operationId, applied.get(operationId));
+        } catch (InvalidTaskStateException | AccessDeniedException | ResourceNotFoundException
+                 | ResourceAlreadyExistsException | IllegalArgumentException ex) {
+            return MutationResultDTO.failed(operationId, ex.getMessage());
+        } catch (OptimisticLockingFailureException ex) {
+            // Sem recibo gravado: o app pode reenviar a mesma operação
+            return MutationResultDTO.failed(operationId, "The resource was modified by another request. Please send the operation again.");
+        }
+    }
+
+    private Long execute(MutationRequestDTO operation, ProjectAccessContext access, Map<String, Long> appliedEntityIds,
+                         User actingUser) {
+        Long projectId = operation.getProjectId();
+        return switch (operation.getType()) {
+            case CREATE_TASK -> taskService.createTask(access, required(operation.getTask(), "task", operation), actingUser).getId();
+            case UPDATE_TASK_DETAILS -> taskService.updateTaskDetails(projectId, resolveTaskId(operation, appliedEntityIds),
+                    required(operation.getDetails(), "details", operation), actingUser).getId();
+            case UPDATE_TASK_STATUS -> {
+                Long taskId = resolveTaskId(operation, appliedEntityIds);
+                taskService.updateTaskStatus(projectId, taskId, required(operation.getStatus(), "status", operation), actingUser);
+                yield taskId;
+            }
+            case ASSIGN_TASK_USERS -> taskService.assignUsersToTask(projectId, resolveTaskId(operation, appliedEntityIds),
+                    required(operation.getAssignments(), "assignments", operation), actingUser).getId();
+            case REMOVE_TASK_USERS -> {
+                Long taskId = resolveTaskId(operation, appliedEntityIds);
+                taskService.removeUsersFromTask(projectId, taskId, required(operation.getUserIds(), "userIds", operation), actingUser);
+                yield taskId;
+            }
+            case DELETE_TASK -> {
+                Long taskId = resolveTaskId(operation, appliedEntityIds);
+                taskService.deleteTaskById(projectId, taskId, actingUser);
+                yield taskId;
+            }
+            case UPDATE_PROJECT -> projectService.updateProject(access, required(operation.getProject(), "project", operation), actingUser).getId();
+        };
+    }
+
+    // Tarefas criadas offline ainda não têm id no app: a operação aponta para o clientOperationId do CREATE_TASK
+    private static Long resolveTaskId(MutationRequestDTO operation, Map<String, Long> appliedEntityIds) {
+        if (operation.getTaskId() != null) {
+            return operation.getTaskId();
+        }
+        if (operation.getTaskOperationId() == null) {
+            throw new IllegalArgumentException(String.format("A taskId or taskOperationId is required for %s operations.", operation.getType()));
+        }
+
+        Long taskId = appliedEntityIds.get(operation.getTaskOperationId());
+        if (taskId == null) {
+            throw new IllegalArgumentException(String.format("The operation '%s' that created the task was not applied.", operation.getTaskOperationId()));
+        }
+        return taskId;
+    }
+
+    private static <T> T required(T payload, String field, MutationRequestDTO operation) {
+        if (payload == null || (payload instanceof Set<?> values && values.isEmpty())) {
+            throw new IllegalArgumentException(String.format("The field '%s' is required for %s operations.", field, operation.getType()));
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,316 @@
+package br.com.teamtacles.sync.service;
+
+import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.mapper.ProjectMapper;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectMember;
+import br.com.teamtacles.project.repository.ProjectMemberRepository;
+import br.com.teamtacles.project.repository.ProjectRepository;
+import br.com.teamtacles.sync.dto.response.SyncDeletionDTO;
+import br.com.teamtacles.sync.dto.response.SyncProjectMemberDTO;
+import br.com.teamtacles.sync.dto.response.SyncResponseDTO;
+import br.com.teamtacles.sync.dto.response.SyncTeamMemberDTO;
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import br.com.teamtacles.sync.model.ChangeLogEntry;
+import br.com.teamtacles.sync.repository.ChangeLogJdbcRepository;
+import br.com.teamtacles.sync.repository.ChangeLogRepository;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.team.dto.response.TeamResponseDTO;
+import br.com.teamtacles.team.mapper.TeamMapper;
+import br.com.teamtacles.team.model.Team;
+import br.com.teamtacles.team.model.TeamMember;
+import br.com.teamtacles.team.repository.TeamMemberRepository;
+import br.com.teamtacles.team.repository.TeamRepository;
+import br.com.teamtacles.user.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Sincronização incremental: devolve o que mudou para o usuário desde o token, relendo o estado atual das entidades.
+// O cursor é (changed_at, id) e changed_at é o início da transação que gravou a entrada; só entram entradas mais velhas
+// que a carência de commit, para que uma transação ainda aberta não grave "atrás" de um cursor já entregue.
+@Service
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogJdbcRepository changeLogJdbcRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectMapper projectMapper;
+    private final TeamMapper teamMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final Duration commitGrace;
+    private final Duration retention;
+    private final int pruneBatchSize;
+    private final Supplier<OffsetDateTime> clock;
+
+    @Autowired
+    public SyncService(ChangeLogRepository changeLogRepository, ChangeLogJdbcRepository changeLogJdbcRepository,
+                       TaskRepository taskRepository, ProjectRepository projectRepository,
+                       ProjectMemberRepository projectMemberRepository, TeamRepository teamRepository,
+                       TeamMemberRepository teamMemberRepository, TaskMapper taskMapper, ProjectMapper projectMapper,
+                       TeamMapper teamMapper,
+                       @Value("${app.sync.default-page-size:200}") int defaultPageSize,
+                       @Value("${app.sync.max-page-size:1000}") int maxPageSize,
+                       @Value("${app.sync.commit-grace:PT30S}") Duration commitGrace,
+                       @Value("${app.sync.retention:P30D}") Duration retention,
+                       @Value("${app.sync.prune-batch-size:10000}") int pruneBatchSize) {
+        this(changeLogRepository, changeLogJdbcRepository, taskRepository, projectRepository, projectMemberRepository,
+                teamRepository, teamMemberRepository, taskMapper, projectMapper, teamMapper, defaultPageSize, maxPageSize,
+                commitGrace, retention, pruneBatchSize, OffsetDateTime::now);
+    }
+
+    SyncService(ChangeLogRepository changeLogRepository, ChangeLogJdbcRepository changeLogJdbcRepository,
+                TaskRepository taskRepository, ProjectRepository projectRepository,
+                ProjectMemberRepository projectMemberRepository, TeamRepository teamRepository,
+                TeamMemberRepository teamMemberRepository, TaskMapper taskMapper, ProjectMapper projectMapper,
+                TeamMapper teamMapper, int defaultPageSize, int maxPageSize, Duration commitGrace, Duration retention,
+                int pruneBatchSize, Supplier<OffsetDateTime> clock) {
+        this.changeLogRepository = changeLogRepository;
+        this.changeLogJdbcRepository = changeLogJdbcRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.teamRepository = teamRepository;
+        this.teamMemberRepository = teamMemberRepository;
+        this.taskMapper = taskMapper;
+        this.projectMapper = projectMapper;
+        this.teamMapper = teamMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.commitGrace = commitGrace;
+        this.retention = retention;
+        this.pruneBatchSize = pruneBatchSize;
+        this.clock = clock;
+    }
+
+    // Lê do primário (transação não readOnly): uma réplica atrasada além da carência faria o cursor pular entradas
+    @Transactional
+    public SyncResponseDTO getChanges(String token, Integer limit, User actingUser) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        OffsetDateTime now = clock.get();
+        OffsetDateTime horizon = now.minus(commitGrace).truncatedTo(ChronoUnit.MICROS);
+
+        SyncToken cursor = token == null || token.isBlank() ? null : SyncToken.decode(token);
+        if (cursor == null || cursor.changedAt().isBefore(now.minus(retention))) {
+            // O cliente recarrega tudo e continua do horizonte; o que mudar durante a recarga volta na próxima chamada
+            return SyncResponseDTO.empty(new SyncToken(horizon, 0).encode(), true);
+        }
+        if (!cursor.changedAt().isBefore(horizon)) {
+            return SyncResponseDTO.empty(token, false);
+        }
+
+        List<ChangeLogEntry> entries = changeLogRepository.findVisibleChanges(actingUser.getId(), cursor.changedAt(),
+                cursor.id(), horizon, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        // Sem mais entradas, o cursor avança até o horizonte: o token não envelhece enquanto nada muda
+        ChangeLogEntry last = hasMore ? entries.get(entries.size() - 1) : null;
+        SyncToken next = last != null ? new SyncToken(last.getChangedAt(), last.getId()) : new SyncToken(horizon, 0);
+
+        SyncResponseDTO response = assemble(latestByEntity(entries), actingUser.getId());
+        response.setHasMore(hasMore);
+        response.setNextToken(next.encode());
+        return response;
+    }
+
+    // Entradas fora da retenção já não servem a nenhum token válido: quem estiver tão atrás recebe fullResyncRequired
+    @Scheduled(cron = "${app.sync.prune-cron:0 30 3 * * *}")
+    public void pruneExpiredEntries() {
+        OffsetDateTime cutoff = clock.get().minus(retention);
+        int deleted = 0;
+        int batch;
+        do {
+            batch = changeLogJdbcRepository.deleteOlderThan(cutoff, pruneBatchSize);
+            deleted += batch;
+        } while (batch == pruneBatchSize);
+
+        if (deleted > 0) {
+            log.info("Pruned {} change log entries older than {}", deleted, cutoff);
+        }
+    }
+
+    // Várias alterações da mesma entidade na página viram uma só; a última decide se é exclusão
+    private static Collection<ChangeLogEntry> latestByEntity(List<ChangeLogEntry> entries) {
+        Map<String, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            String key = switch (entry.getEntityType()) {
+                case PROJECT_MEMBER -> entry.getEntityType() + ":" + entry.getProjectId() + ":" + entry.getEntityId();
+                case TEAM_MEMBER -> entry.getEntityType() + ":" + entry.getTeamId() + ":" + entry.getEntityId();
+                default -> entry.getEntityType() + ":" + entry.getEntityId();
+            };
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+        return latest.values();
+    }
+
+    private SyncResponseDTO assemble(Collection<ChangeLogEntry> entries, Long userId) {
+        Map<Long, ChangeLogEntry> taskChanges = new LinkedHashMap<>();
+        Set<Long> projectIds = new LinkedHashSet<>();
+        Set<Long> resyncProjectIds = new LinkedHashSet<>();
+        Set<Long> teamIds = new LinkedHashSet<>();
+        Set<Long> resyncTeamIds = new LinkedHashSet<>();
+        List<ChangeLogEntry> projectMemberChanges = new ArrayList<>();
+        List<ChangeLogEntry> teamMemberChanges = new ArrayList<>();
+        List<SyncDeletionDTO> deletions = new ArrayList<>();
+
+        for (ChangeLogEntry entry : entries) {
+            switch (entry.getEntityType()) {
+                case TASK -> {
+                    if (entry.isDeleted()) {
+                        deletions.add(new SyncDeletionDTO(EChangeType.TASK, entry.getEntityId(), entry.getProjectId(), null));
+                    } else {
+                        taskChanges.put(entry.getEntityId(), entry);
+                    }
+                }
+                // Projeto e time são sempre relidos: o tombstone pode ter sido superado por uma nova entrada do usuário
+                case PROJECT -> projectIds.add(entry.getEntityId());
+                case PROJECT_RESYNC -> {
+                    projectIds.add(entry.getEntityId());
+                    resyncProjectIds.add(entry.getEntityId());
+                }
+                case TEAM -> teamIds.add(entry.getEntityId());
+                case TEAM_RESYNC -> {
+                    teamIds.add(entry.getEntityId());
+                    resyncTeamIds.add(entry.getEntityId());
+                }
+                case PROJECT_MEMBER -> {
+                    if (entry.isDeleted()) {
+                        deletions.add(new SyncDeletionDTO(EChangeType.PROJECT_MEMBER, entry.getEntityId(), entry.getProjectId(), null));
+                    } else {
+                        projectMemberChanges.add(entry);
+                    }
+                }
+                case TEAM_MEMBER -> {
+                    if (entry.isDeleted()) {
+                        deletions.add(new SyncDeletionDTO(EChangeType.TEAM_MEMBER, entry.getEntityId(), null, entry.getTeamId()));
+                    } else {
+                        teamMemberChanges.add(entry);
+                    }
+                }
+            }
+        }
+
+        SyncResponseDTO response = SyncResponseDTO.empty(null, false);
+        response.setTasks(loadTasks(taskChanges, userId, deletions));
+        response.setProjects(loadProjects(projectIds, userId, deletions));
+        response.setTeams(loadTeams(teamIds, userId, deletions));
+        response.setProjectMembers(loadProjectMembers(projectMemberChanges, deletions));
+        response.setTeamMembers(loadTeamMembers(teamMemberChanges, deletions));
+
+        Set<Long> visibleProjectIds = response.getProjects().stream().map(ProjectResponseDTO::getId).collect(Collectors.toSet());
+        Set<Long> visibleTeamIds = response.getTeams().stream().map(TeamResponseDTO::getId).collect(Collectors.toSet());
+        response.setResyncProjectIds(resyncProjectIds.stream().filter(visibleProjectIds::contains).toList());
+        response.setResyncTeamIds(resyncTeamIds.stream().filter(visibleTeamIds::contains).toList());
+        response.setDeletions(deletions);
+        return response;
+    }
+
+    private List<TaskResponseDTO> loadTasks(Map<Long, ChangeLogEntry> changes, Long userId, List<SyncDeletionDTO> deletions) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> found = indexById(taskRepository.findAllVisibleTo(changes.keySet(), userId), Task::getId);
+        changes.forEach((taskId, entry) -> {
+            if (!found.containsKey(taskId)) {
+                deletions.add(new SyncDeletionDTO(EChangeType.TASK, taskId, entry.getProjectId(), null));
+            }
+        });
+        return changes.keySet().stream().filter(found::containsKey).map(found::get).map(taskMapper::toTaskResponseDTO).toList();
+    }
+
+    private List<ProjectResponseDTO> loadProjects(Set<Long> projectIds, Long userId, List<SyncDeletionDTO> deletions) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Project> found = indexById(projectRepository.findAllVisibleTo(projectIds, userId), Project::getId);
+        projectIds.stream()
+                .filter(projectId -> !found.containsKey(projectId))
+                .forEach(projectId -> deletions.add(new SyncDeletionDTO(EChangeType.PROJECT, projectId, projectId, null)));
+        return projectIds.stream().filter(found::containsKey).map(found::get).map(projectMapper::toProjectResponseDTO).toList();
+    }
+
+    private List<TeamResponseDTO> loadTeams(Set<Long> teamIds, Long userId, List<SyncDeletionDTO> deletions) {
+        if (teamIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Team> found = indexById(teamRepository.findAllVisibleTo(teamIds, userId), Team::getId);
+        teamIds.stream()
+                .filter(teamId -> !found.containsKey(teamId))
+                .forEach(teamId -> deletions.add(new SyncDeletionDTO(EChangeType.TEAM, teamId, null, teamId)));
+        return teamIds.stream().filter(found::containsKey).map(found::get).map(teamMapper::toTeamResponseDTO).toList();
+    }
+
+    private List<SyncProjectMemberDTO> loadProjectMembers(List<ChangeLogEntry> changes, List<SyncDeletionDTO> deletions) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> projectIds = changes.stream().map(ChangeLogEntry::getProjectId).collect(Collectors.toSet());
+        Set<Long> userIds = changes.stream().map(ChangeLogEntry::getEntityId).collect(Collectors.toSet());
+        Map<String, ProjectMember> found = indexById(projectMemberRepository.findAcceptedByProjectIdsAndUserIds(projectIds, userIds),
+                member -> member.getProject().getId() + ":" + member.getUser().getId());
+
+        List<SyncProjectMemberDTO> members = new ArrayList<>();
+        for (ChangeLogEntry change : changes) {
+            ProjectMember member = found.get(change.getProjectId() + ":" + change.getEntityId());
+            if (member == null) {
+                deletions.add(new SyncDeletionDTO(EChangeType.PROJECT_MEMBER, change.getEntityId(), change.getProjectId(), null));
+            } else {
+                members.add(new SyncProjectMemberDTO(change.getProjectId(), projectMapper.toProjectMemberResponseDTO(member)));
+            }
+        }
+        return members;
+    }
+
+    private List<SyncTeamMemberDTO> loadTeamMembers(List<ChangeLogEntry> changes, List<SyncDeletionDTO> deletions) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> teamIds = changes.stream().map(ChangeLogEntry::getTeamId).collect(Collectors.toSet());
+        Set<Long> userIds = changes.stream().map(ChangeLogEntry::getEntityId).collect(Collectors.toSet());
+        Map<String, TeamMember> found = indexById(teamMemberRepository.findAcceptedByTeamIdsAndUserIds(teamIds, userIds),
+                member -> member.getTeam().getId() + ":" + member.getUser().getId());
+
+        List<SyncTeamMemberDTO> members = new ArrayList<>();
+        for (ChangeLogEntry change : changes) {
+            TeamMember member = found.get(change.getTeamId() + ":" + change.getEntityId());
+            if (member == null) {
+                deletions.add(new SyncDeletionDTO(EChangeType.TEAM_MEMBER, change.getEntityId(), null, change.getTeamId()));
+            } else {
+                members.add(new SyncTeamMemberDTO(change.getTeamId(), teamMapper.toTeamMemberResponseDTO(member)));
+            }
+        }
+        return members;
+    }
+
+    private static <K, T> Map<K, T> indexById(List<T> items, Function<T, K> keyOf) {
+        return items.stream().collect(Collectors.toMap(keyOf, Function.identity(), (first, second) -> first));
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.teamtacles.sync.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+// Cursor (changed_at, id) da última entrada entregue, serializado em microssegundos: a mesma precisão da coluna,
+// para a comparação de igualdade no banco funcionar depois da ida e volta
+record SyncToken(OffsetDateTime changedAt, long id) {
+
+    String encode() {
+        Instant instant = changedAt.toInstant();
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        String raw = micros + "." + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf('.');
+            long micros = Long.parseLong(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+            return new SyncToken(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid sync token.");
+        }
+    }
+}
@@ -2,15 +2,23 @@ package br.com.teamtacles.task.controller;
 
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
 import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.common.util.EntityTags;
 import br.com.teamtacles.security.UserAuthenticated;
 import br.com.teamtacles.task.dto.request.*;
+import br.com.teamtacles.task.dto.response.TaskBoardColumnDTO;
+import br.com.teamtacles.task.dto.response.TaskBoardResponseDTO;
+import br.com.teamtacles.task.dto.response.TaskBulkResponseDTO;
 import br.com.teamtacles.task.dto.response.TaskResponseDTO;
 import br.com.teamtacles.task.dto.response.TaskUpdateStatusResponseDTO;
 import br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.service.TaskBoardService;
+import br.com.teamtacles.task.service.TaskBulkService;
 import br.com.teamtacles.task.service.TaskService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -33,9 +41,13 @@ import java.util.Set;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskBoardService taskBoardService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskBulkService taskBulkService, TaskBoardService taskBoardService) {
         this.taskService = taskService;
+        this.taskBulkService = taskBulkService;
+        this.taskBoardService = taskBoardService;
     }
 
     @Operation(summary = "Create a new task", description = "Creates a new task within a project and sets the authenticated user as the owner.")
@@ -82,6 +94,7 @@ public class TaskController {
     @Operation(summary = "List tasks for a project", description = "Retrieves a paginated and filtered list of tasks for a specific project.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Project not found",
@@ -92,9 +105,64 @@ public class TaskController {
             @PathVariable Long projectId,
             Pageable pageable,
             @ModelAttribute TaskFilterReportDTO filter,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        String etag = taskService.findTasksForProjectETag(projectId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         PagedResponse<TaskResponseDTO> tasks = taskService.getTasksForProject(pageable, projectId, filter, authenticatedUser.getUser());
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
+    }
+
+    @Operation(summary = "Get the task board of a project", description = "Returns one column per effective status (tasks past their due date "
+            + "that are not done are shown as OVERDUE) with its first tasks, its total and a cursor for loading more.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Board retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBoardResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/board")
+    public ResponseEntity<TaskBoardResponseDTO> getTaskBoard(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        // O quadro muda exatamente quando a lista de tarefas do projeto muda, então usa o mesmo ETag
+        String etag = taskService.findTasksForProjectETag(projectId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        TaskBoardResponseDTO board = taskBoardService.getBoard(projectId, limit, authenticatedUser.getUser());
+        return ResponseEntity.ok().eTag(etag).body(board);
+    }
+
+    @Operation(summary = "Load more tasks of a board column", description = "Returns the next tasks of a single board column after the cursor "
+            + "returned by the board or by the previous call.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Column page retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBoardColumnDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid status or malformed cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/board/{status}")
+    public ResponseEntity<TaskBoardColumnDTO> getTaskBoardColumn(
+            @PathVariable Long projectId,
+            @PathVariable ETaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        return ResponseEntity.ok(taskBoardService.getBoardColumn(projectId, status, cursor, limit, authenticatedUser.getUser()));
     }
 
     @Operation(summary = "List members of a task", description = "Retrieves the list of all users assigned to a specific task.")
@@ -118,6 +186,7 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task data retrieved successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Task or project not found",
@@ -127,9 +196,15 @@ public class TaskController {
     public ResponseEntity<TaskResponseDTO> getTaskById(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        String etag = taskService.findTaskETag(projectId, taskId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         TaskResponseDTO taskResponse = taskService.getTaskById(projectId, taskId, authenticatedUser.getUser());
-        return ResponseEntity.ok(taskResponse);
+        return ResponseEntity.ok().eTag(etag).body(taskResponse);
     }
 
     @Operation(summary = "Update a task's status", description = "Updates the status of a task (e.g., from TO_DO to IN_PROGRESS).")
@@ -153,6 +228,30 @@ public class TaskController {
         return ResponseEntity.ok(taskUpdate);
     }
 
+    @Operation(summary = "Move a task within its column", description = "Places the task right after another task of the same board column, or at the top when no reference task is given. Only the moved task is updated. "
+            + "Columns are the effective statuses shown on the board; tasks in the OVERDUE column cannot be reordered.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task moved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Reference task is not in the same column",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied to move the task",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Task or project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Task is in the OVERDUE column, which cannot be reordered",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/{taskId}/position")
+    public ResponseEntity<TaskResponseDTO> moveTask(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestBody @Valid TaskMoveRequestDTO moveDTO,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        TaskResponseDTO movedTask = taskService.moveTask(projectId, taskId, moveDTO, authenticatedUser.getUser());
+        return ResponseEntity.ok(movedTask);
+    }
+
     @Operation(summary = "Update task details", description = "Updates the title, description, or due date of a task.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task details updated successfully",
@@ -226,4 +325,84 @@ public class TaskController {
         taskService.leaveTask(taskId, authenticatedUser.getUser());
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Create tasks in bulk", description = "Creates up to 100 tasks in a single transaction, with the authenticated user as the owner of each one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tasks created successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or more than 100 items",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<TaskBulkResponseDTO> createTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkCreateRequestDTO bulkRequest,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        TaskBulkResponseDTO response = taskBulkService.createTasks(projectId, bulkRequest, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "Update the status of tasks in bulk", description = "Changes the status of up to 100 tasks in a single transaction. Each item is validated on its own and rejected items are reported without affecting the others.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request processed, see the result of each item",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or more than 100 items",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<TaskBulkResponseDTO> updateTaskStatuses(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkStatusRequestDTO bulkRequest,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        TaskBulkResponseDTO response = taskBulkService.updateTaskStatuses(projectId, bulkRequest, authenticatedUser.getUser());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Reassign tasks in bulk", description = "Replaces the assignees of up to 100 tasks in a single transaction. The task owner is kept and rejected items are reported per item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request processed, see the result of each item",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or more than 100 items",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/bulk/assignments")
+    public ResponseEntity<TaskBulkResponseDTO> reassignTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkReassignRequestDTO bulkRequest,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        TaskBulkResponseDTO response = taskBulkService.reassignTasks(projectId, bulkRequest, authenticatedUser.getUser());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Delete tasks in bulk", description = "Deletes up to 100 tasks in a single transaction. Tasks the user cannot edit are reported per item.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Request processed, see the result of each item",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBulkResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or more than 100 items",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Access denied, user is not a member of the project",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/bulk")
+    public ResponseEntity<TaskBulkResponseDTO> deleteTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkDeleteRequestDTO bulkRequest,
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        TaskBulkResponseDTO response = taskBulkService.deleteTasks(projectId, bulkRequest, authenticatedUser.getUser());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.teamtacles.task.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkCreateRequest", description = "DTO for creating several tasks in a single request.")
+public class TaskBulkCreateRequestDTO {
+
+    @Schema(description = "The tasks to be created. The authenticated user becomes the owner of each one.", required = true)
+    @NotEmpty(message = "The list of tasks cannot be empty")
+    @Size(max = 100, message = "A bulk request cannot contain more than 100 tasks.")
+    private List<@Valid TaskRequestRegisterDTO> tasks;
+}
@@ -0,0 +1,23 @@
+package br.com.teamtacles.task.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkDeleteRequest", description = "DTO for deleting several tasks in a single request.")
+public class TaskBulkDeleteRequestDTO {
+
+    @Schema(description = "The IDs of the tasks to be deleted.", required = true)
+    @NotEmpty(message = "The list of task IDs cannot be empty")
+    @Size(max = 100, message = "A bulk request cannot contain more than 100 tasks.")
+    private List<@NotNull Long> taskIds;
+}
@@ -0,0 +1,24 @@
+package br.com.teamtacles.task.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkReassignItem", description = "A single reassignment inside a bulk reassign request.")
+public class TaskBulkReassignItemDTO {
+
+    @Schema(description = "The ID of the task to reassign.", example = "12", required = true)
+    @NotNull(message = "The task ID cannot be null.")
+    private Long taskId;
+
+    @Schema(description = "The user IDs that will be the assignees of the task. Current assignees not listed are removed; the owner is kept.", required = true)
+    @NotNull(message = "The list of assignee IDs cannot be null.")
+    private Set<@NotNull Long> assigneeIds;
+}
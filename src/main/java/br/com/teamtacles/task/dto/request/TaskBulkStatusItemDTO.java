@@ -0,0 +1,28 @@
+package br.com.teamtacles.task.dto.request;
+
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkStatusItem", description = "A single status change inside a bulk status request.")
+public class TaskBulkStatusItemDTO {
+
+    @Schema(description = "The ID of the task to update.", example = "12", required = true)
+    @NotNull(message = "The task ID cannot be null.")
+    private Long taskId;
+
+    @Schema(description = "The new status for the task.", example = "DONE", required = true)
+    @NotNull(message = "The new status cannot be null.")
+    private ETaskStatus newStatus;
+
+    @Schema(description = "A comment to add upon task completion. Only used when moving to DONE status.", example = "Feature fully implemented and tested.")
+    @Size(max = 300, message = "Completion comment cannot exceed 300 characters.")
+    private String completionComment;
+}
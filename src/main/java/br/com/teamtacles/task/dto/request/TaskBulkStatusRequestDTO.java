@@ -0,0 +1,23 @@
+package br.com.teamtacles.task.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkStatusRequest", description = "DTO for changing the status of several tasks in a single request.")
+public class TaskBulkStatusRequestDTO {
+
+    @Schema(description = "The status changes to apply.", required = true)
+    @NotEmpty(message = "The list of status changes cannot be empty")
+    @Size(max = 100, message = "A bulk request cannot contain more than 100 tasks.")
+    private List<@Valid TaskBulkStatusItemDTO> items;
+}
@@ -0,0 +1,16 @@
+package br.com.teamtacles.task.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskMoveRequest", description = "DTO for moving a task within its board column.")
+public class TaskMoveRequestDTO {
+
+    @Schema(description = "The ID of the task that should come right before the moved task, in the same column. Null moves the task to the top of the column.", example = "42")
+    private Long afterTaskId;
+}
@@ -0,0 +1,28 @@
+package br.com.teamtacles.task.dto.response;
+
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBoardColumn", description = "A column of the task board: the tasks whose effective status matches it.")
+public class TaskBoardColumnDTO {
+
+    @Schema(description = "Effective status of the column. Tasks past their due date that are not done are shown as OVERDUE.", example = "IN_PROGRESS")
+    private ETaskStatus status;
+
+    @Schema(description = "Total number of tasks in the column. Only included in the full board.", example = "42")
+    private Long total;
+
+    @Schema(description = "The tasks of this page of the column.")
+    private List<TaskResponseDTO> tasks;
+
+    @Schema(description = "Cursor for loading the next tasks of the column. Null when there are no more.", example = "MTI4")
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package br.com.teamtacles.task.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBoardResponse", description = "The task board of a project, with the first tasks of every status column.")
+public class TaskBoardResponseDTO {
+
+    @Schema(description = "One entry per status, including empty columns.")
+    private List<TaskBoardColumnDTO> columns;
+}
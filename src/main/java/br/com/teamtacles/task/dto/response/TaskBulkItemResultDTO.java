@@ -0,0 +1,33 @@
+package br.com.teamtacles.task.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkItemResult", description = "Outcome of a single item of a bulk task request.")
+public class TaskBulkItemResultDTO {
+
+    @Schema(description = "Position of the item in the request.", example = "0")
+    private int index;
+
+    @Schema(description = "The ID of the task the item refers to.", example = "12")
+    private Long taskId;
+
+    @Schema(description = "Whether the item was applied.", example = "true")
+    private boolean success;
+
+    @Schema(description = "Why the item was rejected. Null when it was applied.", example = "Not allowed to change status of a completed task.")
+    private String error;
+
+    public static TaskBulkItemResultDTO success(int index, Long taskId) {
+        return new TaskBulkItemResultDTO(index, taskId, true, null);
+    }
+
+    public static TaskBulkItemResultDTO failure(int index, Long taskId, String error) {
+        return new TaskBulkItemResultDTO(index, taskId, false, error);
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.teamtacles.task.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TaskBulkResponse", description = "Summary of a bulk task request with the outcome of each item.")
+public class TaskBulkResponseDTO {
+
+    @Schema(description = "Number of items in the request.", example = "20")
+    private int requested;
+
+    @Schema(description = "Number of items applied.", example = "18")
+    private int succeeded;
+
+    @Schema(description = "Number of items rejected.", example = "2")
+    private int failed;
+
+    @Schema(description = "Outcome of each item, in request order.")
+    private List<TaskBulkItemResultDTO> results;
+
+    public static TaskBulkResponseDTO of(List<TaskBulkItemResultDTO> results) {
+        int succeeded = (int) results.stream().filter(TaskBulkItemResultDTO::isSuccess).count();
+        return new TaskBulkResponseDTO(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -48,6 +48,9 @@ public class TaskResponseDTO {
     @Schema(description = "The ID of the user who owns the task.", example = "101")
     private Long ownerId;
 
+    @Schema(description = "The position of the task within its board column. Tasks of a column sort by this key in binary (ASCII) order.", example = "a0")
+    private String orderKey;
+
     @Schema(description = "The set of users assigned to the task and their roles.")
     private Set<UserAssignmentResponseDTO> assignments;
 }
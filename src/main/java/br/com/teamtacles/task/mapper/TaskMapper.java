@@ -0,0 +1,46 @@
+package br.com.teamtacles.task.mapper;
+
+import br.com.teamtacles.common.mapper.CentralMapperConfig;
+import br.com.teamtacles.project.mapper.ProjectMapper;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.dto.response.TaskUpdateStatusResponseDTO;
+import br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO;
+import br.com.teamtacles.task.dto.response.UserTaskResponseDTO;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAssignment;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.Set;
+
+// status recebe o status efetivo (pode ser OVERDUE); originalStatus mantém o valor persistido
+@Mapper(config = CentralMapperConfig.class, uses = ProjectMapper.class, injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface TaskMapper {
+
+    @Mapping(target = "status", source = "effectiveStatus")
+    @Mapping(target = "originalStatus", source = "status")
+    @Mapping(target = "projectId", source = "project.id")
+    @Mapping(target = "ownerId", source = "owner.id")
+    TaskResponseDTO toTaskResponseDTO(Task task);
+
+    // Variante em que as atribuições vêm prontas de fora, para não inicializar task.assignments
+    @Mapping(target = "status", source = "task.effectiveStatus")
+    @Mapping(target = "originalStatus", source = "task.status")
+    @Mapping(target = "projectId", source = "task.project.id")
+    @Mapping(target = "ownerId", source = "task.owner.id")
+    @Mapping(target = "assignments", source = "assignments")
+    TaskResponseDTO toTaskResponseDTO(Task task, Set<UserAssignmentResponseDTO> assignments);
+
+    @Mapping(target = "status", source = "effectiveStatus")
+    @Mapping(target = "originalStatus", source = "status")
+    TaskUpdateStatusResponseDTO toTaskUpdateStatusResponseDTO(Task task);
+
+    @Mapping(target = "status", source = "effectiveStatus")
+    @Mapping(target = "originalStatus", source = "status")
+    UserTaskResponseDTO toUserTaskResponseDTO(Task task);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "username", source = "user.username")
+    UserAssignmentResponseDTO toUserAssignmentResponseDTO(TaskAssignment assignment);
+}
@@ -18,13 +18,26 @@ import java.util.Set;
 @ToString(exclude = {"project", "owner", "assignments"})
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(
+        name = Task.WITH_ASSIGNMENTS_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "assignments", subgraph = "assignment-user"),
+        subgraphs = @NamedSubgraph(name = "assignment-user", attributeNodes = @NamedAttributeNode("user"))
+)
 public class Task {
 
+    public static final String WITH_ASSIGNMENTS_GRAPH = "Task.withAssignments";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     @Setter(AccessLevel.NONE)
     private Long id;
 
+    // Incrementada a cada alteração da linha (inclusive das atribuições); é a base do ETag do recurso
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Setter
     @Column(nullable = false, length = 100)
     private String title;
@@ -37,6 +50,10 @@ public class Task {
     @Column(nullable = false, length = 30)
     private ETaskStatus status;
 
+    // Posição da tarefa na coluna do quadro (ver FractionalIndex); comparada em ordem binária, nunca pela collation do banco
+    @Column(name = "order_key", nullable = false)
+    private String orderKey;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
@@ -82,14 +99,26 @@ public class Task {
         }
     }
 
+    public void placeAt(String orderKey) {
+        this.orderKey = orderKey;
+    }
+
+    // A coleção é o lado inverso da associação; marcar a tarefa como alterada garante o incremento da versão
     public void addAssigment(TaskAssignment assignment) {
         this.assignments.add(assignment);
         assignment.setTask(this);
+        markAssignmentsChanged();
     }
 
     public void removeAssigment(TaskAssignment assignment) {
         this.assignments.remove(assignment);
         assignment.setTask(null);
+        markAssignmentsChanged();
+    }
+
+    // Para atribuições gravadas direto pelo repositório, sem passar pela coleção
+    public void markAssignmentsChanged() {
+        this.updatedAt = OffsetDateTime.now();
     }
 
     public void updateStatus(ETaskStatus status) {
@@ -0,0 +1,39 @@
+package br.com.teamtacles.task.model;
+
+import br.com.teamtacles.project.enumeration.EProjectRole;
+import br.com.teamtacles.task.enumeration.ETaskRole;
+import br.com.teamtacles.user.model.User;
+import lombok.Getter;
+
+// Tarefa e papéis do usuário (no projeto e na tarefa) lidos numa única consulta; papéis nulos = sem vínculo
+@Getter
+public class TaskAccessContext {
+    private final Task task;
+    private final EProjectRole projectRole;
+    private final boolean acceptedInvite;
+    private final ETaskRole taskRole;
+
+    public TaskAccessContext(Task task, EProjectRole projectRole, Boolean acceptedInvite, ETaskRole taskRole) {
+        this.task = task;
+        this.projectRole = projectRole;
+        this.acceptedInvite = Boolean.TRUE.equals(acceptedInvite);
+        this.taskRole = taskRole;
+    }
+
+    public boolean isProjectMember() {
+        return projectRole != null && acceptedInvite;
+    }
+
+    public boolean isProjectAdmin() {
+        return isProjectMember() && projectRole.isPrivileged();
+    }
+
+    // Compara pelo id para não inicializar o proxy do dono
+    public boolean isTaskOwner(User user) {
+        return task.getOwner().getId().equals(user.getId());
+    }
+
+    public boolean isAssignee() {
+        return taskRole == ETaskRole.ASSIGNEE;
+    }
+}
@@ -16,9 +16,15 @@ import java.time.OffsetDateTime;
 public class TaskAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_assignments_seq")
+    @SequenceGenerator(name = "task_assignments_seq", sequenceName = "task_assignments_seq", allocationSize = 50)
     private Long id;
 
+    // Controle otimista: alterações concorrentes no mesmo atribuição falham em vez de se sobrescreverem
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "task_id", nullable = false)
     @Setter(AccessLevel.PACKAGE)
@@ -0,0 +1,7 @@
+package br.com.teamtacles.task.model;
+
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+
+// Tarefas de um projeto com o mesmo status persistido: o escopo em que order_key define a ordem
+public record TaskColumn(Long projectId, ETaskStatus status) {
+}
@@ -1,8 +1,14 @@
 package br.com.teamtacles.task.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO;
 import br.com.teamtacles.task.model.Task;
 import br.com.teamtacles.task.model.TaskAssignment;
 import br.com.teamtacles.user.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,7 +26,30 @@ public interface TaskAssignmentRepository extends JpaRepository<TaskAssignment,
     @Query("SELECT ta FROM TaskAssignment ta WHERE ta.task.id = :taskId AND ta.user.id IN :userIds")
     Set<TaskAssignment> findAllByTaskIdAndUserIds(@Param("taskId") Long taskId, @Param("userIds") Set<Long> userIds);
 
+    @EntityGraph(attributePaths = "user")
     List<TaskAssignment> findAllByTaskId(Long taskId);
-}
-
 
+    // Projeção para respostas de escrita: não hidrata as atribuições nem inicializa task.assignments
+    @Query("SELECT new br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO(u.id, u.username, ta.taskRole) " +
+            "FROM TaskAssignment ta JOIN ta.user u WHERE ta.task.id = :taskId")
+    Set<UserAssignmentResponseDTO> findAssignmentResponsesByTaskId(@Param("taskId") Long taskId);
+
+    long countByUser(User user);
+
+    // Chamado antes de deleteAllOfUser com os mesmos filtros, para que o ETag das tarefas afetadas mude
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks SET version = version + 1 WHERE id IN ( " +
+            "SELECT ta.task_id FROM task_assignments ta JOIN tasks t ON t.id = ta.task_id WHERE ta.user_id = :userId " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId) " +
+            "ORDER BY ta.id LIMIT :limit)", nativeQuery = true)
+    int bumpVersionsOfAssignedTasks(@Param("userId") Long userId, @Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_assignments"))
+    @Query(value = "DELETE FROM task_assignments WHERE id IN ( " +
+            "SELECT ta.id FROM task_assignments ta JOIN tasks t ON t.id = ta.task_id WHERE ta.user_id = :userId " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId) " +
+            "ORDER BY ta.id LIMIT :limit)", nativeQuery = true)
+    int deleteAllOfUser(@Param("userId") Long userId, @Param("projectId") Long projectId, @Param("limit") int limit);
+}
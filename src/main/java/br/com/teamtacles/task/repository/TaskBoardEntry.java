@@ -0,0 +1,6 @@
+package br.com.teamtacles.task.repository;
+
+public interface TaskBoardEntry extends TaskPosition {
+    String getStatus();
+    long getTotal();
+}
@@ -0,0 +1,51 @@
+package br.com.teamtacles.task.repository;
+
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.TaskColumn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+// Reescrita das chaves de uma coluna inteira pelo rebalanceamento, fora do contexto de persistência
+@Repository
+public class TaskOrderJdbcRepository {
+
+    // Trava as linhas da coluna: um movimento concorrente que já leu as chaves antigas esbarra na versão e é repetido
+    private static final String LOCK_COLUMN_SQL = """
+            SELECT id FROM tasks WHERE project_id = ? AND status = ? ORDER BY order_key, id FOR UPDATE
+            """;
+
+    private static final String UPDATE_ORDER_KEY_SQL = """
+            UPDATE tasks SET order_key = ?, version = version + 1 WHERE id = ?
+            """;
+
+    private static final String FIND_COLUMNS_WITH_LONG_KEYS_SQL = """
+            SELECT DISTINCT project_id, status FROM tasks WHERE LENGTH(order_key) > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskOrderJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> lockColumn(TaskColumn column) {
+        return jdbcTemplate.queryForList(LOCK_COLUMN_SQL, Long.class, column.projectId(), column.status().name());
+    }
+
+    public void updateOrderKeys(Map<Long, String> orderKeysByTaskId) {
+        List<Map.Entry<Long, String>> entries = List.copyOf(orderKeysByTaskId.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_ORDER_KEY_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setString(1, entry.getValue());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    public List<TaskColumn> findColumnsWithKeysLongerThan(int length) {
+        return jdbcTemplate.query(FIND_COLUMNS_WITH_LONG_KEYS_SQL,
+                (resultSet, row) -> new TaskColumn(resultSet.getLong("project_id"), ETaskStatus.valueOf(resultSet.getString("status"))),
+                length);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.teamtacles.task.repository;
+
+public interface TaskPosition {
+    Long getId();
+    String getOrderKey();
+}
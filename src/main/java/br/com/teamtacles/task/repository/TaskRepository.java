@@ -1,24 +1,53 @@
 package br.com.teamtacles.task.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import br.com.teamtacles.project.model.Project;
 import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
 import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import br.com.teamtacles.task.enumeration.ETaskStatus;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    // Coluna do quadro: o status exibido, em que DONE prevalece e as demais passam a OVERDUE quando vencem
+    String EFFECTIVE_STATUS_SQL = "CASE WHEN t.status = 'DONE' THEN 'DONE' " +
+            "WHEN t.due_date IS NOT NULL AND t.due_date < CURRENT_TIMESTAMP THEN 'OVERDUE' ELSE t.status END";
+
     Page<Task> findByProject(Pageable pageable, Project project);
     long countByProject(Project project);
     List<Task> findAllByOwner(User owner);
 
+    // Tarefa + associação do usuário ao projeto + papel dele na tarefa, numa única ida ao banco
+    @Query("SELECT new br.com.teamtacles.task.model.TaskAccessContext(t, pm.projectRole, pm.acceptedInvite, ta.taskRole) " +
+            "FROM Task t " +
+            "LEFT JOIN ProjectMember pm ON pm.project.id = t.project.id AND pm.user.id = :userId " +
+            "LEFT JOIN TaskAssignment ta ON ta.task.id = t.id AND ta.user.id = :userId " +
+            "WHERE t.id = :taskId")
+    Optional<TaskAccessContext> findAccessContext(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    // Usado pela sincronização: as que faltarem no resultado foram apagadas ou deixaram de ser visíveis
+    @Query("SELECT t FROM Task t WHERE t.id IN :taskIds " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project = t.project AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    List<Task> findAllVisibleTo(@Param("taskIds") Collection<Long> taskIds, @Param("userId") Long userId);
+
+    @EntityGraph(Task.WITH_ASSIGNMENTS_GRAPH)
+    List<Task> findAllByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
     @Query("SELECT DISTINCT t FROM Task t JOIN t.assignments a " +
             "LEFT JOIN FETCH t.project p " +
             "WHERE a.user.id = :userId " +
@@ -63,5 +92,84 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignments WHERE t.project.id = :projectId AND t.status = :status")
     List<Task> findAllByProjectIdAndStatusWithAssignments(@Param("projectId") Long projectId, @Param("status") ETaskStatus status);
-}
 
+    // As primeiras :limit tarefas de cada coluna e o total da coluna numa única leitura do projeto
+    @Query(value = "SELECT ranked.id, ranked.status, ranked.orderKey, ranked.total FROM ( " +
+            "SELECT t.id, t.order_key AS orderKey, " + EFFECTIVE_STATUS_SQL + " AS status, " +
+            "ROW_NUMBER() OVER (PARTITION BY " + EFFECTIVE_STATUS_SQL + " ORDER BY t.order_key, t.id) AS position, " +
+            "COUNT(*) OVER (PARTITION BY " + EFFECTIVE_STATUS_SQL + ") AS total " +
+            "FROM tasks t WHERE t.project_id = :projectId) ranked " +
+            "WHERE ranked.position <= :limit ORDER BY ranked.status, ranked.position", nativeQuery = true)
+    List<TaskBoardEntry> findBoard(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    // O filtro pelo status persistido deixa a busca usar idx_tasks_board_order; OVERDUE reúne TO_DO e IN_PROGRESS vencidas
+    @Query(value = "SELECT t.id, t.order_key AS orderKey FROM tasks t WHERE t.project_id = :projectId " +
+            "AND (t.status = :status OR (:status = 'OVERDUE' AND t.status <> 'DONE')) " +
+            "AND " + EFFECTIVE_STATUS_SQL + " = :status " +
+            "AND (t.order_key > :afterKey OR (t.order_key = :afterKey AND t.id > :afterId)) " +
+            "ORDER BY t.order_key, t.id LIMIT :limit", nativeQuery = true)
+    List<TaskPosition> findBoardColumn(@Param("projectId") Long projectId, @Param("status") String status,
+                                       @Param("afterKey") String afterKey, @Param("afterId") long afterId,
+                                       @Param("limit") int limit);
+
+    @Query("SELECT MAX(t.orderKey) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
+    Optional<String> findLastOrderKey(@Param("projectId") Long projectId, @Param("status") ETaskStatus status);
+
+    @Query("SELECT MIN(t.orderKey) FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND t.id <> :excludedId")
+    Optional<String> findFirstOrderKey(@Param("projectId") Long projectId, @Param("status") ETaskStatus status,
+                                       @Param("excludedId") Long excludedId);
+
+    @Query("SELECT MIN(t.orderKey) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+            "AND t.orderKey > :orderKey AND t.id <> :excludedId")
+    Optional<String> findNextOrderKey(@Param("projectId") Long projectId, @Param("status") ETaskStatus status,
+                                      @Param("orderKey") String orderKey, @Param("excludedId") Long excludedId);
+
+    // O status exibido muda sozinho ao vencer o prazo (OVERDUE), então o ETag considera também o atraso
+    @Query("SELECT t.version AS version, " +
+            "CASE WHEN t.status <> br.com.teamtacles.task.enumeration.ETaskStatus.DONE AND t.dueDate IS NOT NULL AND t.dueDate < CURRENT_TIMESTAMP " +
+            "THEN true ELSE false END AS overdue " +
+            "FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId " +
+            "AND EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id = :userId AND pm.acceptedInvite = true)")
+    Optional<TaskVersion> findVersionVisibleTo(@Param("projectId") Long projectId, @Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId " +
+            "AND t.status <> br.com.teamtacles.task.enumeration.ETaskStatus.DONE AND t.dueDate IS NOT NULL AND t.dueDate < CURRENT_TIMESTAMP")
+    long countOverdueByProjectId(@Param("projectId") Long projectId);
+
+    // Tarefas em que o usuário está atribuído mudam de conteúdo quando ele sai delas ou muda de nome
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.version = t.version + 1 " +
+            "WHERE t.id IN (SELECT ta.task.id FROM TaskAssignment ta WHERE ta.user.id = :userId)")
+    int bumpVersionsOfTasksAssignedTo(@Param("userId") Long userId);
+
+    // Saída do usuário em lote (exclusão de conta / saída de projeto); projectId nulo = todos os projetos.
+    // Tarefas do usuário sem nenhum outro participante são apagadas; as atribuições caem por ON DELETE CASCADE.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN ( " +
+            "SELECT t.id FROM tasks t WHERE t.owner_id = :userId " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId) " +
+            "AND NOT EXISTS (SELECT 1 FROM task_assignments ta WHERE ta.task_id = t.id AND ta.user_id <> :userId) " +
+            "ORDER BY t.id LIMIT :limit)", nativeQuery = true)
+    int deleteOwnedTasksWithoutOtherMembers(@Param("userId") Long userId, @Param("projectId") Long projectId, @Param("limit") int limit);
+
+    // A posse passa ao participante atribuído há mais tempo (ROW_NUMBER por tarefa), cuja atribuição vira OWNER
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "WITH candidates AS ( " +
+            "SELECT t.id FROM tasks t WHERE t.owner_id = :userId " +
+            "AND (CAST(:projectId AS BIGINT) IS NULL OR t.project_id = :projectId) " +
+            "AND EXISTS (SELECT 1 FROM task_assignments ta WHERE ta.task_id = t.id AND ta.user_id <> :userId) " +
+            "ORDER BY t.id LIMIT :limit), " +
+            "successors AS ( " +
+            "SELECT ranked.task_id, ranked.user_id FROM ( " +
+            "SELECT ta.task_id, ta.user_id, ROW_NUMBER() OVER (PARTITION BY ta.task_id ORDER BY ta.assigned_at, ta.id) AS position " +
+            "FROM task_assignments ta JOIN candidates c ON c.id = ta.task_id WHERE ta.user_id <> :userId) ranked " +
+            "WHERE ranked.position = 1), " +
+            "transferred AS ( " +
+            "UPDATE tasks t SET owner_id = s.user_id, updated_at = CURRENT_TIMESTAMP, version = t.version + 1 FROM successors s " +
+            "WHERE t.id = s.task_id RETURNING t.id, t.owner_id) " +
+            "UPDATE task_assignments ta SET task_role = 'OWNER', version = ta.version + 1 FROM transferred tr " +
+            "WHERE ta.task_id = tr.id AND ta.user_id = tr.owner_id", nativeQuery = true)
+    int transferOwnedTasksToEarliestMember(@Param("userId") Long userId, @Param("projectId") Long projectId, @Param("limit") int limit);
+}
@@ -0,0 +1,6 @@
+package br.com.teamtacles.task.repository;
+
+public interface TaskVersion {
+    long getVersion();
+    boolean isOverdue();
+}
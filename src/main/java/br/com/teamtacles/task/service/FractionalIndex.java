@@ -0,0 +1,191 @@
+package br.com.teamtacles.task.service;
+
+// Chaves de ordenação fracionárias em base 62 (0-9, A-Z, a-z, em ordem ASCII): sempre existe uma chave entre
+// duas outras, então mover um item grava só a linha dele. A chave tem uma parte inteira, cujo primeiro caractere
+// diz quantos dígitos ela tem ('a' = 1 dígito, 'b' = 2, ...; 'Z', 'Y', ... para os negativos), e uma parte
+// fracionária sem zeros à direita. Inserir sempre no fim só incrementa a parte inteira, então a chave cresce
+// devagar; inserções repetidas no mesmo intervalo alongam a parte fracionária (ver TaskOrderService).
+final class FractionalIndex {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private FractionalIndex() {
+    }
+
+    // before nulo = início, after nulo = fim
+    static String keyBetween(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Order key " + before + " is not before " + after + ".");
+        }
+
+        if (before == null) {
+            if (after == null) {
+                return "a" + ZERO;
+            }
+            String integerAfter = integerPart(after);
+            String fractionAfter = after.substring(integerAfter.length());
+            if (integerAfter.equals(SMALLEST_INTEGER)) {
+                return integerAfter + midpoint("", fractionAfter);
+            }
+            if (integerAfter.compareTo(after) < 0) {
+                return integerAfter;
+            }
+            String decremented = decrementInteger(integerAfter);
+            if (decremented == null) {
+                throw new IllegalStateException("Cannot create an order key before " + after + ".");
+            }
+            return decremented;
+        }
+
+        String integerBefore = integerPart(before);
+        String fractionBefore = before.substring(integerBefore.length());
+        if (after == null) {
+            String incremented = incrementInteger(integerBefore);
+            return incremented == null ? integerBefore + midpoint(fractionBefore, null) : incremented;
+        }
+
+        String integerAfter = integerPart(after);
+        String fractionAfter = after.substring(integerAfter.length());
+        if (integerBefore.equals(integerAfter)) {
+            return integerBefore + midpoint(fractionBefore, fractionAfter);
+        }
+        String incremented = incrementInteger(integerBefore);
+        if (incremented == null) {
+            throw new IllegalStateException("Cannot create an order key after " + before + ".");
+        }
+        return incremented.compareTo(after) < 0 ? incremented : integerBefore + midpoint(fractionBefore, null);
+    }
+
+    // Fração entre a e b (b nulo = 1), ambas sem zeros à direita
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            int prefix = 0;
+            while (prefix < b.length() && digitAt(a, prefix) == b.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0) {
+                return b.substring(0, prefix) + midpoint(a.substring(Math.min(prefix, a.length())), b.substring(prefix));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b == null ? DIGITS.length() : DIGITS.indexOf(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt(Math.round(0.5f * (digitA + digitB))));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitAt(String value, int index) {
+        return index < value.length() ? value.charAt(index) : ZERO;
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid order key: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Invalid order key: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Invalid order key head: " + head);
+    }
+
+    // Nulo quando já é o maior inteiro representável
+    private static String incrementInteger(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        boolean carry = true;
+        for (int i = digits.length() - 1; carry && i >= 0; i--) {
+            int next = DIGITS.indexOf(digits.charAt(i)) + 1;
+            if (next == DIGITS.length()) {
+                digits.setCharAt(i, ZERO);
+            } else {
+                digits.setCharAt(i, DIGITS.charAt(next));
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + digits.toString();
+        }
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        if (nextHead > 'a') {
+            digits.append(ZERO);
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return nextHead + digits.toString();
+    }
+
+    // Nulo quando já é o menor inteiro representável
+    private static String decrementInteger(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        boolean borrow = true;
+        for (int i = digits.length() - 1; borrow && i >= 0; i--) {
+            int previous = DIGITS.indexOf(digits.charAt(i)) - 1;
+            if (previous == -1) {
+                digits.setCharAt(i, LAST);
+            } else {
+                digits.setCharAt(i, DIGITS.charAt(previous));
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + digits.toString();
+        }
+        if (head == 'a') {
+            return "Z" + LAST;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previousHead = (char) (head - 1);
+        if (previousHead < 'Z') {
+            digits.append(LAST);
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return previousHead + digits.toString();
+    }
+}
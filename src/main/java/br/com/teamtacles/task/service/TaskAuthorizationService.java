@@ -3,6 +3,7 @@ package br.com.teamtacles.task.service;
 import br.com.teamtacles.project.service.ProjectAuthorizationService;
 import br.com.teamtacles.task.enumeration.ETaskRole;
 import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.user.model.User;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -36,6 +37,42 @@ public class TaskAuthorizationService {
         }
     }
 
+    // Operações em lote: a participação no projeto e o papel de admin já foram verificados uma única vez
+    public void checkEditPermission(User user, Task task, boolean isProjectAdmin) {
+        if (!isOwner(user, task) && !isProjectAdmin) {
+            throw new AccessDeniedException("Permission denied. Only the task owner or a project admin or project owner can edit this task.");
+        }
+    }
+
+    public void checkChangeStatusPermission(User user, Task task, boolean isProjectAdmin) {
+        if (!isOwner(user, task) && !isProjectAdmin && !isAssignee(user, task)) {
+            throw new AccessDeniedException("Permission denied. Only the task owner or a project owner/admin or an assignee can change the status of this task.");
+        }
+    }
+
+    // Variantes sobre o contexto carregado por TaskProjectAssociationValidator.findAndValidateAccess: nenhuma consulta extra
+    public void checkViewPermission(TaskAccessContext context) {
+        if (!context.isProjectMember()) {
+            throw new AccessDeniedException("Access denied. You are not a member of this project.");
+        }
+    }
+
+    public void checkEditPermission(User user, TaskAccessContext context) {
+        checkViewPermission(context);
+
+        if (!context.isTaskOwner(user) && !context.isProjectAdmin()) {
+            throw new AccessDeniedException("Permission denied. Only the task owner or a project admin or project owner can edit this task.");
+        }
+    }
+
+    public void checkChangeStatusPermission(User user, TaskAccessContext context) {
+        checkViewPermission(context);
+
+        if (!context.isTaskOwner(user) && !context.isProjectAdmin() && !context.isAssignee()) {
+            throw new AccessDeniedException("Permission denied. Only the task owner or a project owner/admin or an assignee can change the status of this task.");
+        }
+    }
+
     public boolean isOwner(User user, Task task) {
         return task.getOwner().equals(user);
     }
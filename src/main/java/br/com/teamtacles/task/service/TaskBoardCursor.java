@@ -0,0 +1,29 @@
+package br.com.teamtacles.task.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posição da última tarefa entregue numa coluna do quadro. Opaco para o cliente, para a ordem da coluna poder mudar
+// sem quebrar quem já guardou um cursor. O id desempata chaves iguais
+record TaskBoardCursor(String afterKey, long afterId) {
+
+    // Primeira página: antes de qualquer chave
+    static final TaskBoardCursor START = new TaskBoardCursor("", 0);
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((afterKey + "." + afterId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static TaskBoardCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = value.lastIndexOf('.');
+            if (separator < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new TaskBoardCursor(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid board cursor.");
+        }
+    }
+}
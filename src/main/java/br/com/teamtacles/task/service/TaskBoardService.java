@@ -0,0 +1,118 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.dto.response.TaskBoardColumnDTO;
+import br.com.teamtacles.task.dto.response.TaskBoardResponseDTO;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.repository.TaskBoardEntry;
+import br.com.teamtacles.task.repository.TaskPosition;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.user.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Quadro kanban do projeto. As primeiras tarefas e o total de cada coluna saem de uma única consulta com ROW_NUMBER
+// por status, em vez de uma listagem filtrada (com COUNT e DISTINCT próprios) por coluna
+@Service
+public class TaskBoardService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final TaskMapper taskMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public TaskBoardService(TaskRepository taskRepository, ProjectService projectService,
+                            ProjectAuthorizationService projectAuthorizationService, TaskMapper taskMapper,
+                            @Value("${app.task-board.default-page-size:20}") int defaultPageSize,
+                            @Value("${app.task-board.max-page-size:100}") int maxPageSize) {
+        this.taskRepository = taskRepository;
+        this.projectService = projectService;
+        this.projectAuthorizationService = projectAuthorizationService;
+        this.taskMapper = taskMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskBoardResponseDTO getBoard(Long projectId, Integer limit, User actingUser) {
+        checkMembership(projectId, actingUser);
+        int pageSize = resolvePageSize(limit);
+
+        List<TaskBoardEntry> entries = taskRepository.findBoard(projectId, pageSize);
+        Map<Long, Task> tasksById = findTasks(entries.stream().map(TaskBoardEntry::getId).toList());
+        Map<ETaskStatus, List<TaskBoardEntry>> entriesByStatus = entries.stream()
+                .collect(Collectors.groupingBy(entry -> ETaskStatus.valueOf(entry.getStatus()),
+                        () -> new EnumMap<>(ETaskStatus.class), Collectors.toList()));
+
+        List<TaskBoardColumnDTO> columns = new ArrayList<>();
+        for (ETaskStatus status : ETaskStatus.values()) {
+            List<TaskBoardEntry> columnEntries = entriesByStatus.getOrDefault(status, List.of());
+            long total = columnEntries.isEmpty() ? 0 : columnEntries.get(0).getTotal();
+            columns.add(new TaskBoardColumnDTO(status, total, toResponses(columnEntries, tasksById),
+                    total > columnEntries.size() ? cursorAfter(columnEntries) : null));
+        }
+        return new TaskBoardResponseDTO(columns);
+    }
+
+    // "Carregar mais" de uma coluna: continua depois do cursor devolvido pelo quadro ou pela página anterior
+    @Transactional(readOnly = true)
+    public TaskBoardColumnDTO getBoardColumn(Long projectId, ETaskStatus status, String cursor, Integer limit, User actingUser) {
+        checkMembership(projectId, actingUser);
+        int pageSize = resolvePageSize(limit);
+        TaskBoardCursor after = cursor == null ? TaskBoardCursor.START : TaskBoardCursor.decode(cursor);
+
+        List<TaskPosition> positions = taskRepository.findBoardColumn(projectId, status.name(), after.afterKey(), after.afterId(), pageSize + 1);
+        boolean hasMore = positions.size() > pageSize;
+        List<TaskPosition> page = hasMore ? positions.subList(0, pageSize) : positions;
+        return new TaskBoardColumnDTO(status, null, toResponses(page, findTasks(page.stream().map(TaskPosition::getId).toList())),
+                hasMore ? cursorAfter(page) : null);
+    }
+
+    private void checkMembership(Long projectId, User actingUser) {
+        Project project = projectService.findProjectEntityById(projectId);
+        projectAuthorizationService.checkProjectMembership(actingUser, project);
+    }
+
+    private int resolvePageSize(Integer limit) {
+        return limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+    }
+
+    // As atribuições das tarefas são carregadas em lote pelo mapper (hibernate.default_batch_fetch_size)
+    private Map<Long, Task> findTasks(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllById(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    // Mantém a ordem da coluna; uma tarefa apagada entre as duas consultas simplesmente não aparece
+    private List<TaskResponseDTO> toResponses(List<? extends TaskPosition> positions, Map<Long, Task> tasksById) {
+        return positions.stream()
+                .map(position -> tasksById.get(position.getId()))
+                .filter(Objects::nonNull)
+                .map(taskMapper::toTaskResponseDTO)
+                .toList();
+    }
+
+    private static String cursorAfter(List<? extends TaskPosition> positions) {
+        TaskPosition last = positions.get(positions.size() - 1);
+        return new TaskBoardCursor(last.getOrderKey(), last.getId()).encode();
+    }
+}
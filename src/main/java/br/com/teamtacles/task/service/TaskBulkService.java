@@ -0,0 +1,245 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.common.exception.InvalidTaskStateException;
+import br.com.teamtacles.common.exception.ResourceNotFoundException;
+import br.com.teamtacles.config.aop.BusinessActivityLog;
+import br.com.teamtacles.config.aop.RetryOnConflict;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.project.service.ProjectActivityPublisher;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.sync.service.ChangeLogService;
+import br.com.teamtacles.task.dto.request.*;
+import br.com.teamtacles.task.dto.response.TaskBulkItemResultDTO;
+import br.com.teamtacles.task.dto.response.TaskBulkResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskRole;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAssignment;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.task.validator.TaskStateTransitionValidator;
+import br.com.teamtacles.user.model.User;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Operações em lote: autorização uma vez por projeto, erros reportados por item e escrita em batch JDBC (hibernate.jdbc.batch_size)
+@Service
+public class TaskBulkService {
+
+    private final TaskRepository taskRepository;
+    private final TaskStateTransitionValidator taskStateTransitionValidator;
+    private final ProjectService projectService;
+    private final ProjectAuthorizationService projectAuthorizationService;
+    private final TaskAuthorizationService taskAuthorizationService;
+    private final ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    private final ProjectActivityPublisher projectActivityPublisher;
+    private final ChangeLogService changeLogService;
+    private final TaskOrderService taskOrderService;
+
+    public TaskBulkService(TaskRepository taskRepository,
+                           TaskStateTransitionValidator taskStateTransitionValidator,
+                           ProjectService projectService,
+                           ProjectAuthorizationService projectAuthorizationService,
+                           TaskAuthorizationService taskAuthorizationService,
+                           ProjectCollectionVersionRepository projectCollectionVersionRepository,
+                           ProjectActivityPublisher projectActivityPublisher,
+                           ChangeLogService changeLogService,
+                           TaskOrderService taskOrderService) {
+        this.taskRepository = taskRepository;
+        this.taskStateTransitionValidator = taskStateTransitionValidator;
+        this.projectService = projectService;
+        this.projectAuthorizationService = projectAuthorizationService;
+        this.taskAuthorizationService = taskAuthorizationService;
+        this.projectCollectionVersionRepository = projectCollectionVersionRepository;
+        this.projectActivityPublisher = projectActivityPublisher;
+        this.changeLogService = changeLogService;
+        this.taskOrderService = taskOrderService;
+    }
+
+    @BusinessActivityLog(action = "Bulk Create Tasks")
+    @Transactional
+    public TaskBulkResponseDTO createTasks(Long projectId, TaskBulkCreateRequestDTO request, User actingUser) {
+        Project project = projectService.findProjectEntityById(projectId);
+        projectAuthorizationService.checkProjectMembership(actingUser, project);
+
+        TaskOrderService.Appender appender = taskOrderService.appender(projectId);
+        List<Task> tasks = request.getTasks().stream()
+                .map(taskDto -> {
+                    Task task = new Task(project, taskDto.getTitle(), taskDto.getDescription(), actingUser, taskDto.getDueDate());
+                    task.placeAt(appender.next(ETaskStatus.TO_DO));
+                    task.addAssigment(new TaskAssignment(task, actingUser, ETaskRole.OWNER));
+                    return task;
+                })
+                .toList();
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.tasksChanged(projectId, savedTasks.stream().map(Task::getId).toList());
+
+        List<TaskBulkItemResultDTO> results = new ArrayList<>(savedTasks.size());
+        for (int i = 0; i < savedTasks.size(); i++) {
+            results.add(TaskBulkItemResultDTO.success(i, savedTasks.get(i).getId()));
+            projectActivityPublisher.taskCreated(projectId, savedTasks.get(i).getId(), actingUser.getId());
+        }
+        return TaskBulkResponseDTO.of(results);
+    }
+
+    @RetryOnConflict
+    @BusinessActivityLog(action = "Bulk Update Task Status")
+    @Transactional
+    public TaskBulkResponseDTO updateTaskStatuses(Long projectId, TaskBulkStatusRequestDTO request, User actingUser) {
+        boolean isProjectAdmin = authorizeProject(projectId, actingUser);
+        Map<Long, Task> tasksById = findTasks(projectId, request.getItems(), TaskBulkStatusItemDTO::getTaskId);
+        TaskOrderService.Appender appender = taskOrderService.appender(projectId);
+
+        TaskBulkResponseDTO response = applyToEach(projectId, request.getItems(), TaskBulkStatusItemDTO::getTaskId, tasksById, (item, task) -> {
+            taskAuthorizationService.checkChangeStatusPermission(actingUser, task, isProjectAdmin);
+            taskStateTransitionValidator.validate(task.getStatus(), item.getNewStatus());
+
+            if (task.getStatus() != item.getNewStatus()) {
+                task.placeAt(appender.next(item.getNewStatus()));
+            }
+            if (item.getNewStatus() == ETaskStatus.DONE) {
+                task.completedTask(item.getCompletionComment());
+            } else {
+                task.updateStatus(item.getNewStatus());
+            }
+            projectActivityPublisher.taskStatusChanged(projectId, task.getId(), task.getStatus(), actingUser.getId());
+        });
+
+        changeLogService.tasksChanged(projectId, succeededTaskIds(response));
+        return response;
+    }
+
+    @RetryOnConflict
+    @BusinessActivityLog(action = "Bulk Reassign Tasks")
+    @Transactional
+    public TaskBulkResponseDTO reassignTasks(Long projectId, TaskBulkReassignRequestDTO request, User actingUser) {
+        boolean isProjectAdmin = authorizeProject(projectId, actingUser);
+        Map<Long, Task> tasksById = findTasks(projectId, request.getItems(), TaskBulkReassignItemDTO::getTaskId);
+
+        List<Long> requestedUserIds = request.getItems().stream()
+                .flatMap(item -> item.getAssigneeIds().stream())
+                .distinct()
+                .toList();
+        Map<Long, User> membersById = projectService.findProjectMembersFromIdList(projectId, requestedUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        TaskBulkResponseDTO response = applyToEach(projectId, request.getItems(), TaskBulkReassignItemDTO::getTaskId, tasksById, (item, task) -> {
+            taskAuthorizationService.checkEditPermission(actingUser, task, isProjectAdmin);
+
+            Set<Long> assigneeIds = item.getAssigneeIds();
+            if (assigneeIds.contains(task.getOwner().getId())) {
+                throw new IllegalArgumentException("The task owner cannot be reassigned");
+            }
+            if (!membersById.keySet().containsAll(assigneeIds)) {
+                throw new AccessDeniedException("One or more users are not valid members of this project.");
+            }
+
+            List<TaskAssignment> assignmentsToRemove = task.getAssignments().stream()
+                    .filter(assignment -> assignment.getTaskRole() == ETaskRole.ASSIGNEE)
+                    .filter(assignment -> !assigneeIds.contains(assignment.getUser().getId()))
+                    .toList();
+            assignmentsToRemove.forEach(task::removeAssigment);
+
+            Set<Long> alreadyAssignedIds = task.getAssignments().stream()
+                    .map(assignment -> assignment.getUser().getId())
+                    .collect(Collectors.toSet());
+
+            assigneeIds.stream()
+                    .filter(userId -> !alreadyAssignedIds.contains(userId))
+                    .forEach(userId -> {
+                        task.addAssigment(new TaskAssignment(task, membersById.get(userId), ETaskRole.ASSIGNEE));
+                        projectActivityPublisher.taskAssigned(projectId, task.getId(), userId, actingUser.getId());
+                    });
+        });
+
+        changeLogService.tasksChanged(projectId, succeededTaskIds(response));
+        return response;
+    }
+
+    @BusinessActivityLog(action = "Bulk Delete Tasks")
+    @Transactional
+    public TaskBulkResponseDTO deleteTasks(Long projectId, TaskBulkDeleteRequestDTO request, User actingUser) {
+        boolean isProjectAdmin = authorizeProject(projectId, actingUser);
+        Map<Long, Task> tasksById = findTasks(projectId, request.getTaskIds(), Function.identity());
+
+        List<Task> tasksToDelete = new ArrayList<>();
+        TaskBulkResponseDTO response = applyToEach(projectId, request.getTaskIds(), Function.identity(), tasksById, (taskId, task) -> {
+            taskAuthorizationService.checkEditPermission(actingUser, task, isProjectAdmin);
+            tasksToDelete.add(task);
+        });
+
+        taskRepository.deleteAll(tasksToDelete);
+        changeLogService.tasksDeleted(projectId, succeededTaskIds(response));
+        return response;
+    }
+
+    private static List<Long> succeededTaskIds(TaskBulkResponseDTO response) {
+        return response.getResults().stream()
+                .filter(TaskBulkItemResultDTO::isSuccess)
+                .map(TaskBulkItemResultDTO::getTaskId)
+                .toList();
+    }
+
+    private boolean authorizeProject(Long projectId, User actingUser) {
+        Project project = projectService.findProjectEntityById(projectId);
+        projectAuthorizationService.checkProjectMembership(actingUser, project);
+        return projectAuthorizationService.isAdmin(actingUser, project);
+    }
+
+    private <T> Map<Long, Task> findTasks(Long projectId, List<T> items, Function<T, Long> taskIdExtractor) {
+        Set<Long> taskIds = items.stream().map(taskIdExtractor).collect(Collectors.toSet());
+
+        return taskRepository.findAllByProjectIdAndIdIn(projectId, taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    // Um item rejeitado não interrompe os demais; as validações de cada ação rodam antes de qualquer alteração na tarefa.
+    // A versão da lista de tarefas do projeto sobe uma única vez se algum item foi aplicado.
+    private <T> TaskBulkResponseDTO applyToEach(Long projectId, List<T> items, Function<T, Long> taskIdExtractor,
+                                                Map<Long, Task> tasksById, BiConsumer<T, Task> action) {
+        List<TaskBulkItemResultDTO> results = new ArrayList<>(items.size());
+        Set<Long> processedTaskIds = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            Long taskId = taskIdExtractor.apply(item);
+
+            if (!processedTaskIds.add(taskId)) {
+                results.add(TaskBulkItemResultDTO.failure(i, taskId, "The task appears more than once in the request."));
+                continue;
+            }
+
+            Task task = tasksById.get(taskId);
+            if (task == null) {
+                results.add(TaskBulkItemResultDTO.failure(i, taskId, String.format("Task with id '%d' not found in this project.", taskId)));
+                continue;
+            }
+
+            try {
+                action.accept(item, task);
+                results.add(TaskBulkItemResultDTO.success(i, taskId));
+            } catch (InvalidTaskStateException | AccessDeniedException | ResourceNotFoundException | IllegalArgumentException ex) {
+                results.add(TaskBulkItemResultDTO.failure(i, taskId, ex.getMessage()));
+            }
+        }
+
+        TaskBulkResponseDTO response = TaskBulkResponseDTO.of(results);
+        if (response.getSucceeded() > 0) {
+            projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.sync.service.ChangeLogService;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.TaskColumn;
+import br.com.teamtacles.task.repository.TaskOrderJdbcRepository;
+import br.com.teamtacles.task.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Posição das tarefas dentro da coluna (projeto + status persistido). Criar, mudar de coluna ou arrastar uma tarefa
+// grava só a chave dela; quando soltar várias vezes no mesmo intervalo deixa uma chave longa demais, a coluna entra
+// na fila do rebalanceamento, que regrava as chaves curtas numa transação à parte
+@Service
+public class TaskOrderService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskOrderService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskOrderJdbcRepository taskOrderJdbcRepository;
+    private final ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    private final ChangeLogService changeLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxKeyLength;
+    private final Set<TaskColumn> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    public TaskOrderService(TaskRepository taskRepository, TaskOrderJdbcRepository taskOrderJdbcRepository,
+                            ProjectCollectionVersionRepository projectCollectionVersionRepository,
+                            ChangeLogService changeLogService, TransactionTemplate transactionTemplate,
+                            @Value("${app.task-ordering.max-key-length:24}") int maxKeyLength) {
+        this.taskRepository = taskRepository;
+        this.taskOrderJdbcRepository = taskOrderJdbcRepository;
+        this.projectCollectionVersionRepository = projectCollectionVersionRepository;
+        this.changeLogService = changeLogService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    public String keyAtEnd(Long projectId, ETaskStatus status) {
+        String last = taskRepository.findLastOrderKey(projectId, status).orElse(null);
+        return checked(projectId, status, FractionalIndex.keyBetween(last, null));
+    }
+
+    // Chave logo depois de afterKey (nulo = topo da coluna), ignorando a posição atual da própria tarefa
+    public String keyAfter(Long projectId, ETaskStatus status, Long taskId, String afterKey) {
+        String next = afterKey == null
+                ? taskRepository.findFirstOrderKey(projectId, status, taskId).orElse(null)
+                : taskRepository.findNextOrderKey(projectId, status, afterKey, taskId).orElse(null);
+        return checked(projectId, status, FractionalIndex.keyBetween(afterKey, next));
+    }
+
+    // Para operações em lote: consulta o fim de cada coluna uma vez e encadeia as chaves seguintes em memória
+    public Appender appender(Long projectId) {
+        return new Appender(projectId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.task-ordering.rebalance-delay:PT1M}")
+    public void rebalancePending() {
+        for (TaskColumn column : List.copyOf(pendingRebalance)) {
+            pendingRebalance.remove(column);
+            rebalance(column);
+        }
+    }
+
+    // Colunas marcadas por outra instância, ou perdidas num restart, são encontradas pela varredura diária
+    @Scheduled(cron = "${app.task-ordering.sweep-cron:0 45 3 * * *}")
+    public void sweepLongKeys() {
+        taskOrderJdbcRepository.findColumnsWithKeysLongerThan(maxKeyLength).forEach(this::rebalance);
+    }
+
+    // Regrava a coluna inteira com chaves sequenciais, mantendo a ordem atual. As linhas ficam travadas até o commit;
+    // como a versão de cada tarefa sobe, quem calculou uma posição com as chaves antigas esbarra no lock otimista
+    void rebalance(TaskColumn column) {
+        Integer rewritten = transactionTemplate.execute(status -> {
+            List<Long> taskIds = taskOrderJdbcRepository.lockColumn(column);
+            if (taskIds.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, String> orderKeys = new LinkedHashMap<>();
+            String key = null;
+            for (Long taskId : taskIds) {
+                key = FractionalIndex.keyBetween(key, null);
+                orderKeys.put(taskId, key);
+            }
+            taskOrderJdbcRepository.updateOrderKeys(orderKeys);
+            projectCollectionVersionRepository.bumpTasksVersion(column.projectId());
+            changeLogService.tasksChanged(column.projectId(), taskIds);
+            return taskIds.size();
+        });
+
+        if (rewritten != null && rewritten > 0) {
+            log.info("Rebalanced {} order keys of project {} column {}", rewritten, column.projectId(), column.status());
+        }
+    }
+
+    private String checked(Long projectId, ETaskStatus status, String key) {
+        if (key.length() > maxKeyLength) {
+            pendingRebalance.add(new TaskColumn(projectId, status));
+        }
+        return key;
+    }
+
+    public class Appender {
+
+        private final Long projectId;
+        private final Map<ETaskStatus, String> lastKeys = new EnumMap<>(ETaskStatus.class);
+
+        private Appender(Long projectId) {
+            this.projectId = projectId;
+        }
+
+        public String next(ETaskStatus status) {
+            String key = lastKeys.containsKey(status)
+                    ? checked(projectId, status, FractionalIndex.keyBetween(lastKeys.get(status), null))
+                    : keyAtEnd(projectId, status);
+            lastKeys.put(status, key);
+            return key;
+        }
+    }
+}
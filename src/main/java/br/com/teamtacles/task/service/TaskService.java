@@ -1,13 +1,19 @@
 package br.com.teamtacles.task.service;
 
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
+import br.com.teamtacles.common.exception.InvalidTaskStateException;
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
 import br.com.teamtacles.common.mapper.PagedResponseMapper;
+import br.com.teamtacles.common.util.EntityTags;
 import br.com.teamtacles.config.aop.BusinessActivityLog;
-import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.config.aop.RetryOnConflict;
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.project.service.ProjectActivityPublisher;
 import br.com.teamtacles.project.service.ProjectService;
 import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.sync.service.ChangeLogService;
 import br.com.teamtacles.task.dto.request.*;
 import br.com.teamtacles.task.dto.response.TaskResponseDTO;
 import br.com.teamtacles.task.dto.response.TaskUpdateStatusResponseDTO;
@@ -15,7 +21,9 @@ import br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO;
 import br.com.teamtacles.task.dto.response.UserTaskResponseDTO;
 import br.com.teamtacles.task.enumeration.ETaskRole;
 import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.mapper.TaskMapper;
 import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.task.model.TaskAssignment;
 import br.com.teamtacles.task.repository.TaskAssignmentRepository;
 import br.com.teamtacles.task.repository.TaskRepository;
@@ -23,13 +31,13 @@ import br.com.teamtacles.task.validator.TaskAssignmentRoleValidator;
 import br.com.teamtacles.task.validator.TaskProjectAssociationValidator;
 import br.com.teamtacles.task.validator.TaskStateTransitionValidator;
 import br.com.teamtacles.user.model.User;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -47,8 +55,12 @@ public class TaskService {
     private final ProjectService projectService;
     private final ProjectAuthorizationService projectAuthorizationService;
     private final TaskAuthorizationService taskAuthorizationService;
-    private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
     private final PagedResponseMapper pagedResponseMapper;
+    private final ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    private final ProjectActivityPublisher projectActivityPublisher;
+    private final ChangeLogService changeLogService;
+    private final TaskOrderService taskOrderService;
 
     public TaskService(TaskRepository taskRepository,
                        TaskAssignmentRepository taskAssignmentRepository,
@@ -58,8 +70,12 @@ public class TaskService {
                        ProjectService projectService,
                        ProjectAuthorizationService projectAuthorizationService,
                        TaskAuthorizationService taskAuthorizationService,
-                       ModelMapper modelMapper,
-                       PagedResponseMapper pagedResponseMapper) {
+                       TaskMapper taskMapper,
+                       PagedResponseMapper pagedResponseMapper,
+                       ProjectCollectionVersionRepository projectCollectionVersionRepository,
+                       ProjectActivityPublisher projectActivityPublisher,
+                       ChangeLogService changeLogService,
+                       TaskOrderService taskOrderService) {
         this.taskRepository = taskRepository;
         this.taskAssignmentRepository = taskAssignmentRepository;
         this.taskProjectAssociationValidator = taskProjectAssociationValidator;
@@ -68,8 +84,12 @@ public class TaskService {
         this.projectService = projectService;
         this.projectAuthorizationService = projectAuthorizationService;
         this.taskAuthorizationService = taskAuthorizationService;
-        this.modelMapper = modelMapper;
+        this.taskMapper = taskMapper;
         this.pagedResponseMapper = pagedResponseMapper;
+        this.projectCollectionVersionRepository = projectCollectionVersionRepository;
+        this.projectActivityPublisher = projectActivityPublisher;
+        this.changeLogService = changeLogService;
+        this.taskOrderService = taskOrderService;
     }
 
     @BusinessActivityLog(action = "Create Task")
@@ -77,23 +97,44 @@ public class TaskService {
     public TaskResponseDTO createTask(Long projectId, TaskRequestRegisterDTO taskDto, User actingUser) {
         Project project = projectService.findProjectEntityById(projectId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
+        return createTaskIn(projectId, project, taskDto, actingUser);
+    }
+
+    // Lote de mutações offline: a participação já foi lida uma vez por projeto, então o projeto entra só como referência
+    @BusinessActivityLog(action = "Create Task")
+    @Transactional
+    public TaskResponseDTO createTask(ProjectAccessContext access, TaskRequestRegisterDTO taskDto, User actingUser) {
+        projectAuthorizationService.checkProjectMembership(access);
+        return createTaskIn(access.getProjectId(), projectService.getProjectReference(access.getProjectId()), taskDto, actingUser);
+    }
 
+    private TaskResponseDTO createTaskIn(Long projectId, Project project, TaskRequestRegisterDTO taskDto, User actingUser) {
         Task task = new Task(project, taskDto.getTitle(), taskDto.getDescription(), actingUser, taskDto.getDueDate());
+        task.placeAt(taskOrderService.keyAtEnd(projectId, ETaskStatus.TO_DO));
         TaskAssignment ownerAssignment = new TaskAssignment(task, actingUser, ETaskRole.OWNER);
         task.addAssigment(ownerAssignment);
 
         Task savedTask = taskRepository.save(task);
-        return modelMapper.map(savedTask, TaskResponseDTO.class);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.taskChanged(projectId, savedTask.getId());
+        projectActivityPublisher.taskCreated(projectId, savedTask.getId(), actingUser.getId());
+        return taskMapper.toTaskResponseDTO(savedTask);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Task Status")
     @Transactional
     public TaskUpdateStatusResponseDTO updateTaskStatus(Long projectId, Long taskId, UpdateTaskStatusRequestDTO updateStatusDTO, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
-        taskAuthorizationService.checkChangeStatusPermission(actingUser, task);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkChangeStatusPermission(actingUser, access);
 
+        Task task = access.getTask();
         taskStateTransitionValidator.validate(task.getStatus(), updateStatusDTO.getNewStatus());
 
+        // Ao trocar de coluna a tarefa vai para o fim da nova
+        if (task.getStatus() != updateStatusDTO.getNewStatus()) {
+            task.placeAt(taskOrderService.keyAtEnd(projectId, updateStatusDTO.getNewStatus()));
+        }
         if(updateStatusDTO.getNewStatus() == ETaskStatus.DONE){
             task.completedTask(updateStatusDTO.getCompletionComment());
         } else {
@@ -101,51 +142,111 @@ public class TaskService {
         }
 
         Task updateTask = taskRepository.save(task);
-        return modelMapper.map(updateTask, TaskUpdateStatusResponseDTO.class);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.taskChanged(projectId, taskId);
+        projectActivityPublisher.taskStatusChanged(projectId, taskId, updateTask.getStatus(), actingUser.getId());
+        return taskMapper.toTaskUpdateStatusResponseDTO(updateTask);
+    }
+
+    // Arrastar dentro da coluna: a tarefa passa a ficar logo depois de afterTaskId (nulo = topo) e só a linha dela é gravada
+    @RetryOnConflict
+    @BusinessActivityLog(action = "Move Task")
+    @Transactional
+    public TaskResponseDTO moveTask(Long projectId, Long taskId, TaskMoveRequestDTO moveDTO, User actingUser) {
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkChangeStatusPermission(actingUser, access);
+
+        Task task = access.getTask();
+        // A coluna OVERDUE do quadro junta TO_DO e IN_PROGRESS vencidas, cujas chaves pertencem a colunas persistidas
+        // diferentes: não há uma posição que valha nas duas, então ela não aceita reordenação manual
+        if (task.getEffectiveStatus() == ETaskStatus.OVERDUE) {
+            throw new InvalidTaskStateException("Tasks in the OVERDUE column cannot be reordered.");
+        }
+
+        String afterKey = null;
+        if (moveDTO.getAfterTaskId() != null) {
+            if (moveDTO.getAfterTaskId().equals(taskId)) {
+                throw new IllegalArgumentException("A task cannot be placed after itself.");
+            }
+            // Mesma coluna do quadro, que agrupa pelo status efetivo (uma TO_DO vencida está em OVERDUE, não em TO_DO)
+            Task afterTask = findTaskByIdOrThrow(moveDTO.getAfterTaskId());
+            if (!afterTask.getProject().getId().equals(projectId) || afterTask.getEffectiveStatus() != task.getEffectiveStatus()) {
+                throw new IllegalArgumentException("The reference task must be in the same column of the same project.");
+            }
+            afterKey = afterTask.getOrderKey();
+        }
+
+        task.placeAt(taskOrderService.keyAfter(projectId, task.getStatus(), taskId, afterKey));
+
+        Task movedTask = taskRepository.save(task);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.taskChanged(projectId, taskId);
+        return taskMapper.toTaskResponseDTO(movedTask);
     }
 
+    // As atribuições de cada tarefa da página são carregadas em lote (hibernate.default_batch_fetch_size)
+    @Transactional(readOnly = true)
     public PagedResponse<TaskResponseDTO> getTasksForProject(Pageable pageable, Long projectId, TaskFilterReportDTO filter, User actingUser) {
         Project project = projectService.findProjectEntityById(projectId);
         projectAuthorizationService.checkProjectMembership(actingUser, project);
 
         Page<Task> tasks = taskRepository.findTasksByProjectWithFilters(projectId, filter, pageable);
-        Page<TaskResponseDTO> taskResponseDTOPage = tasks.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        Page<TaskResponseDTO> taskResponseDTOPage = tasks.map(taskMapper::toTaskResponseDTO);
+
+        return pagedResponseMapper.toPagedResponse(taskResponseDTOPage);
+    }
 
-        return pagedResponseMapper.toPagedResponse(taskResponseDTOPage, TaskResponseDTO.class);
+    // Vazio quando o projeto não existe ou o usuário não é membro: o caminho completo gera o erro adequado
+    @Transactional(readOnly = true)
+    public Optional<String> findTasksForProjectETag(Long projectId, User actingUser) {
+        return projectCollectionVersionRepository.findTasksVersionVisibleTo(projectId, actingUser.getId())
+                .map(version -> EntityTags.strong("project-tasks", projectId, version, taskRepository.countOverdueByProjectId(projectId)));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> findTaskETag(Long projectId, Long taskId, User actingUser) {
+        return taskRepository.findVersionVisibleTo(projectId, taskId, actingUser.getId())
+                .map(task -> EntityTags.strong("task", taskId, task.getVersion(), task.isOverdue() ? "overdue" : "on-time"));
+    }
+
+    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(Long projectId, Long taskId, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
 
-        taskAuthorizationService.checkViewPermission(actingUser, task);
+        taskAuthorizationService.checkViewPermission(access);
 
-        return modelMapper.map(task, TaskResponseDTO.class);
+        return taskMapper.toTaskResponseDTO(access.getTask());
     }
 
+    @Transactional(readOnly = true)
     public List<UserAssignmentResponseDTO> getTaskMembers(Long projectId, Long taskId, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
-        taskAuthorizationService.checkViewPermission(actingUser, task);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkViewPermission(access);
 
         List<TaskAssignment> assignments = taskAssignmentRepository.findAllByTaskId(taskId);
 
         return assignments.stream()
-                .map(this::toUserAssignmentResponseDTO)
+                .map(taskMapper::toUserAssignmentResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<UserTaskResponseDTO> getAllTasksByUser(Pageable pageable, TaskFilterReportDTO filter, User actingUser) {
         Page<Task> tasksPage = taskRepository.findTasksByUserWithFilters(actingUser.getId(), filter, pageable);
 
-        Page<UserTaskResponseDTO> userTaskDTOPage = tasksPage.map(this::toUserTaskResponseDTO);
+        Page<UserTaskResponseDTO> userTaskDTOPage = tasksPage.map(taskMapper::toUserTaskResponseDTO);
 
-        return pagedResponseMapper.toPagedResponse(userTaskDTOPage, UserTaskResponseDTO.class);
+        return pagedResponseMapper.toPagedResponse(userTaskDTOPage);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Assign Users to Task")
     @Transactional
     public TaskResponseDTO assignUsersToTask(Long projectId, Long taskId, Set<TaskAssignmentRequestDTO> assignmentsDTO, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
-        taskAuthorizationService.checkEditPermission(actingUser, task);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkEditPermission(actingUser, access);
+
+        Task task = access.getTask();
 
         taskAssignmentRoleValidator.validate(assignmentsDTO);
 
@@ -158,52 +259,72 @@ public class TaskService {
             throw new AccessDeniedException("One or more users are not valid members of this project.");
         }
 
-        Set<User> alreadyAssignedUsers = task.getAssignments().stream()
-                .map(TaskAssignment::getUser)
+        // Só as atribuições dos usuários pedidos são consultadas; task.assignments não é inicializada na escrita
+        Set<Long> alreadyAssignedIds = taskAssignmentRepository.findAllByTaskIdAndUserIds(taskId, Set.copyOf(userIdsToAssign)).stream()
+                .map(assignment -> assignment.getUser().getId())
                 .collect(Collectors.toSet());
 
+        List<TaskAssignment> newAssignments = new ArrayList<>();
         for (TaskAssignmentRequestDTO assignmentDTO : assignmentsDTO) {
             User userToAssign = validMembers.stream()
                     .filter(a -> a.getId().equals(assignmentDTO.getUserId()))
                     .findFirst().orElseThrow(() -> new ResourceNotFoundException("One or more users are not valid members of this project."));
 
-            if (!alreadyAssignedUsers.contains(userToAssign)) {
-                TaskAssignment newAssignment = new TaskAssignment(task, userToAssign, assignmentDTO.getTaskRole());
-                task.addAssigment(newAssignment);
+            if (!alreadyAssignedIds.contains(userToAssign.getId())) {
+                newAssignments.add(new TaskAssignment(task, userToAssign, assignmentDTO.getTaskRole()));
+                projectActivityPublisher.taskAssigned(projectId, taskId, userToAssign.getId(), actingUser.getId());
             }
         }
 
+        if (!newAssignments.isEmpty()) {
+            // O flush garante que a projeção da resposta já traga as novas linhas
+            taskAssignmentRepository.saveAllAndFlush(newAssignments);
+            task.markAssignmentsChanged();
+            changeLogService.taskChanged(projectId, taskId);
+        }
+
         Task updatedTask = taskRepository.save(task);
-        return modelMapper.map(updatedTask, TaskResponseDTO.class);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        // A lista da resposta sai de uma projeção (id, username, papel): task.assignments segue sem ser inicializada
+        return taskMapper.toTaskResponseDTO(updatedTask, taskAssignmentRepository.findAssignmentResponsesByTaskId(taskId));
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Remove Users from Task")
     @Transactional
     public void removeUsersFromTask(Long projectId, Long taskId, Set<Long> userIdsToRemove, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
-        taskAuthorizationService.checkEditPermission(actingUser, task);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkEditPermission(actingUser, access);
 
+        Task task = access.getTask();
         if (userIdsToRemove.contains(task.getOwner().getId())) {
             throw new IllegalArgumentException("The task owner cannot be removed");
         }
 
+        // task.assignments não foi carregada pelo contexto, então as linhas são apagadas direto pelo repositório
         Set<TaskAssignment> assignmentsToRemove = taskAssignmentRepository.findAllByTaskIdAndUserIds(taskId, userIdsToRemove);
 
-        for(TaskAssignment assignmentToRemove: assignmentsToRemove) {
-            task.removeAssigment(assignmentToRemove);
+        if (!assignmentsToRemove.isEmpty()) {
+            taskAssignmentRepository.deleteAll(assignmentsToRemove);
+            task.markAssignmentsChanged();
+            changeLogService.taskChanged(projectId, taskId);
         }
 
         taskRepository.save(task);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
     }
 
     @BusinessActivityLog(action = "Delete Task")
     @Transactional
     public void deleteTaskById(Long projectId, Long taskId, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
-        taskAuthorizationService.checkEditPermission(actingUser, task);
-        taskRepository.delete(task);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
+        taskAuthorizationService.checkEditPermission(actingUser, access);
+        taskRepository.delete(access.getTask());
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.taskDeleted(projectId, taskId);
     }
 
+    @RetryOnConflict
     @Transactional
     public void leaveTask(Long taskId, User actingUser) {
         Task task = findTaskByIdOrThrow(taskId);
@@ -218,62 +339,52 @@ public class TaskService {
 
             if(members.isEmpty()) {
                 taskRepository.delete(task);
+                changeLogService.taskDeleted(task.getProject().getId(), taskId);
             } else {
                 transferTaskOwnership(members, task);
                 removeAssignmentForUser(task, actingUser);
+                changeLogService.taskChanged(task.getProject().getId(), taskId);
             }
         } else {
             removeAssignmentForUser(task, actingUser);
+            changeLogService.taskChanged(task.getProject().getId(), taskId);
         }
-    }
-
-    // Sobrecarga temporária - Refatorar depois
-    private void leaveTask(Task task, User actingUser) {
-        boolean isOwner = task.getOwner().equals(actingUser);
-
-        if(isOwner) {
-            List<TaskAssignment> members = task.getAssignments().stream()
-                    .filter(m -> !m.getUser().equals(actingUser))
-                    .toList();
-
-            if(members.isEmpty()) {
-                taskRepository.delete(task);
-            } else {
-                transferTaskOwnership(members, task);
-                removeAssignmentForUser(task, actingUser);
-            }
-        } else {
-            removeAssignmentForUser(task, actingUser);
-        }
+        projectCollectionVersionRepository.bumpTasksVersion(task.getProject().getId());
     }
 
     @Transactional
     public void leaveAllTasksByProject(Long projectId, User actingUser) {
-
-        Set<TaskAssignment> assignments = taskAssignmentRepository.findAllByProjectAndUser(projectId, actingUser);
-
-        for(TaskAssignment assignment : assignments) {
-           Task task = assignment.getTask();
-           leaveTask(task, actingUser);
-        }
+        releaseTasksOfUser(actingUser.getId(), projectId, Integer.MAX_VALUE);
     }
 
     @Transactional
     public void handleOwnerDeletion(User user) {
-        List<Task> tasks = taskRepository.findAllByOwner(user);
-
-        for(Task task : tasks) {
-            List<TaskAssignment> members = task.getAssignments().stream()
-                    .filter(m -> !m.getUser().equals(user))
-                    .toList();
+        releaseTasksOfUser(user.getId(), null, Integer.MAX_VALUE);
+    }
 
-            if(members.isEmpty()) {
-                taskRepository.delete(task);
+    // Remove o usuário das tarefas (projectId nulo = todos os projetos) em poucos comandos set-based.
+    // Cada comando processa no máximo "limit" linhas; retorna o total afetado para permitir execução em lotes.
+    @Transactional
+    public int releaseTasksOfUser(Long userId, Long projectId, int limit) {
+        // Set-based: os projetos afetados são marcados para recarga antes de as atribuições sumirem
+        changeLogService.tasksOfUserReleased(userId, projectId);
+        int affected = taskRepository.deleteOwnedTasksWithoutOtherMembers(userId, projectId, limit);
+        affected += taskRepository.transferOwnedTasksToEarliestMember(userId, projectId, limit);
+        taskAssignmentRepository.bumpVersionsOfAssignedTasks(userId, projectId, limit);
+        affected += taskAssignmentRepository.deleteAllOfUser(userId, projectId, limit);
+
+        if (affected > 0) {
+            if (projectId != null) {
+                projectCollectionVersionRepository.bumpTasksVersion(projectId);
             } else {
-                transferTaskOwnership(members, task);
-                removeAssignmentForUser(task, user);
+                projectCollectionVersionRepository.bumpVersionsOfUserProjects(userId);
             }
         }
+        return affected;
+    }
+
+    public long countAssignmentsOfUser(User user) {
+        return taskAssignmentRepository.countByUser(user);
     }
 
     private void transferTaskOwnership(List<TaskAssignment> members, Task task) {
@@ -299,13 +410,15 @@ public class TaskService {
         taskRepository.save(task);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Task Details")
     @Transactional
     public TaskResponseDTO updateTaskDetails(Long projectId, Long taskId, TaskRequestUpdateDTO taskUpdateDTO, User actingUser) {
-        Task task = taskProjectAssociationValidator.findAndValidate(taskId, projectId);
+        TaskAccessContext access = taskProjectAssociationValidator.findAndValidateAccess(taskId, projectId, actingUser);
 
-        taskAuthorizationService.checkEditPermission(actingUser, task);
+        taskAuthorizationService.checkEditPermission(actingUser, access);
 
+        Task task = access.getTask();
         if (taskUpdateDTO.getTitle() != null) {
             task.setTitle(taskUpdateDTO.getTitle());
         }
@@ -317,7 +430,9 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
-        return modelMapper.map(updatedTask, TaskResponseDTO.class);
+        projectCollectionVersionRepository.bumpTasksVersion(projectId);
+        changeLogService.taskChanged(projectId, taskId);
+        return taskMapper.toTaskResponseDTO(updatedTask);
 
     }
 
@@ -326,29 +441,4 @@ public class TaskService {
         return taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException(errorMessage));
     }
-
-    private UserAssignmentResponseDTO toUserAssignmentResponseDTO(TaskAssignment assignment) {
-        UserAssignmentResponseDTO dto = new UserAssignmentResponseDTO();
-        dto.setUserId(assignment.getUser().getId());
-        dto.setUsername(assignment.getUser().getUsername());
-        dto.setTaskRole(assignment.getTaskRole());
-        return dto;
-    }
-
-    private UserTaskResponseDTO toUserTaskResponseDTO(Task task) {
-        UserTaskResponseDTO taskDto = new UserTaskResponseDTO();
-        ProjectResponseDTO projectDto = new ProjectResponseDTO();
-
-        projectDto.setId(task.getProject().getId());
-        projectDto.setTitle(task.getProject().getTitle());
-
-        taskDto.setId(task.getId());
-        taskDto.setTitle(task.getTitle());
-        taskDto.setDescription(task.getDescription());
-        taskDto.setStatus(task.getEffectiveStatus());
-        taskDto.setOriginalStatus(task.getStatus());
-        taskDto.setDueDate(task.getDueDate());
-        taskDto.setProject(projectDto);
-        return taskDto;
-    }
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package br.com.teamtacles.task.validator;
 
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
-import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.user.model.User;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,14 +15,15 @@ public class TaskProjectAssociationValidator {
         this.taskRepository = taskRepository;
     }
 
-    public Task findAndValidate(Long taskId, Long projectId) {
-        Task task = taskRepository.findById(taskId)
+    // Tarefa e papéis do usuário numa consulta só; o serviço de autorização decide a partir do contexto
+    public TaskAccessContext findAndValidateAccess(Long taskId, Long projectId, User user) {
+        TaskAccessContext context = taskRepository.findAccessContext(taskId, user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
 
-        if(!task.getProject().getId().equals(projectId)) {
+        if(!context.getTask().getProject().getId().equals(projectId)) {
             throw new ResourceNotFoundException("Task not found with id: " + taskId);
         }
 
-        return task;
+        return context;
     }
 }
@@ -3,6 +3,7 @@ package br.com.teamtacles.team.controller;
 import br.com.teamtacles.common.dto.response.InviteTokenLinkResponseDTO;
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
 import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.common.util.EntityTags;
 import br.com.teamtacles.security.UserAuthenticated;
 import br.com.teamtacles.team.dto.request.*;
 import br.com.teamtacles.team.dto.response.TeamMemberResponseDTO;
@@ -11,6 +12,7 @@ import br.com.teamtacles.team.dto.response.UserTeamResponseDTO;
 import br.com.teamtacles.team.service.TeamService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -132,6 +134,7 @@ public class TeamController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved team data",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TeamResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden, user is not a member of this team",
@@ -142,9 +145,15 @@ public class TeamController {
     @GetMapping("/{teamId}")
     public ResponseEntity<TeamResponseDTO> getTeamById(
             @PathVariable Long teamId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        String etag = teamService.findTeamETag(teamId, authenticatedUser.getUser()).orElse(null);
+        if (EntityTags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         TeamResponseDTO team = teamService.getTeamById(teamId, authenticatedUser.getUser());
-        return ResponseEntity.ok(team);
+        return ResponseEntity.ok().eTag(etag).body(team);
     }
 
     @Operation(summary = "Get all members of a team", description = "Retrieves a paginated list of all members for a specific team. User must be a member of the team.")
@@ -0,0 +1,29 @@
+package br.com.teamtacles.team.mapper;
+
+import br.com.teamtacles.common.mapper.CentralMapperConfig;
+import br.com.teamtacles.team.dto.response.TeamMemberResponseDTO;
+import br.com.teamtacles.team.dto.response.TeamResponseDTO;
+import br.com.teamtacles.team.dto.response.UserTeamResponseDTO;
+import br.com.teamtacles.team.model.Team;
+import br.com.teamtacles.team.model.TeamMember;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(config = CentralMapperConfig.class)
+public interface TeamMapper {
+
+    TeamResponseDTO toTeamResponseDTO(Team team);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "username", source = "user.username")
+    @Mapping(target = "email", source = "user.email")
+    TeamMemberResponseDTO toTeamMemberResponseDTO(TeamMember membership);
+
+    @Mapping(target = "id", source = "team.id")
+    @Mapping(target = "name", source = "team.name")
+    @Mapping(target = "description", source = "team.description")
+    @Mapping(target = "teamRole", source = "membership.teamRole")
+    UserTeamResponseDTO toUserTeamResponseDTO(Team team, TeamMember membership, List<String> memberNames, long memberCount);
+}
@@ -8,7 +8,6 @@ import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -19,9 +18,15 @@ import java.util.UUID;
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada a cada alteração da linha; é a base do ETag do recurso
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Setter
     @Column(nullable = false, unique = true, length = 50)
     private String name;
@@ -33,16 +38,14 @@ public class Team {
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
-    @Column(name = "invitation_token")
-    private String invitationToken;
-
-    @Column(name = "invitation_token_expiry")
-    private OffsetDateTime invitationTokenExpiry;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
+    // Links de convite assinados com uma geração anterior deixam de valer
+    @Column(name = "invite_link_generation", nullable = false)
+    private int inviteLinkGeneration;
+
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<TeamMember> members = new HashSet<>();
 
@@ -67,24 +70,14 @@ public class Team {
         member.setTeam(null);
     }
 
-    public String generateInviteLinkToken() {
-        String token = UUID.randomUUID().toString();
-
-        this.invitationToken = token;
-        this.invitationTokenExpiry = OffsetDateTime.now().plusHours(24);
-
-        return token;
-    }
-
-    public void expiryInviteLinkToken() {
-        this.invitationToken = null;
-        this.invitationTokenExpiry = null;
-    }
-
     public void transferOwnership(User newOwner) {
         this.owner = newOwner;
     }
 
+    public int rotateInviteLinkGeneration() {
+        return ++this.inviteLinkGeneration;
+    }
+
     public Set<TeamMember> getMembers() {
         return Collections.unmodifiableSet(members);
     }
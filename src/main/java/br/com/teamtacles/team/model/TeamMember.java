@@ -6,7 +6,6 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.OffsetDateTime;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -17,9 +16,15 @@ import java.util.UUID;
 public class TeamMember {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_members_seq")
+    @SequenceGenerator(name = "team_members_seq", sequenceName = "team_members_seq", allocationSize = 50)
     private Long id;
 
+    // Controle otimista: alterações concorrentes no mesmo vínculo falham em vez de se sobrescreverem
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,12 +44,6 @@ public class TeamMember {
     @Column(name = "team_role", nullable = false)
     private ETeamRole teamRole;
 
-    @Column(name = "invitation_token")
-    private String invitationToken;
-
-    @Column(name = "invitation_token_expiry")
-    private OffsetDateTime invitationTokenExpiry;
-
     @PrePersist
     public void OnInvite() {
         if(this.joinedAt == null){
@@ -58,19 +57,8 @@ public class TeamMember {
         this.teamRole = teamRole;
     }
 
-    public String generateInvitation() {
-        String token = UUID.randomUUID().toString();
-
-        this.invitationToken = token;
-        this.invitationTokenExpiry = OffsetDateTime.now().plusHours(24);
-
-        return token;
-    }
-
     public void acceptedInvitation() {
         this.acceptedInvite = true;
-        this.invitationToken = null;
-        this.invitationTokenExpiry = null;
     }
 
     public void changeRole(ETeamRole role) {
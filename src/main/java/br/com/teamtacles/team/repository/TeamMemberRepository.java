@@ -1,26 +1,53 @@
 package br.com.teamtacles.team.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import br.com.teamtacles.team.model.Team;
 import br.com.teamtacles.team.model.TeamMember;
 import br.com.teamtacles.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     Optional<TeamMember> findByUserAndTeam(User user, Team team);
     Page<TeamMember> findByUserAndAcceptedInviteTrue(User user, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
     Page<TeamMember> findByTeamAndAcceptedInviteTrue(Team team, Pageable pageable);
     Page<TeamMember> findByUser(User user, Pageable pageable);
-    Optional<TeamMember> findByInvitationToken(String token);
     long countByTeamAndAcceptedInviteTrue(Team team);
+    long countByUser(User user);
+
+    // Pode trazer pares além dos pedidos (produto dos dois conjuntos); quem chama filtra
+    @Query("SELECT tm FROM TeamMember tm JOIN FETCH tm.user " +
+            "WHERE tm.team.id IN :teamIds AND tm.user.id IN :userIds AND tm.acceptedInvite = true")
+    List<TeamMember> findAcceptedByTeamIdsAndUserIds(@Param("teamIds") Collection<Long> teamIds,
+                                                     @Param("userIds") Collection<Long> userIds);
 
-    @Query("SELECT tm FROM TeamMember tm JOIN FETCH tm.user WHERE tm.team.id = :teamId AND tm.acceptedInvite = true")
-    List<TeamMember> findAcceptedByTeamIdWithUser(@Param("teamId") Long teamId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_members"))
+    @Query(value = "DELETE FROM team_members WHERE id IN ( " +
+            "SELECT tm.id FROM team_members tm WHERE tm.user_id = :userId ORDER BY tm.id LIMIT :limit)", nativeQuery = true)
+    int deleteAllOfUser(@Param("userId") Long userId, @Param("limit") int limit);
 
-}
\ No newline at end of file
+    // Convites não aceitos, feitos antes do corte e sem token de convite válido
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_members"))
+    @Query(value = "DELETE FROM team_members WHERE id IN ( " +
+            "SELECT tm.id FROM team_members tm WHERE tm.accepted_invite = FALSE AND tm.joined_at < :invitedBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM secure_tokens st WHERE st.token_type = 'TEAM_INVITATION' " +
+            "AND st.subject_id = tm.id AND st.expires_at >= :now) " +
+            "ORDER BY tm.id LIMIT :limit)", nativeQuery = true)
+    int deleteStaleInvitations(@Param("invitedBefore") OffsetDateTime invitedBefore, @Param("now") OffsetDateTime now,
+                               @Param("limit") int limit);
+}
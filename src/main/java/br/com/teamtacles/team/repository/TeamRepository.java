@@ -1,5 +1,9 @@
 package br.com.teamtacles.team.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import br.com.teamtacles.team.dto.request.TeamFilterDTO;
 import br.com.teamtacles.team.model.Team;
 import br.com.teamtacles.user.model.User;
@@ -9,12 +13,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
     boolean existsByNameIgnoreCaseAndOwner(String name, User owner);
-    Optional<Team> findByInvitationToken(String token);
     List<Team> findAllByOwner(User owner);
 
     @Query("SELECT DISTINCT t FROM Team t " +
@@ -24,4 +28,43 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "AND ( COALESCE(:#{#filter.createdAtAfter}, CAST(NULL AS date)) IS NULL OR CAST(t.createdAt AS date) >= :#{#filter.createdAtAfter} ) " +
             "AND ( COALESCE(:#{#filter.createdAtBefore}, CAST(NULL AS date)) IS NULL OR CAST(t.createdAt AS date) <= :#{#filter.createdAtBefore} )")
     Page<Team> findTeamsByUserWithFilters(@Param("user") User user, @Param("filter") TeamFilterDTO filter, Pageable pageable);
+
+    // Versão para o ETag sem carregar o time; vazio se o usuário não for membro aceito
+    @Query("SELECT t.version FROM Team t WHERE t.id = :teamId " +
+            "AND EXISTS (SELECT 1 FROM TeamMember tm WHERE tm.team = t AND tm.user.id = :userId AND tm.acceptedInvite = true)")
+    Optional<Long> findVersionVisibleTo(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    // Usado pela sincronização: os que faltarem no resultado foram apagados ou deixaram de ser visíveis
+    @Query("SELECT t FROM Team t WHERE t.id IN :teamIds " +
+            "AND EXISTS (SELECT 1 FROM TeamMember tm WHERE tm.team = t AND tm.user.id = :userId AND tm.acceptedInvite = true)")
+    List<Team> findAllVisibleTo(@Param("teamIds") Collection<Long> teamIds, @Param("userId") Long userId);
+
+    // Exclusão de conta em lote: times sem outro membro aceito são apagados (team_members cai por ON DELETE CASCADE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "teams"))
+    @Query(value = "DELETE FROM teams WHERE id IN ( " +
+            "SELECT t.id FROM teams t WHERE t.owner_id = :userId " +
+            "AND NOT EXISTS (SELECT 1 FROM team_members tm WHERE tm.team_id = t.id AND tm.user_id <> :userId AND tm.accepted_invite = TRUE) " +
+            "ORDER BY t.id LIMIT :limit)", nativeQuery = true)
+    int deleteOwnedTeamsWithoutOtherMembers(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // A posse passa ao ADMIN mais antigo ou, se não houver, ao membro aceito mais antigo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "teams"))
+    @Query(value = "WITH candidates AS ( " +
+            "SELECT t.id FROM teams t WHERE t.owner_id = :userId " +
+            "AND EXISTS (SELECT 1 FROM team_members tm WHERE tm.team_id = t.id AND tm.user_id <> :userId AND tm.accepted_invite = TRUE) " +
+            "ORDER BY t.id LIMIT :limit), " +
+            "successors AS ( " +
+            "SELECT ranked.team_id, ranked.user_id FROM ( " +
+            "SELECT tm.team_id, tm.user_id, ROW_NUMBER() OVER (PARTITION BY tm.team_id " +
+            "ORDER BY CASE WHEN tm.team_role = 'ADMIN' THEN 0 ELSE 1 END, tm.joined_at, tm.id) AS position " +
+            "FROM team_members tm JOIN candidates c ON c.id = tm.team_id " +
+            "WHERE tm.user_id <> :userId AND tm.accepted_invite = TRUE) ranked " +
+            "WHERE ranked.position = 1), " +
+            "transferred AS ( " +
+            "UPDATE teams t SET owner_id = s.user_id, version = t.version + 1 FROM successors s WHERE t.id = s.team_id RETURNING t.id, t.owner_id) " +
+            "UPDATE team_members tm SET team_role = 'OWNER', version = tm.version + 1 FROM transferred tr " +
+            "WHERE tm.team_id = tr.id AND tm.user_id = tr.owner_id", nativeQuery = true)
+    int transferOwnedTeamsToSuccessor(@Param("userId") Long userId, @Param("limit") int limit);
 }
@@ -1,6 +1,7 @@
 package br.com.teamtacles.team.service;
 
 import br.com.teamtacles.config.aop.BusinessActivityLog;
+import br.com.teamtacles.config.aop.RetryOnConflict;
 import br.com.teamtacles.infrastructure.email.EmailService;
 import br.com.teamtacles.team.dto.request.*;
 import br.com.teamtacles.common.dto.response.page.PagedResponse;
@@ -9,22 +10,33 @@ import br.com.teamtacles.team.dto.response.TeamMemberResponseDTO;
 import br.com.teamtacles.team.dto.response.TeamResponseDTO;
 import br.com.teamtacles.team.dto.response.UserTeamResponseDTO;
 import br.com.teamtacles.team.enumeration.ETeamRole;
+import br.com.teamtacles.team.mapper.TeamMapper;
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
 import br.com.teamtacles.common.mapper.PagedResponseMapper;
+import br.com.teamtacles.common.util.EntityTags;
+import br.com.teamtacles.sync.service.ChangeLogService;
 import br.com.teamtacles.team.model.Team;
 import br.com.teamtacles.team.model.TeamMember;
 import br.com.teamtacles.team.validator.*;
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.InviteLinkTokenService;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.team.repository.TeamMemberRepository;
 import br.com.teamtacles.team.repository.TeamRepository;
 import br.com.teamtacles.user.service.UserService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +45,8 @@ import java.util.stream.Collectors;
 @Service
 public class TeamService {
 
+    private static final Duration INVITATION_TTL = Duration.ofHours(24);
+
     @Value("${app.base-url}")
     private String baseUrl;
 
@@ -47,23 +61,29 @@ public class TeamService {
 
     private final UserService userService;
     private final EmailService emailService;
+    private final SecureTokenService secureTokenService;
+    private final InviteLinkTokenService inviteLinkTokenService;
 
-    private final ModelMapper modelMapper;
+    private final TeamMapper teamMapper;
     private final PagedResponseMapper pagedResponseMapper;
+    private final ChangeLogService changeLogService;
 
     public TeamService(TeamRepository teamRepository, TeamMemberRepository teamMemberRepository,
-                       UserService userService, ModelMapper modelMapper,
+                       UserService userService, TeamMapper teamMapper,
                        TeamAuthorizationService teamAuthorizationService,
                        PagedResponseMapper pagedResponseMapper, EmailService emailService,
                        TeamNameUniquenessValidator teamNameUniquenessValidator,
                        TeamMembershipValidator teamMembershipValidator,
                        TeamTokenValidator teamTokenValidator,
                        TeamMembershipActionValidator teamMembershipActionValidator,
-                       TeamInvitationValidator teamInvitationValidator) {
+                       TeamInvitationValidator teamInvitationValidator,
+                       SecureTokenService secureTokenService,
+                       InviteLinkTokenService inviteLinkTokenService,
+                       ChangeLogService changeLogService) {
         this.teamRepository = teamRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.userService = userService;
-        this.modelMapper = modelMapper;
+        this.teamMapper = teamMapper;
         this.teamAuthorizationService = teamAuthorizationService;
         this.pagedResponseMapper = pagedResponseMapper;
         this.emailService = emailService;
@@ -72,6 +92,9 @@ public class TeamService {
         this.teamTokenValidator = teamTokenValidator;
         this.teamMembershipActionValidator = teamMembershipActionValidator;
         this.teamInvitationValidator = teamInvitationValidator;
+        this.secureTokenService = secureTokenService;
+        this.inviteLinkTokenService = inviteLinkTokenService;
+        this.changeLogService = changeLogService;
     }
 
     @BusinessActivityLog(action = "Create Team")
@@ -83,12 +106,16 @@ public class TeamService {
 
         TeamMember creatorMembership = new TeamMember(actingUser, newTeam, ETeamRole.OWNER);
         creatorMembership.acceptedInvitation();
-        newTeam.addMember(creatorMembership);
 
+        // A associação é gravada direto pelo repositório, nunca via team.members (ver acceptInvitationFromLink)
         Team savedTeam = teamRepository.save(newTeam);
-        return modelMapper.map(savedTeam, TeamResponseDTO.class);
+        teamMemberRepository.save(creatorMembership);
+        changeLogService.teamChanged(savedTeam.getId());
+        changeLogService.teamMemberChanged(savedTeam.getId(), actingUser.getId());
+        return teamMapper.toTeamResponseDTO(savedTeam);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Team")
     @Transactional
     public TeamResponseDTO updateTeam(Long teamId, TeamRequestUpdateDTO dto, User actingUser) {
@@ -108,9 +135,11 @@ public class TeamService {
         }
 
         Team updatedTeam = teamRepository.save(team);
-        return modelMapper.map(updatedTeam, TeamResponseDTO.class);
+        changeLogService.teamChanged(teamId);
+        return teamMapper.toTeamResponseDTO(updatedTeam);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Update Team Member Role")
     @Transactional
     public TeamMemberResponseDTO updateMemberRole(Long teamId, Long userIdToUpdate, UpdateMemberRoleTeamRequestDTO dto, User actingUser) {
@@ -125,16 +154,26 @@ public class TeamService {
 
         membershipToUpdate.changeRole(dto.getNewRole());
         TeamMember updatedMembership = teamMemberRepository.save(membershipToUpdate);
+        changeLogService.teamMemberChanged(teamId, userIdToUpdate);
+
+        return teamMapper.toTeamMemberResponseDTO(updatedMembership);
+    }
 
-        return toTeamMemberResponseDTO(updatedMembership);
+    // Vazio quando o time não existe ou o usuário não é membro: o caminho completo gera o erro adequado
+    @Transactional(readOnly = true)
+    public Optional<String> findTeamETag(Long teamId, User actingUser) {
+        return teamRepository.findVersionVisibleTo(teamId, actingUser.getId())
+                .map(version -> EntityTags.strong("team", teamId, version));
     }
 
+    @Transactional(readOnly = true)
     public TeamResponseDTO getTeamById(Long teamId, User actingUser) {
         Team team = findTeamByIdOrThrow(teamId);
         teamAuthorizationService.checkTeamMembership(actingUser, team);
-        return modelMapper.map(team, TeamResponseDTO.class);
+        return teamMapper.toTeamResponseDTO(team);
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<UserTeamResponseDTO> getAllTeamsByUser(Pageable pageable, TeamFilterDTO filter, User actingUser) {
         Page<Team> teamsPage = teamRepository.findTeamsByUserWithFilters(actingUser, filter, pageable);
 
@@ -152,20 +191,21 @@ public class TeamService {
                     .map(member -> member.getUser().getUsername())
                     .collect(Collectors.toList());
 
-            return toUserTeamResponseDTO(team, membership, memberNames, memberCount);
+            return teamMapper.toUserTeamResponseDTO(team, membership, memberNames, memberCount);
         });
 
-        return pagedResponseMapper.toPagedResponse(userTeamResponseDTOPage, UserTeamResponseDTO.class);
+        return pagedResponseMapper.toPagedResponse(userTeamResponseDTOPage);
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<TeamMemberResponseDTO> getAllMembersFromTeam(Pageable pageable, Long teamId, User actingUser) {
         Team team = findTeamByIdOrThrow(teamId);
         teamAuthorizationService.checkTeamMembership(actingUser, team);
 
         Page<TeamMember> teamsMemberPage = teamMemberRepository.findByTeamAndAcceptedInviteTrue(team, pageable);
-        Page<TeamMemberResponseDTO> teamMemberResponseDTOPage = teamsMemberPage.map(this::toTeamMemberResponseDTO);
+        Page<TeamMemberResponseDTO> teamMemberResponseDTOPage = teamsMemberPage.map(teamMapper::toTeamMemberResponseDTO);
 
-        return pagedResponseMapper.toPagedResponse(teamMemberResponseDTOPage, TeamMemberResponseDTO.class);
+        return pagedResponseMapper.toPagedResponse(teamMemberResponseDTOPage);
     }
 
     @BusinessActivityLog(action = "Invite Member to Team")
@@ -181,21 +221,19 @@ public class TeamService {
         Optional<TeamMember> existingMembership = teamMemberRepository.findByUserAndTeam(userToInvite, team);
 
         TeamMember memberToInvite;
-        String token;
 
         if (existingMembership.isPresent()) {
             memberToInvite = existingMembership.get();
             memberToInvite.changeRole(dto.getRole());
-            token = memberToInvite.generateInvitation();
-            teamMemberRepository.save(memberToInvite);
         } else {
             memberToInvite = new TeamMember(userToInvite, team, dto.getRole());
-            token = memberToInvite.generateInvitation();
-            team.addMember(memberToInvite);
-            teamRepository.save(team);
         }
 
-        emailService.sendTeamInvitationEmail(userToInvite.getEmail(), team.getName(), token);
+        // O id da associação é o sujeito do token, por isso ela é salva antes da emissão
+        memberToInvite = teamMemberRepository.save(memberToInvite);
+        IssuedToken token = secureTokenService.issue(ETokenType.TEAM_INVITATION, memberToInvite.getId(), INVITATION_TTL);
+
+        emailService.sendTeamInvitationEmail(userToInvite.getEmail(), team.getName(), token.getValue());
     }
 
     @BusinessActivityLog(action = "Accept Team Invitation via Email")
@@ -205,12 +243,15 @@ public class TeamService {
             throw new IllegalArgumentException("Invitation token cannot be null or empty.");
         }
 
-        TeamMember membership = findByInvitationTokenEmailORThrow(token);
-        teamTokenValidator.validateInvitationToken(membership);
+        SecureToken invitation = findInvitationTokenOrThrow(ETokenType.TEAM_INVITATION, token);
+        teamTokenValidator.validateInvitationToken(invitation);
 
+        TeamMember membership = findMembershipByInvitationOrThrow(invitation);
         membership.acceptedInvitation();
 
         teamMemberRepository.save(membership);
+        changeLogService.teamMemberJoined(membership.getTeam().getId(), membership.getUser().getId());
+        secureTokenService.revoke(ETokenType.TEAM_INVITATION, membership.getId());
     }
 
     @BusinessActivityLog(action = "Generate Team Invitation Link")
@@ -219,11 +260,13 @@ public class TeamService {
         Team team = findTeamByIdOrThrow(teamID);
         teamAuthorizationService.checkTeamAdmin(actingUser, team);
 
-        String token = team.generateInviteLinkToken();
+        // Um novo link invalida os anteriores ao avançar a geração gravada no time
+        int generation = team.rotateInviteLinkGeneration();
         teamRepository.save(team);
 
-        return new InviteTokenLinkResponseDTO(token,
-            team.getInvitationTokenExpiry());
+        IssuedToken token = inviteLinkTokenService.issue(EInviteScope.TEAM, team.getId(), ETeamRole.MEMBER.name(), generation, INVITATION_TTL);
+
+        return new InviteTokenLinkResponseDTO(token.getValue(), token.getExpiresAt());
     }
 
     @BusinessActivityLog(action = "Accept Team Invitation via Link")
@@ -233,25 +276,32 @@ public class TeamService {
             throw new IllegalArgumentException("Invitation token cannot be null or empty.");
         }
 
-        Team team = findByInvitationTokenLinkOrThrow(token);
+        // Assinatura e expiração são conferidas em memória; o banco só é consultado para links íntegros
+        InviteLinkClaims invitation = inviteLinkTokenService.parse(EInviteScope.TEAM, token)
+                .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
+        teamTokenValidator.validateInvitationLinkToken(invitation);
 
-        teamTokenValidator.validateInvitationLinkToken(team);
+        Team team = findTeamByInvitationOrThrow(invitation);
+        teamTokenValidator.validateInvitationLinkGeneration(invitation, team);
         teamMembershipValidator.validateNewMember(actingUser, team);
 
+        ETeamRole role = ETeamRole.valueOf(invitation.getRole());
+
         Optional<TeamMember> existingMembership = teamMemberRepository.findByUserAndTeam(actingUser, team);
+        changeLogService.teamMemberJoined(team.getId(), actingUser.getId());
 
         if(existingMembership.isPresent()) {
             TeamMember membership = existingMembership.get();
             membership.acceptedInvitation();
-            membership.changeRole(ETeamRole.MEMBER);
+            membership.changeRole(role);
             teamMemberRepository.save(membership);
-            return toTeamMemberResponseDTO(membership);
+            return teamMapper.toTeamMemberResponseDTO(membership);
         } else {
-            TeamMember newMember = new TeamMember(actingUser, team, ETeamRole.MEMBER);
+            // INSERT só da nova associação: passar por team.addMember inicializaria a coleção inteira de membros
+            TeamMember newMember = new TeamMember(actingUser, team, role);
             newMember.acceptedInvitation();
-            team.addMember(newMember);
-            teamRepository.save(team);
-            return toTeamMemberResponseDTO(newMember);
+            teamMemberRepository.save(newMember);
+            return teamMapper.toTeamMemberResponseDTO(newMember);
         }
     }
 
@@ -260,9 +310,11 @@ public class TeamService {
     public void deleteTeam(Long teamId, User actingUser) {
         Team team = findTeamByIdOrThrow(teamId);
         teamAuthorizationService.checkTeamOwner(actingUser, team);
+        changeLogService.teamDeleted(teamId);
         teamRepository.delete(team);
     }
 
+    @RetryOnConflict
     @BusinessActivityLog(action = "Remove Member from Team")
     @Transactional
     public void deleteMembershipFromTeam(Long teamId, Long userIdToDelete, User actingUser) {
@@ -275,10 +327,11 @@ public class TeamService {
 
         teamMembershipActionValidator.validateDeletion(actingMembership, membershipToDelete);
 
-        team.removeMember(membershipToDelete);
-        teamRepository.save(team);
+        teamMemberRepository.delete(membershipToDelete);
+        changeLogService.teamMemberRemoved(teamId, userIdToDelete);
     }
 
+    @RetryOnConflict
     @Transactional
     public void leaveTeam(Long teamId, User actingUser) {
         Team team = findTeamByIdOrThrow(teamId);
@@ -292,32 +345,40 @@ public class TeamService {
                     .toList();
 
             if(members.isEmpty()) {
+                changeLogService.teamDeleted(teamId);
                 teamRepository.delete(team);
-            } else {
-                transferProjectOwnership(members, team);
-                removeAssignmentForUser(team, actingUser);
+                return;
             }
+            transferProjectOwnership(members, team);
+            removeLoadedMembership(team, actingUser);
         } else {
-            removeAssignmentForUser(team, actingUser);
+            teamMemberRepository.delete(findMembershipByIdOrThrow(actingUser, team));
         }
+        changeLogService.teamMemberRemoved(teamId, actingUser.getId());
     }
 
     @Transactional
     public void handleOwnerDeletion(User actingUser) {
-        List<Team> teams = teamRepository.findAllByOwner(actingUser);
+        releaseTeamsOfUser(actingUser.getId(), Integer.MAX_VALUE);
+    }
 
-        for(Team team : teams) {
-            List<TeamMember> members = team.getMembers().stream()
-                    .filter(m -> !m.getUser().equals(actingUser) && m.isAcceptedInvite())
-                    .toList();
+    // Mesma regra de leaveTeam aplicada a todos os times do usuário, em lotes de no máximo "limit" linhas por comando
+    @Transactional
+    public int releaseTeamsOfUser(Long userId, int limit) {
+        changeLogService.teamMembershipsOfUserReleased(userId);
+        int affected = teamRepository.deleteOwnedTeamsWithoutOtherMembers(userId, limit);
+        affected += teamRepository.transferOwnedTeamsToSuccessor(userId, limit);
+        affected += teamMemberRepository.deleteAllOfUser(userId, limit);
+        return affected;
+    }
 
-            if(members.isEmpty()) {
-                teamRepository.delete(team);
-            } else {
-                transferProjectOwnership(members, team);
-                removeAssignmentForUser(team, actingUser);
-            }
-        }
+    @Transactional
+    public int purgeStaleInvitations(OffsetDateTime invitedBefore, int limit) {
+        return teamMemberRepository.deleteStaleInvitations(invitedBefore, OffsetDateTime.now(), limit);
+    }
+
+    public long countMembershipsOfUser(User user) {
+        return teamMemberRepository.countByUser(user);
     }
 
     private void transferProjectOwnership(List<TeamMember> members, Team team) {
@@ -336,10 +397,13 @@ public class TeamService {
             member.changeRole(ETeamRole.OWNER);
             teamMemberRepository.save(member);
             teamRepository.save(team);
+            changeLogService.teamMemberChanged(team.getId(), newOwner.getId());
         });
     }
 
-    private void removeAssignmentForUser(Team team, User actingUser) {
+    // Só para quando team.members já foi carregada: apagar pelo repositório um item ainda presente na coleção
+    // faria o cascade regravá-lo no flush
+    private void removeLoadedMembership(Team team, User actingUser) {
         TeamMember member = team.getMembers().stream()
                 .filter(m -> m.getUser().equals(actingUser))
                 .findFirst()
@@ -358,8 +422,13 @@ public class TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
     }
 
-    private Team findByInvitationTokenLinkOrThrow(String token) {
-        return teamRepository.findByInvitationToken(token)
+    private SecureToken findInvitationTokenOrThrow(ETokenType tokenType, String token) {
+        return secureTokenService.find(tokenType, token)
+                .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
+    }
+
+    private Team findTeamByInvitationOrThrow(InviteLinkClaims invitation) {
+        return teamRepository.findById(invitation.getTargetId())
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
     }
 
@@ -368,28 +437,8 @@ public class TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("User to update not found in this team."));
     }
 
-    private TeamMember findByInvitationTokenEmailORThrow(String token) {
-        return teamMemberRepository.findByInvitationToken(token)
+    private TeamMember findMembershipByInvitationOrThrow(SecureToken invitation) {
+        return teamMemberRepository.findById(invitation.getSubjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Invalid invitation."));
     }
-
-    private TeamMemberResponseDTO toTeamMemberResponseDTO(TeamMember membership) {
-        TeamMemberResponseDTO dto = new TeamMemberResponseDTO();
-        dto.setUserId(membership.getUser().getId());
-        dto.setUsername(membership.getUser().getUsername());
-        dto.setEmail(membership.getUser().getEmail());
-        dto.setTeamRole(membership.getTeamRole());
-        return dto;
-    }
-
-    private UserTeamResponseDTO toUserTeamResponseDTO(Team team, TeamMember membership, List<String> memberNames, Long memberCount) {
-        UserTeamResponseDTO dto = new UserTeamResponseDTO();
-        dto.setId(team.getId());
-        dto.setName(team.getName());
-        dto.setDescription(team.getDescription());
-        dto.setTeamRole(membership.getTeamRole());
-        dto.setMemberCount(memberCount);
-        dto.setMemberNames(memberNames);
-        return dto;
-    }
 }
@@ -2,22 +2,27 @@ package br.com.teamtacles.team.validator;
 
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
 import br.com.teamtacles.team.model.Team;
-import br.com.teamtacles.team.model.TeamMember;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.SecureToken;
 import org.springframework.stereotype.Component;
 
-import java.time.OffsetDateTime;
-
 @Component
 public class TeamTokenValidator {
 
-    public void validateInvitationLinkToken(Team team) {
-        if (team.getInvitationToken() == null || team.getInvitationTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validateInvitationLinkToken(InviteLinkClaims claims) {
+        if (claims.isExpired()) {
             throw new ResourceNotFoundException("Invitation token has expired.");
         }
     }
 
-    public void validateInvitationToken(TeamMember teamMember) {
-        if (teamMember.getInvitationToken() == null || teamMember.getInvitationTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validateInvitationLinkGeneration(InviteLinkClaims claims, Team team) {
+        if (claims.getGeneration() != team.getInviteLinkGeneration()) {
+            throw new ResourceNotFoundException("Invitation link has been revoked.");
+        }
+    }
+
+    public void validateInvitationToken(SecureToken token) {
+        if (token.isExpired()) {
             throw new ResourceNotFoundException("Invitation token has expired.");
         }
     }
@@ -0,0 +1,7 @@
+package br.com.teamtacles.token.enumeration;
+
+// O targetId de cada escopo aponta para uma tabela diferente
+public enum EInviteScope {
+    TEAM,        // teams.id
+    PROJECT      // project.id
+}
@@ -0,0 +1,9 @@
+package br.com.teamtacles.token.enumeration;
+
+// O subject_id de cada tipo aponta para uma tabela diferente
+public enum ETokenType {
+    EMAIL_VERIFICATION,      // users.id
+    PASSWORD_RESET,          // users.id
+    TEAM_INVITATION,         // team_members.id
+    PROJECT_INVITATION       // project_members.id
+}
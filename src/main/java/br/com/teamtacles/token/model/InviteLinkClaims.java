@@ -0,0 +1,24 @@
+package br.com.teamtacles.token.model;
+
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+
+// Conteúdo assinado de um link de convite; só existe depois que a assinatura foi conferida
+@Getter
+@ToString
+@AllArgsConstructor
+public class InviteLinkClaims {
+    private final EInviteScope scope;
+    private final Long targetId;
+    private final String role;
+    private final OffsetDateTime expiresAt;
+    private final int generation;
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.teamtacles.token.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+// Valor em claro devolvido uma única vez, no momento da emissão
+@Getter
+@AllArgsConstructor
+public class IssuedToken {
+    private final String value;
+    private final OffsetDateTime expiresAt;
+}
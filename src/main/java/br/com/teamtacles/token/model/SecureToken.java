@@ -0,0 +1,57 @@
+package br.com.teamtacles.token.model;
+
+import br.com.teamtacles.token.enumeration.ETokenType;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@NoArgsConstructor
+@ToString(exclude = "tokenHash")
+@EqualsAndHashCode(of = "id")
+@Entity
+@Table(name = "secure_tokens")
+public class SecureToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "secure_tokens_seq")
+    @SequenceGenerator(name = "secure_tokens_seq", sequenceName = "secure_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    // Só o SHA-256 do token é persistido; o valor original existe apenas no e-mail/link enviado
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, updatable = false)
+    private String tokenHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "token_type", nullable = false, length = 40, updatable = false)
+    private ETokenType tokenType;
+
+    @Column(name = "subject_id", nullable = false, updatable = false)
+    private Long subjectId;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private OffsetDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    public SecureToken(String tokenHash, ETokenType tokenType, Long subjectId, OffsetDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.tokenType = tokenType;
+        this.subjectId = subjectId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(OffsetDateTime.now());
+    }
+}
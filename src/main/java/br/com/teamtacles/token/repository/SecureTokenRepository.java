@@ -0,0 +1,25 @@
+package br.com.teamtacles.token.repository;
+
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.SecureToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+public interface SecureTokenRepository extends JpaRepository<SecureToken, Long> {
+
+    Optional<SecureToken> findByTokenHashAndTokenType(String tokenHash, ETokenType tokenType);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SecureToken t WHERE t.tokenType = :tokenType AND t.subjectId = :subjectId")
+    int deleteAllByTokenTypeAndSubjectId(@Param("tokenType") ETokenType tokenType, @Param("subjectId") Long subjectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM secure_tokens WHERE id IN ( " +
+            "SELECT st.id FROM secure_tokens st WHERE st.expires_at < :now ORDER BY st.id LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,102 @@
+package br.com.teamtacles.token.service;
+
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.IssuedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+// Links de convite autocontidos: <payload>.<assinatura>, ambos em base64url.
+// O payload carrega escopo, alvo, papel, expiração e a geração de revogação do alvo,
+// então links malformados, forjados ou de outro escopo são recusados sem ir ao banco.
+@Service
+public class InviteLinkTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final int MAX_TOKEN_LENGTH = 256;
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+
+    public InviteLinkTokenService(@Value("${app.invite-links.secret}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("app.invite-links.secret is not set: define the INVITE_LINK_SECRET environment variable "
+                    + "with at least " + MIN_SECRET_BYTES + " bytes.");
+        }
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.invite-links.secret (INVITE_LINK_SECRET) must have at least " + MIN_SECRET_BYTES + " bytes.");
+        }
+        this.signingKey = new SecretKeySpec(secretBytes, ALGORITHM);
+    }
+
+    public IssuedToken issue(EInviteScope scope, Long targetId, String role, int generation, Duration timeToLive) {
+        Instant expiresAt = Instant.now().plus(timeToLive);
+        String payload = String.join(FIELD_SEPARATOR,
+                scope.name(), targetId.toString(), role, Long.toString(expiresAt.getEpochSecond()), Integer.toString(generation));
+
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String value = encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+
+        return new IssuedToken(value, OffsetDateTime.ofInstant(Instant.ofEpochSecond(expiresAt.getEpochSecond()), ZoneOffset.UTC));
+    }
+
+    // Vazio para qualquer token que não tenha sido emitido por este serviço para o escopo pedido;
+    // a expiração e a geração ficam a cargo de quem consome as claims
+    public Optional<InviteLinkClaims> parse(EInviteScope expectedScope, String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return Optional.empty();
+        }
+
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        String encodedPayload = token.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(encodedPayload), signature)) {
+                return Optional.empty();
+            }
+
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split(FIELD_SEPARATOR, -1);
+            if (fields.length != 5 || !expectedScope.name().equals(fields[0])) {
+                return Optional.empty();
+            }
+
+            OffsetDateTime expiresAt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(Long.parseLong(fields[3])), ZoneOffset.UTC);
+            return Optional.of(new InviteLinkClaims(
+                    expectedScope, Long.valueOf(fields[1]), fields[2], expiresAt, Integer.parseInt(fields[4])));
+        } catch (IllegalArgumentException e) {
+            // Base64 ou números inválidos (NumberFormatException é subclasse)
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available in this JVM.", e);
+        }
+    }
+}
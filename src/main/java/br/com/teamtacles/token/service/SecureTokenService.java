@@ -0,0 +1,74 @@
+package br.com.teamtacles.token.service;
+
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.repository.SecureTokenRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Service
+public class SecureTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureTokenRepository secureTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public SecureTokenService(SecureTokenRepository secureTokenRepository) {
+        this.secureTokenRepository = secureTokenRepository;
+    }
+
+    // Cada sujeito tem no máximo um token ativo por tipo: emitir um novo revoga o anterior
+    @Transactional
+    public IssuedToken issue(ETokenType tokenType, Long subjectId, Duration timeToLive) {
+        secureTokenRepository.deleteAllByTokenTypeAndSubjectId(tokenType, subjectId);
+
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        OffsetDateTime expiresAt = OffsetDateTime.now().plus(timeToLive);
+        secureTokenRepository.save(new SecureToken(hash(value), tokenType, subjectId, expiresAt));
+
+        return new IssuedToken(value, expiresAt);
+    }
+
+    // Busca pelo índice único do hash; a validade é checada por quem consome o token
+    @Transactional(readOnly = true)
+    public Optional<SecureToken> find(ETokenType tokenType, String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        return secureTokenRepository.findByTokenHashAndTokenType(hash(value), tokenType);
+    }
+
+    @Transactional
+    public void revoke(ETokenType tokenType, Long subjectId) {
+        secureTokenRepository.deleteAllByTokenTypeAndSubjectId(tokenType, subjectId);
+    }
+
+    @Transactional
+    public int purgeExpired(int limit) {
+        return secureTokenRepository.deleteExpired(OffsetDateTime.now(), limit);
+    }
+
+    static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available in this JVM.", e);
+        }
+    }
+}
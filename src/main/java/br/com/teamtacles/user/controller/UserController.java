@@ -1,13 +1,21 @@
 package br.com.teamtacles.user.controller;
 
+import br.com.teamtacles.audit.dto.response.ActivityLogResponseDTO;
+import br.com.teamtacles.audit.service.ActivityLogService;
 import br.com.teamtacles.common.dto.response.MessageResponseDTO;
+import br.com.teamtacles.common.dto.response.page.PagedResponse;
 import br.com.teamtacles.common.exception.ErrorResponse;
+import br.com.teamtacles.orchestration.dto.response.AccountDeletionJobResponseDTO;
+import br.com.teamtacles.orchestration.service.AccountDeletionJobService;
 import br.com.teamtacles.orchestration.service.UserAccountService;
 import br.com.teamtacles.security.UserAuthenticated;
 import br.com.teamtacles.user.dto.request.UserRequestRegisterDTO;
 import br.com.teamtacles.user.dto.request.UserRequestUpdateDTO;
+import br.com.teamtacles.user.dto.response.UserAvailabilityResponseDTO;
 import br.com.teamtacles.user.dto.response.UserResponseDTO;
+import br.com.teamtacles.user.model.User;
 
+import br.com.teamtacles.user.service.UserAvailabilityService;
 import br.com.teamtacles.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,11 +25,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/user")
@@ -30,10 +44,17 @@ public class UserController {
 
     private final UserService userService;
     private final UserAccountService userAccountService;
+    private final AccountDeletionJobService accountDeletionJobService;
+    private final ActivityLogService activityLogService;
+    private final UserAvailabilityService userAvailabilityService;
 
-    public UserController(UserService userService, UserAccountService userAccountService){
+    public UserController(UserService userService, UserAccountService userAccountService, AccountDeletionJobService accountDeletionJobService,
+                          ActivityLogService activityLogService, UserAvailabilityService userAvailabilityService){
         this.userService = userService;
         this.userAccountService = userAccountService;
+        this.accountDeletionJobService = accountDeletionJobService;
+        this.activityLogService = activityLogService;
+        this.userAvailabilityService = userAvailabilityService;
     }
 
     @Operation(summary = "Register a new user", description = "Creates a new user account in the system and sends a verification email.")
@@ -43,6 +64,8 @@ public class UserController {
             @ApiResponse(responseCode = "400", description = "Invalid input data, such as passwords not matching",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "Conflict, username or email already exists",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many requests from this IP or for this email; see Retry-After",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/register")
@@ -52,6 +75,22 @@ public class UserController {
                 .body(new MessageResponseDTO("User registered successfully. Please check your email to verify your account."));
     }
 
+    @Operation(summary = "Check username/email availability", description = "Tells whether a username and/or email can still be registered. "
+            + "Meant for live feedback on signup forms; registration still validates both.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability checked successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = UserAvailabilityResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Neither a username nor an email was provided",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many requests from this IP; see Retry-After",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResponseDTO> checkAvailability(@RequestParam(required = false) String username,
+                                                                         @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userAvailabilityService.checkAvailability(username, email));
+    }
+
     @Operation(summary = "Update user profile", description = "Updates the username, email, or password of the currently authenticated user.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
@@ -100,16 +139,65 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).body(userDTO);
     }
 
-    @Operation(summary = "Delete user account", description = "Permanently deletes the account of the currently authenticated user.",
+    @Operation(summary = "List my activity log", description = "Retrieves the audited actions performed by the authenticated user, newest first. "
+            + "Entries are written in the background and may take a moment to appear.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Activity log retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized if the user is not authenticated",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/activity-log")
+    public ResponseEntity<PagedResponse<ActivityLogResponseDTO>> getMyActivityLog(
+            @AuthenticationPrincipal UserAuthenticated authenticatedUser,
+            Pageable pageable) {
+        PagedResponse<ActivityLogResponseDTO> activityLog = activityLogService.getUserActivityLog(pageable, authenticatedUser.getUser());
+        return ResponseEntity.ok(activityLog);
+    }
+
+    @Operation(summary = "Delete user account", description = "Permanently deletes the account of the currently authenticated user. " +
+            "Large accounts are deleted in the background; the response then points to the job progress.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "User deleted successfully"),
+            @ApiResponse(responseCode = "202", description = "Deletion accepted and running in the background",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = AccountDeletionJobResponseDTO.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized if the user is not authenticated",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping
-    ResponseEntity<Void> updateUser(@AuthenticationPrincipal UserAuthenticated authenticatedUser) {
-        userAccountService.handleUserDeletion(authenticatedUser.getUser());
-        return ResponseEntity.noContent().build();
+    ResponseEntity<AccountDeletionJobResponseDTO> deleteUser(@AuthenticationPrincipal UserAuthenticated authenticatedUser) {
+        User user = authenticatedUser.getUser();
+        long estimatedRows = accountDeletionJobService.estimateRows(user);
+
+        if (!accountDeletionJobService.shouldRunInBackground(estimatedRows)) {
+            userAccountService.handleUserDeletion(user);
+            return ResponseEntity.noContent().build();
+        }
+
+        AccountDeletionJobResponseDTO job = accountDeletionJobService.submit(user, estimatedRows);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/deletion-jobs/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Get account deletion progress", description = "Retrieves the progress of a background account deletion. " +
+            "Only the account being deleted can follow the job; its token keeps working here after the account is gone.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved job progress",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = AccountDeletionJobResponseDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized if the token is missing or invalid",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden if the job belongs to another account",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found or already expired",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/deletion-jobs/{jobId}")
+    public ResponseEntity<AccountDeletionJobResponseDTO> getDeletionJob(@PathVariable UUID jobId, @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(accountDeletionJobService.getJob(jobId, Long.valueOf(jwt.getSubject())));
     }
 }
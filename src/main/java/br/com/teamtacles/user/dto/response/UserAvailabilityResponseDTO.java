@@ -0,0 +1,19 @@
+package br.com.teamtacles.user.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "UserAvailabilityResponse", description = "DTO for returning whether a username and/or email can still be registered")
+public class UserAvailabilityResponseDTO {
+
+    @Schema(description = "Whether the username is free; null when no username was checked.", example = "true")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "Whether the email is free (case-insensitive); null when no email was checked.", example = "false")
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,12 @@
+package br.com.teamtacles.user.mapper;
+
+import br.com.teamtacles.common.mapper.CentralMapperConfig;
+import br.com.teamtacles.user.dto.response.UserResponseDTO;
+import br.com.teamtacles.user.model.User;
+import org.mapstruct.Mapper;
+
+@Mapper(config = CentralMapperConfig.class)
+public interface UserMapper {
+
+    UserResponseDTO toUserResponseDTO(User user);
+}
@@ -2,6 +2,9 @@ package br.com.teamtacles.user.model;
 
 import br.com.teamtacles.user.enumeration.ERole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import lombok.*;
 
 @Getter
@@ -10,6 +13,9 @@ import lombok.*;
 @AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 public class Role {
 
     @Id
@@ -17,10 +17,12 @@ import java.util.Set;
 @EqualsAndHashCode(of = "id")
 @Entity
 @Table(name="users")
+// Fora do cache de segundo nível: senha, enabled e papéis precisam valer em todos os nós assim que mudam
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -35,24 +37,20 @@ public class User {
     @Column(nullable = false, length = 100)
     private String password;
 
-    @Column(name = "reset_password_token")
-    private String resetPasswordToken;
-
-    @Column(name = "reset_password_token_expiry")
-    private OffsetDateTime resetPasswordTokenExpiry;
-
-    @Column(name = "verification_token")
-    private String verificationToken;
-
-    @Column(name = "verification_token_expiry")
-    private OffsetDateTime verificationTokenExpiry;
-
     @Column(nullable = false)
     private boolean enabled = false;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    // Lido pela releitura dos filtros de disponibilidade, que precisa ver nomes e e-mails trocados em outros nós
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+    // Exclusão em segundo plano em andamento: o principal do JWT e o login recusam a conta enquanto estiver preenchido
+    @Column(name = "deletion_requested_at")
+    private OffsetDateTime deletionRequestedAt;
+
     @Column(name = "onboarding_completed", nullable = false)
     private boolean onboardingCompleted = false;
 
@@ -72,6 +70,12 @@ public class User {
     @PrePersist
     public void onCreate() {
         this.createdAt = OffsetDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = OffsetDateTime.now();
     }
 
     public void definePassword(String password) {
@@ -80,8 +84,6 @@ public class User {
 
     public void updatePassword(String newPassword) {
         this.setPassword(newPassword);
-        this.resetPasswordToken = null;
-        this.resetPasswordTokenExpiry = null;
     }
 
     public void confirmAccountVerification() {
@@ -90,34 +92,12 @@ public class User {
         }
 
         this.enabled = true;
-        this.verificationToken = null;
-        this.verificationTokenExpiry = null;
     }
 
     public void disableAccount() {
         this.enabled = false;
     }
 
-    public void assignVerificationToken(String token, OffsetDateTime expiryDate) {
-        this.verificationToken = token;
-        this.verificationTokenExpiry = expiryDate;
-    }
-
-    public void clearPasswordResetToken() {
-        this.resetPasswordToken = null;
-        this.resetPasswordTokenExpiry = null;
-    }
-
-    public void clearVerificationToken() {
-        this.verificationToken = null;
-        this.verificationTokenExpiry = null;
-    }
-
-    public void assignPasswordResetToken(String token, OffsetDateTime expiryDate) {
-        this.resetPasswordToken = token;
-        this.resetPasswordTokenExpiry = expiryDate;
-    }
-
     public void addRole(Role role) {
         this.roles.add(role);
     }
@@ -126,6 +106,10 @@ public class User {
         this.roles.remove(role);
     }
 
+    public boolean isDeletionRequested() {
+        return deletionRequestedAt != null;
+    }
+
     public void markOnboardingAsCompleted() {
         this.onboardingCompleted = true;
     }
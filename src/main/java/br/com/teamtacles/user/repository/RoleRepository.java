@@ -3,8 +3,12 @@ import java.util.Optional;
 
 import br.com.teamtacles.user.enumeration.ERole;
 import br.com.teamtacles.user.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByRoleName(ERole roleName);
 }
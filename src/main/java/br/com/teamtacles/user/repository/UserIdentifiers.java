@@ -0,0 +1,6 @@
+package br.com.teamtacles.user.repository;
+
+public interface UserIdentifiers {
+    String getUsername();
+    String getEmail();
+}
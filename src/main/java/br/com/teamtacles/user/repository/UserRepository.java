@@ -1,20 +1,51 @@
 package br.com.teamtacles.user.repository;
 
 import br.com.teamtacles.user.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
-    Optional<User> findByEmailIgnoreCase(String email);
 
     boolean existsByUsername(String userName);
-    boolean existsByEmail(String email);
     boolean existsByUsernameAndIdNot(String userName, Long userid);
-    boolean existsByEmailAndIdNot(String email, Long userid);
 
-    Optional<User> findByResetPasswordToken(String token);
-    Optional<User> findByVerificationToken(String token);
+    // E-mail é único sem distinguir maiúsculas; lower() (e não o upper() do IgnoreCase derivado) usa o índice idx_users_email_lower
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    boolean existsByEmailIgnoreCase(@Param("email") String email);
+
+    // Login e resolução do principal do JWT: sempre lidos do banco, nunca de um cache local do nó
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) = LOWER(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
+
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email) AND u.id <> :userId")
+    boolean existsByEmailIgnoreCaseAndIdNot(@Param("email") String email, @Param("userId") Long userId);
+
+    // Varredura da tabela inteira sem carregar entidades; precisa de transação aberta e de fechar o stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    Stream<UserIdentifiers> streamAllIdentifiers();
+
+    // Releitura incremental dos filtros de disponibilidade (cadastros e trocas de nome/e-mail); usa idx_users_updated_at
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT u.username AS username, u.email AS email FROM User u WHERE u.updatedAt >= :since")
+    Stream<UserIdentifiers> streamIdentifiersUpdatedSince(@Param("since") OffsetDateTime since);
+
+    // Nulo desfaz a marcação; não toca em updated_at, que só interessa aos filtros de disponibilidade
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.deletionRequestedAt = :requestedAt WHERE u.id = :userId")
+    int updateDeletionRequestedAt(@Param("userId") Long userId, @Param("requestedAt") OffsetDateTime requestedAt);
 }
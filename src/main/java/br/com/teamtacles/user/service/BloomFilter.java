@@ -0,0 +1,104 @@
+package br.com.teamtacles.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Filtro de Bloom thread-safe: "não contém" é definitivo, "pode conter" precisa ser confirmado no banco.
+// Os k índices vêm de dois hashes de 64 bits combinados (h1 + i*h2), sem alocar nada por consulta.
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    BloomFilter(long bitCount, int hashCount) {
+        if (bitCount < 64 || hashCount < 1) {
+            throw new IllegalArgumentException("A Bloom filter needs at least 64 bits and one hash function.");
+        }
+        int wordCount = Math.toIntExact((bitCount + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = hashCount;
+    }
+
+    // Dimensiona para a taxa de falso positivo pedida; se isso passar de maxBytes, o teto prevalece e a taxa sobe
+    static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        long expected = Math.max(1, expectedInsertions);
+        long idealBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bits = Math.max(64, Math.min(idealBits, maxBytes * 8));
+        int hashes = (int) Math.max(1, Math.round((double) bits / expected * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    void put(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(index) & mask) == 0) {
+                words.getAndAccumulate(index, mask, (current, added) -> current | added);
+            }
+        }
+        insertions.increment();
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    // Inclui repetições (ex.: o mesmo usuário registrado de novo após um update), então tende a superestimar
+    long insertions() {
+        return insertions.sum();
+    }
+
+    // (1 - e^(-k*n/m))^k para o número atual de inserções
+    double estimatedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions() / bitCount), hashCount);
+    }
+
+    // FNV-1a direto sobre os chars (unidades UTF-16, sem copiar para um byte[]) seguido do finalizador do
+    // MurmurHash3 para espalhar os bits
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
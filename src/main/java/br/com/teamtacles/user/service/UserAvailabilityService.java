@@ -0,0 +1,244 @@
+package br.com.teamtacles.user.service;
+
+import br.com.teamtacles.user.dto.response.UserAvailabilityResponseDTO;
+import br.com.teamtacles.user.repository.UserIdentifiers;
+import br.com.teamtacles.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+// Responde "nome/e-mail livre?" pelos filtros de Bloom em memória; o banco só é consultado quando o filtro diz
+// "pode existir". Filtro de Bloom não remove itens: contas apagadas e nomes trocados viram falsos positivos
+// até a próxima reconstrução, que relê a tabela inteira. Cadastros e trocas de nome/e-mail feitos em outros nós
+// chegam pela releitura periódica dos usuários alterados desde a última carga.
+@Service
+public class UserAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private final long maxBytesPerFilter;
+    private final Duration refreshOverlap;
+    private final MeterRegistry meterRegistry;
+    private final Supplier<OffsetDateTime> clock;
+
+    // Nulo até a primeira carga: nesse intervalo toda consulta vai ao banco
+    private volatile Filters active;
+    // Filtros em construção também recebem os cadastros novos, para não perdê-los na troca
+    private volatile Filters loading;
+    // Início da última leitura que chegou ao fim; a próxima releitura parte daí (menos a sobreposição)
+    private volatile OffsetDateTime loadedUntil;
+
+    @Autowired
+    public UserAvailabilityService(UserRepository userRepository, MeterRegistry meterRegistry,
+                                   @Value("${app.user-availability.expected-users:1000000}") long expectedUsers,
+                                   @Value("${app.user-availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${app.user-availability.max-memory-per-filter:8MB}") DataSize maxMemoryPerFilter,
+                                   @Value("${app.user-availability.refresh-overlap:PT2M}") Duration refreshOverlap) {
+        this(userRepository, meterRegistry, expectedUsers, falsePositiveRate, maxMemoryPerFilter, refreshOverlap, OffsetDateTime::now);
+    }
+
+    UserAvailabilityService(UserRepository userRepository, MeterRegistry meterRegistry, long expectedUsers,
+                            double falsePositiveRate, DataSize maxMemoryPerFilter, Duration refreshOverlap,
+                            Supplier<OffsetDateTime> clock) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxBytesPerFilter = maxMemoryPerFilter.toBytes();
+        this.refreshOverlap = refreshOverlap;
+        this.clock = clock;
+        registerFilterGauges("username", Filters::usernames);
+        registerFilterGauges("email", Filters::emails);
+    }
+
+    @Transactional(readOnly = true)
+    public UserAvailabilityResponseDTO checkAvailability(String username, String email) {
+        boolean hasUsername = username != null && !username.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUsername && !hasEmail) {
+            throw new IllegalArgumentException("Provide a username and/or an email to check.");
+        }
+
+        Filters filters = active;
+        Boolean usernameAvailable = !hasUsername ? null
+                : !isTaken("username", filters == null ? null : filters.usernames(), username.trim(), userRepository::existsByUsername);
+        Boolean emailAvailable = !hasEmail ? null
+                : !isTaken("email", filters == null ? null : filters.emails(), normalizeEmail(email), userRepository::existsByEmailIgnoreCase);
+        return new UserAvailabilityResponseDTO(usernameAvailable, emailAvailable);
+    }
+
+    // Chamado ao criar/alterar usuário. Entra já no filtro ativo (a janela até o commit só gera falso positivo)
+    // e de novo após o commit, para alcançar uma reconstrução cuja leitura tenha começado antes dele.
+    public void register(String username, String email) {
+        addTo(active, username, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addTo(active, username, email);
+                    addTo(loading, username, email);
+                }
+            });
+        } else {
+            addTo(loading, username, email);
+        }
+    }
+
+    // Carga inicial, logo após a aplicação subir, e reconstruções periódicas para descartar entradas obsoletas
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.user-availability.rebuild-cron:0 0 4 * * *}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        OffsetDateTime readStartedAt = clock.get();
+        Filters next = new Filters(
+                BloomFilter.create(expectedUsers, falsePositiveRate, maxBytesPerFilter),
+                BloomFilter.create(expectedUsers, falsePositiveRate, maxBytesPerFilter));
+        loading = next;
+
+        long count = 0;
+        try (Stream<UserIdentifiers> users = userRepository.streamAllIdentifiers()) {
+            for (UserIdentifiers user : (Iterable<UserIdentifiers>) users::iterator) {
+                addTo(next, user.getUsername(), user.getEmail());
+                count++;
+            }
+        } catch (RuntimeException ex) {
+            loading = null;
+            log.error("Could not load the username/email availability filters; lookups keep going to the database", ex);
+            return;
+        }
+
+        active = next;
+        loading = null;
+        loadedUntil = readStartedAt;
+        log.info("Loaded {} users into the availability filters in {} ms ({} bytes and {} hashes per filter, estimated false positive rate {})",
+                count, (System.nanoTime() - startedAt) / 1_000_000, next.usernames().sizeInBytes(), next.usernames().hashCount(),
+                String.format(Locale.ROOT, "%.4f", next.usernames().estimatedFalsePositiveRate()));
+    }
+
+    // Traz cadastros e trocas de nome/e-mail feitos em outros nós, que não passam por register() aqui. updated_at vem do
+    // relógio do nó que gravou a linha e ela só aparece no commit: a sobreposição cobre essa defasagem e a diferença entre relógios
+    @Scheduled(fixedDelayString = "${app.user-availability.refresh-interval:PT15S}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshRecentUsers() {
+        Filters filters = active;
+        OffsetDateTime since = loadedUntil;
+        if (filters == null || since == null) {
+            return;
+        }
+
+        OffsetDateTime readStartedAt = clock.get();
+        long added = 0;
+        try (Stream<UserIdentifiers> users = userRepository.streamIdentifiersUpdatedSince(since.minus(refreshOverlap))) {
+            for (UserIdentifiers user : (Iterable<UserIdentifiers>) users::iterator) {
+                // A janela sobreposta relê os mesmos usuários; só o que falta entra, para não inflar a contagem de inserções
+                if (addMissingTo(filters, user.getUsername(), user.getEmail())) {
+                    added++;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh the availability filters with recent users; retrying on the next run", ex);
+            return;
+        }
+
+        loadedUntil = readStartedAt;
+        if (added > 0) {
+            log.debug("Added {} recently created or renamed users to the availability filters", added);
+        }
+    }
+
+    private boolean isTaken(String field, BloomFilter filter, String value, Function<String, Boolean> databaseLookup) {
+        if (filter != null && !filter.mightContain(value)) {
+            countCheck(field, "filtered");
+            return false;
+        }
+
+        boolean taken = databaseLookup.apply(value);
+        countCheck(field, filter == null ? "not-loaded" : taken ? "taken" : "false-positive");
+        return taken;
+    }
+
+    private static void addTo(Filters filters, String username, String email) {
+        if (filters == null) {
+            return;
+        }
+        if (username != null) {
+            filters.usernames().put(username);
+        }
+        if (email != null) {
+            filters.emails().put(normalizeEmail(email));
+        }
+    }
+
+    private static boolean addMissingTo(Filters filters, String username, String email) {
+        boolean added = false;
+        if (username != null && !filters.usernames().mightContain(username)) {
+            filters.usernames().put(username);
+            added = true;
+        }
+        if (email != null && !filters.emails().mightContain(normalizeEmail(email))) {
+            filters.emails().put(normalizeEmail(email));
+            added = true;
+        }
+        return added;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void countCheck(String field, String result) {
+        Counter.builder("teamtacles.user-availability.checks")
+                .description("Availability checks by field and by whether the Bloom filter answered alone")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerFilterGauges(String field, Function<Filters, BloomFilter> filterOf) {
+        gauge("teamtacles.user-availability.filter.bytes", "Memory used by the Bloom filter", field,
+                filterOf, filter -> filter.sizeInBytes());
+        gauge("teamtacles.user-availability.filter.entries", "Values added to the Bloom filter since the last rebuild", field,
+                filterOf, filter -> filter.insertions());
+        gauge("teamtacles.user-availability.filter.false-positive-rate", "Estimated false positive rate for the current fill", field,
+                filterOf, BloomFilter::estimatedFalsePositiveRate);
+    }
+
+    private void gauge(String name, String description, String field, Function<Filters, BloomFilter> filterOf,
+                       ToDoubleFunction<BloomFilter> value) {
+        Gauge.builder(name, this, service -> {
+                    Filters filters = service.active;
+                    return filters == null ? Double.NaN : value.applyAsDouble(filterOf.apply(filters));
+                })
+                .description(description)
+                .tag("field", field)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+}
@@ -3,13 +3,20 @@ package br.com.teamtacles.user.service;
 import br.com.teamtacles.common.exception.*;
 import br.com.teamtacles.config.aop.BusinessActivityLog;
 import br.com.teamtacles.infrastructure.email.EmailService;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
 import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.repository.TaskRepository;
 import br.com.teamtacles.task.service.TaskService;
 import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.dto.request.UserRequestRegisterDTO;
 import br.com.teamtacles.user.dto.request.UserRequestUpdateDTO;
 import br.com.teamtacles.user.dto.response.UserResponseDTO;
 import br.com.teamtacles.user.enumeration.ERole;
+import br.com.teamtacles.user.mapper.UserMapper;
 import br.com.teamtacles.user.model.Role;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.user.repository.RoleRepository;
@@ -17,15 +24,15 @@ import br.com.teamtacles.user.repository.UserRepository;
 import br.com.teamtacles.user.validator.*;
 import org.apache.coyote.BadRequestException;
 import org.springframework.transaction.annotation.Transactional;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 
 @Service
 public class UserService {
@@ -40,26 +47,38 @@ public class UserService {
     private final PasswordUpdateValidator passwordUpdateValidator;
 
     private final EmailService emailService;
+    private final SecureTokenService secureTokenService;
+    private final ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    private final TaskRepository taskRepository;
+    private final UserAvailabilityService userAvailabilityService;
 
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                       ModelMapper modelMapper, RoleRepository roleRepository,
+                       UserMapper userMapper, RoleRepository roleRepository,
                        PasswordMatchValidator passwordMatchValidator, EmailService emailService,
                        UserUniquenessValidator userUniquenessValidator,
                        UserTokenValidator userTokenValidator,
                        NewPasswordValidator newPasswordValidator,
-                       PasswordUpdateValidator passwordUpdateValidator) {
+                       PasswordUpdateValidator passwordUpdateValidator,
+                       SecureTokenService secureTokenService,
+                       ProjectCollectionVersionRepository projectCollectionVersionRepository,
+                       TaskRepository taskRepository,
+                       UserAvailabilityService userAvailabilityService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
         this.passwordMatchValidator = passwordMatchValidator;
         this.emailService = emailService;
         this.userUniquenessValidator = userUniquenessValidator;
         this.userTokenValidator = userTokenValidator;
         this.newPasswordValidator = newPasswordValidator;
         this.passwordUpdateValidator = passwordUpdateValidator;
+        this.secureTokenService = secureTokenService;
+        this.projectCollectionVersionRepository = projectCollectionVersionRepository;
+        this.taskRepository = taskRepository;
+        this.userAvailabilityService = userAvailabilityService;
     }
 
     @BusinessActivityLog(action = "Create User Account")
@@ -77,13 +96,12 @@ public class UserService {
         user.definePassword(passwordEncoder.encode(registerDTO.getPassword()));
         user.addRole(userRole);
 
-        String token = UUID.randomUUID().toString();
-        user.assignVerificationToken(token, OffsetDateTime.now().plusHours(1));
-
         User savedUser = userRepository.save(user);
-        emailService.sendVerificationEmail(savedUser.getEmail(), token);
+        userAvailabilityService.register(savedUser.getUsername(), savedUser.getEmail());
+        IssuedToken token = secureTokenService.issue(ETokenType.EMAIL_VERIFICATION, savedUser.getId(), Duration.ofHours(1));
+        emailService.sendVerificationEmail(savedUser.getEmail(), token.getValue());
 
-        return modelMapper.map(savedUser, UserResponseDTO.class);
+        return userMapper.toUserResponseDTO(savedUser);
     }
 
     @BusinessActivityLog(action = "Update User Profile")
@@ -92,20 +110,31 @@ public class UserService {
         userUniquenessValidator.validate(userRequestDTO, user.getId());
         passwordUpdateValidator.validate(userRequestDTO, user);
 
+        boolean profileChanged = false;
+
         if (userRequestDTO.getUsername() != null && !userRequestDTO.getUsername().isBlank()) {
+            profileChanged |= !userRequestDTO.getUsername().equals(user.getUsername());
             user.setUsername(userRequestDTO.getUsername());
         }
 
         if (userRequestDTO.getEmail() != null && !userRequestDTO.getEmail().isBlank()) {
+            profileChanged |= !userRequestDTO.getEmail().equals(user.getEmail());
             user.setEmail(userRequestDTO.getEmail());
         }
 
+        // Nome e e-mail aparecem nas listagens de membros e nas atribuições: os ETags dessas respostas precisam mudar
+        if (profileChanged) {
+            projectCollectionVersionRepository.bumpVersionsOfUserProjects(user.getId());
+            taskRepository.bumpVersionsOfTasksAssignedTo(user.getId());
+            userAvailabilityService.register(user.getUsername(), user.getEmail());
+        }
+
         if (userRequestDTO.getPassword() != null && !userRequestDTO.getPassword().isBlank()) {
             user.updatePassword(passwordEncoder.encode(userRequestDTO.getPassword()));
         }
 
         User updatedUser = userRepository.save(user);
-        return modelMapper.map(updatedUser, UserResponseDTO.class);
+        return userMapper.toUserResponseDTO(updatedUser);
     }
 
     @BusinessActivityLog(action = "Reset User Password")
@@ -113,25 +142,29 @@ public class UserService {
     public void resetPassword(String token, String newPassword, String passwordConfirm) {
         passwordMatchValidator.validate(newPassword, passwordConfirm);
 
-        User user = findByResetPasswordTokenOrThrow(token);
+        SecureToken resetToken = findTokenOrThrow(ETokenType.PASSWORD_RESET, token, "Validation token is invalid or has expired.");
+        userTokenValidator.validatePasswordResetToken(resetToken);
 
-        userTokenValidator.validatePasswordResetToken(user);
+        User user = findUserByIdOrThrow(resetToken.getSubjectId());
         newPasswordValidator.validate(newPassword, user.getPassword());
 
         user.updatePassword(passwordEncoder.encode(newPassword));
 
         userRepository.save(user);
+        secureTokenService.revoke(ETokenType.PASSWORD_RESET, user.getId());
     }
 
     @BusinessActivityLog(action = "Verify User Account")
     @Transactional
     public void verifyUser(String token) {
-        User user = findByVerificationTokenOrThrow(token);
-        userTokenValidator.validateVerificationToken(user);
+        SecureToken verificationToken = findTokenOrThrow(ETokenType.EMAIL_VERIFICATION, token, "Verification token is invalid or has expired.");
+        userTokenValidator.validateVerificationToken(verificationToken);
 
+        User user = findUserByIdOrThrow(verificationToken.getSubjectId());
         user.confirmAccountVerification();
 
         userRepository.save(user);
+        secureTokenService.revoke(ETokenType.EMAIL_VERIFICATION, user.getId());
     }
 
     @BusinessActivityLog(action = "Resend Verification Email")
@@ -139,18 +172,14 @@ public class UserService {
     public void resendVerificationEmail(String email) {
         userRepository.findByEmailIgnoreCase(email).ifPresent(user -> {
             if (!user.isEnabled()) {
-
-                String token = UUID.randomUUID().toString();
-                user.assignVerificationToken(token, OffsetDateTime.now().plusHours(24));
-
-                userRepository.save(user);
-                emailService.sendVerificationEmail(user.getEmail(), token);
+                IssuedToken token = secureTokenService.issue(ETokenType.EMAIL_VERIFICATION, user.getId(), Duration.ofHours(24));
+                emailService.sendVerificationEmail(user.getEmail(), token.getValue());
             }
         });
     }
     
     public UserResponseDTO getUserById(User user) {
-        return modelMapper.map(user, UserResponseDTO.class);
+        return userMapper.toUserResponseDTO(user);
     }
 
     @BusinessActivityLog(action = "Delete User Account")
@@ -159,13 +188,23 @@ public class UserService {
         userRepository.deleteById(user.getId());
     }
 
+    @Transactional
+    public void markDeletionRequested(Long userId) {
+        userRepository.updateDeletionRequestedAt(userId, OffsetDateTime.now());
+    }
+
+    @Transactional
+    public void clearDeletionRequest(Long userId) {
+        userRepository.updateDeletionRequestedAt(userId, null);
+    }
+
     @BusinessActivityLog(action = "Update onboarding User")
     @Transactional
     public UserResponseDTO completeOnboarding(User user) {
         if(!user.isOnboardingCompleted()) {
             user.markOnboardingAsCompleted();
             User updatedUser = userRepository.save(user);
-            return modelMapper.map(updatedUser, UserResponseDTO.class);
+            return userMapper.toUserResponseDTO(updatedUser);
         } else {
             throw new ResourceAlreadyExistsException("Onboarding for this user is already complete.");        }
     }
@@ -174,8 +213,12 @@ public class UserService {
         return findUserByIdOrThrow(userId);
     }
 
+    public Optional<User> findOptionalUserEntityById(Long userId) {
+        return userRepository.findById(userId);
+    }
+
     public User findUserEntityByEmail(String email) {
-        return findByEmailIgnoreCaseOrThrow(email);
+        return findByEmailOrThrow(email);
     }
 
     public List<User> findUsersByIdsOrThrow(Set<Long> usersIds) {
@@ -193,19 +236,14 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
     }
 
-    private User findByEmailIgnoreCaseOrThrow(String email) {
+    private User findByEmailOrThrow(String email) {
         return userRepository.findByEmailIgnoreCase(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
 
-    private User findByResetPasswordTokenOrThrow(String token) {
-        return userRepository.findByResetPasswordToken(token)
-                .orElseThrow(() -> new ResourceNotFoundException("Validation token is invalid or has expired."));
-    }
-
-    private User findByVerificationTokenOrThrow(String token) {
-        return userRepository.findByVerificationToken(token)
-                .orElseThrow(() -> new ResourceNotFoundException("Verification token is invalid or has expired."));
+    private SecureToken findTokenOrThrow(ETokenType tokenType, String token, String errorMessage) {
+        return secureTokenService.find(tokenType, token)
+                .orElseThrow(() -> new ResourceNotFoundException(errorMessage));
     }
 
     private boolean isSameAsCurrentPassword(String providedPassword, String currentPasswordHash) {
@@ -1,22 +1,20 @@
 package br.com.teamtacles.user.validator;
 
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
-import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.token.model.SecureToken;
 import org.springframework.stereotype.Component;
 
-import java.time.OffsetDateTime;
-
 @Component
 public class UserTokenValidator {
 
-    public void validatePasswordResetToken(User user) {
-        if (user.getResetPasswordToken() == null || user.getResetPasswordTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validatePasswordResetToken(SecureToken token) {
+        if (token.isExpired()) {
             throw new ResourceNotFoundException("Validation token is invalid or has expired.");
         }
     }
 
-    public void validateVerificationToken(User user) {
-        if (user.getVerificationToken() == null || user.getVerificationTokenExpiry().isBefore(OffsetDateTime.now())) {
+    public void validateVerificationToken(SecureToken token) {
+        if (token.isExpired()) {
             throw new ResourceNotFoundException("The verification token has expired.");
         }
     }
@@ -7,6 +7,7 @@ import br.com.teamtacles.user.dto.request.UserRequestUpdateDTO;
 import br.com.teamtacles.user.repository.UserRepository;
 import org.springframework.stereotype.Component;
 
+// Mesma regra do endpoint de disponibilidade: username exato, e-mail sem distinguir maiúsculas
 @Component
 public class UserUniquenessValidator {
 
@@ -20,7 +21,7 @@ public class UserUniquenessValidator {
         if (userRepository.existsByUsername(dto.getUsername())) {
             throw new UsernameAlreadyExistsException("Username '" + dto.getUsername() + "' already exists.");
         }
-        if (userRepository.existsByEmail(dto.getEmail())) {
+        if (userRepository.existsByEmailIgnoreCase(dto.getEmail())) {
             throw new EmailAlreadyExistsException("Email '" + dto.getEmail() + "' already exists.");
         }
     }
@@ -29,7 +30,7 @@ public class UserUniquenessValidator {
         if (userRepository.existsByUsernameAndIdNot(dto.getUsername(), actingUserId)) {
             throw new UsernameAlreadyExistsException("Username '" + dto.getUsername() + "' already exists.");
         }
-        if (userRepository.existsByEmailAndIdNot(dto.getEmail(), actingUserId)) {
+        if (userRepository.existsByEmailIgnoreCaseAndIdNot(dto.getEmail(), actingUserId)) {
             throw new EmailAlreadyExistsException("Email '" + dto.getEmail() + "' already exists.");
         }
     }
@@ -0,0 +1,15 @@
+-- Versões usadas como ETag forte: uma por linha de projeto/time/tarefa
+ALTER TABLE project ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE teams ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Versões das coleções do projeto (membros e lista de tarefas). Ficam fora da tabela project
+-- para que os incrementos não esbarrem no @Version do projeto nem travem a linha dele
+CREATE TABLE project_collection_versions (
+    project_id BIGINT PRIMARY KEY,
+    members_version BIGINT NOT NULL DEFAULT 0,
+    tasks_version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_project_collection_versions_project FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
+
+INSERT INTO project_collection_versions (project_id) SELECT id FROM project;
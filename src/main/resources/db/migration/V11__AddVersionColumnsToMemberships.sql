@@ -0,0 +1,4 @@
+-- Controle otimista nos vínculos (projeto, time e tarefa já ganharam a coluna na V10)
+ALTER TABLE project_members ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE team_members ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_assignments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
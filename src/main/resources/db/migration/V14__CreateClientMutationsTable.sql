@@ -0,0 +1,13 @@
+-- Operações offline já aplicadas (/api/sync/mutations), por usuário e id gerado no app. A linha é gravada na mesma
+-- transação da operação: reenviar o lote devolve o resultado registrado em vez de repetir a alteração.
+
+CREATE TABLE client_mutations (
+    user_id BIGINT NOT NULL,
+    client_operation_id VARCHAR(64) NOT NULL,
+    operation_type VARCHAR(30) NOT NULL,
+    entity_id BIGINT,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, client_operation_id)
+);
+
+CREATE INDEX idx_client_mutations_applied_at ON client_mutations (applied_at);
@@ -0,0 +1,3 @@
+-- O quadro (kanban) e a paginação por coluna leem as tarefas de um projeto em ordem de id; sem este índice cada
+-- consulta percorria a tabela inteira
+CREATE INDEX idx_tasks_project ON tasks (project_id, id);
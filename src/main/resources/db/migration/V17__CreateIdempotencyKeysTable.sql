@@ -0,0 +1,17 @@
+-- Requisições enviadas com o cabeçalho Idempotency-Key, por usuário. A linha é reservada (status_code nulo) antes de
+-- a requisição rodar e recebe a resposta serializada ao final: repetir a chave devolve essa resposta em vez de refazer
+-- o trabalho. request_fingerprint impede que a mesma chave seja reaproveitada para outra requisição.
+
+CREATE TABLE idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(128) NOT NULL,
+    request_fingerprint VARCHAR(64) NOT NULL,
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    response_body TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
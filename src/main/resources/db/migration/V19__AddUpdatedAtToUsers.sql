@@ -0,0 +1,8 @@
+-- A releitura periódica dos filtros de disponibilidade busca os usuários criados ou alterados nos últimos minutos
+-- (cadastros e trocas de nome/e-mail feitos em outros nós). updated_at nasce igual a created_at e muda a cada
+-- alteração; sem o índice cada execução percorreria a tabela de usuários inteira
+ALTER TABLE users ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
+UPDATE users SET updated_at = created_at;
+ALTER TABLE users ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_users_updated_at ON users (updated_at);
@@ -0,0 +1,22 @@
+-- Exclusões de conta em segundo plano. O estado fica no banco para que qualquer nó responda pelo progresso e para que
+-- um job interrompido (deploy, queda do nó) seja retomado a partir da fase registrada. running_user_id só é preenchido
+-- enquanto o job não termina: a restrição UNIQUE garante no máximo um job ativo por usuário. user_id não referencia
+-- users porque a conta deixa de existir ao final do job.
+
+CREATE TABLE account_deletion_jobs (
+    id UUID PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    running_user_id BIGINT UNIQUE,
+    status VARCHAR(20) NOT NULL,
+    phase VARCHAR(20) NOT NULL,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    estimated_rows BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    finished_at TIMESTAMP WITH TIME ZONE,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    error VARCHAR(500)
+);
+
+CREATE INDEX idx_account_deletion_jobs_heartbeat_at ON account_deletion_jobs (heartbeat_at);
+CREATE INDEX idx_account_deletion_jobs_finished_at ON account_deletion_jobs (finished_at);
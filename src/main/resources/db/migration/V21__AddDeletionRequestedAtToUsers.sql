@@ -0,0 +1,4 @@
+-- Preenchido quando a conta entra numa exclusão em segundo plano: os tokens já emitidos deixam de ser aceitos e o
+-- login é recusado até o job terminar. Volta a nulo se o job falhar, para que o usuário possa tentar de novo.
+
+ALTER TABLE users ADD COLUMN deletion_requested_at TIMESTAMP WITH TIME ZONE;
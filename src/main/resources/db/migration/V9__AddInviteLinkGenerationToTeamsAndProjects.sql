@@ -0,0 +1,6 @@
+-- Links de convite passam a ser assinados (HMAC) e não ficam mais gravados no banco;
+-- cada time/projeto guarda só a geração corrente para permitir revogação
+ALTER TABLE teams ADD COLUMN invite_link_generation INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE project ADD COLUMN invite_link_generation INTEGER NOT NULL DEFAULT 0;
+
+DELETE FROM secure_tokens WHERE token_type IN ('TEAM_INVITE_LINK', 'PROJECT_INVITE_LINK');
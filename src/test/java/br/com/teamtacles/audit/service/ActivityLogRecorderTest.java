@@ -0,0 +1,180 @@
+package br.com.teamtacles.audit.service;
+
+import br.com.teamtacles.audit.enumeration.EActivityOutcome;
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.audit.repository.ActivityLogJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ActivityLogRecorderTest {
+
+    private static ActivityLogEntry entry(long taskId) {
+        return new ActivityLogEntry(OffsetDateTime.now(), "Update Task Status", EActivityOutcome.SUCCESS, 1L, 2L, null, taskId, null, null);
+    }
+
+    @Nested
+    @DisplayName("1. Ring Buffer Tests")
+    class RingBufferTests {
+
+        @Test
+        @DisplayName("1.1 - constructor_shouldRoundCapacityUpToAPowerOfTwo")
+        void constructor_shouldRoundCapacityUpToAPowerOfTwo() {
+            assertThat(new ActivityLogBuffer<Integer>(5).capacity()).isEqualTo(8);
+            assertThat(new ActivityLogBuffer<Integer>(8).capacity()).isEqualTo(8);
+            assertThat(new ActivityLogBuffer<Integer>(65536).capacity()).isEqualTo(65536);
+        }
+
+        @Test
+        @DisplayName("1.2 - offer_whenFull_shouldRejectAndAcceptAgainAfterDraining")
+        void offer_whenFull_shouldRejectAndAcceptAgainAfterDraining() {
+            // Arrange
+            ActivityLogBuffer<Integer> buffer = new ActivityLogBuffer<>(4);
+            for (int i = 0; i < 4; i++) {
+                assertThat(buffer.offer(i)).isTrue();
+            }
+
+            // Act
+            boolean acceptedWhenFull = buffer.offer(4);
+            List<Integer> drained = new ArrayList<>();
+            buffer.drainTo(drained, 2);
+            boolean acceptedAfterDrain = buffer.offer(5);
+
+            // Assert
+            assertThat(acceptedWhenFull).isFalse();
+            assertThat(drained).containsExactly(0, 1);
+            assertThat(acceptedAfterDrain).isTrue();
+            assertThat(buffer.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("1.3 - offer_whenManyProducersRace_shouldKeepEveryItemExactlyOnce")
+        void offer_whenManyProducersRace_shouldKeepEveryItemExactlyOnce() throws InterruptedException {
+            // Arrange
+            int producers = 8;
+            int itemsPerProducer = 10_000;
+            ActivityLogBuffer<Integer> buffer = new ActivityLogBuffer<>(producers * itemsPerProducer);
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // Act
+            for (int p = 0; p < producers; p++) {
+                int base = p * itemsPerProducer;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < itemsPerProducer; i++) {
+                        buffer.offer(base + i);
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            List<Integer> drained = new ArrayList<>();
+            buffer.drainTo(drained, Integer.MAX_VALUE);
+
+            // Assert
+            Set<Integer> unique = new HashSet<>(drained);
+            assertThat(drained).hasSize(producers * itemsPerProducer);
+            assertThat(unique).hasSize(producers * itemsPerProducer);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Flush Tests")
+    class FlushTests {
+
+        private final ActivityLogJdbcRepository activityLogJdbcRepository = mock(ActivityLogJdbcRepository.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        private double entries(String outcome) {
+            return meterRegistry.get("teamtacles.activity-log.entries").tag("outcome", outcome).counter().count();
+        }
+
+        @Test
+        @DisplayName("2.1 - flush_shouldWriteEverythingPendingInBatchesOfTheConfiguredSize")
+        @SuppressWarnings("unchecked")
+        void flush_shouldWriteEverythingPendingInBatchesOfTheConfiguredSize() {
+            // Arrange
+            ActivityLogRecorder recorder = new ActivityLogRecorder(activityLogJdbcRepository, meterRegistry, 16, 3);
+            for (long taskId = 1; taskId <= 7; taskId++) {
+                recorder.record(entry(taskId));
+            }
+            List<Integer> batchSizes = new ArrayList<>();
+            doAnswer(invocation -> batchSizes.add(((List<ActivityLogEntry>) invocation.getArgument(0)).size()))
+                    .when(activityLogJdbcRepository).insertAll(anyList());
+
+            // Act
+            int written = recorder.flush();
+
+            // Assert
+            assertThat(written).isEqualTo(7);
+            assertThat(batchSizes).containsExactly(3, 3, 1);
+            assertThat(entries("written")).isEqualTo(7.0);
+            assertThat(recorder.flush()).isZero();
+        }
+
+        @Test
+        @DisplayName("2.2 - record_whenBufferIsFull_shouldDropAndCountInsteadOfBlocking")
+        void record_whenBufferIsFull_shouldDropAndCountInsteadOfBlocking() {
+            // Arrange
+            ActivityLogRecorder recorder = new ActivityLogRecorder(activityLogJdbcRepository, meterRegistry, 4, 10);
+            List<ActivityLogEntry> written = new ArrayList<>();
+            doAnswer(invocation -> written.addAll(invocation.getArgument(0)))
+                    .when(activityLogJdbcRepository).insertAll(anyList());
+
+            // Act
+            for (long taskId = 1; taskId <= 6; taskId++) {
+                recorder.record(entry(taskId));
+            }
+            recorder.flush();
+
+            // Assert
+            assertThat(written).extracting(ActivityLogEntry::getTaskId).containsExactly(1L, 2L, 3L, 4L);
+            assertThat(entries("dropped")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("2.3 - flush_whenABatchFails_shouldCountItAndKeepWritingTheNextBatches")
+        void flush_whenABatchFails_shouldCountItAndKeepWritingTheNextBatches() {
+            // Arrange
+            ActivityLogRecorder recorder = new ActivityLogRecorder(activityLogJdbcRepository, meterRegistry, 16, 2);
+            for (long taskId = 1; taskId <= 4; taskId++) {
+                recorder.record(entry(taskId));
+            }
+            doThrow(new DataAccessResourceFailureException("database unavailable"))
+                    .doNothing()
+                    .when(activityLogJdbcRepository).insertAll(anyList());
+
+            // Act
+            int written = recorder.flush();
+
+            // Assert
+            assertThat(written).isEqualTo(2);
+            assertThat(entries("failed")).isEqualTo(2.0);
+            assertThat(entries("written")).isEqualTo(2.0);
+            verify(activityLogJdbcRepository, times(2)).insertAll(anyList());
+        }
+    }
+}
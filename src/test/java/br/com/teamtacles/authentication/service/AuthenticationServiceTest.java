@@ -4,6 +4,9 @@ import br.com.teamtacles.common.dto.response.AuthenticationResponseDTO;
 import br.com.teamtacles.infrastructure.email.EmailService;
 import br.com.teamtacles.security.UserAuthenticated;
 import br.com.teamtacles.security.UserDetailService;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.user.repository.UserRepository;
 import br.com.teamtacles.utils.TestDataFactory;
@@ -21,6 +24,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,6 +43,8 @@ public class AuthenticationServiceTest {
     private UserRepository userRepository;
     @Mock
     private EmailService emailService;
+    @Mock
+    private SecureTokenService secureTokenService;
 
     @InjectMocks
     private AuthenticationService authenticationService;
@@ -107,15 +114,15 @@ public class AuthenticationServiceTest {
         void shouldProcessForgotPassword_WhenUserExists() {
             String email = testUser.getEmail();
             when(userRepository.findByEmailIgnoreCase(email)).thenReturn(Optional.of(testUser));
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+            when(secureTokenService.issue(ETokenType.PASSWORD_RESET, testUser.getId(), Duration.ofHours(1)))
+                    .thenReturn(new IssuedToken("reset-token", OffsetDateTime.now().plusHours(1)));
+            ArgumentCaptor<String> urlCaptor = ArgumentCaptor.forClass(String.class);
 
             authenticationService.processForgotPasswordRequest(email);
 
-            verify(userRepository, times(1)).save(userCaptor.capture());
-            verify(emailService, times(1)).sendPasswordResetEmail(eq(email), anyString());
-            User savedUser = userCaptor.getValue();
-            assertThat(savedUser.getResetPasswordToken()).isNotNull();
-            assertThat(savedUser.getResetPasswordTokenExpiry()).isNotNull();
+            verify(secureTokenService, times(1)).issue(ETokenType.PASSWORD_RESET, testUser.getId(), Duration.ofHours(1));
+            verify(emailService, times(1)).sendPasswordResetEmail(eq(email), urlCaptor.capture());
+            assertThat(urlCaptor.getValue()).endsWith("?token=reset-token");
         }
 
         @Test
@@ -126,7 +133,7 @@ public class AuthenticationServiceTest {
 
             authenticationService.processForgotPasswordRequest(nonExistentEmail);
 
-            verify(userRepository, never()).save(any(User.class));
+            verify(secureTokenService, never()).issue(any(), any(), any());
             verify(emailService, never()).sendPasswordResetEmail(anyString(), anyString());
         }
     }
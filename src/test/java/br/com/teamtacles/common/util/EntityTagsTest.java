@@ -0,0 +1,57 @@
+package br.com.teamtacles.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityTagsTest {
+
+    @Nested
+    @DisplayName("1. Tag Building Tests")
+    class TagBuildingTests {
+
+        @Test
+        @DisplayName("1.1 - strong_shouldQuoteTheResourceAndItsVersionParts")
+        void strong_shouldQuoteTheResourceAndItsVersionParts() {
+            assertThat(EntityTags.strong("project", 7L, 3L)).isEqualTo("\"project-7-3\"");
+        }
+    }
+
+    @Nested
+    @DisplayName("2. If-None-Match Matching Tests")
+    class MatchingTests {
+
+        private final String etag = EntityTags.strong("task", 10L, 4L);
+
+        @Test
+        @DisplayName("2.1 - matches_whenHeaderHasTheSameTag_shouldReturnTrue")
+        void matches_whenHeaderHasTheSameTag_shouldReturnTrue() {
+            assertThat(EntityTags.matches("\"task-10-4\"", etag)).isTrue();
+        }
+
+        @Test
+        @DisplayName("2.2 - matches_shouldAcceptListsWeakTagsAndWildcard")
+        void matches_shouldAcceptListsWeakTagsAndWildcard() {
+            assertThat(EntityTags.matches("\"task-10-3\", \"task-10-4\"", etag)).isTrue();
+            assertThat(EntityTags.matches("W/\"task-10-4\"", etag)).isTrue();
+            assertThat(EntityTags.matches("*", etag)).isTrue();
+        }
+
+        @Test
+        @DisplayName("2.3 - matches_whenTagIsStaleOrMissing_shouldReturnFalse")
+        void matches_whenTagIsStaleOrMissing_shouldReturnFalse() {
+            assertThat(EntityTags.matches("\"task-10-3\"", etag)).isFalse();
+            assertThat(EntityTags.matches("task-10-4", etag)).isFalse();
+            assertThat(EntityTags.matches(null, etag)).isFalse();
+            assertThat(EntityTags.matches(" ", etag)).isFalse();
+        }
+
+        @Test
+        @DisplayName("2.4 - matches_whenResourceHasNoTag_shouldNeverMatchEvenTheWildcard")
+        void matches_whenResourceHasNoTag_shouldNeverMatchEvenTheWildcard() {
+            assertThat(EntityTags.matches("*", null)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.teamtacles.config.aop;
+
+import br.com.teamtacles.audit.enumeration.EActivityOutcome;
+import br.com.teamtacles.audit.model.ActivityLogEntry;
+import br.com.teamtacles.audit.service.ActivityLogRecorder;
+import br.com.teamtacles.project.enumeration.EProjectRole;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ActivityAuditAspectTest {
+
+    private ActivityLogRecorder activityLogRecorder;
+    private AuditedOperations proxy;
+
+    @BeforeEach
+    void setUp() {
+        activityLogRecorder = mock(ActivityLogRecorder.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuditedOperations());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ActivityAuditAspect(activityLogRecorder));
+        proxy = factory.getProxy();
+    }
+
+    private ActivityLogEntry recordedEntry() {
+        ArgumentCaptor<ActivityLogEntry> entryCaptor = ArgumentCaptor.forClass(ActivityLogEntry.class);
+        verify(activityLogRecorder).record(entryCaptor.capture());
+        return entryCaptor.getValue();
+    }
+
+    @Nested
+    @DisplayName("1. Audit Capture Tests")
+    class AuditCaptureTests {
+
+        @Test
+        @DisplayName("1.1 - whenActionSucceeds_shouldRecordActorTargetsAndScalarDetails")
+        void whenActionSucceeds_shouldRecordActorTargetsAndScalarDetails() {
+            // Arrange
+            User actingUser = TestDataFactory.createValidUser();
+
+            // Act
+            proxy.updateStatus(3L, 42L, ETaskStatus.DONE, "secret-comment", actingUser);
+
+            // Assert
+            ActivityLogEntry entry = recordedEntry();
+            assertThat(entry.getAction()).isEqualTo("Update Task Status");
+            assertThat(entry.getOutcome()).isEqualTo(EActivityOutcome.SUCCESS);
+            assertThat(entry.getActorId()).isEqualTo(actingUser.getId());
+            assertThat(entry.getProjectId()).isEqualTo(3L);
+            assertThat(entry.getTaskId()).isEqualTo(42L);
+            assertThat(entry.getTeamId()).isNull();
+            assertThat(entry.getDetails()).isEqualTo("projectId=3, taskId=42, newStatus=DONE");
+            assertThat(entry.getError()).isNull();
+        }
+
+        @Test
+        @DisplayName("1.2 - whenActionFails_shouldRecordTheFailureAndRethrow")
+        void whenActionFails_shouldRecordTheFailureAndRethrow() {
+            // Act & Assert
+            assertThatThrownBy(() -> proxy.acceptInvitation("invitation-token"))
+                    .isInstanceOf(AccessDeniedException.class);
+
+            ActivityLogEntry entry = recordedEntry();
+            assertThat(entry.getOutcome()).isEqualTo(EActivityOutcome.FAILURE);
+            assertThat(entry.getError()).isEqualTo("AccessDeniedException");
+            assertThat(entry.getActorId()).isNull();
+            assertThat(entry.getDetails()).isNull();
+        }
+
+        @Test
+        @DisplayName("1.3 - whenProjectComesInAnAccessContext_shouldRecordItAsTheProjectTarget")
+        void whenProjectComesInAnAccessContext_shouldRecordItAsTheProjectTarget() {
+            // Arrange
+            User actingUser = TestDataFactory.createValidUser();
+
+            // Act
+            proxy.createTask(new ProjectAccessContext(3L, EProjectRole.MEMBER, true), actingUser);
+
+            // Assert
+            ActivityLogEntry entry = recordedEntry();
+            assertThat(entry.getProjectId()).isEqualTo(3L);
+            assertThat(entry.getActorId()).isEqualTo(actingUser.getId());
+            assertThat(entry.getDetails()).isNull();
+        }
+    }
+
+    static class AuditedOperations {
+
+        @BusinessActivityLog(action = "Update Task Status")
+        public void updateStatus(Long projectId, Long taskId, ETaskStatus newStatus, String comment, User actingUser) {
+        }
+
+        @BusinessActivityLog(action = "Create Task")
+        public void createTask(ProjectAccessContext access, User actingUser) {
+        }
+
+        @BusinessActivityLog(action = "Accept Invitation")
+        public void acceptInvitation(String token) {
+            throw new AccessDeniedException("Invalid invitation.");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.teamtacles.config.aop;
+
+import br.com.teamtacles.task.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptimisticLockRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictingOperation target;
+    private ConflictingOperation proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = new ConflictingOperation();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OptimisticLockRetryAspect(meterRegistry, Duration.ZERO));
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Nested
+    @DisplayName("1. Retry Tests")
+    class RetryTests {
+
+        @Test
+        @DisplayName("1.1 - whenConflictIsTransient_shouldRetryAndReturnTheResult")
+        void whenConflictIsTransient_shouldRetryAndReturnTheResult() {
+            // Arrange
+            target.conflictsBeforeSuccess = 2;
+
+            // Act
+            String result = proxy.update();
+
+            // Assert
+            assertThat(result).isEqualTo("updated");
+            assertThat(target.calls).isEqualTo(3);
+            assertThat(conflicts("retried")).isEqualTo(2.0);
+            assertThat(conflicts("exhausted")).isZero();
+        }
+
+        @Test
+        @DisplayName("1.2 - whenConflictPersists_shouldGiveUpAfterMaxAttemptsAndRethrow")
+        void whenConflictPersists_shouldGiveUpAfterMaxAttemptsAndRethrow() {
+            // Arrange
+            target.conflictsBeforeSuccess = Integer.MAX_VALUE;
+
+            // Act & Assert
+            assertThatThrownBy(() -> proxy.update()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            assertThat(target.calls).isEqualTo(3);
+            assertThat(conflicts("retried")).isEqualTo(2.0);
+            assertThat(conflicts("exhausted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.3 - whenAlreadyInsideATransaction_shouldNotRetry")
+        void whenAlreadyInsideATransaction_shouldNotRetry() {
+            // Arrange
+            target.conflictsBeforeSuccess = 1;
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> proxy.update()).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            assertThat(target.calls).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("1.4 - whenOtherExceptionIsThrown_shouldNotRetry")
+        void whenOtherExceptionIsThrown_shouldNotRetry() {
+            // Act & Assert
+            assertThatThrownBy(() -> proxy.fail()).isInstanceOf(IllegalArgumentException.class);
+            assertThat(target.calls).isEqualTo(1);
+            assertThat(meterRegistry.find("teamtacles.optimistic-lock.conflicts").counters()).isEmpty();
+        }
+    }
+
+    private double conflicts(String outcome) {
+        var counter = meterRegistry.find("teamtacles.optimistic-lock.conflicts")
+                .tag("operation", "ConflictingOperation.update")
+                .tag("entity", "Task")
+                .tag("outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    static class ConflictingOperation {
+        int conflictsBeforeSuccess;
+        int calls;
+
+        @RetryOnConflict
+        public String update() {
+            calls++;
+            if (calls <= conflictsBeforeSuccess) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, 1L);
+            }
+            return "updated";
+        }
+
+        @RetryOnConflict
+        public String fail() {
+            calls++;
+            throw new IllegalArgumentException("invalid");
+        }
+    }
+}
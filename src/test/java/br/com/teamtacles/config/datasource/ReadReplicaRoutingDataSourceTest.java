@@ -0,0 +1,141 @@
+package br.com.teamtacles.config.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        // Dois bancos independentes, cada um identificado pela linha da tabela 'node'
+        primary = nodeDatabase("primary");
+        replica = nodeDatabase("replica");
+    }
+
+    @Nested
+    @DisplayName("1. Routing With Replica Configured")
+    class RoutingWithReplicaTests {
+
+        @Test
+        @DisplayName("1.1 - readOnlyTransaction_shouldQueryReplica")
+        void readOnlyTransaction_shouldQueryReplica() {
+            Fixture fixture = new Fixture(primary, replica);
+
+            String node = fixture.readOnly().execute(status -> fixture.currentNode());
+
+            assertThat(node).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("1.2 - readWriteTransaction_shouldQueryPrimary")
+        void readWriteTransaction_shouldQueryPrimary() {
+            Fixture fixture = new Fixture(primary, replica);
+
+            String node = fixture.readWrite().execute(status -> fixture.currentNode());
+
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("1.3 - withoutTransaction_shouldQueryPrimary")
+        void withoutTransaction_shouldQueryPrimary() {
+            Fixture fixture = new Fixture(primary, replica);
+
+            assertThat(fixture.currentNode()).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("1.4 - writeAfterReadOnlyTransaction_shouldReachPrimaryOnly")
+        void writeAfterReadOnlyTransaction_shouldReachPrimaryOnly() {
+            Fixture fixture = new Fixture(primary, replica);
+
+            fixture.readOnly().execute(status -> fixture.currentNode());
+            fixture.readWrite().executeWithoutResult(status ->
+                    fixture.jdbcTemplate.update("INSERT INTO node (name) VALUES ('written')"));
+
+            assertThat(countRows(primary)).isEqualTo(2);
+            assertThat(countRows(replica)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Fallback To Primary")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("2.1 - readOnlyTransaction_whenNoReplicaConfigured_shouldQueryPrimary")
+        void readOnlyTransaction_whenNoReplicaConfigured_shouldQueryPrimary() {
+            Fixture fixture = new Fixture(primary, null);
+
+            String node = fixture.readOnly().execute(status -> fixture.currentNode());
+
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("2.2 - readOnlyTransaction_whenReplicaIsUnavailable_shouldQueryPrimary")
+        void readOnlyTransaction_whenReplicaIsUnavailable_shouldQueryPrimary() {
+            JdbcDataSource unavailableReplica = new JdbcDataSource();
+            unavailableReplica.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+            Fixture fixture = new Fixture(primary, unavailableReplica);
+
+            String node = fixture.readOnly().execute(status -> fixture.currentNode());
+
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+
+    // Monta a mesma pilha usada em DataSourceConfiguration: proxy lazy -> roteamento -> primário/réplica
+    private static class Fixture {
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSourceTransactionManager transactionManager;
+
+        Fixture(DataSource primary, DataSource replica) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replica));
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        TransactionTemplate readOnly() {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            return template;
+        }
+
+        TransactionTemplate readWrite() {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        String currentNode() {
+            return jdbcTemplate.queryForObject("SELECT name FROM node ORDER BY name LIMIT 1", String.class);
+        }
+    }
+
+    private static DataSource nodeDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static int countRows(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM node", Integer.class);
+    }
+}
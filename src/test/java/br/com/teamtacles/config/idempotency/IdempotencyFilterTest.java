@@ -0,0 +1,240 @@
+package br.com.teamtacles.config.idempotency;
+
+import br.com.teamtacles.security.UserAuthenticated;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyFilterTest {
+
+    private final OffsetDateTime now = OffsetDateTime.parse("2026-10-19T12:00:00Z");
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyJdbcRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyJdbcRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        properties.setPollInterval(Duration.ofMillis(10));
+        IdempotencyProperties.Endpoint endpoint = new IdempotencyProperties.Endpoint();
+        endpoint.setPath("/api/project/*/invite-email");
+        properties.getEndpoints().put("project-invite-email", endpoint);
+
+        IdempotencyStore store = new IdempotencyStore(repository, properties, () -> now);
+        filter = new IdempotencyFilter(store, properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+
+        user = TestDataFactory.createUserWithId(1L, "owner", "owner@example.com");
+        UserAuthenticated principal = new UserAuthenticated(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse send(String key, String email, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/project/7/invite-email");
+        request.setServletPath("/api/project/7/invite-email");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"email\":\"" + email + "\",\"role\":\"MEMBER\"}").getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse send(String key, String email) throws Exception {
+        return send(key, email, (request, response) -> {
+            int execution = executions.incrementAndGet();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(("{\"execution\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    @Nested
+    @DisplayName("1. Replay Tests")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("1.1 - whenKeyIsRepeated_shouldReturnStoredResponseWithoutExecutingAgain")
+        void whenKeyIsRepeated_shouldReturnStoredResponseWithoutExecutingAgain() throws Exception {
+            // Arrange
+            MockHttpServletResponse first = send("key-1", "guest@example.com");
+
+            // Act
+            MockHttpServletResponse repeated = send("key-1", "guest@example.com");
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(repeated.getStatus()).isEqualTo(200);
+            assertThat(repeated.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"execution\":1}");
+            assertThat(repeated.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            verify(repository).complete(eq(user.getId()), eq("key-1"), eq(200), eq(MediaType.APPLICATION_JSON_VALUE), eq("{\"execution\":1}"), eq(now));
+            assertThat(meterRegistry.counter("teamtacles.idempotency.requests", "outcome", "replay").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.2 - whenKeyIsReusedForADifferentBody_shouldReturn422")
+        void whenKeyIsReusedForADifferentBody_shouldReturn422() throws Exception {
+            // Arrange
+            send("key-1", "guest@example.com");
+
+            // Act
+            MockHttpServletResponse response = send("key-1", "someone-else@example.com");
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_REUSED");
+        }
+
+        @Test
+        @DisplayName("1.3 - whenAnotherInstanceAlreadyAnswered_shouldReplayTheResponseStoredInTheTable")
+        void whenAnotherInstanceAlreadyAnswered_shouldReplayTheResponseStoredInTheTable() throws Exception {
+            // Arrange
+            send("key-0", "guest@example.com");
+            String fingerprint = recordedFingerprint("key-0");
+            doThrow(new DuplicateKeyException("duplicate")).when(repository).insertClaim(eq(user.getId()), eq("key-2"), anyString(), any());
+            when(repository.find(user.getId(), "key-2")).thenReturn(Optional.of(
+                    new StoredResponse(fingerprint, 201, MediaType.APPLICATION_JSON_VALUE, "{\"id\":9}", now.minusMinutes(5))));
+
+            // Act
+            MockHttpServletResponse response = send("key-2", "guest@example.com");
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(response.getStatus()).isEqualTo(201);
+            assertThat(response.getContentAsString()).isEqualTo("{\"id\":9}");
+        }
+
+        @Test
+        @DisplayName("1.4 - withoutHeader_shouldNotTouchTheStore")
+        void withoutHeader_shouldNotTouchTheStore() throws Exception {
+            // Act
+            send(null, "guest@example.com");
+            send(null, "guest@example.com");
+
+            // Assert
+            assertThat(executions).hasValue(2);
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Concurrency and Failure Tests")
+    class ConcurrencyAndFailureTests {
+
+        @Test
+        @DisplayName("2.1 - concurrentDuplicate_shouldWaitForTheOriginalAndReceiveItsResponse")
+        void concurrentDuplicate_shouldWaitForTheOriginalAndReceiveItsResponse() throws Exception {
+            // Arrange
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain slowChain = (request, response) -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getOutputStream().write(("{\"execution\":" + executions.incrementAndGet() + "}").getBytes(StandardCharsets.UTF_8));
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // Act
+                Future<MockHttpServletResponse> original = executor.submit(() -> sendAs(slowChain));
+                started.await(5, TimeUnit.SECONDS);
+                Future<MockHttpServletResponse> duplicate = executor.submit(() -> sendAs(slowChain));
+                Thread.sleep(100);
+                release.countDown();
+
+                // Assert
+                assertThat(original.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"execution\":1}");
+                assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"execution\":1}");
+                assertThat(executions).hasValue(1);
+                verify(repository, times(1)).insertClaim(eq(user.getId()), eq("key-1"), anyString(), any());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("2.2 - whenOriginalFails_shouldReleaseTheKeySoTheRetryExecutesAgain")
+        void whenOriginalFails_shouldReleaseTheKeySoTheRetryExecutesAgain() throws Exception {
+            // Arrange
+            MockHttpServletResponse failed = send("key-1", "guest@example.com", (request, response) -> {
+                executions.incrementAndGet();
+                ((HttpServletResponse) response).setStatus(503);
+            });
+
+            // Act
+            MockHttpServletResponse retried = send("key-1", "guest@example.com");
+
+            // Assert
+            assertThat(failed.getStatus()).isEqualTo(503);
+            assertThat(retried.getStatus()).isEqualTo(200);
+            assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(executions).hasValue(2);
+            verify(repository).release(user.getId(), "key-1");
+        }
+    }
+
+    private MockHttpServletResponse sendAs(FilterChain chain) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new UserAuthenticated(user), null, List.of()));
+        return send("key-1", "guest@example.com", chain);
+    }
+
+    private String recordedFingerprint(String key) {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(repository).insertClaim(eq(user.getId()), eq(key), captor.capture(), any());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,306 @@
+package br.com.teamtacles.config.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPath("/api/auth/forgot-password");
+        rule.setIpCapacity(3);
+        rule.setEmailCapacity(2);
+        rule.setPeriod(Duration.ofMinutes(1));
+        properties.getRules().put("forgot-password", rule);
+
+        rateLimiter = new RateLimiter(properties, meterRegistry, clock::get);
+        filter = new RateLimitFilter(rateLimiter, properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("1. Rejection Tests")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("1.1 - whenEmailBucketIsEmpty_shouldReturn429WithRetryAfter")
+        void whenEmailBucketIsEmpty_shouldReturn429WithRetryAfter() throws Exception {
+            // Arrange
+            send("10.0.0.1", "victim@example.com");
+            send("10.0.0.2", "Victim@Example.com");
+
+            // Act
+            MockHttpServletResponse response = send("10.0.0.3", "victim@example.com");
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+            assertThat(response.getContentAsString()).contains("RATE_LIMITED");
+            assertThat(meterRegistry.counter("teamtacles.rate-limit.rejections", "rule", "forgot-password", "key", "email").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.2 - whenIpBucketIsEmpty_shouldRejectRegardlessOfEmail")
+        void whenIpBucketIsEmpty_shouldRejectRegardlessOfEmail() throws Exception {
+            // Arrange
+            send("10.0.0.1", "a@example.com");
+            send("10.0.0.1", "b@example.com");
+            send("10.0.0.1", "c@example.com");
+
+            // Act
+            MockHttpServletResponse response = send("10.0.0.1", "d@example.com");
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(meterRegistry.counter("teamtacles.rate-limit.rejections", "rule", "forgot-password", "key", "ip").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.3 - afterRefillInterval_shouldAcceptAgain")
+        void afterRefillInterval_shouldAcceptAgain() throws Exception {
+            // Arrange
+            send("10.0.0.1", "victim@example.com");
+            send("10.0.0.1", "victim@example.com");
+            assertThat(send("10.0.0.1", "victim@example.com").getStatus()).isEqualTo(429);
+
+            // Act
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+            // Assert
+            assertThat(send("10.0.0.1", "victim@example.com").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Pass-Through Tests")
+    class PassThroughTests {
+
+        @Test
+        @DisplayName("2.1 - acceptedRequest_shouldStillExposeTheBodyToTheController")
+        void acceptedRequest_shouldStillExposeTheBodyToTheController() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = request("10.0.0.1", "user@example.com");
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // Assert
+            HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+            String body = new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body).isEqualTo("{\"email\":\"user@example.com\"}");
+        }
+
+        @Test
+        @DisplayName("2.2 - unmatchedRoute_shouldNotConsumeTokens")
+        void unmatchedRoute_shouldNotConsumeTokens() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/reset-password");
+            request.setServletPath("/api/auth/reset-password");
+            request.setRemoteAddr("10.0.0.1");
+
+            // Act
+            for (int i = 0; i < 10; i++) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(request, response, new MockFilterChain());
+                assertThat(response.getStatus()).isEqualTo(200);
+            }
+
+            // Assert
+            assertThat(rateLimiter.bucketCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("2.3 - evictFullBuckets_shouldDropOnlyRefilledBuckets")
+        void evictFullBuckets_shouldDropOnlyRefilledBuckets() throws Exception {
+            // Arrange
+            send("10.0.0.1", "user@example.com");
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            send("10.0.0.2", "other@example.com");
+
+            // Act
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(25));
+            rateLimiter.evictFullBuckets();
+
+            // Assert: só o balde de e-mail do segundo envio (intervalo de 30s) ainda não se recompôs
+            assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("3. Chunked Body Tests")
+    class ChunkedBodyTests {
+
+        @Test
+        @DisplayName("3.1 - chunkedRequest_shouldStillCountAgainstTheEmailBucket")
+        void chunkedRequest_shouldStillCountAgainstTheEmailBucket() throws Exception {
+            // Arrange
+            send("10.0.0.1", "victim@example.com");
+            send("10.0.0.2", "victim@example.com");
+
+            // Act
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(chunked(request("10.0.0.3", "victim@example.com")), response, new MockFilterChain());
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(meterRegistry.counter("teamtacles.rate-limit.rejections", "rule", "forgot-password", "key", "email").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("3.2 - chunkedRequestLargerThanMaxBodyBytes_shouldReturn413")
+        void chunkedRequestLargerThanMaxBodyBytes_shouldReturn413() throws Exception {
+            // Arrange
+            properties.setMaxBodyBytes(16);
+            filter = new RateLimitFilter(rateLimiter, properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(chunked(request("10.0.0.1", "victim@example.com")), response, chain);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(413);
+            assertThat(response.getContentAsString()).contains("BODY_TOO_LARGE");
+            assertThat(chain.getRequest()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("4. Bucket Table Tests")
+    class BucketTableTests {
+
+        private final SimpleMeterRegistry limiterRegistry = new SimpleMeterRegistry();
+        private RateLimiter smallLimiter;
+
+        @BeforeEach
+        void setUp() {
+            properties.setMaxBuckets(2);
+            smallLimiter = new RateLimiter(properties, limiterRegistry, clock::get);
+        }
+
+        @Test
+        @DisplayName("4.1 - whenTableIsFull_newKeysShouldGetTheirOwnBucketAgainAfterTheSweep")
+        void whenTableIsFull_newKeysShouldGetTheirOwnBucketAgainAfterTheSweep() {
+            // Arrange
+            smallLimiter.tryAcquire("a", "10.0.0.1", 2, Duration.ofMinutes(1));
+            smallLimiter.tryAcquire("b", "10.0.0.1", 2, Duration.ofMinutes(1));
+            smallLimiter.tryAcquire("c", "10.0.0.1", 2, Duration.ofMinutes(1));
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+            // Act
+            smallLimiter.evictFullBuckets();
+            long waitNanos = smallLimiter.tryAcquire("d", "10.0.0.1", 2, Duration.ofMinutes(1));
+
+            // Assert
+            assertThat(waitNanos).isZero();
+            assertThat(smallLimiter.bucketCount()).isEqualTo(1);
+            assertThat(limiterRegistry.counter("teamtacles.rate-limit.overflow").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("4.2 - whenTableIsFullOfActiveBuckets_shouldChargeNewKeysFromTheSameNetworkToOneOverflowBucket")
+        void whenTableIsFullOfActiveBuckets_shouldChargeNewKeysFromTheSameNetworkToOneOverflowBucket() {
+            // Arrange
+            smallLimiter.tryAcquire("a", "10.0.0.1", 2, Duration.ofMinutes(1));
+            smallLimiter.tryAcquire("b", "10.0.0.1", 2, Duration.ofMinutes(1));
+
+            // Act
+            long first = smallLimiter.tryAcquire("c", "10.0.0.1", 2, Duration.ofMinutes(1));
+            long second = smallLimiter.tryAcquire("d", "10.0.0.2", 2, Duration.ofMinutes(1));
+            long third = smallLimiter.tryAcquire("e", "10.0.0.3", 2, Duration.ofMinutes(1));
+
+            // Assert: chaves novas não passam sem limite; as da mesma /24 dividem as fichas de um único balde
+            assertThat(first).isZero();
+            assertThat(second).isZero();
+            assertThat(third).isPositive();
+            assertThat(smallLimiter.bucketCount()).isEqualTo(2);
+            assertThat(limiterRegistry.counter("teamtacles.rate-limit.overflow").count()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("4.3 - floodOfNewKeysFromOneNetwork_shouldNotExhaustTheOverflowBudgetOfOtherNetworks")
+        void floodOfNewKeysFromOneNetwork_shouldNotExhaustTheOverflowBudgetOfOtherNetworks() {
+            // Arrange
+            smallLimiter.tryAcquire("a", "10.0.0.1", 2, Duration.ofMinutes(1));
+            smallLimiter.tryAcquire("b", "10.0.0.1", 2, Duration.ofMinutes(1));
+            for (int i = 0; i < 50; i++) {
+                smallLimiter.tryAcquire("forgot-password:email:flood" + i + "@example.com", "203.0.113." + i, 2, Duration.ofMinutes(1));
+            }
+            assertThat(smallLimiter.tryAcquire("forgot-password:email:another@example.com", "203.0.113.99", 2, Duration.ofMinutes(1)))
+                    .isPositive();
+
+            // Act
+            long otherNetwork = smallLimiter.tryAcquire("forgot-password:email:user@example.com", "192.168.5.7", 2, Duration.ofMinutes(1));
+            long otherIpv6Network = smallLimiter.tryAcquire("forgot-password:email:user6@example.com", "2001:db8:1::7", 2, Duration.ofMinutes(1));
+
+            // Assert
+            assertThat(otherNetwork).isZero();
+            assertThat(otherIpv6Network).isZero();
+            assertThat(smallLimiter.bucketCount()).isEqualTo(2);
+        }
+    }
+
+    private MockHttpServletResponse send(String ip, String email) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(ip, email), response, new MockFilterChain());
+        return response;
+    }
+
+    // Sem Content-Length, como num corpo enviado com Transfer-Encoding: chunked
+    private static HttpServletRequest chunked(MockHttpServletRequest request) {
+        request.addHeader(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    private MockHttpServletRequest request(String ip, String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/forgot-password");
+        request.setServletPath("/api/auth/forgot-password");
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"email\":\"" + email + "\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
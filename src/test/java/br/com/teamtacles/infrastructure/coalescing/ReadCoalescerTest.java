@@ -0,0 +1,175 @@
+package br.com.teamtacles.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ReadCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final AtomicInteger computations = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private ReadCoalescer readCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        readCoalescer = new ReadCoalescer(meterRegistry, Duration.ofSeconds(5), nanoClock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private String compute() {
+        return "report-" + computations.incrementAndGet();
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.counter("teamtacles.read-coalescing.calls", "operation", "project-report", "outcome", outcome).count();
+    }
+
+    @Nested
+    @DisplayName("1. Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("1.1 - concurrentCallsWithSameKey_shouldShareASingleComputation")
+        void concurrentCallsWithSameKey_shouldShareASingleComputation() throws Exception {
+            // Arrange
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> leader = executor.submit(() -> readCoalescer.execute("project-report", 1L, () -> {
+                started.countDown();
+                await(release);
+                return compute();
+            }));
+            started.await(5, TimeUnit.SECONDS);
+
+            // Act
+            Future<String> first = executor.submit(() -> readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute));
+            Future<String> second = executor.submit(() -> readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute));
+            while (calls("joined") < 2) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("report-1");
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("report-1");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("report-1");
+            assertThat(computations).hasValue(1);
+            assertThat(calls("computed")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.2 - callAfterCompletion_shouldReuseTheResultOnlyWithinTheGracePeriod")
+        void callAfterCompletion_shouldReuseTheResultOnlyWithinTheGracePeriod() {
+            // Arrange
+            readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+            nanoClock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+            // Act
+            String reused = readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+            nanoClock.addAndGet(1);
+            String recomputed = readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+
+            // Assert
+            assertThat(reused).isEqualTo("report-1");
+            assertThat(recomputed).isEqualTo("report-2");
+            assertThat(calls("reused")).isEqualTo(1.0);
+            assertThat(calls("computed")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("1.3 - differentKeysOrOperations_shouldNotShareResults")
+        void differentKeysOrOperations_shouldNotShareResults() {
+            // Act
+            String first = readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+            String otherKey = readCoalescer.execute("project-report", 2L, ReadCoalescerTest.this::compute);
+            String otherOperation = readCoalescer.execute("project-pdf", 1L, ReadCoalescerTest.this::compute);
+
+            // Assert
+            assertThat(first).isEqualTo("report-1");
+            assertThat(otherKey).isEqualTo("report-2");
+            assertThat(otherOperation).isEqualTo("report-3");
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Failure and Eviction Tests")
+    class FailureAndEvictionTests {
+
+        @Test
+        @DisplayName("2.1 - whenComputationFails_shouldPropagateToWaitersAndNotKeepTheFailure")
+        void whenComputationFails_shouldPropagateToWaitersAndNotKeepTheFailure() throws Exception {
+            // Arrange
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> leader = executor.submit(() -> readCoalescer.execute("project-report", 1L, () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("database unavailable");
+            }));
+            started.await(5, TimeUnit.SECONDS);
+            Future<String> waiter = executor.submit(() -> readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute));
+            while (calls("joined") < 1) {
+                Thread.onSpinWait();
+            }
+
+            // Act
+            release.countDown();
+            Throwable waiterFailure = catchThrowable(() -> waiter.get(5, TimeUnit.SECONDS));
+            String retried = readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+
+            // Assert
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(waiterFailure).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(retried).isEqualTo("report-1");
+            assertThat(calls("computed")).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("2.2 - evictExpired_shouldDropOnlyResultsOutsideTheGracePeriod")
+        void evictExpired_shouldDropOnlyResultsOutsideTheGracePeriod() {
+            // Arrange
+            readCoalescer.execute("project-report", 1L, ReadCoalescerTest.this::compute);
+            nanoClock.addAndGet(Duration.ofSeconds(4).toNanos());
+            readCoalescer.execute("project-report", 2L, ReadCoalescerTest.this::compute);
+            nanoClock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+            // Act
+            readCoalescer.evictExpired();
+
+            // Assert
+            assertThat(meterRegistry.get("teamtacles.read-coalescing.entries").gauge().value()).isEqualTo(1.0);
+            assertThat(readCoalescer.execute("project-report", 2L, ReadCoalescerTest.this::compute)).isEqualTo("report-2");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.teamtacles.infrastructure.export;
+
+import br.com.teamtacles.infrastructure.coalescing.ReadCoalescer;
+import br.com.teamtacles.project.dto.response.PdfExportResult;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectReportKey;
+import br.com.teamtacles.project.repository.ProjectReportVersions;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProjectPdfExportServiceTest {
+
+    private static final Long PROJECT_ID = 100L;
+
+    private final AtomicLong projectVersion = new AtomicLong(1);
+    private ProjectService projectService;
+    private ProjectPdfExportService pdfExportService;
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        projectService = mock(ProjectService.class);
+        TemplateEngine templateEngine = mock(TemplateEngine.class);
+        when(templateEngine.process(eq("project-report-template"), any(IContext.class)))
+                .thenReturn("<html><body><p>report</p></body></html>");
+        ReadCoalescer readCoalescer = new ReadCoalescer(new SimpleMeterRegistry(), Duration.ofSeconds(5));
+        pdfExportService = new ProjectPdfExportService(templateEngine, projectService, mock(TaskService.class), readCoalescer);
+
+        owner = TestDataFactory.createUserWithId(1L, "owner", "owner@example.com");
+        project = TestDataFactory.createMockProject(owner);
+
+        // A versão do projeto acompanha a edição como o @Version faria
+        ProjectReportVersions versions = mock(ProjectReportVersions.class);
+        when(versions.getProjectId()).thenReturn(PROJECT_ID);
+        when(versions.getProjectVersion()).thenAnswer(invocation -> projectVersion.get());
+        when(projectService.findReportKey(eq(PROJECT_ID), any(TaskFilterReportDTO.class), any(User.class)))
+                .thenAnswer(invocation -> Optional.of(ProjectReportKey.of(versions, invocation.getArgument(1))));
+        when(projectService.getProjectByIdForReport(eq(PROJECT_ID), any(), any(User.class))).thenReturn(project);
+        when(projectService.findFilteredTasksForProject(eq(PROJECT_ID), any(TaskFilterReportDTO.class))).thenReturn(Set.of());
+    }
+
+    private PdfExportResult exportPdf() {
+        return pdfExportService.generateProjectPdf(PROJECT_ID, owner, new TaskFilterReportDTO(), "America/Sao_Paulo");
+    }
+
+    @Nested
+    @DisplayName("1. Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("1.1 - generateProjectPdf_withUnchangedProject_shouldReuseTheRenderedPdf")
+        void generateProjectPdf_withUnchangedProject_shouldReuseTheRenderedPdf() {
+            // Act
+            PdfExportResult first = exportPdf();
+            PdfExportResult second = exportPdf();
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            verify(projectService, times(1)).getProjectByIdForReport(eq(PROJECT_ID), any(), any(User.class));
+        }
+
+        @Test
+        @DisplayName("1.2 - generateProjectPdf_afterTitleEdit_shouldRenderAgainWithTheNewTitle")
+        void generateProjectPdf_afterTitleEdit_shouldRenderAgainWithTheNewTitle() {
+            // Arrange
+            PdfExportResult beforeEdit = exportPdf();
+            project.setTitle("Renamed Project");
+            projectVersion.incrementAndGet();
+
+            // Act
+            PdfExportResult afterEdit = exportPdf();
+
+            // Assert
+            assertThat(beforeEdit.getFilename()).isEqualTo("relatorio_mock_project.pdf");
+            assertThat(afterEdit.getFilename()).isEqualTo("relatorio_renamed_project.pdf");
+            verify(projectService, times(2)).getProjectByIdForReport(eq(PROJECT_ID), any(), any(User.class));
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.teamtacles.infrastructure.stream;
+
+import br.com.teamtacles.project.dto.response.ProjectActivityEventDTO;
+import br.com.teamtacles.project.enumeration.EProjectActivityType;
+import br.com.teamtacles.project.service.ProjectAccessRevokedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectActivityStreamTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final long INITIAL_SEQUENCE = 100L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private ProjectActivityStream createStream(int bufferSize, int historySize, Executor sender) {
+        return new ProjectActivityStream(new ObjectMapper().findAndRegisterModules(), meterRegistry, bufferSize, historySize,
+                Duration.ofMinutes(30), Duration.ofMinutes(10), sender, timeout -> new CapturingEmitter(), nanoClock::get, INITIAL_SEQUENCE);
+    }
+
+    private ProjectActivityStream createStream(int bufferSize, int historySize) {
+        return createStream(bufferSize, historySize, Runnable::run);
+    }
+
+    private static ProjectActivityEventDTO event(EProjectActivityType type, Long taskId, Long userId) {
+        return new ProjectActivityEventDTO(type, PROJECT_ID, taskId, userId, null, 9L, OffsetDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("1. Delivery Tests")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("1.1 - publish_whenProjectHasSubscribers_shouldDeliverEventsInOrderWithIncreasingIds")
+        void publish_whenProjectHasSubscribers_shouldDeliverEventsInOrderWithIncreasingIds() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter first = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            CapturingEmitter second = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, null);
+
+            // Act
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+            stream.publish(event(EProjectActivityType.TASK_ASSIGNED, 10L, 3L));
+
+            // Assert
+            for (CapturingEmitter emitter : List.of(first, second)) {
+                assertThat(emitter.sent()).hasSize(2);
+                assertThat(emitter.sent().get(0)).startsWith("id:101\nevent:TASK_CREATED\ndata:").contains("\"taskId\":10");
+                assertThat(emitter.sent().get(1)).startsWith("id:102\nevent:TASK_ASSIGNED\ndata:").contains("\"userId\":3");
+            }
+        }
+
+        @Test
+        @DisplayName("1.2 - publish_whenEventBelongsToAnotherProject_shouldNotReachSubscribers")
+        void publish_whenEventBelongsToAnotherProject_shouldNotReachSubscribers() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter emitter = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+
+            // Act
+            stream.publish(new ProjectActivityEventDTO(EProjectActivityType.TASK_CREATED, 99L, 10L, null, null, 9L, OffsetDateTime.now()));
+
+            // Assert
+            assertThat(emitter.sent()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Resume Tests")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("2.1 - subscribe_withLastEventId_shouldReplayOnlyTheMissedEvents")
+        void subscribe_withLastEventId_shouldReplayOnlyTheMissedEvents() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            stream.subscribe(PROJECT_ID, 2L, null);
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 11L, null));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 12L, null));
+
+            // Act
+            CapturingEmitter resumed = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, 101L);
+
+            // Assert
+            assertThat(resumed.sent()).hasSize(2);
+            assertThat(resumed.sent().get(0)).startsWith("id:102\n").contains("\"taskId\":11");
+            assertThat(resumed.sent().get(1)).startsWith("id:103\n").contains("\"taskId\":12");
+        }
+
+        @Test
+        @DisplayName("2.2 - subscribe_whenLastEventIdFellOutOfHistory_shouldAskTheClientToResync")
+        void subscribe_whenLastEventIdFellOutOfHistory_shouldAskTheClientToResync() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 2);
+            stream.subscribe(PROJECT_ID, 2L, null);
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 11L, null));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 12L, null));
+
+            // Act
+            CapturingEmitter resumed = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, 100L);
+
+            // Assert
+            assertThat(resumed.sent()).hasSize(1);
+            assertThat(resumed.sent().get(0)).startsWith("id:103\nevent:RESYNC_REQUIRED\n");
+        }
+
+        @Test
+        @DisplayName("2.3 - sendHeartbeats_whenChannelIsIdlePastRetention_shouldDropItsHistory")
+        void sendHeartbeats_whenChannelIsIdlePastRetention_shouldDropItsHistory() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter emitter = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            stream.publish(event(EProjectActivityType.MEMBER_LEFT, null, 2L));
+            nanoClock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+            // Act
+            stream.sendHeartbeats();
+            CapturingEmitter resumed = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, 100L);
+
+            // Assert
+            assertThat(emitter.isCompleted()).isTrue();
+            assertThat(resumed.sent()).singleElement().asString().contains("event:RESYNC_REQUIRED");
+        }
+    }
+
+    @Nested
+    @DisplayName("3. Backpressure and Membership Tests")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("3.1 - publish_whenSubscriberBufferOverflows_shouldDisconnectOnlyTheSlowSubscriber")
+        void publish_whenSubscriberBufferOverflows_shouldDisconnectOnlyTheSlowSubscriber() throws InterruptedException {
+            // Arrange
+            ExecutorService sender = Executors.newCachedThreadPool();
+            executors.add(sender);
+            ProjectActivityStream stream = createStream(4, 16, sender);
+            CapturingEmitter fast = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            CapturingEmitter slow = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, null);
+            CountDownLatch gate = new CountDownLatch(1);
+            slow.blockSendsUntil(gate);
+
+            // Act
+            for (long taskId = 1; taskId <= 6; taskId++) {
+                stream.publish(event(EProjectActivityType.TASK_CREATED, taskId, null));
+                assertThat(fast.awaitNext()).isNotNull();
+            }
+            gate.countDown();
+
+            // Assert
+            assertThat(slow.isCompleted()).isTrue();
+            assertThat(fast.isCompleted()).isFalse();
+            assertThat(meterRegistry.get("teamtacles.activity-stream.dropped").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("teamtacles.activity-stream.subscribers").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("3.2 - publish_whenMemberLeaves_shouldCloseOnlyThatUsersSubscriptions")
+        void publish_whenMemberLeaves_shouldCloseOnlyThatUsersSubscriptions() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter leaving = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            CapturingEmitter staying = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, null);
+
+            // Act
+            stream.publish(event(EProjectActivityType.MEMBER_LEFT, null, 2L));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+
+            // Assert
+            assertThat(leaving.isCompleted()).isTrue();
+            assertThat(leaving.sent()).hasSize(1);
+            assertThat(staying.isCompleted()).isFalse();
+            assertThat(staying.sent()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("3.3 - closeSubscriptionsOf_whenAccountIsDeleted_shouldCloseThatUsersSubscriptionsInEveryProject")
+        void closeSubscriptionsOf_whenAccountIsDeleted_shouldCloseThatUsersSubscriptionsInEveryProject() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter deletedHere = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            CapturingEmitter deletedElsewhere = (CapturingEmitter) stream.subscribe(PROJECT_ID + 1, 2L, null);
+            CapturingEmitter staying = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, null);
+
+            // Act
+            stream.closeSubscriptionsOf(new ProjectAccessRevokedEvent(2L));
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+
+            // Assert
+            assertThat(deletedHere.isCompleted()).isTrue();
+            assertThat(deletedHere.sent()).isEmpty();
+            assertThat(deletedElsewhere.isCompleted()).isTrue();
+            assertThat(staying.isCompleted()).isFalse();
+            assertThat(staying.sent()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("3.4 - publish_whenProjectIsDeleted_shouldDeliverTheEventThenCloseAndDropTheChannel")
+        void publish_whenProjectIsDeleted_shouldDeliverTheEventThenCloseAndDropTheChannel() {
+            // Arrange
+            ProjectActivityStream stream = createStream(8, 16);
+            CapturingEmitter first = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, null);
+            CapturingEmitter second = (CapturingEmitter) stream.subscribe(PROJECT_ID, 3L, null);
+            CapturingEmitter otherProject = (CapturingEmitter) stream.subscribe(PROJECT_ID + 1, 2L, null);
+            stream.publish(event(EProjectActivityType.TASK_CREATED, 10L, null));
+
+            // Act
+            stream.publish(event(EProjectActivityType.PROJECT_DELETED, null, null));
+            CapturingEmitter late = (CapturingEmitter) stream.subscribe(PROJECT_ID, 2L, 101L);
+
+            // Assert
+            for (CapturingEmitter emitter : List.of(first, second)) {
+                assertThat(emitter.isCompleted()).isTrue();
+                assertThat(emitter.sent()).hasSize(2);
+                assertThat(emitter.sent().get(1)).startsWith("id:102\nevent:PROJECT_DELETED\n");
+            }
+            assertThat(otherProject.isCompleted()).isFalse();
+            assertThat(late.sent()).hasSize(1);
+            assertThat(late.sent().get(0)).startsWith("id:103\nevent:RESYNC_REQUIRED\n");
+        }
+    }
+
+    // Guarda o texto de cada evento no formato em que iria para o socket
+    static class CapturingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final List<String> sent = new ArrayList<>();
+        private volatile CountDownLatch gate;
+        private volatile boolean completed;
+
+        void blockSendsUntil(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            CountDownLatch currentGate = gate;
+            if (currentGate != null) {
+                try {
+                    currentGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String text = builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining());
+            synchronized (sent) {
+                sent.add(text);
+            }
+            events.add(text);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+
+        List<String> sent() {
+            synchronized (sent) {
+                return List.copyOf(sent);
+            }
+        }
+
+        String awaitNext() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
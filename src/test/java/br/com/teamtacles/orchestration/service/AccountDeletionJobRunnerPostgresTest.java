@@ -0,0 +1,256 @@
+package br.com.teamtacles.orchestration.service;
+
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionPhase;
+import br.com.teamtacles.orchestration.enumeration.EAccountDeletionStatus;
+import br.com.teamtacles.orchestration.job.AccountDeletionJob;
+import br.com.teamtacles.orchestration.repository.AccountDeletionJobJdbcRepository;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.team.service.TeamService;
+import br.com.teamtacles.user.service.UserService;
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountDeletionJobRunnerPostgresTest extends PostgresIntegrationTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+    private static final int ITEMS_PER_KIND = 5;
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserAccountService userAccountService;
+    @Autowired
+    private TeamService teamService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private AccountDeletionJobJdbcRepository jobRepository;
+
+    // Instância própria, fora do proxy do @Async: o job roda na thread do teste e termina antes das asserções
+    private AccountDeletionJobRunner runner;
+
+    private long leaverId;
+    private long successorId;
+    private final List<Long> sharedProjectIds = new ArrayList<>();
+    private final List<Long> sharedTeamIds = new ArrayList<>();
+    private final List<Long> sharedTaskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        runner = new AccountDeletionJobRunner(jobRepository, userService, userAccountService, teamService, projectService, taskService);
+        sharedProjectIds.clear();
+        sharedTeamIds.clear();
+        sharedTaskIds.clear();
+
+        leaverId = insertUser("leaver");
+        successorId = insertUser("successor");
+        long hostId = insertUser("host");
+
+        for (int i = 0; i < ITEMS_PER_KIND; i++) {
+            long soloProjectId = insertProject("Solo " + i, leaverId);
+            insertProjectMember(soloProjectId, leaverId, "OWNER", true, T0);
+            insertTask(soloProjectId, "Solo project task " + i, leaverId);
+
+            long sharedProjectId = insertProject("Shared " + i, leaverId);
+            insertProjectMember(sharedProjectId, leaverId, "OWNER", true, T0);
+            insertProjectMember(sharedProjectId, successorId, "MEMBER", true, T0.plusDays(1));
+            sharedProjectIds.add(sharedProjectId);
+
+            long soloTeamId = insertTeam("Solo " + i, leaverId);
+            insertTeamMember(soloTeamId, leaverId, "OWNER", true, T0);
+
+            long sharedTeamId = insertTeam("Shared " + i, leaverId);
+            insertTeamMember(sharedTeamId, leaverId, "OWNER", true, T0);
+            insertTeamMember(sharedTeamId, successorId, "ADMIN", true, T0.plusDays(1));
+            sharedTeamIds.add(sharedTeamId);
+        }
+
+        // Tarefas do usuário num projeto de outra pessoa: só a posse delas muda de mãos
+        long hostProjectId = insertProject("Host", hostId);
+        insertProjectMember(hostProjectId, hostId, "OWNER", true, T0);
+        insertProjectMember(hostProjectId, leaverId, "MEMBER", true, T0);
+        insertProjectMember(hostProjectId, successorId, "MEMBER", true, T0);
+        for (int i = 0; i < ITEMS_PER_KIND; i++) {
+            long soloTaskId = insertTask(hostProjectId, "Solo task " + i, leaverId);
+            insertTaskAssignment(soloTaskId, leaverId, "OWNER", T0);
+
+            long sharedTaskId = insertTask(hostProjectId, "Shared task " + i, leaverId);
+            insertTaskAssignment(sharedTaskId, leaverId, "OWNER", T0);
+            insertTaskAssignment(sharedTaskId, successorId, "ASSIGNEE", T0.plusDays(1));
+            sharedTaskIds.add(sharedTaskId);
+        }
+    }
+
+    private UUID insertJob() {
+        UUID jobId = UUID.randomUUID();
+        jobRepository.insert(jobId, leaverId, 0, OffsetDateTime.now());
+        return jobId;
+    }
+
+    private AccountDeletionJob runJob(UUID jobId) {
+        runner.run(jobId, CHUNK_SIZE);
+        return jobRepository.findById(jobId).orElseThrow();
+    }
+
+    private AccountDeletionJob runJob() {
+        return runJob(insertJob());
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    @Nested
+    @DisplayName("1. Chunked Drain Tests")
+    class ChunkedDrainTests {
+
+        @Test
+        @DisplayName("1.1 - run_withChunkSmallerThanAccount_shouldDrainEveryPhaseAndDeleteTheAccount")
+        void run_withChunkSmallerThanAccount_shouldDrainEveryPhaseAndDeleteTheAccount() {
+            // Act
+            AccountDeletionJob job = runJob();
+
+            // Assert
+            assertThat(job.getError()).isNull();
+            assertThat(job.getStatus()).isEqualTo(EAccountDeletionStatus.COMPLETED);
+            assertThat(job.getProcessedRows()).isGreaterThan(CHUNK_SIZE);
+            assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", leaverId)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM project_members WHERE user_id = ?", leaverId)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM team_members WHERE user_id = ?", leaverId)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM task_assignments WHERE user_id = ?", leaverId)).isZero();
+        }
+
+        @Test
+        @DisplayName("1.2 - run_withChunkSmallerThanAccount_shouldConvergeToTheSameStateAsASingleCall")
+        void run_withChunkSmallerThanAccount_shouldConvergeToTheSameStateAsASingleCall() {
+            // Act
+            runJob();
+
+            // Assert
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM project ORDER BY id", Long.class))
+                    .containsAll(sharedProjectIds)
+                    .hasSize(ITEMS_PER_KIND + 1);
+            assertThat(count("SELECT COUNT(*) FROM project WHERE owner_id = ?", successorId)).isEqualTo(ITEMS_PER_KIND);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM teams ORDER BY id", Long.class))
+                    .containsExactlyElementsOf(sharedTeamIds);
+            assertThat(count("SELECT COUNT(*) FROM team_members WHERE user_id = ? AND team_role = 'OWNER'", successorId))
+                    .isEqualTo(ITEMS_PER_KIND);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class))
+                    .containsExactlyElementsOf(sharedTaskIds);
+            assertThat(count("SELECT COUNT(*) FROM task_assignments WHERE user_id = ? AND task_role = 'OWNER'", successorId))
+                    .isEqualTo(ITEMS_PER_KIND);
+        }
+
+        @Test
+        @DisplayName("1.3 - run_withChunkSmallerThanAccount_shouldWriteOneProjectDepartureRowPerMembership")
+        void run_withChunkSmallerThanAccount_shouldWriteOneProjectDepartureRowPerMembership() {
+            // Act
+            runJob();
+
+            // Assert
+            assertThat(count("SELECT COUNT(*) FROM change_log WHERE entity_type = 'PROJECT_MEMBER' AND entity_id = ? AND deleted = TRUE",
+                    leaverId)).isEqualTo(2L * ITEMS_PER_KIND + 1);
+            assertThat(count("SELECT COUNT(*) FROM change_log WHERE entity_type = 'PROJECT' AND user_id = ? AND deleted = TRUE",
+                    leaverId)).isEqualTo(2L * ITEMS_PER_KIND + 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Resume Tests")
+    class ResumeTests {
+
+        @Test
+        @DisplayName("2.1 - run_withJobInterruptedInALaterPhase_shouldSkipTheFinishedPhasesAndComplete")
+        void run_withJobInterruptedInALaterPhase_shouldSkipTheFinishedPhasesAndComplete() {
+            // Arrange
+            // Tarefas e times já liberados antes de o nó anterior cair
+            taskService.releaseTasksOfUser(leaverId, null, Integer.MAX_VALUE);
+            teamService.releaseTeamsOfUser(leaverId, Integer.MAX_VALUE);
+            UUID jobId = insertJob();
+            jobRepository.recordProgress(jobId, EAccountDeletionPhase.PROJECTS, 0, OffsetDateTime.now());
+
+            // Act
+            AccountDeletionJob job = runJob(jobId);
+
+            // Assert
+            assertThat(job.getError()).isNull();
+            assertThat(job.getStatus()).isEqualTo(EAccountDeletionStatus.COMPLETED);
+            assertThat(job.getPhase()).isEqualTo(EAccountDeletionPhase.ACCOUNT);
+            assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", leaverId)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM account_deletion_jobs WHERE running_user_id IS NOT NULL")).isZero();
+        }
+
+        @Test
+        @DisplayName("2.2 - run_withAccountAlreadyDeleted_shouldOnlyRecordTheCompletion")
+        void run_withAccountAlreadyDeleted_shouldOnlyRecordTheCompletion() {
+            // Arrange
+            UUID jobId = insertJob();
+            jobRepository.recordProgress(jobId, EAccountDeletionPhase.ACCOUNT, 0, OffsetDateTime.now());
+            jdbcTemplate.update("DELETE FROM project");
+            jdbcTemplate.update("DELETE FROM teams");
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", leaverId);
+
+            // Act
+            AccountDeletionJob job = runJob(jobId);
+
+            // Assert
+            assertThat(job.getError()).isNull();
+            assertThat(job.getStatus()).isEqualTo(EAccountDeletionStatus.COMPLETED);
+            assertThat(job.getFinishedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("2.3 - run_withRowsLeftInPhasesAlreadyDrained_shouldSweepThemBeforeDeletingTheAccount")
+        void run_withRowsLeftInPhasesAlreadyDrained_shouldSweepThemBeforeDeletingTheAccount() {
+            // Arrange
+            UUID jobId = insertJob();
+            jobRepository.recordProgress(jobId, EAccountDeletionPhase.ACCOUNT, 0, OffsetDateTime.now());
+
+            // Act
+            AccountDeletionJob job = runJob(jobId);
+
+            // Assert
+            assertThat(job.getError()).isNull();
+            assertThat(job.getStatus()).isEqualTo(EAccountDeletionStatus.COMPLETED);
+            assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", leaverId)).isZero();
+            assertThat(count("SELECT COUNT(*) FROM project WHERE owner_id = ?", successorId)).isEqualTo(ITEMS_PER_KIND);
+            assertThat(count("SELECT COUNT(*) FROM team_members WHERE user_id = ? AND team_role = 'OWNER'", successorId))
+                    .isEqualTo(ITEMS_PER_KIND);
+            assertThat(count("SELECT COUNT(*) FROM task_assignments WHERE user_id = ? AND task_role = 'OWNER'", successorId))
+                    .isEqualTo(ITEMS_PER_KIND);
+        }
+
+        @Test
+        @DisplayName("2.4 - claim_withRecentHeartbeat_shouldLeaveTheJobToItsCurrentNode")
+        void claim_withRecentHeartbeat_shouldLeaveTheJobToItsCurrentNode() {
+            // Arrange
+            UUID jobId = insertJob();
+            OffsetDateTime now = OffsetDateTime.now();
+
+            // Act
+            boolean claimedWhileFresh = jobRepository.claim(jobId, now, now.minusMinutes(5));
+            boolean claimedWhenStale = jobRepository.claim(jobId, now.plusMinutes(10), now.plusMinutes(5));
+            boolean claimedTwice = jobRepository.claim(jobId, now.plusMinutes(10), now.plusMinutes(5));
+
+            // Assert
+            assertThat(claimedWhileFresh).isFalse();
+            assertThat(claimedWhenStale).isTrue();
+            assertThat(claimedTwice).isFalse();
+        }
+    }
+}
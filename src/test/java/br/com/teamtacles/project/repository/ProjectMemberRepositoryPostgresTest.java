@@ -0,0 +1,84 @@
+package br.com.teamtacles.project.repository;
+
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectMemberRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private long projectId;
+    private long teamId;
+    private long newMemberId;
+    private long invitedMemberId;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        long ownerId = insertUser("owner");
+        newMemberId = insertUser("newmember");
+        invitedMemberId = insertUser("invited");
+        long pendingTeamMemberId = insertUser("pendingteam");
+
+        teamId = insertTeam("Team", ownerId);
+        insertTeamMember(teamId, ownerId, "OWNER", true, now);
+        insertTeamMember(teamId, newMemberId, "MEMBER", true, now);
+        insertTeamMember(teamId, invitedMemberId, "MEMBER", true, now);
+        insertTeamMember(teamId, pendingTeamMemberId, "MEMBER", false, now);
+
+        projectId = insertProject("Project", ownerId);
+        insertProjectMember(projectId, ownerId, "OWNER", true, now);
+        insertProjectMember(projectId, invitedMemberId, "ADMIN", false, now);
+    }
+
+    private TeamImportCounts importTeam() {
+        return transactionTemplate.execute(status -> projectMemberRepository.upsertAcceptedTeamMembers(projectId, teamId));
+    }
+
+    @Nested
+    @DisplayName("1. Team Import Upsert Tests")
+    class TeamImportUpsertTests {
+
+        @Test
+        @DisplayName("1.1 - upsertAcceptedTeamMembers_shouldInsertNewMembersAndUpgradePendingInvitesOnly")
+        void upsertAcceptedTeamMembers_shouldInsertNewMembersAndUpgradePendingInvitesOnly() {
+            // Act
+            TeamImportCounts counts = importTeam();
+
+            // Assert
+            assertThat(counts.getInserted()).isEqualTo(1);
+            assertThat(counts.getUpgraded()).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForList("SELECT user_id, project_role, accepted_invite, version FROM project_members "
+                    + "WHERE project_id = ? AND user_id IN (?, ?) ORDER BY user_id", projectId, newMemberId, invitedMemberId))
+                    .containsExactly(
+                            Map.of("user_id", newMemberId, "project_role", "MEMBER", "accepted_invite", true, "version", 0L),
+                            Map.of("user_id", invitedMemberId, "project_role", "MEMBER", "accepted_invite", true, "version", 1L));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_members WHERE project_id = ?", Long.class, projectId))
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("1.2 - upsertAcceptedTeamMembers_whenRepeated_shouldChangeNothing")
+        void upsertAcceptedTeamMembers_whenRepeated_shouldChangeNothing() {
+            // Arrange
+            importTeam();
+
+            // Act
+            TeamImportCounts counts = importTeam();
+
+            // Assert
+            assertThat(counts.getInserted()).isZero();
+            assertThat(counts.getUpgraded()).isZero();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.teamtacles.project.repository;
+
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private long leaverId;
+
+    @BeforeEach
+    void setUp() {
+        leaverId = insertUser("leaver");
+    }
+
+    private long insertOwnedProject(String title) {
+        long projectId = insertProject(title, leaverId);
+        insertProjectMember(projectId, leaverId, "OWNER", true, T0);
+        return projectId;
+    }
+
+    private int transfer(Long... projectIds) {
+        return transactionTemplate.execute(status -> projectRepository.transferOwnedProjectsToSuccessor(leaverId, List.of(projectIds)));
+    }
+
+    private int deleteSoleOwned(Long... projectIds) {
+        return transactionTemplate.execute(status -> projectRepository.deleteOwnedProjectsWithoutOtherMembers(leaverId, List.of(projectIds)));
+    }
+
+    private long ownerOf(long projectId) {
+        return jdbcTemplate.queryForObject("SELECT owner_id FROM project WHERE id = ?", Long.class, projectId);
+    }
+
+    private String roleOf(long projectId, long userId) {
+        return jdbcTemplate.queryForObject("SELECT project_role FROM project_members WHERE project_id = ? AND user_id = ?",
+                String.class, projectId, userId);
+    }
+
+    @Nested
+    @DisplayName("1. Successor Choice Tests")
+    class SuccessorChoiceTests {
+
+        @Test
+        @DisplayName("1.1 - transferOwnedProjectsToSuccessor_shouldPreferEarliestAcceptedAdminOverEarlierMembers")
+        void transferOwnedProjectsToSuccessor_shouldPreferEarliestAcceptedAdminOverEarlierMembers() {
+            // Arrange
+            long projectId = insertOwnedProject("Project");
+            long pendingAdminId = insertUser("pendingadmin");
+            long memberId = insertUser("member");
+            long adminId = insertUser("admin");
+            long laterAdminId = insertUser("lateradmin");
+            insertProjectMember(projectId, pendingAdminId, "ADMIN", false, T0);
+            insertProjectMember(projectId, memberId, "MEMBER", true, T0.plusDays(1));
+            insertProjectMember(projectId, adminId, "ADMIN", true, T0.plusDays(3));
+            insertProjectMember(projectId, laterAdminId, "ADMIN", true, T0.plusDays(5));
+
+            // Act
+            int transferred = transfer(projectId);
+
+            // Assert
+            assertThat(transferred).isEqualTo(1);
+            assertThat(ownerOf(projectId)).isEqualTo(adminId);
+            assertThat(roleOf(projectId, adminId)).isEqualTo("OWNER");
+            assertThat(roleOf(projectId, laterAdminId)).isEqualTo("ADMIN");
+        }
+
+        @Test
+        @DisplayName("1.2 - transferOwnedProjectsToSuccessor_withoutAdmin_shouldPickEarliestAcceptedMember")
+        void transferOwnedProjectsToSuccessor_withoutAdmin_shouldPickEarliestAcceptedMember() {
+            // Arrange
+            long projectId = insertOwnedProject("Project");
+            long pendingId = insertUser("pending");
+            long laterMemberId = insertUser("latermember");
+            long earliestMemberId = insertUser("earliestmember");
+            insertProjectMember(projectId, pendingId, "MEMBER", false, T0);
+            insertProjectMember(projectId, laterMemberId, "MEMBER", true, T0.plusDays(2));
+            insertProjectMember(projectId, earliestMemberId, "MEMBER", true, T0.plusDays(1));
+
+            // Act
+            transfer(projectId);
+
+            // Assert
+            assertThat(ownerOf(projectId)).isEqualTo(earliestMemberId);
+            assertThat(roleOf(projectId, earliestMemberId)).isEqualTo("OWNER");
+            assertThat(roleOf(projectId, laterMemberId)).isEqualTo("MEMBER");
+        }
+
+        @Test
+        @DisplayName("1.3 - transferOwnedProjectsToSuccessor_shouldOnlyTouchTheGivenProjects")
+        void transferOwnedProjectsToSuccessor_shouldOnlyTouchTheGivenProjects() {
+            // Arrange
+            long leftProjectId = insertOwnedProject("Left");
+            long keptProjectId = insertOwnedProject("Kept");
+            long memberId = insertUser("member");
+            insertProjectMember(leftProjectId, memberId, "MEMBER", true, T0.plusDays(1));
+            insertProjectMember(keptProjectId, memberId, "MEMBER", true, T0.plusDays(1));
+
+            // Act
+            int transferred = transfer(leftProjectId);
+
+            // Assert
+            assertThat(transferred).isEqualTo(1);
+            assertThat(ownerOf(leftProjectId)).isEqualTo(memberId);
+            assertThat(ownerOf(keptProjectId)).isEqualTo(leaverId);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Sole Member Deletion Tests")
+    class SoleMemberDeletionTests {
+
+        @Test
+        @DisplayName("2.1 - deleteOwnedProjectsWithoutOtherMembers_shouldDeleteProjectsWithoutOtherAcceptedMembers")
+        void deleteOwnedProjectsWithoutOtherMembers_shouldDeleteProjectsWithoutOtherAcceptedMembers() {
+            // Arrange
+            long soloProjectId = insertOwnedProject("Solo");
+            long pendingOnlyProjectId = insertOwnedProject("Pending only");
+            long sharedProjectId = insertOwnedProject("Shared");
+            long pendingId = insertUser("pending");
+            long memberId = insertUser("member");
+            insertProjectMember(pendingOnlyProjectId, pendingId, "MEMBER", false, T0);
+            insertProjectMember(sharedProjectId, memberId, "MEMBER", true, T0);
+            insertTask(soloProjectId, "Solo task", leaverId);
+
+            // Act
+            int deleted = deleteSoleOwned(soloProjectId, pendingOnlyProjectId, sharedProjectId);
+
+            // Assert
+            assertThat(deleted).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM project", Long.class)).containsExactly(sharedProjectId);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_members WHERE project_id IN (?, ?)",
+                    Long.class, soloProjectId, pendingOnlyProjectId)).isZero();
+        }
+
+        @Test
+        @DisplayName("2.2 - deleteOwnedProjectsWithoutOtherMembers_shouldLeaveProjectsOutsideTheChunkUntouched")
+        void deleteOwnedProjectsWithoutOtherMembers_shouldLeaveProjectsOutsideTheChunkUntouched() {
+            // Arrange
+            long firstId = insertOwnedProject("Solo 1");
+            long secondId = insertOwnedProject("Solo 2");
+            long thirdId = insertOwnedProject("Solo 3");
+
+            // Act
+            int deleted = deleteSoleOwned(firstId, secondId);
+
+            // Assert
+            assertThat(deleted).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM project", Long.class)).containsExactly(thirdId);
+        }
+
+        @Test
+        @DisplayName("2.3 - deleteAllOfUser_shouldRemoveOnlyTheLeaversMembershipsInTheGivenProjects")
+        void deleteAllOfUser_shouldRemoveOnlyTheLeaversMembershipsInTheGivenProjects() {
+            // Arrange
+            long otherOwnerId = insertUser("otherowner");
+            List<Long> projectIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                long projectId = insertProject("Other " + i, otherOwnerId);
+                insertProjectMember(projectId, otherOwnerId, "OWNER", true, T0);
+                insertProjectMember(projectId, leaverId, "MEMBER", true, T0.plusDays(1));
+                projectIds.add(projectId);
+            }
+
+            // Act
+            int removed = transactionTemplate.execute(status -> projectMemberRepository.deleteAllOfUser(leaverId, projectIds.subList(0, 2)));
+
+            // Assert
+            assertThat(removed).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList("SELECT project_id FROM project_members WHERE user_id = ?", Long.class, leaverId))
+                    .containsExactly(projectIds.get(2));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM project_members WHERE user_id = ?", Long.class, otherOwnerId)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("3. Chunk Selection Tests")
+    class ChunkSelectionTests {
+
+        @Test
+        @DisplayName("3.1 - findProjectIdsToRelease_shouldReturnAtMostLimitProjectsOfTheUserInIdOrder")
+        void findProjectIdsToRelease_shouldReturnAtMostLimitProjectsOfTheUserInIdOrder() {
+            // Arrange
+            long otherOwnerId = insertUser("otherowner");
+            long ownedId = insertOwnedProject("Owned");
+            long joinedId = insertProject("Joined", otherOwnerId);
+            insertProjectMember(joinedId, leaverId, "MEMBER", true, T0);
+            long invitedId = insertProject("Invited", otherOwnerId);
+            insertProjectMember(invitedId, leaverId, "MEMBER", false, T0);
+            insertProject("Unrelated", otherOwnerId);
+
+            // Act
+            List<Long> firstChunk = projectRepository.findProjectIdsToRelease(leaverId, null, 2);
+            List<Long> everything = projectRepository.findProjectIdsToRelease(leaverId, null, Integer.MAX_VALUE);
+            List<Long> single = projectRepository.findProjectIdsToRelease(leaverId, joinedId, Integer.MAX_VALUE);
+
+            // Assert
+            assertThat(firstChunk).containsExactly(ownedId, joinedId);
+            assertThat(everything).containsExactly(ownedId, joinedId, invitedId);
+            assertThat(single).containsExactly(joinedId);
+        }
+    }
+}
@@ -1,21 +1,39 @@
 package br.com.teamtacles.project.service;
 
 import br.com.teamtacles.common.exception.ResourceAlreadyExistsException;
+import br.com.teamtacles.infrastructure.coalescing.ReadCoalescer;
 import br.com.teamtacles.infrastructure.email.EmailService;
+import br.com.teamtacles.infrastructure.stream.ProjectActivityStream;
 import br.com.teamtacles.project.dto.request.InviteProjectMemberRequestDTO;
 import br.com.teamtacles.project.dto.request.ProjectRequestRegisterDTO;
 import br.com.teamtacles.project.dto.request.ProjectRequestUpdateDTO;
+import br.com.teamtacles.project.dto.response.ProjectReportDTO;
 import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.dto.response.TeamImportResponseDTO;
 import br.com.teamtacles.project.enumeration.EProjectRole;
 import br.com.teamtacles.project.model.Project;
 import br.com.teamtacles.project.model.ProjectMember;
 import br.com.teamtacles.project.repository.ProjectMemberRepository;
+import br.com.teamtacles.project.repository.ProjectReportVersions;
 import br.com.teamtacles.project.repository.ProjectRepository;
 import br.com.teamtacles.project.validator.*;
 import br.com.teamtacles.security.UserAuthenticated;
+import br.com.teamtacles.sync.service.ChangeLogService;
+import br.com.teamtacles.task.dto.request.TaskFilterReportDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.InviteLinkTokenService;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.user.service.UserService;
 import br.com.teamtacles.utils.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,11 +41,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import br.com.teamtacles.project.mapper.ProjectMapper;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,14 +58,16 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
 import br.com.teamtacles.project.dto.request.UpdateMemberRoleProjectRequestDTO;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
 import br.com.teamtacles.project.validator.ProjectMembershipActionValidator;
 import br.com.teamtacles.team.service.TeamService;
-import br.com.teamtacles.team.repository.TeamMemberRepository;
+import br.com.teamtacles.project.repository.TeamImportCounts;
 import br.com.teamtacles.team.model.Team;
 import br.com.teamtacles.team.model.TeamMember;
 import br.com.teamtacles.team.enumeration.ETeamRole;
 import br.com.teamtacles.team.service.TeamAuthorizationService;
 import java.util.List;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectServiceTest {
@@ -70,7 +94,7 @@ class ProjectServiceTest {
     private UserAuthenticated userAuthenticated;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ProjectMapper projectMapper;
     @Mock
     private ProjectAuthorizationService projectAuthorizationService;
 
@@ -80,9 +104,30 @@ class ProjectServiceTest {
     @Mock
     private TeamService teamService;
     @Mock
-    private TeamMemberRepository teamMemberRepository;
-    @Mock
     private TeamAuthorizationService teamAuthorizationService;
+    @Mock
+    private SecureTokenService secureTokenService;
+    @Mock
+    private InviteLinkTokenService inviteLinkTokenService;
+
+    @Mock
+    private ProjectCollectionVersionRepository projectCollectionVersionRepository;
+
+    @Mock
+    private ProjectActivityPublisher projectActivityPublisher;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private ProjectActivityStream projectActivityStream;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ReadCoalescer readCoalescer;
 
     @InjectMocks
     private ProjectService projectService;
@@ -111,17 +156,12 @@ class ProjectServiceTest {
         savedProject.setTitle(requestDTO.getTitle());
         savedProject.setDescription(requestDTO.getDescription());
 
-        // Simular que o cascade funcionou - projeto salvo COM o membro
-        ProjectMember ownerMember = new ProjectMember(authenticatedUser, savedProject, EProjectRole.OWNER);
-        ownerMember.acceptedInvitation();
-        savedProject.addMember(ownerMember);
-
         when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
 
         ProjectResponseDTO expectedResponse = new ProjectResponseDTO();
         expectedResponse.setId(savedProject.getId());
         expectedResponse.setTitle(savedProject.getTitle());
-        when(modelMapper.map(savedProject, ProjectResponseDTO.class)).thenReturn(expectedResponse);
+        when(projectMapper.toProjectResponseDTO(savedProject)).thenReturn(expectedResponse);
 
         // Act
         ProjectResponseDTO actualResponse = projectService.createProject(requestDTO, authenticatedUser);
@@ -136,15 +176,14 @@ class ProjectServiceTest {
         Project capturedProject = projectCaptor.getValue();
         assertThat(capturedProject.getOwner()).isEqualTo(authenticatedUser);
 
-        // Verifica que o membro foi adicionado AO AGREGADO
-        assertThat(capturedProject.getMembers()).hasSize(1);
-        ProjectMember addedMember = capturedProject.getMembers().stream()
-                .findFirst()
-                .orElseThrow();
+        // O dono é gravado direto pelo repositório, sem passar pela coleção do agregado
+        verify(projectMemberRepository).save(projectMemberCaptor.capture());
+        ProjectMember addedMember = projectMemberCaptor.getValue();
+        assertThat(addedMember.getProject()).isEqualTo(capturedProject);
         assertThat(addedMember.getUser()).isEqualTo(authenticatedUser);
         assertThat(addedMember.getProjectRole()).isEqualTo(EProjectRole.OWNER);
         assertThat(addedMember.isAcceptedInvite()).isTrue();
-        verifyNoInteractions(projectMemberRepository);
+        assertThat(capturedProject.getMembers()).isEmpty();
     }
 
     @Test
@@ -188,7 +227,7 @@ class ProjectServiceTest {
             ProjectResponseDTO expectedResponse = new ProjectResponseDTO();
             expectedResponse.setId(existingProject.getId());
             expectedResponse.setTitle(requestDTO.getTitle());
-            when(modelMapper.map(any(Project.class), eq(ProjectResponseDTO.class))).thenReturn(expectedResponse);
+            when(projectMapper.toProjectResponseDTO(any(Project.class))).thenReturn(expectedResponse);
 
             // Act
             ProjectResponseDTO actualResponse = projectService.updateProject(projectId, requestDTO, owner);
@@ -296,6 +335,12 @@ class ProjectServiceTest {
             verify(projectAuthorizationService).checkProjectOwner(owner, existingProject);
             verify(projectRepository).delete(projectCaptor.capture());
             assertThat(projectCaptor.getValue()).isEqualTo(existingProject);
+
+            // Os tombstones são endereçados aos membros antes de o DELETE levar os vínculos junto
+            InOrder inOrder = inOrder(changeLogService, projectRepository, projectActivityPublisher);
+            inOrder.verify(changeLogService).projectDeleted(projectId);
+            inOrder.verify(projectRepository).delete(existingProject);
+            inOrder.verify(projectActivityPublisher).projectDeleted(projectId, owner.getId());
         }
 
         @Test
@@ -317,6 +362,7 @@ class ProjectServiceTest {
                     () -> projectService.deleteProject(projectId, adminUser));
 
             verify(projectRepository, never()).delete(any(Project.class));
+            verify(projectActivityPublisher, never()).projectDeleted(any(), any());
         }
 
         @Test
@@ -351,7 +397,9 @@ class ProjectServiceTest {
             InviteProjectMemberRequestDTO requestDTO = TestDataFactory
                     .createInviteProjectMemberRequestDTO(invitee.getEmail(), EProjectRole.MEMBER);
             when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectMemberRepository.save(any(ProjectMember.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(secureTokenService.issue(eq(ETokenType.PROJECT_INVITATION), any(), eq(Duration.ofHours(24))))
+                    .thenReturn(TestDataFactory.createIssuedToken("invitation-token"));
             doNothing().when(projectAuthorizationService).checkProjectAdmin(inviter, project);
             when(userService.findUserEntityByEmail(invitee.getEmail())).thenReturn(invitee);
             doNothing().when(projectInvitationValidator).validateRole(requestDTO.getRole());
@@ -362,27 +410,21 @@ class ProjectServiceTest {
             projectService.inviteMemberByEmail(projectId, requestDTO, inviter);
 
             // Assert
-            verify(projectRepository).save(projectCaptor.capture());
-            Project capturedProject = projectCaptor.getValue();
-
-            // Verifica se o projeto agora tem 2 membros (o dono original + o novo
-            // convidado)
-            assertThat(capturedProject.getMembers()).hasSize(2);
+            verify(projectMemberRepository).save(projectMemberCaptor.capture());
+            ProjectMember newMember = projectMemberCaptor.getValue();
 
-            ProjectMember newMember = capturedProject.getMembers().stream()
-                    .filter(member -> member.getUser().equals(invitee))
-                    .findFirst()
-                    .orElseThrow(() -> new AssertionError("Novo membro não encontrado na lista do projeto"));
+            // O convite é gravado só pelo repositório; a coleção do projeto não é tocada
+            assertThat(project.getMembers()).hasSize(1).doesNotContain(newMember);
+            assertThat(newMember.getProject()).isEqualTo(project);
 
             assertThat(newMember.getUser()).isEqualTo(invitee);
             assertThat(newMember.getProjectRole()).isEqualTo(EProjectRole.MEMBER);
             assertThat(newMember.isAcceptedInvite()).isFalse();
-            assertThat(newMember.getInvitationToken()).isNotNull().isNotBlank();
 
             verify(emailService).sendProjectInvitationEmail(
                     eq(invitee.getEmail()),
                     eq(project.getTitle()),
-                    eq(newMember.getInvitationToken()));
+                    eq("invitation-token"));
         }
 
         @Test
@@ -419,10 +461,12 @@ class ProjectServiceTest {
 
             ProjectMember pendingMember = TestDataFactory.createPendingProjectMember(invitee, project,
                     EProjectRole.MEMBER);
-            String validToken = pendingMember.getInvitationToken();
+            SecureToken invitation = TestDataFactory.createSecureToken(ETokenType.PROJECT_INVITATION, pendingMember.getId());
+            String validToken = "invitation-token";
 
-            when(projectMemberRepository.findByInvitationToken(validToken)).thenReturn(Optional.of(pendingMember));
-            doNothing().when(projectTokenValidator).validateInvitationEmailToken(pendingMember);
+            when(secureTokenService.find(ETokenType.PROJECT_INVITATION, validToken)).thenReturn(Optional.of(invitation));
+            when(projectMemberRepository.findById(pendingMember.getId())).thenReturn(Optional.of(pendingMember));
+            doNothing().when(projectTokenValidator).validateInvitationEmailToken(invitation);
             when(projectMemberRepository.save(any(ProjectMember.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -434,10 +478,10 @@ class ProjectServiceTest {
             ProjectMember savedMember = projectMemberCaptor.getValue();
 
             assertThat(savedMember.isAcceptedInvite()).isTrue();
-            assertThat(savedMember.getInvitationToken()).isNull();
-            assertThat(savedMember.getInvitationTokenExpiry()).isNull();
 
-            verify(projectTokenValidator).validateInvitationEmailToken(pendingMember);
+            verify(projectTokenValidator).validateInvitationEmailToken(invitation);
+            verify(secureTokenService).revoke(ETokenType.PROJECT_INVITATION, pendingMember.getId());
+            verify(projectActivityPublisher).memberJoined(project.getId(), invitee.getId());
         }
 
         @Test
@@ -445,7 +489,7 @@ class ProjectServiceTest {
         void acceptInvitationFromEmail_whenTokenIsInvalid_shouldThrowResourceNotFoundException() {
             // Arrange
             String invalidToken = "non-existent-token-123";
-            when(projectMemberRepository.findByInvitationToken(invalidToken)).thenReturn(Optional.empty());
+            when(secureTokenService.find(ETokenType.PROJECT_INVITATION, invalidToken)).thenReturn(Optional.empty());
             // Act & Assert
             ResourceNotFoundException exception = assertThrows(
                     ResourceNotFoundException.class,
@@ -541,17 +585,13 @@ class ProjectServiceTest {
                     .thenReturn(Optional.of(memberToRemoveMembership));
             doNothing().when(projectMembershipActionValidator).validateDeletion(ownerMembership,
                     memberToRemoveMembership);
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
             projectService.deleteMembershipFromProject(projectId, memberToRemove.getId(), owner);
 
             // Assert
-            verify(projectRepository).save(projectCaptor.capture());
-            Project savedProject = projectCaptor.getValue();
-            assertThat(savedProject.getMembers()).hasSize(1);
-            assertThat(savedProject.getMembers()).extracting(ProjectMember::getUser).doesNotContain(memberToRemove);
-            assertThat(savedProject.getMembers()).extracting(ProjectMember::getUser).contains(owner);
+            verify(projectMemberRepository).delete(memberToRemoveMembership);
+            verify(projectRepository, never()).save(any(Project.class));
             verify(projectMembershipActionValidator).validateDeletion(ownerMembership, memberToRemoveMembership);
         }
 
@@ -573,16 +613,13 @@ class ProjectServiceTest {
             when(projectMemberRepository.findByUserAndProject(memberUser, project))
                     .thenReturn(Optional.of(memberMembership));
             doNothing().when(projectMembershipActionValidator).validateDeletion(memberMembership, memberMembership);
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
             projectService.deleteMembershipFromProject(projectId, memberUser.getId(), memberUser);
 
             // Assert
-            verify(projectRepository).save(projectCaptor.capture());
-            Project savedProject = projectCaptor.getValue();
-            assertThat(savedProject.getMembers()).hasSize(1);
-            assertThat(savedProject.getMembers()).contains(ownerMembership);
+            verify(projectMemberRepository).delete(memberMembership);
+            verify(projectRepository, never()).save(any(Project.class));
             verify(projectAuthorizationService, never()).checkProjectAdmin(any(User.class), any(Project.class));
         }
 
@@ -646,17 +683,18 @@ class ProjectServiceTest {
             Project project = TestDataFactory.createMockProject(owner);
             ProjectMember expiredMember = TestDataFactory.createPendingProjectMember(invitee, project,
                     EProjectRole.MEMBER);
-            String expiredToken = expiredMember.getInvitationToken();
-            when(projectMemberRepository.findByInvitationToken(expiredToken)).thenReturn(Optional.of(expiredMember));
+            SecureToken invitation = TestDataFactory.createExpiredSecureToken(ETokenType.PROJECT_INVITATION, expiredMember.getId());
+            String expiredToken = "expired-token";
+            when(secureTokenService.find(ETokenType.PROJECT_INVITATION, expiredToken)).thenReturn(Optional.of(invitation));
             String expectedErrorMessage = "Invitation token has expired.";
             doThrow(new AccessDeniedException(expectedErrorMessage))
-                    .when(projectTokenValidator).validateInvitationEmailToken(expiredMember);
+                    .when(projectTokenValidator).validateInvitationEmailToken(invitation);
             // Act & Assert
             AccessDeniedException exception = assertThrows(
                     AccessDeniedException.class,
                     () -> projectService.acceptInvitationFromEmail(expiredToken));
             assertThat(exception.getMessage()).isEqualTo(expectedErrorMessage);
-            verify(projectTokenValidator).validateInvitationEmailToken(expiredMember);
+            verify(projectTokenValidator).validateInvitationEmailToken(invitation);
             verify(projectMemberRepository, never()).save(any(ProjectMember.class));
         }
 
@@ -725,6 +763,59 @@ class ProjectServiceTest {
             verifyNoInteractions(emailService);
         }
 
+        @Test
+        @DisplayName("4.14 - inviteAndRemoveMember_whenMembersCollectionIsNotLoaded_shouldNotInitializeIt")
+        void inviteAndRemoveMember_whenMembersCollectionIsNotLoaded_shouldNotInitializeIt() {
+            // Arrange
+            long projectId = 1L;
+            User owner = authenticatedUser;
+            User invitee = TestDataFactory.createUserWithId(2L, "invitee", "invitee@example.com");
+            Project project = TestDataFactory.createMockProject(owner);
+            ProjectMember ownerMembership = new ProjectMember(owner, project, EProjectRole.OWNER);
+            ProjectMember existingMembership = new ProjectMember(invitee, project, EProjectRole.MEMBER);
+            // Coleção lazy sem sessão: qualquer leitura lançaria LazyInitializationException
+            ReflectionTestUtils.setField(project, "members", new PersistentSet<ProjectMember>());
+            InviteProjectMemberRequestDTO requestDTO = TestDataFactory
+                    .createInviteProjectMemberRequestDTO(invitee.getEmail(), EProjectRole.MEMBER);
+            when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+            when(projectMemberRepository.save(any(ProjectMember.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(secureTokenService.issue(eq(ETokenType.PROJECT_INVITATION), any(), eq(Duration.ofHours(24))))
+                    .thenReturn(TestDataFactory.createIssuedToken("invitation-token"));
+            when(userService.findUserEntityByEmail(invitee.getEmail())).thenReturn(invitee);
+            when(userService.findUserEntityById(invitee.getId())).thenReturn(invitee);
+            when(projectMemberRepository.findByUserAndProject(owner, project)).thenReturn(Optional.of(ownerMembership));
+            when(projectMemberRepository.findByUserAndProject(invitee, project)).thenReturn(Optional.of(existingMembership));
+
+            // Act
+            projectService.inviteMemberByEmail(projectId, requestDTO, owner);
+            projectService.deleteMembershipFromProject(projectId, invitee.getId(), owner);
+
+            // Assert
+            verify(projectMemberRepository).save(any(ProjectMember.class));
+            verify(projectMemberRepository).delete(existingMembership);
+            verify(projectRepository, never()).save(any(Project.class));
+            assertThat(Hibernate.isInitialized(ReflectionTestUtils.getField(project, "members"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("4.15 - acceptInvitationFromLink_whenLinkWasRevokedOnAnotherNode_shouldCheckTheGenerationStoredInTheDatabase")
+        void acceptInvitationFromLink_whenLinkWasRevokedOnAnotherNode_shouldCheckTheGenerationStoredInTheDatabase() {
+            // Arrange
+            User newUser = TestDataFactory.createUserWithId(3L, "newUser", "new@example.com");
+            Project project = TestDataFactory.createMockProject(authenticatedUser);
+            InviteLinkClaims invitation = TestDataFactory.createInviteLinkClaims(EInviteScope.PROJECT, project.getId(), "MEMBER", 0);
+            // A entidade em cache ainda está na geração 0; outro nó já gerou um novo link e gravou a geração 1
+            when(inviteLinkTokenService.parse(EInviteScope.PROJECT, "link-token")).thenReturn(Optional.of(invitation));
+            when(projectRepository.findInviteLinkGeneration(project.getId())).thenReturn(Optional.of(1));
+            doThrow(new ResourceNotFoundException("Invitation link has been revoked."))
+                    .when(projectTokenValidator).validateInvitationLinkGeneration(invitation, 1);
+
+            // Act & Assert
+            assertThrows(ResourceNotFoundException.class,
+                    () -> projectService.acceptInvitationFromLink("link-token", newUser));
+            verify(projectRepository, never()).findById(anyLong());
+            verifyNoInteractions(projectMemberRepository);
+        }
     }
 
     @Nested
@@ -732,111 +823,76 @@ class ProjectServiceTest {
     class ProjectLeavingTests {
 
         @Test
-        @DisplayName("5.1 - leaveProject_whenRegularMemberLeavesProject_shouldRemoveUserFromProjectAndAllAssignments")
-        void leaveProject_whenRegularMemberLeavesProject_shouldRemoveUserFromProjectAndAllAssignments() {
+        @DisplayName("5.1 - leaveProject_whenMemberLeaves_shouldRunSetBasedStatementsScopedToProject")
+        void leaveProject_whenMemberLeaves_shouldRunSetBasedStatementsScopedToProject() {
             // Arrange
             long projectId = 1L;
             User owner = TestDataFactory.createValidUser(); // ID = 1L
             User regularMember = TestDataFactory.createUserWithId(2L, "regularMember", "member@example.com");
             Project project = TestDataFactory.createMockProject(owner);
 
-            // Adicionar membro regular ao projeto
-            ProjectMember regularMembershipInProject = TestDataFactory.createProjectMember(regularMember, project,
-                    EProjectRole.MEMBER, 200L);
-            project.addMember(regularMembershipInProject);
-
-            assertThat(project.getMembers()).hasSize(2);
-
             when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
             doNothing().when(projectAuthorizationService).checkProjectMembership(regularMember, project);
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectRepository.findProjectIdsToRelease(regularMember.getId(), projectId, Integer.MAX_VALUE)).thenReturn(List.of(projectId));
 
             // Act
             projectService.leaveProject(projectId, regularMember);
 
             // Assert
-            verify(projectRepository).findById(projectId);
             verify(projectAuthorizationService).checkProjectMembership(regularMember, project);
-            verify(projectRepository).save(projectCaptor.capture());
-
-            Project savedProject = projectCaptor.getValue();
-            assertThat(savedProject.getMembers()).hasSize(1);
-            assertThat(savedProject.getMembers()).extracting(ProjectMember::getUser).doesNotContain(regularMember);
-            assertThat(savedProject.getMembers()).extracting(ProjectMember::getUser).contains(owner);
-
-            verify(projectRepository).save(any(Project.class));
+            verify(projectCollectionVersionRepository).bumpMembersVersion(projectId);
+            verify(projectRepository).deleteOwnedProjectsWithoutOtherMembers(regularMember.getId(), List.of(projectId));
+            verify(projectRepository).transferOwnedProjectsToSuccessor(regularMember.getId(), List.of(projectId));
+            verify(projectMemberRepository).deleteAllOfUser(regularMember.getId(), List.of(projectId));
+            verify(projectRepository, never()).save(any(Project.class));
+            verify(projectRepository, never()).delete(any(Project.class));
+            verify(projectActivityPublisher).memberLeft(projectId, regularMember.getId(), regularMember.getId());
+            verify(projectActivityPublisher, never()).accessRevoked(any());
         }
 
         @Test
-        @DisplayName("5.2 - leaveProject_whenOwnerWithOtherMembersLeaves_shouldTransferOwnershipAndRemoveOwnerFromProject")
-        void leaveProject_whenOwnerWithOtherMembersLeaves_shouldTransferOwnershipAndRemoveOwnerFromProject() {
+        @DisplayName("5.2 - handleOwnerDeletion_shouldRunSetBasedStatementsAcrossAllProjects")
+        void handleOwnerDeletion_shouldRunSetBasedStatementsAcrossAllProjects() {
             // Arrange
-            long projectId = 1L;
-            User owner = TestDataFactory.createValidUser(); // ID = 1L
-            User adminMember = TestDataFactory.createUserWithId(2L, "adminMember", "admin@example.com");
-            User regularMember = TestDataFactory.createUserWithId(3L, "regularMember", "regular@example.com");
-
-            Project project = TestDataFactory.createMockProject(owner);
-
-            ProjectMember adminMembershipInProject = TestDataFactory.createProjectMember(adminMember, project,
-                    EProjectRole.ADMIN, 200L);
-            project.addMember(adminMembershipInProject);
-
-            ProjectMember regularMembershipInProject = TestDataFactory.createProjectMember(regularMember, project,
-                    EProjectRole.MEMBER, 300L);
-            project.addMember(regularMembershipInProject);
-
-            assertThat(project.getMembers()).hasSize(3);
-            assertThat(project.getOwner()).isEqualTo(owner);
-
-            when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-            doNothing().when(projectAuthorizationService).checkProjectMembership(owner, project);
-            when(projectMemberRepository.save(any(ProjectMember.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            User owner = TestDataFactory.createValidUser();
+            List<Long> projectIds = List.of(10L, 11L);
+            when(projectRepository.findProjectIdsToRelease(owner.getId(), null, Integer.MAX_VALUE)).thenReturn(projectIds);
 
             // Act
-            projectService.leaveProject(projectId, owner);
+            projectService.handleOwnerDeletion(owner);
 
             // Assert
-            verify(projectRepository).findById(projectId);
-            verify(projectAuthorizationService).checkProjectMembership(owner, project);
-
-            // Verifica que projectMemberRepository.save foi chamado para atualizar novo
-            // owner
-            verify(projectMemberRepository).save(any(ProjectMember.class));
-
-            // Verifica que projectRepository.save foi chamado (transferência de ownership +
-            // remoção do owner)
-            verify(projectRepository, atLeast(1)).save(projectCaptor.capture());
-
-            Project savedProject = projectCaptor.getValue();
-
-            // Verifica que owner foi removido do projeto
-            assertThat(savedProject.getMembers()).extracting(ProjectMember::getUser).doesNotContain(owner);
-
-            // Verifica que novo owner foi designado (deve ser admin por preferência)
-            assertThat(savedProject.getOwner()).isEqualTo(adminMember);
+            verify(projectRepository).deleteOwnedProjectsWithoutOtherMembers(owner.getId(), projectIds);
+            verify(projectRepository).transferOwnedProjectsToSuccessor(owner.getId(), projectIds);
+            verify(projectMemberRepository).deleteAllOfUser(owner.getId(), projectIds);
+            verify(projectRepository, never()).findAllByOwner(any(User.class));
+            verify(projectActivityPublisher).accessRevoked(owner.getId());
         }
 
         @Test
-        @DisplayName("5.3 - leaveProject_whenOwnerWithNoOtherMembersLeaves_shouldDeleteEntireProject")
-        void leaveProject_whenOwnerWithNoOtherMembersLeaves_shouldDeleteEntireProject() {
+        @DisplayName("5.3 - releaseProjectsOfUser_shouldScopeEveryStatementToTheChunksProjectsAndReturnAffectedRows")
+        void releaseProjectsOfUser_shouldScopeEveryStatementToTheChunksProjectsAndReturnAffectedRows() {
             // Arrange
-            long projectId = 1L;
-            User owner = TestDataFactory.createValidUser(); // ID = 1L
-            Project project = TestDataFactory.createMockProject(owner);
-            when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-            doNothing().when(projectAuthorizationService).checkProjectMembership(owner, project);
+            Long userId = 1L;
+            List<Long> projectIds = List.of(3L, 5L, 8L);
+            when(projectRepository.findProjectIdsToRelease(userId, null, 100)).thenReturn(projectIds);
+            when(projectRepository.deleteOwnedProjectsWithoutOtherMembers(userId, projectIds)).thenReturn(1);
+            when(projectRepository.transferOwnedProjectsToSuccessor(userId, projectIds)).thenReturn(1);
+            when(projectMemberRepository.deleteAllOfUser(userId, projectIds)).thenReturn(2);
 
             // Act
-            projectService.leaveProject(projectId, owner);
+            int affected = projectService.releaseProjectsOfUser(userId, null, 100);
 
             // Assert
-            verify(projectRepository).findById(projectId);
-            verify(projectAuthorizationService).checkProjectMembership(owner, project);
-            verify(projectRepository).delete(projectCaptor.capture());
-            assertThat(projectCaptor.getValue()).isEqualTo(project);
+            assertThat(affected).isEqualTo(4);
+
+            InOrder inOrder = inOrder(changeLogService, projectCollectionVersionRepository, projectRepository, projectMemberRepository);
+            inOrder.verify(changeLogService).projectMembershipsOfUserReleased(userId, projectIds);
+            inOrder.verify(projectCollectionVersionRepository).bumpVersionsOfProjects(projectIds);
+            inOrder.verify(projectRepository).deleteOwnedProjectsWithoutOtherMembers(userId, projectIds);
+            inOrder.verify(projectRepository).transferOwnedProjectsToSuccessor(userId, projectIds);
+            inOrder.verify(projectMemberRepository).deleteAllOfUser(userId, projectIds);
+            verify(projectCollectionVersionRepository, never()).bumpVersionsOfUserProjects(anyLong());
         }
 
         @Test
@@ -859,8 +915,8 @@ class ProjectServiceTest {
 
             verify(projectRepository).findById(projectId);
             verify(projectAuthorizationService).checkProjectMembership(nonMember, project);
-            verify(projectRepository, never()).save(any(Project.class));
-            verify(projectRepository, never()).delete(any(Project.class));
+            verify(projectMemberRepository, never()).deleteAllOfUser(anyLong(), any());
+            verify(projectRepository, never()).deleteOwnedProjectsWithoutOtherMembers(anyLong(), any());
         }
 
         @Test
@@ -879,148 +935,120 @@ class ProjectServiceTest {
 
             verify(projectRepository).findById(nonExistentProjectId);
             verify(projectAuthorizationService, never()).checkProjectMembership(any(User.class), any(Project.class));
-            verify(projectRepository, never()).save(any(Project.class));
-            verify(projectRepository, never()).delete(any(Project.class));
+            verify(projectMemberRepository, never()).deleteAllOfUser(anyLong(), any());
+            verify(projectRepository, never()).deleteOwnedProjectsWithoutOtherMembers(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("5.6 - releaseProjectsOfUser_withNothingLeft_shouldSkipChangeLogAndVersionBumps")
+        void releaseProjectsOfUser_withNothingLeft_shouldSkipChangeLogAndVersionBumps() {
+            // Arrange
+            Long userId = 1L;
+            when(projectRepository.findProjectIdsToRelease(userId, null, 100)).thenReturn(List.of());
+
+            // Act
+            int affected = projectService.releaseProjectsOfUser(userId, null, 100);
+
+            // Assert
+            assertThat(affected).isZero();
+            verify(changeLogService, never()).projectMembershipsOfUserReleased(anyLong(), any());
+            verifyNoInteractions(projectCollectionVersionRepository);
+            verify(projectMemberRepository, never()).deleteAllOfUser(anyLong(), any());
         }
     }
     @Nested
     @DisplayName("6 - Team Import Tests")
     class TeamImportTests {
 
+        private TeamImportCounts importCounts(long inserted, long upgraded) {
+            return new TeamImportCounts() {
+                @Override
+                public long getInserted() {
+                    return inserted;
+                }
+
+                @Override
+                public long getUpgraded() {
+                    return upgraded;
+                }
+            };
+        }
+
         @Test
-        @DisplayName("6.1 - importTeamMembersToProject should import all team members when user is project admin and team member")
-        void importTeamMembersToProject_whenValidPermissions_shouldImportAllTeamMembers() {
+        @DisplayName("6.1 - importTeamMembersToProject should return inserted and upgraded counts when user is project admin and team member")
+        void importTeamMembersToProject_whenValidPermissions_shouldReturnImportCounts() {
             // Arrange
-            long projectId = 1L;
+            long projectId = 100L;
             long teamId = 1L;
             User projectAdmin = TestDataFactory.createValidUser();
-            User teamMember1 = TestDataFactory.createUserWithId(2L, "member1", "member1@example.com");
-            User teamMember2 = TestDataFactory.createUserWithId(3L, "member2", "member2@example.com");
-            User teamMember3 = TestDataFactory.createUserWithId(4L, "member3", "member3@example.com");
 
             Project project = TestDataFactory.createMockProject(projectAdmin);
             br.com.teamtacles.team.model.Team team = TestDataFactory.createTeam(projectAdmin);
 
-            br.com.teamtacles.team.model.TeamMember tm1 = TestDataFactory.createTeamMember(teamMember1, team, br.com.teamtacles.team.enumeration.ETeamRole.MEMBER);
-            br.com.teamtacles.team.model.TeamMember tm2 = TestDataFactory.createTeamMember(teamMember2, team, br.com.teamtacles.team.enumeration.ETeamRole.ADMIN);
-            br.com.teamtacles.team.model.TeamMember tm3 = TestDataFactory.createTeamMember(teamMember3, team, br.com.teamtacles.team.enumeration.ETeamRole.MEMBER);
-
-            java.util.List<br.com.teamtacles.team.model.TeamMember> teamMembers = java.util.List.of(tm1, tm2, tm3);
-
             when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
             doNothing().when(projectAuthorizationService).checkProjectAdmin(projectAdmin, project);
             when(teamService.findTeamEntityById(teamId)).thenReturn(team);
             doNothing().when(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            when(teamMemberRepository.findAcceptedByTeamIdWithUser(teamId)).thenReturn(teamMembers);
-
-            when(projectMemberRepository.findByUserAndProject(teamMember1, project)).thenReturn(Optional.empty());
-            when(projectMemberRepository.findByUserAndProject(teamMember2, project)).thenReturn(Optional.empty());
-            when(projectMemberRepository.findByUserAndProject(teamMember3, project)).thenReturn(Optional.empty());
-
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectMemberRepository.upsertAcceptedTeamMembers(project.getId(), team.getId())).thenReturn(importCounts(3, 1));
 
             // Act
-            projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
+            TeamImportResponseDTO result = projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
 
             // Assert
-            verify(projectRepository).save(any(Project.class));
-
-            // Verifica que findByUserAndProject foi chamado 3 vezes (uma para cada membro do time)
-            verify(projectMemberRepository).findByUserAndProject(teamMember1, project);
-            verify(projectMemberRepository).findByUserAndProject(teamMember2, project);
-            verify(projectMemberRepository).findByUserAndProject(teamMember3, project);
+            assertThat(result.getInsertedMembers()).isEqualTo(3);
+            assertThat(result.getUpgradedMembers()).isEqualTo(1);
 
             verify(projectAuthorizationService).checkProjectAdmin(projectAdmin, project);
             verify(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            verify(teamMemberRepository).findAcceptedByTeamIdWithUser(teamId);
+            verify(projectMemberRepository).upsertAcceptedTeamMembers(project.getId(), team.getId());
         }
 
         @Test
-        @DisplayName("6.2 - importTeamMembersToProject should skip members already in project with accepted invite")
-        void importTeamMembersToProject_whenMemberAlreadyInProject_shouldSkipThatMember() {
+        @DisplayName("6.2 - importTeamMembersToProject should not touch the project members collection")
+        void importTeamMembersToProject_whenImporting_shouldNotLoadOrSaveProjectMembers() {
             // Arrange
-            long projectId = 1L;
+            long projectId = 100L;
             long teamId = 1L;
             User projectAdmin = TestDataFactory.createValidUser();
-            User existingMember = TestDataFactory.createUserWithId(2L, "existing", "existing@example.com");
-            User newMember = TestDataFactory.createUserWithId(3L, "new", "new@example.com");
 
             Project project = TestDataFactory.createMockProject(projectAdmin);
-            ProjectMember existingProjectMember = TestDataFactory.createProjectMember(existingMember, project, EProjectRole.ADMIN, 200L);
-            project.addMember(existingProjectMember);
-
             br.com.teamtacles.team.model.Team team = TestDataFactory.createTeam(projectAdmin);
-            br.com.teamtacles.team.model.TeamMember tm1 = TestDataFactory.createTeamMember(existingMember, team, br.com.teamtacles.team.enumeration.ETeamRole.MEMBER);
-            br.com.teamtacles.team.model.TeamMember tm2 = TestDataFactory.createTeamMember(newMember, team, br.com.teamtacles.team.enumeration.ETeamRole.MEMBER);
 
             when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-            doNothing().when(projectAuthorizationService).checkProjectAdmin(projectAdmin, project);
             when(teamService.findTeamEntityById(teamId)).thenReturn(team);
-            doNothing().when(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            when(teamMemberRepository.findAcceptedByTeamIdWithUser(teamId)).thenReturn(java.util.List.of(tm1, tm2));
-            when(projectMemberRepository.findByUserAndProject(existingMember, project))
-                    .thenReturn(Optional.of(existingProjectMember));
-            when(projectMemberRepository.findByUserAndProject(newMember, project))
-                    .thenReturn(Optional.empty());
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectMemberRepository.upsertAcceptedTeamMembers(project.getId(), team.getId())).thenReturn(importCounts(2, 0));
 
             // Act
             projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
 
             // Assert
-            verify(projectRepository).save(projectCaptor.capture());
-            Project savedProject = projectCaptor.getValue();
-
-            assertThat(savedProject.getMembers()).hasSize(3); // owner + existing (unchanged) + new
-
-            ProjectMember unchangedMember = savedProject.getMembers().stream()
-                    .filter(m -> m.getUser().equals(existingMember))
-                    .findFirst()
-                    .orElseThrow();
-            assertThat(unchangedMember.getProjectRole()).isEqualTo(EProjectRole.ADMIN);
-
-            assertThat(savedProject.getMembers())
-                    .extracting(ProjectMember::getUser)
-                    .contains(newMember);
+            assertThat(project.getMembers()).hasSize(1);
+            verify(projectMemberRepository, never()).findByUserAndProject(any(User.class), any(Project.class));
+            verify(projectMemberRepository, never()).save(any(ProjectMember.class));
+            verify(projectRepository, never()).save(any(Project.class));
         }
 
         @Test
-        @DisplayName("6.3 - importTeamMembersToProject should upgrade pending invite to accepted")
-        void importTeamMembersToProject_whenMemberHasPendingInvite_shouldUpgradeToAccepted() {
+        @DisplayName("6.3 - importTeamMembersToProject should report only upgrades when every team member had a pending invite")
+        void importTeamMembersToProject_whenMembersHavePendingInvites_shouldReportUpgrades() {
             // Arrange
-            long projectId = 1L;
+            long projectId = 100L;
             long teamId = 1L;
             User projectAdmin = TestDataFactory.createValidUser();
-            User pendingUser = TestDataFactory.createUserWithId(2L, "pending", "pending@example.com");
 
             Project project = TestDataFactory.createMockProject(projectAdmin);
-            ProjectMember pendingMember = TestDataFactory.createPendingProjectMember(pendingUser, project, EProjectRole.ADMIN);
-            project.addMember(pendingMember);
-
             br.com.teamtacles.team.model.Team team = TestDataFactory.createTeam(projectAdmin);
-            br.com.teamtacles.team.model.TeamMember tm = TestDataFactory.createTeamMember(pendingUser, team, br.com.teamtacles.team.enumeration.ETeamRole.MEMBER);
 
             when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-            doNothing().when(projectAuthorizationService).checkProjectAdmin(projectAdmin, project);
             when(teamService.findTeamEntityById(teamId)).thenReturn(team);
-            doNothing().when(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            when(teamMemberRepository.findAcceptedByTeamIdWithUser(teamId)).thenReturn(java.util.List.of(tm));
-            when(projectMemberRepository.findByUserAndProject(pendingUser, project))
-                    .thenReturn(Optional.of(pendingMember));
-            when(projectMemberRepository.save(any(ProjectMember.class)))
-                    .thenAnswer(invocation -> invocation.getArgument(0));
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectMemberRepository.upsertAcceptedTeamMembers(project.getId(), team.getId())).thenReturn(importCounts(0, 2));
 
             // Act
-            projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
+            TeamImportResponseDTO result = projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
 
             // Assert
-            verify(projectMemberRepository).save(projectMemberCaptor.capture());
-            ProjectMember upgradedMember = projectMemberCaptor.getValue();
-
-            assertThat(upgradedMember.isAcceptedInvite()).isTrue();
-            assertThat(upgradedMember.getProjectRole()).isEqualTo(EProjectRole.MEMBER);
-            assertThat(upgradedMember.getInvitationToken()).isNull();
+            assertThat(result.getInsertedMembers()).isZero();
+            assertThat(result.getUpgradedMembers()).isEqualTo(2);
         }
 
         @Test
@@ -1077,15 +1105,15 @@ class ProjectServiceTest {
 
             assertThat(exception.getMessage()).contains("not a member of this team");
             verify(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            verify(teamMemberRepository, never()).findAcceptedByTeamIdWithUser(anyLong());
+            verify(projectMemberRepository, never()).upsertAcceptedTeamMembers(anyLong(), anyLong());
             verify(projectRepository, never()).save(any(Project.class));
         }
 
         @Test
-        @DisplayName("6.6 - importTeamMembersToProject should complete successfully when team has no accepted members")
-        void importTeamMembersToProject_whenTeamHasNoMembers_shouldCompleteWithoutError() {
+        @DisplayName("6.6 - importTeamMembersToProject should return zero counts when team has no members to import")
+        void importTeamMembersToProject_whenTeamHasNoMembers_shouldReturnZeroCounts() {
             // Arrange
-            long projectId = 1L;
+            long projectId = 100L;
             long teamId = 1L;
             User projectAdmin = TestDataFactory.createValidUser();
 
@@ -1096,21 +1124,15 @@ class ProjectServiceTest {
             doNothing().when(projectAuthorizationService).checkProjectAdmin(projectAdmin, project);
             when(teamService.findTeamEntityById(teamId)).thenReturn(team);
             doNothing().when(teamAuthorizationService).checkTeamMembership(projectAdmin, team);
-            when(teamMemberRepository.findAcceptedByTeamIdWithUser(teamId)).thenReturn(java.util.Collections.emptyList());
-            when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(projectMemberRepository.upsertAcceptedTeamMembers(project.getId(), team.getId())).thenReturn(importCounts(0, 0));
 
             // Act
-            projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
+            TeamImportResponseDTO result = projectService.importTeamMembersToProject(projectId, teamId, projectAdmin);
 
             // Assert
-            verify(projectRepository).save(projectCaptor.capture());
-            Project savedProject = projectCaptor.getValue();
-
-            // Only owner should remain
-            assertThat(savedProject.getMembers()).hasSize(1);
-            assertThat(savedProject.getMembers())
-                    .extracting(ProjectMember::getUser)
-                    .containsOnly(projectAdmin);
+            assertThat(result.getInsertedMembers()).isZero();
+            assertThat(result.getUpgradedMembers()).isZero();
+            assertThat(project.getMembers()).hasSize(1);
         }
 
         @Test
@@ -1162,4 +1184,56 @@ class ProjectServiceTest {
             verify(projectRepository, never()).save(any(Project.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("7 - Project Report Tests")
+    class ProjectReportTests {
+
+        private static final Long PROJECT_ID = 10L;
+
+        private TaskFilterReportDTO filter(Boolean isOverdue) {
+            TaskFilterReportDTO filter = new TaskFilterReportDTO();
+            filter.setStatus(ETaskStatus.IN_PROGRESS);
+            filter.setIsOverdue(isOverdue);
+            return filter;
+        }
+
+        @Test
+        @DisplayName("7.1 - getProjectReport_withEquivalentFiltersFromDifferentMembers_shouldComputeTheReportOnce")
+        void getProjectReport_withEquivalentFiltersFromDifferentMembers_shouldComputeTheReportOnce() {
+            // Arrange
+            ReflectionTestUtils.setField(projectService, "readCoalescer", new ReadCoalescer(new SimpleMeterRegistry(), Duration.ofSeconds(5)));
+            User otherMember = TestDataFactory.createUserWithId(2L, "othermember", "other@example.com");
+            ProjectReportVersions versions = mock(ProjectReportVersions.class);
+            when(versions.getProjectId()).thenReturn(PROJECT_ID);
+            when(versions.getTasksVersion()).thenReturn(3L);
+            when(projectCollectionVersionRepository.findReportVersionsVisibleTo(eq(PROJECT_ID), anyLong())).thenReturn(Optional.of(versions));
+            when(taskRepository.findTasksByProjectWithFiltersForReport(eq(PROJECT_ID), any(TaskFilterReportDTO.class))).thenReturn(Set.of());
+
+            // Act
+            ProjectReportDTO first = projectService.getProjectReport(PROJECT_ID, filter(null), authenticatedUser);
+            ProjectReportDTO second = projectService.getProjectReport(PROJECT_ID, filter(false), otherMember);
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            verify(taskRepository, times(1)).findTasksByProjectWithFiltersForReport(eq(PROJECT_ID), any(TaskFilterReportDTO.class));
+            verify(projectCollectionVersionRepository).findReportVersionsVisibleTo(PROJECT_ID, otherMember.getId());
+            verify(projectAuthorizationService, never()).checkProjectMembership(any(User.class), any(Project.class));
+        }
+
+        @Test
+        @DisplayName("7.2 - getProjectReport_whenUserIsNotMember_shouldThrowAccessDeniedWithoutSharingAnyResult")
+        void getProjectReport_whenUserIsNotMember_shouldThrowAccessDeniedWithoutSharingAnyResult() {
+            // Arrange
+            Project project = TestDataFactory.createMockProject(authenticatedUser);
+            when(projectCollectionVersionRepository.findReportVersionsVisibleTo(PROJECT_ID, authenticatedUser.getId())).thenReturn(Optional.empty());
+            when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+            doThrow(new AccessDeniedException("Access denied. You are not a member of this project."))
+                    .when(projectAuthorizationService).checkProjectMembership(authenticatedUser, project);
+
+            // Act & Assert
+            assertThrows(AccessDeniedException.class, () -> projectService.getProjectReport(PROJECT_ID, filter(null), authenticatedUser));
+            verifyNoInteractions(readCoalescer, taskRepository);
+        }
+    }
+}
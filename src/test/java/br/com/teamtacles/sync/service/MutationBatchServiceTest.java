@@ -0,0 +1,309 @@
+package br.com.teamtacles.sync.service;
+
+import br.com.teamtacles.common.exception.InvalidTaskStateException;
+import br.com.teamtacles.project.dto.request.ProjectRequestUpdateDTO;
+import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.enumeration.EProjectRole;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.sync.dto.request.MutationBatchRequestDTO;
+import br.com.teamtacles.sync.dto.request.MutationRequestDTO;
+import br.com.teamtacles.sync.dto.response.MutationBatchResponseDTO;
+import br.com.teamtacles.sync.dto.response.MutationResultDTO;
+import br.com.teamtacles.sync.enumeration.EMutationStatus;
+import br.com.teamtacles.sync.enumeration.EMutationType;
+import br.com.teamtacles.sync.repository.ClientMutationJdbcRepository;
+import br.com.teamtacles.task.dto.request.TaskRequestRegisterDTO;
+import br.com.teamtacles.task.dto.request.UpdateTaskStatusRequestDTO;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.service.TaskService;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MutationBatchServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final Long PROJECT_ID = 100L;
+
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectAuthorizationService projectAuthorizationService;
+    @Mock
+    private ClientMutationJdbcRepository clientMutationJdbcRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final User user = TestDataFactory.createValidUser();
+    private final ProjectAccessContext access = new ProjectAccessContext(PROJECT_ID, EProjectRole.MEMBER, true);
+
+    private MutationBatchService mutationBatchService;
+
+    @BeforeEach
+    void setUp() {
+        mutationBatchService = new MutationBatchService(taskService, projectService, projectAuthorizationService,
+                clientMutationJdbcRepository, transactionTemplate, Duration.ofDays(30), 10, () -> NOW);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+    }
+
+    private void stubProjectMembership() {
+        when(projectService.findAccessContext(PROJECT_ID, user)).thenReturn(access);
+    }
+
+    private static MutationRequestDTO statusUpdate(String operationId, Long taskId, ETaskStatus newStatus) {
+        MutationRequestDTO operation = operation(operationId, EMutationType.UPDATE_TASK_STATUS);
+        operation.setTaskId(taskId);
+        operation.setStatus(new UpdateTaskStatusRequestDTO(newStatus, null));
+        return operation;
+    }
+
+    private static MutationRequestDTO operation(String operationId, EMutationType type) {
+        MutationRequestDTO operation = new MutationRequestDTO();
+        operation.setClientOperationId(operationId);
+        operation.setType(type);
+        operation.setProjectId(PROJECT_ID);
+        return operation;
+    }
+
+    private static TaskResponseDTO taskResponse(Long taskId) {
+        TaskResponseDTO response = new TaskResponseDTO();
+        response.setId(taskId);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("1. Apply Mutations Tests")
+    class ApplyMutationsTests {
+
+        @Test
+        @DisplayName("1.1 - applyMutations_shouldApplyOperationsInOrderAndRecordEachReceipt")
+        void applyMutations_shouldApplyOperationsInOrderAndRecordEachReceipt() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+
+            TaskRequestRegisterDTO newTask = TestDataFactory.createTaskRequestRegisterDTO();
+            MutationRequestDTO create = operation("op-1", EMutationType.CREATE_TASK);
+            create.setTask(newTask);
+            MutationRequestDTO complete = statusUpdate("op-2", null, ETaskStatus.DONE);
+            complete.setTaskOperationId("op-1");
+
+            when(taskService.createTask(access, newTask, user)).thenReturn(taskResponse(55L));
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(create, complete)), user);
+
+            // Assert
+            assertThat(response.getApplied()).isEqualTo(2);
+            assertThat(response.getResults()).extracting(MutationResultDTO::getEntityId).containsExactly(55L, 55L);
+
+            InOrder inOrder = inOrder(taskService, clientMutationJdbcRepository);
+            inOrder.verify(taskService).createTask(access, newTask, user);
+            inOrder.verify(clientMutationJdbcRepository).insert(user.getId(), "op-1", EMutationType.CREATE_TASK, 55L);
+            inOrder.verify(taskService).updateTaskStatus(eq(PROJECT_ID), eq(55L), any(UpdateTaskStatusRequestDTO.class), eq(user));
+            inOrder.verify(clientMutationJdbcRepository).insert(user.getId(), "op-2", EMutationType.UPDATE_TASK_STATUS, 55L);
+            verify(projectService, times(1)).findAccessContext(PROJECT_ID, user);
+            verify(projectAuthorizationService, times(1)).checkProjectMembership(access);
+            verify(taskService, never()).createTask(anyLong(), any(TaskRequestRegisterDTO.class), any(User.class));
+            verify(projectService, never()).findProjectEntityById(anyLong());
+        }
+
+        @Test
+        @DisplayName("1.2 - applyMutations_whenOperationWasAlreadyApplied_shouldReturnDuplicateWithoutApplyingAgain")
+        void applyMutations_whenOperationWasAlreadyApplied_shouldReturnDuplicateWithoutApplyingAgain() {
+            // Arrange
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection()))
+                    .thenReturn(new HashMap<>(Map.of("op-1", 12L)));
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(
+                    new MutationBatchRequestDTO(List.of(statusUpdate("op-1", 12L, ETaskStatus.DONE))), user);
+
+            // Assert
+            assertThat(response.getDuplicates()).isEqualTo(1);
+            assertThat(response.getResults().get(0).getEntityId()).isEqualTo(12L);
+            verifyNoInteractions(taskService, projectService, transactionTemplate);
+        }
+
+        @Test
+        @DisplayName("1.3 - applyMutations_whenOperationFails_shouldReportItAndKeepApplyingTheRest")
+        void applyMutations_whenOperationFails_shouldReportItAndKeepApplyingTheRest() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+            when(taskService.updateTaskStatus(eq(PROJECT_ID), eq(12L), any(), eq(user)))
+                    .thenThrow(new InvalidTaskStateException("Not allowed to change status of a completed task."));
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(
+                    statusUpdate("op-1", 12L, ETaskStatus.TO_DO),
+                    statusUpdate("op-2", 13L, ETaskStatus.DONE))), user);
+
+            // Assert
+            assertThat(response.getResults()).extracting(MutationResultDTO::getStatus)
+                    .containsExactly(EMutationStatus.FAILED, EMutationStatus.APPLIED);
+            assertThat(response.getResults().get(0).getError()).isEqualTo("Not allowed to change status of a completed task.");
+            verify(clientMutationJdbcRepository, never()).insert(anyLong(), eq("op-1"), any(), any());
+            verify(clientMutationJdbcRepository).insert(user.getId(), "op-2", EMutationType.UPDATE_TASK_STATUS, 13L);
+        }
+
+        @Test
+        @DisplayName("1.4 - applyMutations_whenUserIsNotProjectMember_shouldRejectItsOperationsAfterASingleCheck")
+        void applyMutations_whenUserIsNotProjectMember_shouldRejectItsOperationsAfterASingleCheck() {
+            // Arrange
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+            doThrow(new AccessDeniedException("Access denied. You are not a member of this project."))
+                    .when(projectAuthorizationService).checkProjectMembership(access);
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(
+                    statusUpdate("op-1", 12L, ETaskStatus.DONE),
+                    statusUpdate("op-2", 13L, ETaskStatus.DONE))), user);
+
+            // Assert
+            assertThat(response.getFailed()).isEqualTo(2);
+            verify(projectAuthorizationService, times(1)).checkProjectMembership(access);
+            verifyNoInteractions(taskService, transactionTemplate);
+        }
+
+        @Test
+        @DisplayName("1.5 - applyMutations_whenConcurrentRequestRecordedTheReceipt_shouldReturnDuplicate")
+        void applyMutations_whenConcurrentRequestRecordedTheReceipt_shouldReturnDuplicate() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection()))
+                    .thenReturn(new HashMap<>())
+                    .thenReturn(new HashMap<>(Map.of("op-1", 12L)));
+            doThrow(new DuplicateKeyException("duplicate key"))
+                    .when(clientMutationJdbcRepository).insert(user.getId(), "op-1", EMutationType.UPDATE_TASK_STATUS, 12L);
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(
+                    new MutationBatchRequestDTO(List.of(statusUpdate("op-1", 12L, ETaskStatus.DONE))), user);
+
+            // Assert
+            assertThat(response.getResults().get(0).getStatus()).isEqualTo(EMutationStatus.DUPLICATE);
+            assertThat(response.getResults().get(0).getEntityId()).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("1.6 - applyMutations_whenReferencedCreateWasNotApplied_shouldFailTheOperation")
+        void applyMutations_whenReferencedCreateWasNotApplied_shouldFailTheOperation() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+            MutationRequestDTO complete = statusUpdate("op-2", null, ETaskStatus.DONE);
+            complete.setTaskOperationId("op-1");
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(complete)), user);
+
+            // Assert
+            assertThat(response.getResults().get(0).getStatus()).isEqualTo(EMutationStatus.FAILED);
+            assertThat(response.getResults().get(0).getError()).isEqualTo("The operation 'op-1' that created the task was not applied.");
+            verifyNoInteractions(taskService);
+        }
+
+        @Test
+        @DisplayName("1.7 - applyMutations_whenPayloadIsMissing_shouldFailTheOperation")
+        void applyMutations_whenPayloadIsMissing_shouldFailTheOperation() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+            MutationRequestDTO update = operation("op-1", EMutationType.UPDATE_PROJECT);
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(update)), user);
+
+            // Assert
+            assertThat(response.getResults().get(0).getError()).isEqualTo("The field 'project' is required for UPDATE_PROJECT operations.");
+            verify(projectService, never()).updateProject(any(ProjectAccessContext.class), any(), any());
+        }
+
+        @Test
+        @DisplayName("1.8 - applyMutations_whenUpdatingProject_shouldPassThePreAuthorizedContext")
+        void applyMutations_whenUpdatingProject_shouldPassThePreAuthorizedContext() {
+            // Arrange
+            runTransactionsInline();
+            stubProjectMembership();
+            when(clientMutationJdbcRepository.findApplied(eq(user.getId()), anyCollection())).thenReturn(new HashMap<>());
+            ProjectRequestUpdateDTO changes = new ProjectRequestUpdateDTO();
+            MutationRequestDTO first = operation("op-1", EMutationType.UPDATE_PROJECT);
+            first.setProject(changes);
+            MutationRequestDTO second = operation("op-2", EMutationType.UPDATE_PROJECT);
+            second.setProject(changes);
+            ProjectResponseDTO updated = new ProjectResponseDTO();
+            updated.setId(PROJECT_ID);
+            when(projectService.updateProject(access, changes, user)).thenReturn(updated);
+
+            // Act
+            MutationBatchResponseDTO response = mutationBatchService.applyMutations(new MutationBatchRequestDTO(List.of(first, second)), user);
+
+            // Assert
+            assertThat(response.getApplied()).isEqualTo(2);
+            verify(projectService, times(1)).findAccessContext(PROJECT_ID, user);
+            verify(projectService, times(2)).updateProject(access, changes, user);
+            verify(projectService, never()).updateProject(anyLong(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Prune Tests")
+    class PruneTests {
+
+        @Test
+        @DisplayName("2.1 - pruneExpiredReceipts_shouldDeleteInBatchesUntilOneComesBackShort")
+        void pruneExpiredReceipts_shouldDeleteInBatchesUntilOneComesBackShort() {
+            // Arrange
+            OffsetDateTime cutoff = NOW.minusDays(30);
+            when(clientMutationJdbcRepository.deleteOlderThan(cutoff, 10)).thenReturn(10, 10, 3);
+
+            // Act
+            mutationBatchService.pruneExpiredReceipts();
+
+            // Assert
+            verify(clientMutationJdbcRepository, times(3)).deleteOlderThan(cutoff, 10);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package br.com.teamtacles.sync.service;
+
+import br.com.teamtacles.project.dto.response.ProjectMemberResponseDTO;
+import br.com.teamtacles.project.dto.response.ProjectResponseDTO;
+import br.com.teamtacles.project.enumeration.EProjectRole;
+import br.com.teamtacles.project.mapper.ProjectMapper;
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectMember;
+import br.com.teamtacles.project.repository.ProjectMemberRepository;
+import br.com.teamtacles.project.repository.ProjectRepository;
+import br.com.teamtacles.sync.dto.response.SyncDeletionDTO;
+import br.com.teamtacles.sync.dto.response.SyncResponseDTO;
+import br.com.teamtacles.sync.enumeration.EChangeType;
+import br.com.teamtacles.sync.model.ChangeLogEntry;
+import br.com.teamtacles.sync.repository.ChangeLogJdbcRepository;
+import br.com.teamtacles.sync.repository.ChangeLogRepository;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.team.mapper.TeamMapper;
+import br.com.teamtacles.team.repository.TeamMemberRepository;
+import br.com.teamtacles.team.repository.TeamRepository;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SyncServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 3, 10, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime HORIZON = NOW.minusSeconds(30);
+    private static final Long PROJECT_ID = 100L;
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+    @Mock
+    private ChangeLogJdbcRepository changeLogJdbcRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private TeamRepository teamRepository;
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private ProjectMapper projectMapper;
+    @Mock
+    private TeamMapper teamMapper;
+
+    private final User user = TestDataFactory.createValidUser();
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(changeLogRepository, changeLogJdbcRepository, taskRepository, projectRepository,
+                projectMemberRepository, teamRepository, teamMemberRepository, taskMapper, projectMapper, teamMapper,
+                100, 500, Duration.ofSeconds(30), Duration.ofDays(30), 10, () -> NOW);
+    }
+
+    private static ChangeLogEntry entry(long id, EChangeType type, long entityId, Long projectId, Long userId, boolean deleted) {
+        return new ChangeLogEntry(id, NOW.minusMinutes(10).plusSeconds(id), type, entityId, projectId, null, userId, deleted);
+    }
+
+    private static String tokenAt(OffsetDateTime changedAt, long id) {
+        return new SyncToken(changedAt, id).encode();
+    }
+
+    private void stubChanges(String token, int pageSize, List<ChangeLogEntry> entries) {
+        SyncToken cursor = SyncToken.decode(token);
+        when(changeLogRepository.findVisibleChanges(user.getId(), cursor.changedAt(), cursor.id(), HORIZON,
+                PageRequest.of(0, pageSize + 1))).thenReturn(entries);
+    }
+
+    @Nested
+    @DisplayName("1. Token Tests")
+    class TokenTests {
+
+        @Test
+        @DisplayName("1.1 - getChanges_withoutToken_shouldRequireFullResyncStartingAtTheHorizon")
+        void getChanges_withoutToken_shouldRequireFullResyncStartingAtTheHorizon() {
+            // Act
+            SyncResponseDTO response = syncService.getChanges(null, null, user);
+
+            // Assert
+            assertThat(response.isFullResyncRequired()).isTrue();
+            assertThat(response.getTasks()).isEmpty();
+            assertThat(SyncToken.decode(response.getNextToken())).isEqualTo(new SyncToken(HORIZON, 0));
+            verifyNoInteractions(changeLogRepository);
+        }
+
+        @Test
+        @DisplayName("1.2 - getChanges_whenTokenIsOlderThanRetention_shouldRequireFullResync")
+        void getChanges_whenTokenIsOlderThanRetention_shouldRequireFullResync() {
+            // Act
+            SyncResponseDTO response = syncService.getChanges(tokenAt(NOW.minusDays(31), 7L), null, user);
+
+            // Assert
+            assertThat(response.isFullResyncRequired()).isTrue();
+            verifyNoInteractions(changeLogRepository);
+        }
+
+        @Test
+        @DisplayName("1.3 - getChanges_withMalformedToken_shouldThrowIllegalArgumentException")
+        void getChanges_withMalformedToken_shouldThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThatThrownBy(() -> syncService.getChanges("not-a-token", null, user))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid sync token.");
+        }
+
+        @Test
+        @DisplayName("1.4 - getChanges_whenCursorIsAlreadyAtTheHorizon_shouldReturnTheSameTokenWithoutQuerying")
+        void getChanges_whenCursorIsAlreadyAtTheHorizon_shouldReturnTheSameTokenWithoutQuerying() {
+            // Arrange
+            String token = tokenAt(HORIZON, 0L);
+
+            // Act
+            SyncResponseDTO response = syncService.getChanges(token, null, user);
+
+            // Assert
+            assertThat(response.isFullResyncRequired()).isFalse();
+            assertThat(response.getNextToken()).isEqualTo(token);
+            verifyNoInteractions(changeLogRepository);
+        }
+
+        @Test
+        @DisplayName("1.5 - encode_shouldRoundTripAtMicrosecondPrecision")
+        void encode_shouldRoundTripAtMicrosecondPrecision() {
+            // Arrange
+            SyncToken token = new SyncToken(OffsetDateTime.of(2025, 3, 10, 9, 15, 30, 123_456_000, ZoneOffset.UTC), 42L);
+
+            // Act
+            SyncToken decoded = SyncToken.decode(token.encode());
+
+            // Assert
+            assertThat(decoded.changedAt().toInstant()).isEqualTo(token.changedAt().toInstant());
+            assertThat(decoded.id()).isEqualTo(42L);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Change Assembly Tests")
+    class ChangeAssemblyTests {
+
+        @Test
+        @DisplayName("2.1 - getChanges_whenTaskChangedSeveralTimes_shouldReturnItOnceAndAdvanceToTheHorizon")
+        void getChanges_whenTaskChangedSeveralTimes_shouldReturnItOnceAndAdvanceToTheHorizon() {
+            // Arrange
+            String token = tokenAt(NOW.minusHours(1), 0L);
+            Task task = TestDataFactory.createMockTask(TestDataFactory.createMockProject(user), user, NOW.plusDays(3));
+            TaskResponseDTO taskDTO = new TaskResponseDTO();
+            taskDTO.setId(task.getId());
+            stubChanges(token, 100, List.of(
+                    entry(1, EChangeType.TASK, task.getId(), PROJECT_ID, null, false),
+                    entry(2, EChangeType.TASK, task.getId(), PROJECT_ID, null, false)));
+            when(taskRepository.findAllVisibleTo(Set.of(task.getId()), user.getId())).thenReturn(List.of(task));
+            when(taskMapper.toTaskResponseDTO(task)).thenReturn(taskDTO);
+
+            // Act
+            SyncResponseDTO response = syncService.getChanges(token, null, user);
+
+            // Assert
+            assertThat(response.getTasks()).containsExactly(taskDTO);
+            assertThat(response.getDeletions()).isEmpty();
+            assertThat(response.isHasMore()).isFalse();
+            assertThat(SyncToken.decode(response.getNextToken())).isEqualTo(new SyncToken(HORIZON, 0));
+            verify(taskMapper, times(1)).toTaskResponseDTO(task);
+        }
+
+        @Test
+        @DisplayName("2.2 - getChanges_whenEntitiesAreTombstonedOrGone_shouldReportThemAsDeletions")
+        void getChanges_whenEntitiesAreTombstonedOrGone_shouldReportThemAsDeletions() {
+            // Arrange
+            String token = tokenAt(NOW.minusHours(1), 0L);
+            stubChanges(token, 100, List.of(
+                    entry(1, EChangeType.TASK, 2L, PROJECT_ID, null, true),
+                    entry(2, EChangeType.TASK, 3L, PROJECT_ID, null, false),
+                    entry(3, EChangeType.PROJECT, PROJECT_ID, null, user.getId(), true)));
+            when(taskRepository.findAllVisibleTo(Set.of(3L), user.getId())).thenReturn(List.of());
+            when(projectRepository.findAllVisibleTo(Set.of(PROJECT_ID), user.getId())).thenReturn(List.of());
+
+            // Act
+            SyncResponseDTO response = syncService.getChanges(token, null, user);
+
+            // Assert
+            assertThat(response.getTasks()).isEmpty();
+            assertThat(response.getProjects()).isEmpty();
+            assertThat(response.getDeletions()).containsExactlyInAnyOrder(
+                    new SyncDeletionDTO(EChangeType.TASK, 2L, PROJECT_ID, null),
+                    new SyncDeletionDTO(EChangeType.TASK, 3L, PROJECT_ID, null),
+                    new SyncDeletionDTO(EChangeType.PROJECT, PROJECT_ID, PROJECT_ID, null));
+        }
+
+        @Test
+        @DisplayName("2.3 - getChanges_whenPageOverflows_shouldSetHasMoreAndResumeAfterTheLastReturnedEntry")
+        void getChanges_whenPageOverflows_shouldSetHasMoreAndResumeAfterTheLastReturnedEntry() {
+            // Arrange
+            String token = tokenAt(NOW.minusHours(1), 0L);
+            ChangeLogEntry second = entry(2, EChangeType.TASK, 20L, PROJECT_ID, null, true);
+            stubChanges(token, 2, List.of(
+                    entry(1, EChangeType.TASK, 10L, PROJECT_ID, null, true),
+                    second,
+                    entry(3, EChangeType.TASK, 30L, PROJECT_ID, null, true)));
+
+            // Act
+            SyncResponseDTO response = syncService.getChanges(token, 2, user);
+
+            // Assert
+            assertThat(response.isHasMore()).isTrue();
+            assertThat(response.getDeletions()).extracting(SyncDeletionDTO::getId).containsExactly(10L, 20L);
+            assertThat(SyncToken.decode(response.getNextToken())).isEqualTo(new SyncToken(second.getChangedAt(), 2L));
+        }
+
+        @Test
+        @DisplayName("2.4 - getChanges_whenUserJoinedProject_shouldReturnProjectMembershipAndResyncRequest")
+        void getChanges_whenUserJoinedProject_shouldReturnProjectMembershipAndResyncRequest() {
+            // Arrange
+            String token = tokenAt(NOW.minusHours(1), 0L);
+            Project project = TestDataFactory.createMockProject(user);
+            ProjectMember membership = TestDataFactory.createProjectMember(user, project, EProjectRole.MEMBER, 5L);
+            ProjectResponseDTO projectDTO = new ProjectResponseDTO(PROJECT_ID, project.getTitle(), project.getDescription());
+            ProjectMemberResponseDTO memberDTO = new ProjectMemberResponseDTO(user.getId(), user.getUsername(), user.getEmail(), EProjectRole.MEMBER);
+
+            stubChanges(token, 100, List.of(
+                    entry(1, EChangeType.PROJECT_MEMBER, user.getId(), PROJECT_ID, null, false),
+                    entry(2, EChangeType.PROJECT_RESYNC, PROJECT_ID, null, user.getId(), false)));
+            when(projectRepository.findAllVisibleTo(Set.of(PROJECT_ID), user.getId())).thenReturn(List.of(project));
+            when(projectMapper.toProjectResponseDTO(project)).thenReturn(projectDTO);
+            when(projectMemberRepository.findAcceptedByProjectIdsAndUserIds(Set.of(PROJECT_ID), Set.of(user.getId())))
+                    .thenReturn(List.of(membership));
+            when(projectMapper.toProjectMemberResponseDTO(membership)).thenReturn(memberDTO);
+
+            // Act
+            SyncResponseDTO response = syncService.getChanges(token, null, user);
+
+            // Assert
+            assertThat(response.getProjects()).containsExactly(projectDTO);
+            assertThat(response.getResyncProjectIds()).containsExactly(PROJECT_ID);
+            assertThat(response.getProjectMembers()).singleElement().satisfies(member -> {
+                assertThat(member.getProjectId()).isEqualTo(PROJECT_ID);
+                assertThat(member.getMember()).isEqualTo(memberDTO);
+            });
+            assertThat(response.getDeletions()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("3. Retention Tests")
+    class RetentionTests {
+
+        @Test
+        @DisplayName("3.1 - pruneExpiredEntries_shouldDeleteInBatchesUntilABatchComesBackShort")
+        void pruneExpiredEntries_shouldDeleteInBatchesUntilABatchComesBackShort() {
+            // Arrange
+            when(changeLogJdbcRepository.deleteOlderThan(NOW.minusDays(30), 10)).thenReturn(10, 10, 3);
+
+            // Act
+            syncService.pruneExpiredEntries();
+
+            // Assert
+            verify(changeLogJdbcRepository, times(3)).deleteOlderThan(any(OffsetDateTime.class), eq(10));
+        }
+    }
+}
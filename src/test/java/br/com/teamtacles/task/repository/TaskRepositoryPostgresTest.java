@@ -0,0 +1,124 @@
+package br.com.teamtacles.task.repository;
+
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private long leaverId;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        long projectOwnerId = insertUser("projectowner");
+        leaverId = insertUser("leaver");
+        projectId = insertProject("Project", projectOwnerId);
+        insertProjectMember(projectId, projectOwnerId, "OWNER", true, T0);
+        insertProjectMember(projectId, leaverId, "MEMBER", true, T0);
+    }
+
+    private long insertOwnedTask(String title) {
+        long taskId = insertTask(projectId, title, leaverId);
+        insertTaskAssignment(taskId, leaverId, "OWNER", T0);
+        return taskId;
+    }
+
+    private int transfer(int limit) {
+        return transactionTemplate.execute(status -> taskRepository.transferOwnedTasksToEarliestMember(leaverId, null, limit));
+    }
+
+    private int deleteSoleOwned(int limit) {
+        return transactionTemplate.execute(status -> taskRepository.deleteOwnedTasksWithoutOtherMembers(leaverId, null, limit));
+    }
+
+    private long ownerOf(long taskId) {
+        return jdbcTemplate.queryForObject("SELECT owner_id FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+
+    private String roleOf(long taskId, long userId) {
+        return jdbcTemplate.queryForObject("SELECT task_role FROM task_assignments WHERE task_id = ? AND user_id = ?",
+                String.class, taskId, userId);
+    }
+
+    @Nested
+    @DisplayName("1. Successor Choice Tests")
+    class SuccessorChoiceTests {
+
+        @Test
+        @DisplayName("1.1 - transferOwnedTasksToEarliestMember_shouldPickEarliestAssignee")
+        void transferOwnedTasksToEarliestMember_shouldPickEarliestAssignee() {
+            // Arrange
+            long taskId = insertOwnedTask("Shared");
+            long laterAssigneeId = insertUser("laterassignee");
+            long earliestAssigneeId = insertUser("earliestassignee");
+            insertTaskAssignment(taskId, laterAssigneeId, "ASSIGNEE", T0.plusDays(2));
+            insertTaskAssignment(taskId, earliestAssigneeId, "ASSIGNEE", T0.plusDays(1));
+
+            // Act
+            int transferred = transfer(Integer.MAX_VALUE);
+
+            // Assert
+            assertThat(transferred).isEqualTo(1);
+            assertThat(ownerOf(taskId)).isEqualTo(earliestAssigneeId);
+            assertThat(roleOf(taskId, earliestAssigneeId)).isEqualTo("OWNER");
+            assertThat(roleOf(taskId, laterAssigneeId)).isEqualTo("ASSIGNEE");
+        }
+
+        @Test
+        @DisplayName("1.2 - transferOwnedTasksToEarliestMember_shouldTransferAtMostLimitTasksPerCall")
+        void transferOwnedTasksToEarliestMember_shouldTransferAtMostLimitTasksPerCall() {
+            // Arrange
+            long assigneeId = insertUser("assignee");
+            for (int i = 0; i < 3; i++) {
+                insertTaskAssignment(insertOwnedTask("Shared " + i), assigneeId, "ASSIGNEE", T0.plusDays(1));
+            }
+
+            // Act & Assert
+            assertThat(transfer(2)).isEqualTo(2);
+            assertThat(transfer(2)).isEqualTo(1);
+            assertThat(transfer(2)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE owner_id = ?", Long.class, assigneeId)).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Sole Member Deletion Tests")
+    class SoleMemberDeletionTests {
+
+        @Test
+        @DisplayName("2.1 - deleteOwnedTasksWithoutOtherMembers_shouldDeleteOnlyTasksWithoutOtherAssignees")
+        void deleteOwnedTasksWithoutOtherMembers_shouldDeleteOnlyTasksWithoutOtherAssignees() {
+            // Arrange
+            long soloTaskId = insertOwnedTask("Solo");
+            long sharedTaskId = insertOwnedTask("Shared");
+            long assigneeId = insertUser("assignee");
+            insertTaskAssignment(sharedTaskId, assigneeId, "ASSIGNEE", T0.plusDays(1));
+            long foreignTaskId = insertTask(projectId, "Foreign", assigneeId);
+            insertTaskAssignment(foreignTaskId, assigneeId, "OWNER", T0);
+            insertTaskAssignment(foreignTaskId, leaverId, "ASSIGNEE", T0.plusDays(1));
+
+            // Act
+            int deleted = deleteSoleOwned(Integer.MAX_VALUE);
+
+            // Assert
+            assertThat(deleted).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class))
+                    .containsExactly(sharedTaskId, foreignTaskId);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_assignments WHERE task_id = ?", Long.class, soloTaskId))
+                    .isZero();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.teamtacles.task.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FractionalIndexTest {
+
+    @Nested
+    @DisplayName("1. Key Generation Tests")
+    class KeyGenerationTests {
+
+        @Test
+        @DisplayName("1.1 - keyBetween_shouldStartAtA0AndGrowSlowlyWhenAppending")
+        void keyBetween_shouldStartAtA0AndGrowSlowlyWhenAppending() {
+            // Arrange
+            List<String> keys = new ArrayList<>();
+            String last = null;
+
+            // Act
+            for (int i = 0; i < 10_000; i++) {
+                last = FractionalIndex.keyBetween(last, null);
+                keys.add(last);
+            }
+
+            // Assert
+            assertThat(keys.get(0)).isEqualTo("a0");
+            assertThat(keys).isSorted().doesNotHaveDuplicates();
+            assertThat(last).hasSizeLessThanOrEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("1.2 - keyBetween_shouldAlwaysReturnAKeyStrictlyBetweenItsBounds")
+        void keyBetween_shouldAlwaysReturnAKeyStrictlyBetweenItsBounds() {
+            // Arrange
+            Random random = new Random(42);
+            List<String> column = new ArrayList<>(List.of(FractionalIndex.keyBetween(null, null)));
+
+            // Act
+            for (int i = 0; i < 2_000; i++) {
+                int position = random.nextInt(column.size() + 1);
+                String before = position == 0 ? null : column.get(position - 1);
+                String after = position == column.size() ? null : column.get(position);
+                column.add(position, FractionalIndex.keyBetween(before, after));
+            }
+
+            // Assert
+            assertThat(column).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("1.3 - keyBetween_whenRepeatedlyInsertingIntoTheSameGap_shouldLengthenTheKey")
+        void keyBetween_whenRepeatedlyInsertingIntoTheSameGap_shouldLengthenTheKey() {
+            // Arrange
+            String before = "a0";
+            String after = "a1";
+
+            // Act
+            for (int i = 0; i < 200; i++) {
+                after = FractionalIndex.keyBetween(before, after);
+            }
+
+            // Assert
+            assertThat(after).isGreaterThan(before).hasSizeGreaterThan(24);
+        }
+
+        @Test
+        @DisplayName("1.4 - keyBetween_withBoundsOutOfOrder_shouldThrowIllegalArgument")
+        void keyBetween_withBoundsOutOfOrder_shouldThrowIllegalArgument() {
+            // Act & Assert
+            assertThatThrownBy(() -> FractionalIndex.keyBetween("a1", "a0")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> FractionalIndex.keyBetween("a10", null)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
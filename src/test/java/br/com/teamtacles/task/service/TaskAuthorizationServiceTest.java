@@ -5,7 +5,9 @@ import br.com.teamtacles.project.model.Project;
 import br.com.teamtacles.project.model.ProjectMember;
 import br.com.teamtacles.project.repository.ProjectMemberRepository;
 import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.task.enumeration.ETaskRole;
 import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.utils.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -73,4 +75,58 @@ class TaskAuthorizationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("2. Access Context Permissions")
+    class AccessContextPermissionsTests {
+        @Test
+        @DisplayName("2.1 - shouldDenyTaskView_WhenInvitationWasNotAccepted")
+        void shouldDenyTaskView_WhenInvitationWasNotAccepted() {
+            // ARRANGE
+            TaskAccessContext access = new TaskAccessContext(task, EProjectRole.ADMIN, false, null);
+
+            // ACT & ASSERT
+            assertThrows(AccessDeniedException.class, () -> taskAuthorizationService.checkViewPermission(access));
+            verifyNoInteractions(projectAuthorizationService);
+        }
+
+        @Test
+        @DisplayName("2.2 - shouldAllowStatusChange_WhenMemberIsAssigneeWithoutFurtherQueries")
+        void shouldAllowStatusChange_WhenMemberIsAssigneeWithoutFurtherQueries() {
+            // ARRANGE
+            User owner = TestDataFactory.createUserWithId(2L, "owner", "owner@example.com");
+            when(task.getOwner()).thenReturn(owner);
+            TaskAccessContext access = new TaskAccessContext(task, EProjectRole.MEMBER, true, ETaskRole.ASSIGNEE);
+
+            // ACT & ASSERT
+            assertDoesNotThrow(() -> taskAuthorizationService.checkChangeStatusPermission(user, access));
+            verifyNoInteractions(projectAuthorizationService);
+            verify(task, never()).getAssignments();
+        }
+
+        @Test
+        @DisplayName("2.3 - shouldDenyEdit_WhenMemberIsOnlyAssignee")
+        void shouldDenyEdit_WhenMemberIsOnlyAssignee() {
+            // ARRANGE
+            User owner = TestDataFactory.createUserWithId(2L, "owner", "owner@example.com");
+            when(task.getOwner()).thenReturn(owner);
+            TaskAccessContext access = new TaskAccessContext(task, EProjectRole.MEMBER, true, ETaskRole.ASSIGNEE);
+
+            // ACT & ASSERT
+            assertThrows(AccessDeniedException.class, () -> taskAuthorizationService.checkEditPermission(user, access));
+        }
+
+        @Test
+        @DisplayName("2.4 - shouldAllowEdit_WhenUserIsProjectAdminOrTaskOwner")
+        void shouldAllowEdit_WhenUserIsProjectAdminOrTaskOwner() {
+            // ARRANGE
+            User owner = TestDataFactory.createUserWithId(2L, "owner", "owner@example.com");
+            when(task.getOwner()).thenReturn(owner);
+            TaskAccessContext adminAccess = new TaskAccessContext(task, EProjectRole.ADMIN, true, null);
+            TaskAccessContext ownerAccess = new TaskAccessContext(task, EProjectRole.MEMBER, true, ETaskRole.OWNER);
+
+            // ACT & ASSERT
+            assertDoesNotThrow(() -> taskAuthorizationService.checkEditPermission(user, adminAccess));
+            assertDoesNotThrow(() -> taskAuthorizationService.checkEditPermission(owner, ownerAccess));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.task.dto.response.TaskBoardColumnDTO;
+import br.com.teamtacles.task.dto.response.TaskBoardResponseDTO;
+import br.com.teamtacles.task.dto.response.TaskResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.repository.TaskBoardEntry;
+import br.com.teamtacles.task.repository.TaskPosition;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskBoardServiceTest {
+
+    private static final Long PROJECT_ID = 100L;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectAuthorizationService projectAuthorizationService;
+    @Mock
+    private TaskMapper taskMapper;
+
+    private final User user = TestDataFactory.createValidUser();
+    private final Project project = TestDataFactory.createMockProject(user);
+
+    private TaskBoardService taskBoardService;
+
+    @BeforeEach
+    void setUp() {
+        taskBoardService = new TaskBoardService(taskRepository, projectService, projectAuthorizationService, taskMapper, 2, 50);
+        when(projectService.findProjectEntityById(PROJECT_ID)).thenReturn(project);
+    }
+
+    private Task task(Long id) {
+        Task task = TestDataFactory.createMockTask(project, user, OffsetDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(task, "id", id);
+        return task;
+    }
+
+    private void stubTasks(Long... ids) {
+        List<Task> tasks = Arrays.stream(ids).map(this::task).toList();
+        when(taskRepository.findAllById(List.of(ids))).thenReturn(tasks);
+        when(taskMapper.toTaskResponseDTO(any(Task.class))).thenAnswer(invocation -> {
+            TaskResponseDTO response = new TaskResponseDTO();
+            response.setId(invocation.<Task>getArgument(0).getId());
+            return response;
+        });
+    }
+
+    private static TaskBoardEntry entry(Long id, ETaskStatus status, String orderKey, long total) {
+        return new TaskBoardEntry() {
+            public Long getId() { return id; }
+            public String getOrderKey() { return orderKey; }
+            public String getStatus() { return status.name(); }
+            public long getTotal() { return total; }
+        };
+    }
+
+    private static TaskPosition position(Long id, String orderKey) {
+        return entry(id, ETaskStatus.TO_DO, orderKey, 0);
+    }
+
+    @Nested
+    @DisplayName("1. Board Tests")
+    class BoardTests {
+
+        @Test
+        @DisplayName("1.1 - getBoard_shouldReturnEveryColumnWithTotalsAndCursorOnlyWhenThereAreMore")
+        void getBoard_shouldReturnEveryColumnWithTotalsAndCursorOnlyWhenThereAreMore() {
+            // Arrange
+            when(taskRepository.findBoard(PROJECT_ID, 2)).thenReturn(List.of(
+                    entry(4L, ETaskStatus.TO_DO, "a0", 5), entry(1L, ETaskStatus.TO_DO, "a1", 5), entry(3L, ETaskStatus.DONE, "a0", 1)));
+            stubTasks(4L, 1L, 3L);
+
+            // Act
+            TaskBoardResponseDTO board = taskBoardService.getBoard(PROJECT_ID, null, user);
+
+            // Assert
+            assertThat(board.getColumns()).extracting(TaskBoardColumnDTO::getStatus).containsExactly(ETaskStatus.values());
+
+            TaskBoardColumnDTO toDo = board.getColumns().get(0);
+            assertThat(toDo.getTotal()).isEqualTo(5);
+            assertThat(toDo.getTasks()).extracting(TaskResponseDTO::getId).containsExactly(4L, 1L);
+            assertThat(TaskBoardCursor.decode(toDo.getNextCursor())).isEqualTo(new TaskBoardCursor("a1", 1L));
+
+            TaskBoardColumnDTO inProgress = board.getColumns().get(1);
+            assertThat(inProgress.getTotal()).isZero();
+            assertThat(inProgress.getTasks()).isEmpty();
+            assertThat(inProgress.getNextCursor()).isNull();
+
+            assertThat(board.getColumns().get(2).getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("1.2 - getBoard_whenUserIsNotMember_shouldThrowAccessDeniedWithoutQueryingTasks")
+        void getBoard_whenUserIsNotMember_shouldThrowAccessDeniedWithoutQueryingTasks() {
+            // Arrange
+            doThrow(new AccessDeniedException("Access denied. You are not a member of this project."))
+                    .when(projectAuthorizationService).checkProjectMembership(user, project);
+
+            // Act & Assert
+            assertThatThrownBy(() -> taskBoardService.getBoard(PROJECT_ID, 10, user)).isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(taskRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Board Column Tests")
+    class BoardColumnTests {
+
+        @Test
+        @DisplayName("2.1 - getBoardColumn_shouldContinueAfterCursorAndReturnNextCursorWhenThereAreMore")
+        void getBoardColumn_shouldContinueAfterCursorAndReturnNextCursorWhenThereAreMore() {
+            // Arrange
+            String cursor = new TaskBoardCursor("a1", 4L).encode();
+            when(taskRepository.findBoardColumn(PROJECT_ID, "TO_DO", "a1", 4L, 3))
+                    .thenReturn(List.of(position(9L, "a1"), position(6L, "a1V"), position(7L, "a2")));
+            stubTasks(9L, 6L);
+
+            // Act
+            TaskBoardColumnDTO column = taskBoardService.getBoardColumn(PROJECT_ID, ETaskStatus.TO_DO, cursor, null, user);
+
+            // Assert
+            assertThat(column.getTasks()).extracting(TaskResponseDTO::getId).containsExactly(9L, 6L);
+            assertThat(TaskBoardCursor.decode(column.getNextCursor())).isEqualTo(new TaskBoardCursor("a1V", 6L));
+        }
+
+        @Test
+        @DisplayName("2.2 - getBoardColumn_withMalformedCursor_shouldThrowIllegalArgument")
+        void getBoardColumn_withMalformedCursor_shouldThrowIllegalArgument() {
+            // Act & Assert
+            assertThatThrownBy(() -> taskBoardService.getBoardColumn(PROJECT_ID, ETaskStatus.DONE, "not a cursor!", 10, user))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid board cursor.");
+            verify(taskRepository, never()).findBoardColumn(any(), any(), any(), anyLong(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.project.service.ProjectActivityPublisher;
+import br.com.teamtacles.project.service.ProjectAuthorizationService;
+import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.sync.service.ChangeLogService;
+import br.com.teamtacles.task.dto.request.*;
+import br.com.teamtacles.task.dto.response.TaskBulkItemResultDTO;
+import br.com.teamtacles.task.dto.response.TaskBulkResponseDTO;
+import br.com.teamtacles.task.enumeration.ETaskRole;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAssignment;
+import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.task.validator.TaskStateTransitionValidator;
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.utils.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ProjectAuthorizationService projectAuthorizationService;
+
+    @Mock
+    private TaskAuthorizationService taskAuthorizationService;
+
+    @Spy
+    private TaskStateTransitionValidator taskStateTransitionValidator;
+
+    @Mock
+    private ProjectCollectionVersionRepository projectCollectionVersionRepository;
+
+    @Mock
+    private ProjectActivityPublisher projectActivityPublisher;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private TaskOrderService taskOrderService;
+
+    @Mock
+    private TaskOrderService.Appender appender;
+
+    @InjectMocks
+    private TaskBulkService taskBulkService;
+
+    private User actingUser;
+    private Project project;
+    private Task todoTask;
+    private Task doneTask;
+
+    @BeforeEach
+    void setUp() {
+        actingUser = TestDataFactory.createValidUser();
+        project = TestDataFactory.createMockProject(actingUser);
+
+        todoTask = TestDataFactory.createMockTask(project, actingUser, OffsetDateTime.now().plusDays(1));
+
+        doneTask = TestDataFactory.createMockTask(project, actingUser, OffsetDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(doneTask, "id", 2L);
+        doneTask.completedTask("Already done");
+
+        lenient().when(taskOrderService.appender(project.getId())).thenReturn(appender);
+    }
+
+    private void givenProjectMember(boolean isAdmin) {
+        when(projectService.findProjectEntityById(project.getId())).thenReturn(project);
+        doNothing().when(projectAuthorizationService).checkProjectMembership(actingUser, project);
+        when(projectAuthorizationService.isAdmin(actingUser, project)).thenReturn(isAdmin);
+    }
+
+    @Nested
+    @DisplayName("1. Bulk Creation Tests")
+    class BulkCreationTests {
+
+        @Test
+        @DisplayName("1.1 - shouldCreateAllTasksWithOwnerAssignment_WhenUserIsProjectMember")
+        void shouldCreateAllTasksWithOwnerAssignment_WhenUserIsProjectMember() {
+            // Arrange
+            TaskBulkCreateRequestDTO request = new TaskBulkCreateRequestDTO(List.of(
+                    TestDataFactory.createTaskRequestRegisterDTO(),
+                    TestDataFactory.createTaskRequestRegisterDTO()));
+
+            when(projectService.findProjectEntityById(project.getId())).thenReturn(project);
+            when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+            when(appender.next(ETaskStatus.TO_DO)).thenReturn("a5", "a6");
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.createTasks(project.getId(), request, actingUser);
+
+            // Assert
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Task>> tasksCaptor = ArgumentCaptor.forClass(List.class);
+            verify(taskRepository, times(1)).saveAll(tasksCaptor.capture());
+
+            assertThat(tasksCaptor.getValue()).hasSize(2)
+                    .allSatisfy(task -> assertThat(task.getAssignments())
+                            .singleElement()
+                            .satisfies(assignment -> assertEquals(ETaskRole.OWNER, assignment.getTaskRole())));
+            assertThat(tasksCaptor.getValue()).extracting(Task::getOrderKey).containsExactly("a5", "a6");
+            assertEquals(2, response.getSucceeded());
+            assertEquals(0, response.getFailed());
+        }
+
+        @Test
+        @DisplayName("1.2 - shouldNotSaveAnything_WhenUserIsNotProjectMember")
+        void shouldNotSaveAnything_WhenUserIsNotProjectMember() {
+            // Arrange
+            TaskBulkCreateRequestDTO request = new TaskBulkCreateRequestDTO(List.of(TestDataFactory.createTaskRequestRegisterDTO()));
+
+            when(projectService.findProjectEntityById(project.getId())).thenReturn(project);
+            doThrow(new AccessDeniedException("Access denied. You are not a member of this project."))
+                    .when(projectAuthorizationService).checkProjectMembership(actingUser, project);
+
+            // Act & Assert
+            assertThrows(AccessDeniedException.class, () -> taskBulkService.createTasks(project.getId(), request, actingUser));
+            verify(taskRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Bulk Status Update Tests")
+    class BulkStatusUpdateTests {
+
+        @Test
+        @DisplayName("2.1 - shouldReportPerItemErrors_WhenSomeTransitionsAreInvalid")
+        void shouldReportPerItemErrors_WhenSomeTransitionsAreInvalid() {
+            // Arrange
+            TaskBulkStatusRequestDTO request = new TaskBulkStatusRequestDTO(List.of(
+                    new TaskBulkStatusItemDTO(todoTask.getId(), ETaskStatus.IN_PROGRESS, null),
+                    new TaskBulkStatusItemDTO(doneTask.getId(), ETaskStatus.TO_DO, null),
+                    new TaskBulkStatusItemDTO(99L, ETaskStatus.DONE, "Done")));
+
+            givenProjectMember(false);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(todoTask, doneTask));
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.updateTaskStatuses(project.getId(), request, actingUser);
+
+            // Assert
+            assertEquals(3, response.getRequested());
+            assertEquals(1, response.getSucceeded());
+            assertEquals(2, response.getFailed());
+            assertThat(response.getResults()).extracting(TaskBulkItemResultDTO::isSuccess).containsExactly(true, false, false);
+            assertEquals("Not allowed to change status of a completed task.", response.getResults().get(1).getError());
+
+            assertEquals(ETaskStatus.IN_PROGRESS, todoTask.getStatus());
+            assertEquals(ETaskStatus.DONE, doneTask.getStatus());
+            verify(projectAuthorizationService, times(1)).checkProjectMembership(actingUser, project);
+            verify(projectAuthorizationService, times(1)).isAdmin(actingUser, project);
+        }
+
+        @Test
+        @DisplayName("2.2 - shouldRejectItem_WhenUserCannotChangeStatusOfTask")
+        void shouldRejectItem_WhenUserCannotChangeStatusOfTask() {
+            // Arrange
+            TaskBulkStatusRequestDTO request = new TaskBulkStatusRequestDTO(List.of(
+                    new TaskBulkStatusItemDTO(todoTask.getId(), ETaskStatus.DONE, "Finished")));
+
+            givenProjectMember(false);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(todoTask));
+            doThrow(new AccessDeniedException("Permission denied."))
+                    .when(taskAuthorizationService).checkChangeStatusPermission(actingUser, todoTask, false);
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.updateTaskStatuses(project.getId(), request, actingUser);
+
+            // Assert
+            assertEquals(1, response.getFailed());
+            assertEquals(ETaskStatus.TO_DO, todoTask.getStatus());
+            verify(taskStateTransitionValidator, never()).validate(any(), any());
+        }
+
+        @Test
+        @DisplayName("2.3 - shouldRejectDuplicatedItem_WhenTaskAppearsTwice")
+        void shouldRejectDuplicatedItem_WhenTaskAppearsTwice() {
+            // Arrange
+            TaskBulkStatusRequestDTO request = new TaskBulkStatusRequestDTO(List.of(
+                    new TaskBulkStatusItemDTO(todoTask.getId(), ETaskStatus.IN_PROGRESS, null),
+                    new TaskBulkStatusItemDTO(todoTask.getId(), ETaskStatus.DONE, "Done")));
+
+            givenProjectMember(true);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(todoTask));
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.updateTaskStatuses(project.getId(), request, actingUser);
+
+            // Assert
+            assertThat(response.getResults()).extracting(TaskBulkItemResultDTO::isSuccess).containsExactly(true, false);
+            assertEquals(ETaskStatus.IN_PROGRESS, todoTask.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("3. Bulk Reassign Tests")
+    class BulkReassignTests {
+
+        @Test
+        @DisplayName("3.1 - shouldReplaceAssignees_WhenUsersAreProjectMembers")
+        void shouldReplaceAssignees_WhenUsersAreProjectMembers() {
+            // Arrange
+            User formerAssignee = TestDataFactory.createUserWithId(2L, "former", "former@example.com");
+            User newAssignee = TestDataFactory.createUserWithId(3L, "new", "new@example.com");
+            Task task = new Task(project, "Task", "Description", actingUser, null);
+            ReflectionTestUtils.setField(task, "id", 10L);
+            task.addAssigment(new TaskAssignment(task, actingUser, ETaskRole.OWNER));
+            task.addAssigment(new TaskAssignment(task, formerAssignee, ETaskRole.ASSIGNEE));
+
+            TaskBulkReassignRequestDTO request = new TaskBulkReassignRequestDTO(List.of(
+                    new TaskBulkReassignItemDTO(task.getId(), Set.of(newAssignee.getId()))));
+
+            givenProjectMember(true);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(task));
+            when(projectService.findProjectMembersFromIdList(project.getId(), List.of(newAssignee.getId()))).thenReturn(Set.of(newAssignee));
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.reassignTasks(project.getId(), request, actingUser);
+
+            // Assert
+            assertEquals(1, response.getSucceeded());
+            assertThat(task.getAssignments())
+                    .extracting(assignment -> assignment.getUser().getId())
+                    .containsExactlyInAnyOrder(actingUser.getId(), newAssignee.getId());
+        }
+
+        @Test
+        @DisplayName("3.2 - shouldRejectItem_WhenAssigneeIsNotProjectMember")
+        void shouldRejectItem_WhenAssigneeIsNotProjectMember() {
+            // Arrange
+            TaskBulkReassignRequestDTO request = new TaskBulkReassignRequestDTO(List.of(
+                    new TaskBulkReassignItemDTO(todoTask.getId(), Set.of(50L))));
+
+            givenProjectMember(true);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(todoTask));
+            when(projectService.findProjectMembersFromIdList(project.getId(), List.of(50L))).thenReturn(Set.of());
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.reassignTasks(project.getId(), request, actingUser);
+
+            // Assert
+            assertEquals(1, response.getFailed());
+            assertEquals("One or more users are not valid members of this project.", response.getResults().get(0).getError());
+            assertEquals(1, todoTask.getAssignments().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("4. Bulk Deletion Tests")
+    class BulkDeletionTests {
+
+        @Test
+        @DisplayName("4.1 - shouldDeleteOnlyAuthorizedTasks_WhenSomeAreForbidden")
+        void shouldDeleteOnlyAuthorizedTasks_WhenSomeAreForbidden() {
+            // Arrange
+            TaskBulkDeleteRequestDTO request = new TaskBulkDeleteRequestDTO(List.of(todoTask.getId(), doneTask.getId()));
+
+            givenProjectMember(false);
+            when(taskRepository.findAllByProjectIdAndIdIn(eq(project.getId()), anyCollection())).thenReturn(List.of(todoTask, doneTask));
+            lenient().doThrow(new AccessDeniedException("Permission denied."))
+                    .when(taskAuthorizationService).checkEditPermission(actingUser, doneTask, false);
+
+            // Act
+            TaskBulkResponseDTO response = taskBulkService.deleteTasks(project.getId(), request, actingUser);
+
+            // Assert
+            assertEquals(1, response.getSucceeded());
+            assertEquals(1, response.getFailed());
+            verify(taskRepository, times(1)).deleteAll(List.of(todoTask));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.teamtacles.task.service;
+
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.sync.service.ChangeLogService;
+import br.com.teamtacles.task.enumeration.ETaskStatus;
+import br.com.teamtacles.task.model.TaskColumn;
+import br.com.teamtacles.task.repository.TaskOrderJdbcRepository;
+import br.com.teamtacles.task.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskOrderServiceTest {
+
+    private static final Long PROJECT_ID = 100L;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskOrderJdbcRepository taskOrderJdbcRepository;
+    @Mock
+    private ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    @Mock
+    private ChangeLogService changeLogService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskOrderService taskOrderService;
+
+    @BeforeEach
+    void setUp() {
+        taskOrderService = new TaskOrderService(taskRepository, taskOrderJdbcRepository, projectCollectionVersionRepository,
+                changeLogService, transactionTemplate, 4);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Nested
+    @DisplayName("1. Key Assignment Tests")
+    class KeyAssignmentTests {
+
+        @Test
+        @DisplayName("1.1 - appender_shouldQueryTheEndOfEachColumnOnceAndChainTheFollowingKeys")
+        void appender_shouldQueryTheEndOfEachColumnOnceAndChainTheFollowingKeys() {
+            // Arrange
+            when(taskRepository.findLastOrderKey(PROJECT_ID, ETaskStatus.TO_DO)).thenReturn(Optional.of("a5"));
+            when(taskRepository.findLastOrderKey(PROJECT_ID, ETaskStatus.DONE)).thenReturn(Optional.empty());
+            TaskOrderService.Appender appender = taskOrderService.appender(PROJECT_ID);
+
+            // Act
+            List<String> keys = List.of(appender.next(ETaskStatus.TO_DO), appender.next(ETaskStatus.DONE),
+                    appender.next(ETaskStatus.TO_DO));
+
+            // Assert
+            assertThat(keys).containsExactly("a6", "a0", "a7");
+            verify(taskRepository, times(1)).findLastOrderKey(PROJECT_ID, ETaskStatus.TO_DO);
+        }
+
+        @Test
+        @DisplayName("1.2 - keyAfter_shouldReturnAKeyBetweenTheReferenceAndTheNextTaskOfTheColumn")
+        void keyAfter_shouldReturnAKeyBetweenTheReferenceAndTheNextTaskOfTheColumn() {
+            // Arrange
+            when(taskRepository.findNextOrderKey(PROJECT_ID, ETaskStatus.TO_DO, "a1", 7L)).thenReturn(Optional.of("a2"));
+
+            // Act
+            String key = taskOrderService.keyAfter(PROJECT_ID, ETaskStatus.TO_DO, 7L, "a1");
+
+            // Assert
+            assertThat(key).isGreaterThan("a1").isLessThan("a2");
+            verifyNoInteractions(transactionTemplate);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Rebalance Tests")
+    class RebalanceTests {
+
+        @Test
+        @DisplayName("2.1 - rebalancePending_shouldRewriteOnlyColumnsThatReceivedATooLongKeyKeepingTheirOrder")
+        void rebalancePending_shouldRewriteOnlyColumnsThatReceivedATooLongKeyKeepingTheirOrder() {
+            // Arrange
+            runTransactionsInline();
+            when(taskRepository.findNextOrderKey(PROJECT_ID, ETaskStatus.IN_PROGRESS, "a1", 7L)).thenReturn(Optional.of("a1001"));
+            TaskColumn column = new TaskColumn(PROJECT_ID, ETaskStatus.IN_PROGRESS);
+            when(taskOrderJdbcRepository.lockColumn(column)).thenReturn(List.of(3L, 7L, 5L));
+            taskOrderService.keyAfter(PROJECT_ID, ETaskStatus.IN_PROGRESS, 7L, "a1");
+
+            // Act
+            taskOrderService.rebalancePending();
+            taskOrderService.rebalancePending();
+
+            // Assert
+            Map<Long, String> expected = new LinkedHashMap<>();
+            expected.put(3L, "a0");
+            expected.put(7L, "a1");
+            expected.put(5L, "a2");
+            verify(taskOrderJdbcRepository, times(1)).updateOrderKeys(expected);
+            verify(projectCollectionVersionRepository).bumpTasksVersion(PROJECT_ID);
+            verify(changeLogService).tasksChanged(PROJECT_ID, List.of(3L, 7L, 5L));
+        }
+
+        @Test
+        @DisplayName("2.2 - sweepLongKeys_whenColumnIsEmptyByNow_shouldNotWriteAnything")
+        void sweepLongKeys_whenColumnIsEmptyByNow_shouldNotWriteAnything() {
+            // Arrange
+            runTransactionsInline();
+            TaskColumn column = new TaskColumn(PROJECT_ID, ETaskStatus.DONE);
+            when(taskOrderJdbcRepository.findColumnsWithKeysLongerThan(4)).thenReturn(List.of(column));
+            when(taskOrderJdbcRepository.lockColumn(column)).thenReturn(List.of());
+
+            // Act
+            taskOrderService.sweepLongKeys();
+
+            // Assert
+            verify(taskOrderJdbcRepository, never()).updateOrderKeys(any());
+            verifyNoInteractions(projectCollectionVersionRepository, changeLogService);
+        }
+    }
+}
@@ -2,10 +2,16 @@ package br.com.teamtacles.task.service;
 
 import br.com.teamtacles.common.exception.InvalidTaskStateException;
 import br.com.teamtacles.common.exception.ResourceNotFoundException;
+import br.com.teamtacles.project.enumeration.EProjectRole;
 import br.com.teamtacles.project.model.Project;
+import br.com.teamtacles.project.model.ProjectAccessContext;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
+import br.com.teamtacles.project.service.ProjectActivityPublisher;
 import br.com.teamtacles.project.service.ProjectAuthorizationService;
 import br.com.teamtacles.project.service.ProjectService;
+import br.com.teamtacles.sync.service.ChangeLogService;
 import br.com.teamtacles.task.dto.request.TaskAssignmentRequestDTO;
+import br.com.teamtacles.task.dto.request.TaskMoveRequestDTO;
 import br.com.teamtacles.task.dto.request.TaskRequestRegisterDTO;
 import br.com.teamtacles.task.dto.request.TaskRequestUpdateDTO;
 import br.com.teamtacles.task.dto.request.UpdateTaskStatusRequestDTO;
@@ -15,35 +21,45 @@ import br.com.teamtacles.task.dto.response.UserAssignmentResponseDTO;
 import br.com.teamtacles.task.enumeration.ETaskRole;
 import br.com.teamtacles.task.enumeration.ETaskStatus;
 import br.com.teamtacles.task.model.Task;
+import br.com.teamtacles.task.model.TaskAccessContext;
 import br.com.teamtacles.task.model.TaskAssignment;
 import br.com.teamtacles.task.repository.TaskAssignmentRepository;
 import br.com.teamtacles.task.repository.TaskRepository;
+import br.com.teamtacles.task.repository.TaskVersion;
 import br.com.teamtacles.task.validator.TaskAssignmentRoleValidator;
 import br.com.teamtacles.task.validator.TaskProjectAssociationValidator;
 import br.com.teamtacles.task.validator.TaskStateTransitionValidator;
 import br.com.teamtacles.user.model.User;
 import br.com.teamtacles.utils.TestDataFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import br.com.teamtacles.task.mapper.TaskMapper;
+import br.com.teamtacles.task.mapper.TaskMapperImpl;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.OffsetDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,7 +78,7 @@ public class TaskServiceTest {
     private ProjectAuthorizationService projectAuthorizationService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
 
     @Mock
     private TaskStateTransitionValidator taskStateTransitionValidator;
@@ -76,9 +92,24 @@ public class TaskServiceTest {
     @Mock
     private TaskAssignmentRoleValidator taskAssignmentRoleValidator;
 
+    @Mock
+    private ProjectCollectionVersionRepository projectCollectionVersionRepository;
+
+    @Mock
+    private ProjectActivityPublisher projectActivityPublisher;
+
+    @Mock
+    private ChangeLogService changeLogService;
+
+    @Mock
+    private TaskOrderService taskOrderService;
+
     @InjectMocks
     private TaskService taskService;
 
+    @Captor
+    private ArgumentCaptor<List<TaskAssignment>> assignmentsCaptor;
+
     private User taskCreator;
     private Project project;
     private TaskRequestRegisterDTO taskRequestDTO;
@@ -90,6 +121,12 @@ public class TaskServiceTest {
         taskRequestDTO = TestDataFactory.createTaskRequestRegisterDTO();
     }
 
+    private TaskAccessContext stubAccessContext(Task task) {
+        TaskAccessContext access = new TaskAccessContext(task, EProjectRole.OWNER, true, ETaskRole.OWNER);
+        when(taskProjectAssociationValidator.findAndValidateAccess(eq(task.getId()), eq(project.getId()), any(User.class))).thenReturn(access);
+        return access;
+    }
+
     @Nested
     @DisplayName("1. Task Creation Tests")
     class TaskCreationTests {
@@ -107,7 +144,7 @@ public class TaskServiceTest {
             taskResponseDTO.setId(1L);
             taskResponseDTO.setTitle(taskRequestDTO.getTitle());
 
-            when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -136,7 +173,7 @@ public class TaskServiceTest {
             taskResponseDTO.setId(1L);
             taskResponseDTO.setTitle(taskRequestDTO.getTitle());
 
-            when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -164,7 +201,7 @@ public class TaskServiceTest {
             taskResponseDTO.setId(1L);
             taskResponseDTO.setTitle(taskRequestDTO.getTitle());
 
-            when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -191,7 +228,7 @@ public class TaskServiceTest {
             taskResponseDTO.setId(1L);
             taskResponseDTO.setTitle(taskRequestDTO.getTitle());
 
-            when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -241,6 +278,27 @@ public class TaskServiceTest {
             verify(projectAuthorizationService, never()).checkProjectMembership(any(), any());
             verify(taskRepository, never()).save(any(Task.class));
         }
+
+        @Test
+        @DisplayName("1.7 - shouldCreateTaskWithoutLookingUpTheProject_WhenAccessWasAlreadyRead")
+        void shouldCreateTaskWithoutLookingUpTheProject_WhenAccessWasAlreadyRead() {
+
+            //ARRANGE
+            ProjectAccessContext access = new ProjectAccessContext(project.getId(), EProjectRole.MEMBER, true);
+            when(projectService.getProjectReference(project.getId())).thenReturn(project);
+            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+
+            //ACT
+            taskService.createTask(access, taskRequestDTO, taskCreator);
+
+            //ASSERT
+            verify(projectAuthorizationService, times(1)).checkProjectMembership(access);
+            verify(taskRepository, times(1)).save(taskCaptor.capture());
+            assertEquals(project, taskCaptor.getValue().getProject());
+            verify(projectService, never()).findProjectEntityById(any());
+            verify(projectAuthorizationService, never()).checkProjectMembership(any(), any());
+        }
     }
 
     @Nested
@@ -255,8 +313,8 @@ public class TaskServiceTest {
             Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.IN_PROGRESS);
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doNothing().when(taskStateTransitionValidator).validate(task.getStatus(), updateTaskDTO.getNewStatus());
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -265,7 +323,7 @@ public class TaskServiceTest {
             taskResponseDTO.setTitle(taskRequestDTO.getTitle());
             taskResponseDTO.setStatus(updateTaskDTO.getNewStatus());
 
-            when(modelMapper.map(any(Task.class), eq(TaskUpdateStatusResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskUpdateStatusResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -289,8 +347,8 @@ public class TaskServiceTest {
             Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.DONE, "Task done!");
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doNothing().when(taskStateTransitionValidator).validate(task.getStatus(), updateTaskDTO.getNewStatus());
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -300,7 +358,7 @@ public class TaskServiceTest {
             taskResponseDTO.setStatus(updateTaskDTO.getNewStatus());
             taskResponseDTO.setCompletionComment(updateTaskDTO.getCompletionComment());
 
-            when(modelMapper.map(any(Task.class), eq(TaskUpdateStatusResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskUpdateStatusResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -327,8 +385,8 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.DONE, "Task done!");
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doNothing().when(taskStateTransitionValidator).validate(task.getStatus(), updateTaskDTO.getNewStatus());
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -338,7 +396,7 @@ public class TaskServiceTest {
             taskResponseDTO.setStatus(updateTaskDTO.getNewStatus());
             taskResponseDTO.setCompletionComment(updateTaskDTO.getCompletionComment());
 
-            when(modelMapper.map(any(Task.class), eq(TaskUpdateStatusResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskUpdateStatusResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -365,8 +423,8 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.DONE, "Task done!");
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doNothing().when(taskStateTransitionValidator).validate(task.getStatus(), updateTaskDTO.getNewStatus());
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -377,7 +435,7 @@ public class TaskServiceTest {
             taskResponseDTO.setCompletionComment(updateTaskDTO.getCompletionComment());
             taskResponseDTO.setCompletedAt(OffsetDateTime.now());
 
-            when(modelMapper.map(any(Task.class), eq(TaskUpdateStatusResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskMapper.toTaskUpdateStatusResponseDTO(any(Task.class))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -401,8 +459,8 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.TO_DO);
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doThrow(new InvalidTaskStateException("Invalid Status Task."))
                     .when(taskStateTransitionValidator)
                     .validate(task.getStatus(), updateTaskDTO.getNewStatus());
@@ -423,8 +481,8 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.TO_DO);
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doThrow(new InvalidTaskStateException("Invalid Status Task."))
                     .when(taskStateTransitionValidator)
                     .validate(task.getStatus(), updateTaskDTO.getNewStatus());
@@ -444,8 +502,8 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.TO_DO);
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
             doThrow(new InvalidTaskStateException("Invalid Status Task."))
                     .when(taskStateTransitionValidator)
                     .validate(task.getStatus(), updateTaskDTO.getNewStatus());
@@ -465,16 +523,39 @@ public class TaskServiceTest {
 
             UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.IN_PROGRESS);
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
+            TaskAccessContext access = stubAccessContext(task);
             doThrow(new AccessDeniedException("Permission denied."))
                     .when(taskAuthorizationService)
-                    .checkChangeStatusPermission(taskCreator, task);
+                    .checkChangeStatusPermission(taskCreator, access);
 
             //ACT & ASSERT
 
             assertThrows(AccessDeniedException.class, () -> taskService.updateTaskStatus(project.getId(), task.getId(), updateTaskDTO, taskCreator));
             verify(taskRepository, never()).save(any(Task.class));
         }
+
+        @Test
+        @DisplayName("2.9 - updateTaskStatus_shouldNotLoadTheAssignmentsCollection")
+        void updateTaskStatus_shouldNotLoadTheAssignmentsCollection() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            // Coleção lazy sem sessão: qualquer leitura lançaria LazyInitializationException
+            ReflectionTestUtils.setField(task, "assignments", new PersistentSet<TaskAssignment>());
+            UpdateTaskStatusRequestDTO updateTaskDTO = TestDataFactory.createUpdateTaskStatusRequestDTO(ETaskStatus.IN_PROGRESS);
+
+            stubAccessContext(task);
+            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(taskMapper.toTaskUpdateStatusResponseDTO(any(Task.class)))
+                    .thenAnswer(invocation -> new TaskMapperImpl(null).toTaskUpdateStatusResponseDTO(invocation.getArgument(0)));
+
+            // Act
+            TaskUpdateStatusResponseDTO response = taskService.updateTaskStatus(project.getId(), task.getId(), updateTaskDTO, taskCreator);
+
+            // Assert
+            assertEquals(ETaskStatus.IN_PROGRESS, response.getOriginalStatus());
+            assertFalse(Hibernate.isInitialized(ReflectionTestUtils.getField(task, "assignments")));
+            verifyNoInteractions(taskAssignmentRepository);
+        }
     }
 
     @Nested
@@ -492,9 +573,11 @@ public class TaskServiceTest {
             List<Long> usersIds = assignmentsUsersDTO.stream().map(a -> a.getUserId()).toList();
             Set<User> assingmentsUsers = TestDataFactory.createAssignmentusers(usersIds);
             Set<UserAssignmentResponseDTO> assignmentsUserDTO = TestDataFactory.createAssignmentusersDTO(assingmentsUsers);
+            // Coleção lazy sem sessão: qualquer leitura lançaria LazyInitializationException
+            ReflectionTestUtils.setField(task, "assignments", new PersistentSet<TaskAssignment>());
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
             doNothing().when(taskAssignmentRoleValidator).validate(assignmentsUsersDTO);
             when(projectService.findProjectMembersFromIdList(project.getId(), usersIds)).thenReturn(assingmentsUsers);
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -503,7 +586,8 @@ public class TaskServiceTest {
             taskResponseDTO.setId(1L);
             taskResponseDTO.setAssignments(assignmentsUserDTO);
 
-            when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenReturn(taskResponseDTO);
+            when(taskAssignmentRepository.findAssignmentResponsesByTaskId(task.getId())).thenReturn(assignmentsUserDTO);
+            when(taskMapper.toTaskResponseDTO(any(Task.class), eq(assignmentsUserDTO))).thenReturn(taskResponseDTO);
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
             //ACT
@@ -514,7 +598,61 @@ public class TaskServiceTest {
             Task savedTask = taskCaptor.getValue();
 
             assertNotNull(savedTask);
-            assertEquals(2, savedTask.getAssignments().size());
+            verify(taskAssignmentRepository).saveAllAndFlush(assignmentsCaptor.capture());
+            assertThat(assignmentsCaptor.getValue())
+                    .extracting(assignment -> assignment.getUser().getId())
+                    .containsExactlyInAnyOrderElementsOf(usersIds);
+            assertThat(assignmentsCaptor.getValue()).allMatch(assignment -> assignment.getTask() == task);
+            assertThat(updatedTask.getAssignments()).isEqualTo(assignmentsUserDTO);
+            verify(taskMapper, never()).toTaskResponseDTO(any(Task.class));
+            assertFalse(Hibernate.isInitialized(ReflectionTestUtils.getField(task, "assignments")));
+        }
+
+        @Test
+        @DisplayName("3.6 - assignmentResponseMapping_shouldUseTheProjectionWithoutInitializingTheCollection")
+        void assignmentResponseMapping_shouldUseTheProjectionWithoutInitializingTheCollection() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            ReflectionTestUtils.setField(task, "assignments", new PersistentSet<TaskAssignment>());
+            Set<UserAssignmentResponseDTO> projection = Set.of(new UserAssignmentResponseDTO(2L, "assignee", ETaskRole.ASSIGNEE));
+
+            // Act
+            TaskResponseDTO response = new TaskMapperImpl(null).toTaskResponseDTO(task, projection);
+
+            // Assert
+            assertThat(response.getAssignments()).containsExactlyElementsOf(projection);
+            assertThat(response.getProjectId()).isEqualTo(project.getId());
+            assertThat(response.getOwnerId()).isEqualTo(taskCreator.getId());
+            assertFalse(Hibernate.isInitialized(ReflectionTestUtils.getField(task, "assignments")));
+        }
+
+        @Test
+        @DisplayName("3.5 - shouldInsertOnlyMissingAssignments_WhenSomeUsersAreAlreadyAssigned")
+        void shouldInsertOnlyMissingAssignments_WhenSomeUsersAreAlreadyAssigned() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            ReflectionTestUtils.setField(task, "assignments", new PersistentSet<TaskAssignment>());
+            Set<TaskAssignmentRequestDTO> assignmentsUsersDTO = TestDataFactory.createTaskAssignmentRequestDTOSet();
+            List<Long> usersIds = assignmentsUsersDTO.stream().map(TaskAssignmentRequestDTO::getUserId).toList();
+            Set<User> assignmentUsers = TestDataFactory.createAssignmentusers(usersIds);
+            User alreadyAssigned = assignmentUsers.stream().filter(user -> user.getId().equals(1L)).findFirst().orElseThrow();
+
+            TaskAccessContext access = stubAccessContext(task);
+            when(projectService.findProjectMembersFromIdList(project.getId(), usersIds)).thenReturn(assignmentUsers);
+            when(taskAssignmentRepository.findAllByTaskIdAndUserIds(task.getId(), Set.copyOf(usersIds)))
+                    .thenReturn(Set.of(new TaskAssignment(task, alreadyAssigned, ETaskRole.ASSIGNEE)));
+            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            taskService.assignUsersToTask(project.getId(), task.getId(), assignmentsUsersDTO, taskCreator);
+
+            // Assert
+            verify(taskAssignmentRepository).saveAllAndFlush(assignmentsCaptor.capture());
+            assertThat(assignmentsCaptor.getValue())
+                    .singleElement()
+                    .extracting(assignment -> assignment.getUser().getId())
+                    .isEqualTo(2L);
+            verify(projectActivityPublisher, times(1)).taskAssigned(project.getId(), task.getId(), 2L, taskCreator.getId());
         }
 
 
@@ -528,8 +666,8 @@ public class TaskServiceTest {
             Set<TaskAssignmentRequestDTO> assignmentsUsersDTO = TestDataFactory.createTaskAssignmentRequestDTOSet();
             List<Long> usersIds = assignmentsUsersDTO.stream().map(a -> a.getUserId()).toList();
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
             doNothing().when(taskAssignmentRoleValidator).validate(assignmentsUsersDTO);
             doThrow(new AccessDeniedException("One or more users are not valid members of this project."))
                     .when(projectService)
@@ -549,8 +687,8 @@ public class TaskServiceTest {
             Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
             Set<TaskAssignmentRequestDTO> assignmentsWithOwnerRole = TestDataFactory.createTaskAssignmentRequestDTOWithOwnerRole();
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, task);
+            TaskAccessContext access = stubAccessContext(task);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
 
             doThrow(new IllegalArgumentException("The OWNER role cannot be assigned via this method."))
                     .when(taskAssignmentRoleValidator)
@@ -570,11 +708,11 @@ public class TaskServiceTest {
 
             Set<TaskAssignmentRequestDTO> assignmentsUsersDTO = TestDataFactory.createTaskAssignmentRequestDTOSet();
 
-            when(taskProjectAssociationValidator.findAndValidate(task.getId(), project.getId())).thenReturn(task);
+            TaskAccessContext access = stubAccessContext(task);
 
             doThrow(new AccessDeniedException("User does not have permission to edit this task."))
                     .when(taskAuthorizationService)
-                    .checkEditPermission(unauthorizedUser, task);
+                    .checkEditPermission(unauthorizedUser, access);
             // ACT & ASSERT
             assertThrows(AccessDeniedException.class,
                     () -> taskService.assignUsersToTask(project.getId(), task.getId(), assignmentsUsersDTO, unauthorizedUser));
@@ -597,8 +735,8 @@ public class TaskServiceTest {
             updateDTO.setTitle("New Updated Title");
             updateDTO.setDescription("New updated description.");
 
-            when(taskProjectAssociationValidator.findAndValidate(taskId, project.getId())).thenReturn(existingTask);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, existingTask);
+            TaskAccessContext access = stubAccessContext(existingTask);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
@@ -625,8 +763,8 @@ public class TaskServiceTest {
 
             TaskRequestUpdateDTO updateDTOWithNulls = new TaskRequestUpdateDTO();
             updateDTOWithNulls.setTitle("Title Was Updated");
-            when(taskProjectAssociationValidator.findAndValidate(taskId, project.getId())).thenReturn(existingTask);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, existingTask);
+            TaskAccessContext access = stubAccessContext(existingTask);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
             when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
             ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
@@ -654,11 +792,11 @@ public class TaskServiceTest {
             TaskRequestUpdateDTO updateDTO = new TaskRequestUpdateDTO();
             updateDTO.setTitle("Attempted Malicious Update");
 
-            when(taskProjectAssociationValidator.findAndValidate(taskId, project.getId())).thenReturn(existingTask);
+            TaskAccessContext access = stubAccessContext(existingTask);
 
             doThrow(new AccessDeniedException("User lacks permission to edit this task."))
                     .when(taskAuthorizationService)
-                    .checkEditPermission(unauthorizedUser, existingTask);
+                    .checkEditPermission(unauthorizedUser, access);
 
             // ACT & ASSERT
 
@@ -675,14 +813,15 @@ public class TaskServiceTest {
             Task existingTask = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(5));
             Long taskId = existingTask.getId();
 
-            when(taskProjectAssociationValidator.findAndValidate(taskId, project.getId())).thenReturn(existingTask);
-            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, existingTask);
+            TaskAccessContext access = stubAccessContext(existingTask);
+            doNothing().when(taskAuthorizationService).checkEditPermission(taskCreator, access);
 
             // ACT
             taskService.deleteTaskById(project.getId(), taskId, taskCreator);
 
             // ASSERT
             verify(taskRepository, times(1)).delete(existingTask);
+            verify(changeLogService).taskDeleted(project.getId(), taskId);
         }
 
 
@@ -695,11 +834,11 @@ public class TaskServiceTest {
 
             User unauthorizedUser = TestDataFactory.createUserWithId(99L, "hacker.man", "hacker@gmail.com");
 
-            when(taskProjectAssociationValidator.findAndValidate(taskId, project.getId())).thenReturn(existingTask);
+            TaskAccessContext access = stubAccessContext(existingTask);
 
             doThrow(new AccessDeniedException("User does not have permission to delete this task."))
                     .when(taskAuthorizationService)
-                    .checkEditPermission(unauthorizedUser, existingTask);
+                    .checkEditPermission(unauthorizedUser, access);
 
             // ACT & ASSERT
             assertThrows(AccessDeniedException.class,
@@ -716,179 +855,281 @@ public class TaskServiceTest {
     class TaskLeavingTests {
 
         @Test
-        @DisplayName("5.1 - leaveAllTasks_whenUserHasNoOwnedTasks_shouldNotThrowException")
-        void leaveAllTasks_whenUserHasNoOwnedTasks_shouldNotThrowException() {
+        @DisplayName("5.1 - leaveAllTasks_shouldRunSetBasedStatementsScopedToProject")
+        void leaveAllTasks_shouldRunSetBasedStatementsScopedToProject() {
             // Arrange
-            User userWithNoTasks = TestDataFactory.createUserWithId(99L, "noTasks", "notasks@example.com");
+            User owner = TestDataFactory.createValidUser();
             Long projectId = 1L;
 
-            when(taskAssignmentRepository.findAllByProjectAndUser(projectId, userWithNoTasks)).thenReturn(Set.of());
-
-            // Act & Assert
-            assertDoesNotThrow(() -> taskService.leaveAllTasksByProject(projectId, userWithNoTasks));
+            // Act
+            taskService.leaveAllTasksByProject(projectId, owner);
 
-            verify(taskAssignmentRepository).findAllByProjectAndUser(projectId, userWithNoTasks);
-            verify(taskRepository, never()).delete(any(Task.class));
-            verify(taskRepository, never()).save(any(Task.class));
+            // Assert
+            verify(taskRepository).deleteOwnedTasksWithoutOtherMembers(owner.getId(), projectId, Integer.MAX_VALUE);
+            verify(taskRepository).transferOwnedTasksToEarliestMember(owner.getId(), projectId, Integer.MAX_VALUE);
+            verify(taskAssignmentRepository).deleteAllOfUser(owner.getId(), projectId, Integer.MAX_VALUE);
         }
 
         @Test
-        @DisplayName("5.2 - leaveAllTasks_whenUserOwnsTaskAlone_shouldDeleteTask")
-        void leaveAllTasks_whenUserOwnsTaskAlone_shouldDeleteTask() {
+        @DisplayName("5.2 - leaveAllTasks_shouldNotLoadOrSaveTasksOneByOne")
+        void leaveAllTasks_shouldNotLoadOrSaveTasksOneByOne() {
             // Arrange
             User owner = TestDataFactory.createValidUser();
             Long projectId = 1L;
 
-            Task task = TestDataFactory.createMockTask(project, owner, OffsetDateTime.now().plusDays(1));
-
-            Set<TaskAssignment> ownedTasksAssigments = task.getAssignments();
-
-            when(taskAssignmentRepository.findAllByProjectAndUser(projectId, owner)).thenReturn(ownedTasksAssigments);
-            doNothing().when(taskRepository).delete(any(Task.class));
-
-            ArgumentCaptor<Task> deleteCaptor = ArgumentCaptor.forClass(Task.class);
-
             // Act
             taskService.leaveAllTasksByProject(projectId, owner);
 
             // Assert
-            verify(taskRepository).delete(deleteCaptor.capture());
-            assertThat(deleteCaptor.getValue().getId()).isEqualTo(task.getId());
+            verify(taskAssignmentRepository, never()).findAllByProjectAndUser(anyLong(), any(User.class));
+            verify(taskRepository, never()).delete(any(Task.class));
+            verify(taskRepository, never()).save(any(Task.class));
         }
 
         @Test
-        @DisplayName("5.3 - leaveAllTasks_whenUserOwnsTaskWithOtherAssignees_shouldTransferOwnershipAndRemoveUser")
-        void leaveAllTasks_whenUserOwnsTaskWithOtherAssignees_shouldTransferOwnershipAndRemoveUser() {
+        @DisplayName("5.3 - handleOwnerDeletion_shouldRunSetBasedStatementsAcrossAllProjects")
+        void handleOwnerDeletion_shouldRunSetBasedStatementsAcrossAllProjects() {
             // Arrange
             User owner = TestDataFactory.createValidUser();
-            User otherAssignee = TestDataFactory.createUserWithId(2L, "otherAssignee", "other@example.com");
-            Long projectId = 1L;
 
-            Task task = TestDataFactory.createMockTask(project, owner, OffsetDateTime.now().plusDays(1));
+            // Act
+            taskService.handleOwnerDeletion(owner);
 
-            TaskAssignment ownerAssignment = new TaskAssignment(task, owner, br.com.teamtacles.task.enumeration.ETaskRole.OWNER);
-            task.addAssigment(ownerAssignment);
+            // Assert
+            verify(taskRepository).deleteOwnedTasksWithoutOtherMembers(owner.getId(), null, Integer.MAX_VALUE);
+            verify(taskRepository).transferOwnedTasksToEarliestMember(owner.getId(), null, Integer.MAX_VALUE);
+            verify(taskAssignmentRepository).deleteAllOfUser(owner.getId(), null, Integer.MAX_VALUE);
+            verify(taskRepository, never()).findAllByOwner(any(User.class));
+        }
 
-            // Adicionar outro assignee à tarefa
-            TaskAssignment otherAssignment = new TaskAssignment(task, otherAssignee, br.com.teamtacles.task.enumeration.ETaskRole.ASSIGNEE);
-            task.addAssigment(otherAssignment);
+        @Test
+        @DisplayName("5.4 - releaseTasksOfUser_shouldTransferOwnershipBeforeRemovingAssignmentsAndReturnAffectedRows")
+        void releaseTasksOfUser_shouldTransferOwnershipBeforeRemovingAssignmentsAndReturnAffectedRows() {
+            // Arrange
+            Long userId = 1L;
+            when(taskRepository.deleteOwnedTasksWithoutOtherMembers(userId, null, 500)).thenReturn(3);
+            when(taskRepository.transferOwnedTasksToEarliestMember(userId, null, 500)).thenReturn(2);
+            when(taskAssignmentRepository.deleteAllOfUser(userId, null, 500)).thenReturn(7);
 
-            Set<TaskAssignment> userAssignments = new HashSet<>();
-            userAssignments.add(ownerAssignment);
+            // Act
+            int affected = taskService.releaseTasksOfUser(userId, null, 500);
 
-            when(taskAssignmentRepository.findAllByProjectAndUser(projectId, owner)).thenReturn(userAssignments);
-            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            // Assert
+            assertThat(affected).isEqualTo(12);
 
-            ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+            InOrder inOrder = inOrder(taskRepository, taskAssignmentRepository);
+            inOrder.verify(taskRepository).deleteOwnedTasksWithoutOtherMembers(userId, null, 500);
+            inOrder.verify(taskRepository).transferOwnedTasksToEarliestMember(userId, null, 500);
+            inOrder.verify(taskAssignmentRepository).deleteAllOfUser(userId, null, 500);
+        }
 
+        @Test
+        @DisplayName("5.5 - releaseTasksOfUser_whenNothingLeftToRelease_shouldReturnZero")
+        void releaseTasksOfUser_whenNothingLeftToRelease_shouldReturnZero() {
             // Act
-            taskService.leaveAllTasksByProject(projectId, owner);
+            int affected = taskService.releaseTasksOfUser(99L, 1L, 500);
 
             // Assert
-            verify(taskRepository, atLeast(1)).save(taskCaptor.capture());
-
-            Task savedTask = taskCaptor.getValue();
-            // Owner deve ter sido removido da tarefa
-            assertFalse(savedTask.getAssignments().stream()
-                    .anyMatch(a -> a.getUser().equals(owner)),
-                    "Owner deve ter sido removido da tarefa");
-
-            // Novo owner deve ser designado
-            assertTrue(savedTask.getAssignments().stream()
-                    .anyMatch(a -> a.getTaskRole().equals(br.com.teamtacles.task.enumeration.ETaskRole.OWNER)),
-                    "Novo owner deve ser designado");
+            assertThat(affected).isZero();
         }
+    }
+
+    @Nested
+    @DisplayName("6. Conditional Request Tests")
+    class ConditionalRequestTests {
 
         @Test
-        @DisplayName("5.4 - leaveAllTasks_shouldOnlyProcessTasksOwnedByUser_notAffectOtherProjectsTasks")
-        void leaveAllTasks_shouldOnlyProcessTasksOwnedByUser_notAffectOtherProjectsTasks() {
+        @DisplayName("6.1 - findTaskETag_whenUserCanSeeTask_shouldBuildTagFromVersionWithoutLoadingTheTask")
+        void findTaskETag_whenUserCanSeeTask_shouldBuildTagFromVersionWithoutLoadingTheTask() {
             // Arrange
-            User owner = TestDataFactory.createValidUser();
-            User otherProjectOwner = TestDataFactory.createUserWithId(2L, "otherOwner", "other@example.com");
-            Long projectId = 1L;
+            TaskVersion version = mock(TaskVersion.class);
+            when(version.getVersion()).thenReturn(4L);
+            when(taskRepository.findVersionVisibleTo(1L, 10L, taskCreator.getId())).thenReturn(Optional.of(version));
 
-            // Criar dois projetos diferentes
-            Project project1 = TestDataFactory.createMockProject(owner);
-            Project project2 = TestDataFactory.createMockProject(otherProjectOwner);
+            // Act
+            Optional<String> etag = taskService.findTaskETag(1L, 10L, taskCreator);
 
-            // Task no projeto 1 (de responsabilidade de owner)
-            Task taskInProject1 = TestDataFactory.createMockTask(project1, owner, OffsetDateTime.now().plusDays(1));
+            // Assert
+            assertThat(etag).contains("\"task-10-4-on-time\"");
+            verify(taskProjectAssociationValidator, never()).findAndValidateAccess(anyLong(), anyLong(), any(User.class));
+            verify(taskRepository, never()).findById(anyLong());
+        }
 
-            // Task no projeto 2 (não pertence ao owner)
-            Task taskInProject2 = TestDataFactory.createMockTask(project2, otherProjectOwner, OffsetDateTime.now().plusDays(1));
+        @Test
+        @DisplayName("6.2 - findTaskETag_whenTaskBecomesOverdue_shouldChangeTheTagWithoutAVersionBump")
+        void findTaskETag_whenTaskBecomesOverdue_shouldChangeTheTagWithoutAVersionBump() {
+            // Arrange
+            TaskVersion onTime = mock(TaskVersion.class);
+            when(onTime.getVersion()).thenReturn(4L);
+            TaskVersion overdue = mock(TaskVersion.class);
+            when(overdue.getVersion()).thenReturn(4L);
+            when(overdue.isOverdue()).thenReturn(true);
+            when(taskRepository.findVersionVisibleTo(1L, 10L, taskCreator.getId()))
+                    .thenReturn(Optional.of(onTime), Optional.of(overdue));
 
-            Set<TaskAssignment> ownerTasksAssigments = taskInProject1.getAssignments();
+            // Act
+            Optional<String> before = taskService.findTaskETag(1L, 10L, taskCreator);
+            Optional<String> after = taskService.findTaskETag(1L, 10L, taskCreator);
 
-            when(taskAssignmentRepository.findAllByProjectAndUser(projectId, owner)).thenReturn(ownerTasksAssigments);
-            doNothing().when(taskRepository).delete(any(Task.class));
+            // Assert
+            assertThat(after).isPresent().isNotEqualTo(before);
+        }
 
-            ArgumentCaptor<Task> deleteCaptor = ArgumentCaptor.forClass(Task.class);
+        @Test
+        @DisplayName("6.3 - findTasksForProjectETag_whenUserIsNotMember_shouldReturnEmptyAndSkipTheOverdueCount")
+        void findTasksForProjectETag_whenUserIsNotMember_shouldReturnEmptyAndSkipTheOverdueCount() {
+            // Arrange
+            when(projectCollectionVersionRepository.findTasksVersionVisibleTo(1L, taskCreator.getId())).thenReturn(Optional.empty());
 
             // Act
-            taskService.leaveAllTasksByProject(projectId, owner);
+            Optional<String> etag = taskService.findTasksForProjectETag(1L, taskCreator);
 
             // Assert
-            verify(taskRepository).delete(deleteCaptor.capture());
+            assertThat(etag).isEmpty();
+            verify(taskRepository, never()).countOverdueByProjectId(anyLong());
+        }
 
-            Task deletedTask = deleteCaptor.getValue();
-            // Apenas task do projeto 1 deve ser deletada
-            assertThat(deletedTask.getId()).isEqualTo(taskInProject1.getId());
-            assertThat(deletedTask.getProject().getId()).isEqualTo(project1.getId());
+        @Test
+        @DisplayName("6.4 - createTask_shouldBumpTheProjectTaskListVersion")
+        void createTask_shouldBumpTheProjectTaskListVersion() {
+            // Arrange
+            when(projectService.findProjectEntityById(project.getId())).thenReturn(project);
+            when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-            // Task do projeto 2 não deve ter sido afetada
-            assertThat(taskInProject2.getProject().getId()).isEqualTo(project2.getId());
-            assertThat(taskInProject2.getOwner().getId()).isEqualTo(otherProjectOwner.getId());
+            // Act
+            taskService.createTask(project.getId(), taskRequestDTO, taskCreator);
+
+            // Assert
+            InOrder inOrder = inOrder(taskRepository, projectCollectionVersionRepository);
+            inOrder.verify(taskRepository).save(any(Task.class));
+            inOrder.verify(projectCollectionVersionRepository).bumpTasksVersion(project.getId());
+            verify(projectActivityPublisher).taskCreated(project.getId(), null, taskCreator.getId());
         }
 
         @Test
-        @DisplayName("5.5 - leaveAllTasks_whenUserHasMultipleOwnedTasksInSameProject_shouldProcessAll")
-        void leaveAllTasks_whenUserHasMultipleOwnedTasksInSameProject_shouldProcessAll() {
+        @DisplayName("6.5 - releaseTasksOfUser_shouldBumpAssignedTasksBeforeDeletingAssignmentsAndTheListVersionAfterwards")
+        void releaseTasksOfUser_shouldBumpAssignedTasksBeforeDeletingAssignmentsAndTheListVersionAfterwards() {
             // Arrange
-            User owner = TestDataFactory.createValidUser();
-            Long projectId = 1L;
-            Project project = TestDataFactory.createMockProject(owner);
-            ReflectionTestUtils.setField(project, "id", projectId);
+            Long userId = 1L;
+            when(taskAssignmentRepository.deleteAllOfUser(userId, null, 500)).thenReturn(2);
 
-            Task task1 = TestDataFactory.createMockTask(project, owner, OffsetDateTime.now().plusDays(1));
-            Task task2 = TestDataFactory.createMockTask(project, owner, OffsetDateTime.now().plusDays(2));
-            Task task3 = TestDataFactory.createMockTask(project, owner, OffsetDateTime.now().plusDays(3));
+            // Act
+            taskService.releaseTasksOfUser(userId, null, 500);
 
-            ReflectionTestUtils.setField(task1, "id", 101L);
-            ReflectionTestUtils.setField(task2, "id", 102L);
-            ReflectionTestUtils.setField(task3, "id", 103L);
+            // Assert
+            InOrder inOrder = inOrder(taskAssignmentRepository, projectCollectionVersionRepository);
+            inOrder.verify(taskAssignmentRepository).bumpVersionsOfAssignedTasks(userId, null, 500);
+            inOrder.verify(taskAssignmentRepository).deleteAllOfUser(userId, null, 500);
+            inOrder.verify(projectCollectionVersionRepository).bumpVersionsOfUserProjects(userId);
+        }
 
-            TaskAssignment assignment1 = new TaskAssignment(task1, owner, ETaskRole.OWNER);
-            TaskAssignment assignment2 = new TaskAssignment(task2, owner, ETaskRole.OWNER);
-            TaskAssignment assignment3 = new TaskAssignment(task3, owner, ETaskRole.OWNER);
+        @Test
+        @DisplayName("6.6 - releaseTasksOfUser_whenNothingWasReleased_shouldNotBumpTheListVersion")
+        void releaseTasksOfUser_whenNothingWasReleased_shouldNotBumpTheListVersion() {
+            // Act
+            taskService.releaseTasksOfUser(99L, 1L, 500);
 
-            task1.addAssigment(assignment1);
-            task2.addAssigment(assignment2);
-            task3.addAssigment(assignment3);
+            // Assert
+            verify(projectCollectionVersionRepository, never()).bumpTasksVersion(anyLong());
+            verify(projectCollectionVersionRepository, never()).bumpVersionsOfUserProjects(anyLong());
+        }
+    }
 
-            Set<TaskAssignment> assignments = Set.of(assignment1, assignment2, assignment3);
+    @Nested
+    @DisplayName("7. Task Move Tests")
+    class TaskMoveTests {
+
+        private Task referenceTask(Long id, ETaskStatus status, String orderKey) {
+            Task reference = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            ReflectionTestUtils.setField(reference, "id", id);
+            reference.updateStatus(status);
+            reference.placeAt(orderKey);
+            return reference;
+        }
 
-            when(taskAssignmentRepository.findAllByProjectAndUser(projectId, owner))
-                    .thenReturn(assignments);
+        @Test
+        @DisplayName("7.1 - moveTask_shouldPlaceTaskRightAfterReferenceTaskAndWriteOnlyThatTask")
+        void moveTask_shouldPlaceTaskRightAfterReferenceTaskAndWriteOnlyThatTask() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            task.placeAt("a0");
+            TaskAccessContext access = stubAccessContext(task);
+            when(taskRepository.findById(2L)).thenReturn(Optional.of(referenceTask(2L, ETaskStatus.TO_DO, "a3")));
+            when(taskOrderService.keyAfter(project.getId(), ETaskStatus.TO_DO, task.getId(), "a3")).thenReturn("a3V");
+            when(taskRepository.save(task)).thenReturn(task);
 
-            doNothing().when(taskRepository).delete(any(Task.class));
+            // Act
+            taskService.moveTask(project.getId(), task.getId(), new TaskMoveRequestDTO(2L), taskCreator);
+
+            // Assert
+            assertEquals("a3V", task.getOrderKey());
+            verify(taskAuthorizationService).checkChangeStatusPermission(taskCreator, access);
+            verify(projectCollectionVersionRepository).bumpTasksVersion(project.getId());
+            verify(changeLogService).taskChanged(project.getId(), task.getId());
+        }
+
+        @Test
+        @DisplayName("7.2 - moveTask_withoutReferenceTask_shouldPlaceTaskAtTheTopOfItsColumn")
+        void moveTask_withoutReferenceTask_shouldPlaceTaskAtTheTopOfItsColumn() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            stubAccessContext(task);
+            when(taskOrderService.keyAfter(project.getId(), ETaskStatus.TO_DO, task.getId(), null)).thenReturn("Zz");
 
             // Act
-            taskService.leaveAllTasksByProject(projectId, owner);
+            taskService.moveTask(project.getId(), task.getId(), new TaskMoveRequestDTO(null), taskCreator);
 
             // Assert
-            ArgumentCaptor<Task> deleteCaptor = ArgumentCaptor.forClass(Task.class);
+            assertEquals("Zz", task.getOrderKey());
+            verify(taskRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("7.3 - moveTask_whenReferenceTaskIsInAnotherColumn_shouldThrowIllegalArgumentWithoutSaving")
+        void moveTask_whenReferenceTaskIsInAnotherColumn_shouldThrowIllegalArgumentWithoutSaving() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            stubAccessContext(task);
+            when(taskRepository.findById(2L)).thenReturn(Optional.of(referenceTask(2L, ETaskStatus.IN_PROGRESS, "a3")));
 
-            verify(taskRepository, times(3)).delete(deleteCaptor.capture());
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> taskService.moveTask(project.getId(), task.getId(), new TaskMoveRequestDTO(2L), taskCreator));
+            verify(taskRepository, never()).save(any(Task.class));
+            verifyNoInteractions(taskOrderService, projectCollectionVersionRepository);
+        }
 
-            List<Task> deletedTasks = deleteCaptor.getAllValues();
-            assertThat(deletedTasks).hasSize(3);
+        @Test
+        @DisplayName("7.4 - moveTask_whenReferenceTaskIsOverdue_shouldTreatItAsAnotherColumn")
+        void moveTask_whenReferenceTaskIsOverdue_shouldTreatItAsAnotherColumn() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().plusDays(1));
+            stubAccessContext(task);
+            // Mesmo status persistido (TO_DO), mas vencida: no quadro ela aparece na coluna OVERDUE
+            Task overdueReference = referenceTask(2L, ETaskStatus.TO_DO, "a3");
+            ReflectionTestUtils.setField(overdueReference, "dueDate", OffsetDateTime.now().minusDays(1));
+            when(taskRepository.findById(2L)).thenReturn(Optional.of(overdueReference));
 
-            assertThat(deletedTasks)
-                    .extracting(Task::getId)
-                    .containsExactlyInAnyOrder(task1.getId(), task2.getId(), task3.getId());
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> taskService.moveTask(project.getId(), task.getId(), new TaskMoveRequestDTO(2L), taskCreator));
+            verify(taskRepository, never()).save(any(Task.class));
+            verifyNoInteractions(taskOrderService, projectCollectionVersionRepository);
+        }
 
-            assertThat(deletedTasks)
-                    .allMatch(t -> t.getProject().getId().equals(projectId));
+        @Test
+        @DisplayName("7.5 - moveTask_whenTaskIsInTheOverdueColumn_shouldThrowInvalidTaskStateException")
+        void moveTask_whenTaskIsInTheOverdueColumn_shouldThrowInvalidTaskStateException() {
+            // Arrange
+            Task task = TestDataFactory.createMockTask(project, taskCreator, OffsetDateTime.now().minusDays(1));
+            stubAccessContext(task);
+
+            // Act & Assert
+            assertThrows(InvalidTaskStateException.class,
+                    () -> taskService.moveTask(project.getId(), task.getId(), new TaskMoveRequestDTO(null), taskCreator));
+            verify(taskRepository, never()).findById(anyLong());
+            verify(taskRepository, never()).save(any(Task.class));
+            verifyNoInteractions(taskOrderService, projectCollectionVersionRepository);
         }
     }
 }
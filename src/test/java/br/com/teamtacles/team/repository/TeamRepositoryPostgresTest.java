@@ -0,0 +1,113 @@
+package br.com.teamtacles.team.repository;
+
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private long leaverId;
+
+    @BeforeEach
+    void setUp() {
+        leaverId = insertUser("leaver");
+    }
+
+    private long insertOwnedTeam(String name) {
+        long teamId = insertTeam(name, leaverId);
+        insertTeamMember(teamId, leaverId, "OWNER", true, T0);
+        return teamId;
+    }
+
+    private int transfer() {
+        return transactionTemplate.execute(status -> teamRepository.transferOwnedTeamsToSuccessor(leaverId, Integer.MAX_VALUE));
+    }
+
+    private long ownerOf(long teamId) {
+        return jdbcTemplate.queryForObject("SELECT owner_id FROM teams WHERE id = ?", Long.class, teamId);
+    }
+
+    private String roleOf(long teamId, long userId) {
+        return jdbcTemplate.queryForObject("SELECT team_role FROM team_members WHERE team_id = ? AND user_id = ?",
+                String.class, teamId, userId);
+    }
+
+    @Nested
+    @DisplayName("1. Successor Choice Tests")
+    class SuccessorChoiceTests {
+
+        @Test
+        @DisplayName("1.1 - transferOwnedTeamsToSuccessor_shouldPreferEarliestAcceptedAdminOverEarlierMembers")
+        void transferOwnedTeamsToSuccessor_shouldPreferEarliestAcceptedAdminOverEarlierMembers() {
+            // Arrange
+            long teamId = insertOwnedTeam("Team");
+            long pendingAdminId = insertUser("pendingadmin");
+            long memberId = insertUser("member");
+            long adminId = insertUser("admin");
+            insertTeamMember(teamId, pendingAdminId, "ADMIN", false, T0);
+            insertTeamMember(teamId, memberId, "MEMBER", true, T0.plusDays(1));
+            insertTeamMember(teamId, adminId, "ADMIN", true, T0.plusDays(3));
+
+            // Act
+            int transferred = transfer();
+
+            // Assert
+            assertThat(transferred).isEqualTo(1);
+            assertThat(ownerOf(teamId)).isEqualTo(adminId);
+            assertThat(roleOf(teamId, adminId)).isEqualTo("OWNER");
+        }
+
+        @Test
+        @DisplayName("1.2 - transferOwnedTeamsToSuccessor_withoutAdmin_shouldPickEarliestAcceptedMember")
+        void transferOwnedTeamsToSuccessor_withoutAdmin_shouldPickEarliestAcceptedMember() {
+            // Arrange
+            long teamId = insertOwnedTeam("Team");
+            long laterMemberId = insertUser("latermember");
+            long earliestMemberId = insertUser("earliestmember");
+            insertTeamMember(teamId, laterMemberId, "MEMBER", true, T0.plusDays(2));
+            insertTeamMember(teamId, earliestMemberId, "MEMBER", true, T0.plusDays(1));
+
+            // Act
+            transfer();
+
+            // Assert
+            assertThat(ownerOf(teamId)).isEqualTo(earliestMemberId);
+            assertThat(roleOf(teamId, earliestMemberId)).isEqualTo("OWNER");
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Sole Member Deletion Tests")
+    class SoleMemberDeletionTests {
+
+        @Test
+        @DisplayName("2.1 - deleteOwnedTeamsWithoutOtherMembers_shouldDeleteTeamsWithoutOtherAcceptedMembers")
+        void deleteOwnedTeamsWithoutOtherMembers_shouldDeleteTeamsWithoutOtherAcceptedMembers() {
+            // Arrange
+            insertOwnedTeam("Solo");
+            long pendingOnlyTeamId = insertOwnedTeam("Pending only");
+            long sharedTeamId = insertOwnedTeam("Shared");
+            insertTeamMember(pendingOnlyTeamId, insertUser("pending"), "MEMBER", false, T0);
+            insertTeamMember(sharedTeamId, insertUser("member"), "MEMBER", true, T0);
+
+            // Act
+            int deleted = transactionTemplate.execute(status -> teamRepository.deleteOwnedTeamsWithoutOtherMembers(leaverId, Integer.MAX_VALUE));
+
+            // Assert
+            assertThat(deleted).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForList("SELECT id FROM teams", Long.class)).containsExactly(sharedTeamId);
+        }
+    }
+}
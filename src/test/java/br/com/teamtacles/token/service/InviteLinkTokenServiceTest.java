@@ -0,0 +1,126 @@
+package br.com.teamtacles.token.service;
+
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.IssuedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InviteLinkTokenServiceTest {
+
+    private static final String SECRET = "test-invite-link-secret-with-at-least-32-bytes";
+
+    private final InviteLinkTokenService inviteLinkTokenService = new InviteLinkTokenService(SECRET);
+
+    @Nested
+    @DisplayName("1. Signed Link Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("1.1 - parse_whenTokenWasIssuedForTheSameScope_shouldReturnItsClaims")
+        void parse_whenTokenWasIssuedForTheSameScope_shouldReturnItsClaims() {
+            // Arrange
+            IssuedToken issued = inviteLinkTokenService.issue(EInviteScope.PROJECT, 42L, "MEMBER", 3, Duration.ofHours(24));
+
+            // Act
+            Optional<InviteLinkClaims> claims = inviteLinkTokenService.parse(EInviteScope.PROJECT, issued.getValue());
+
+            // Assert
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getScope()).isEqualTo(EInviteScope.PROJECT);
+            assertThat(claims.get().getTargetId()).isEqualTo(42L);
+            assertThat(claims.get().getRole()).isEqualTo("MEMBER");
+            assertThat(claims.get().getGeneration()).isEqualTo(3);
+            assertThat(claims.get().getExpiresAt()).isEqualTo(issued.getExpiresAt());
+            assertThat(claims.get().isExpired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("1.2 - parse_whenTokenIsPastItsExpiry_shouldStillReturnClaimsMarkedAsExpired")
+        void parse_whenTokenIsPastItsExpiry_shouldStillReturnClaimsMarkedAsExpired() {
+            // Arrange
+            IssuedToken issued = inviteLinkTokenService.issue(EInviteScope.TEAM, 1L, "MEMBER", 0, Duration.ofHours(-1));
+
+            // Act
+            Optional<InviteLinkClaims> claims = inviteLinkTokenService.parse(EInviteScope.TEAM, issued.getValue());
+
+            // Assert
+            assertThat(claims).isPresent();
+            assertThat(claims.get().isExpired()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Rejection Tests")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("2.1 - parse_whenPayloadIsTampered_shouldReturnEmpty")
+        void parse_whenPayloadIsTampered_shouldReturnEmpty() {
+            // Arrange
+            String token = inviteLinkTokenService.issue(EInviteScope.TEAM, 1L, "MEMBER", 0, Duration.ofHours(24)).getValue();
+            String signature = token.substring(token.indexOf('.') + 1);
+            String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("TEAM:1:ADMIN:4102444800:0".getBytes(StandardCharsets.UTF_8));
+
+            // Act & Assert
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, forgedPayload + "." + signature)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("2.2 - parse_whenSignedWithAnotherSecret_shouldReturnEmpty")
+        void parse_whenSignedWithAnotherSecret_shouldReturnEmpty() {
+            // Arrange
+            InviteLinkTokenService otherService = new InviteLinkTokenService("another-secret-that-also-has-32-bytes-or-more");
+            String token = otherService.issue(EInviteScope.TEAM, 1L, "MEMBER", 0, Duration.ofHours(24)).getValue();
+
+            // Act & Assert
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("2.3 - parse_whenScopeDoesNotMatch_shouldReturnEmpty")
+        void parse_whenScopeDoesNotMatch_shouldReturnEmpty() {
+            // Arrange
+            String token = inviteLinkTokenService.issue(EInviteScope.TEAM, 1L, "MEMBER", 0, Duration.ofHours(24)).getValue();
+
+            // Act & Assert
+            assertThat(inviteLinkTokenService.parse(EInviteScope.PROJECT, token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("2.4 - parse_whenTokenIsMalformed_shouldReturnEmpty")
+        void parse_whenTokenIsMalformed_shouldReturnEmpty() {
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, null)).isEmpty();
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, "")).isEmpty();
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, "no-separator")).isEmpty();
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, "a.b.c")).isEmpty();
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, "%%%.###")).isEmpty();
+            assertThat(inviteLinkTokenService.parse(EInviteScope.TEAM, "x".repeat(1024))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("2.5 - constructor_whenSecretIsTooShort_shouldFailFast")
+        void constructor_whenSecretIsTooShort_shouldFailFast() {
+            assertThatThrownBy(() -> new InviteLinkTokenService("short"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("2.6 - constructor_whenSecretIsMissing_shouldNameTheEnvironmentVariable")
+        void constructor_whenSecretIsMissing_shouldNameTheEnvironmentVariable() {
+            assertThatThrownBy(() -> new InviteLinkTokenService(""))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("INVITE_LINK_SECRET");
+        }
+    }
+}
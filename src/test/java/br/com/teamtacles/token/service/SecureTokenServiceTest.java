@@ -0,0 +1,107 @@
+package br.com.teamtacles.token.service;
+
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.repository.SecureTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SecureTokenServiceTest {
+
+    @Mock
+    private SecureTokenRepository secureTokenRepository;
+
+    @InjectMocks
+    private SecureTokenService secureTokenService;
+
+    @Nested
+    @DisplayName("1. Token Issuing Tests")
+    class TokenIssuingTests {
+
+        @Test
+        @DisplayName("1.1 - issue_shouldRevokePreviousTokenAndPersistOnlyTheHash")
+        void issue_shouldRevokePreviousTokenAndPersistOnlyTheHash() {
+            // Arrange
+            OffsetDateTime before = OffsetDateTime.now();
+
+            // Act
+            IssuedToken issued = secureTokenService.issue(ETokenType.PASSWORD_RESET, 7L, Duration.ofHours(1));
+
+            // Assert
+            ArgumentCaptor<SecureToken> tokenCaptor = ArgumentCaptor.forClass(SecureToken.class);
+            InOrder inOrder = inOrder(secureTokenRepository);
+            inOrder.verify(secureTokenRepository).deleteAllByTokenTypeAndSubjectId(ETokenType.PASSWORD_RESET, 7L);
+            inOrder.verify(secureTokenRepository).save(tokenCaptor.capture());
+
+            SecureToken saved = tokenCaptor.getValue();
+            assertThat(issued.getValue()).isNotBlank().matches("[A-Za-z0-9_-]{43}");
+            assertThat(saved.getTokenHash()).isEqualTo(SecureTokenService.hash(issued.getValue()));
+            assertThat(saved.getTokenHash()).isNotEqualTo(issued.getValue()).hasSize(64);
+            assertThat(saved.getTokenType()).isEqualTo(ETokenType.PASSWORD_RESET);
+            assertThat(saved.getSubjectId()).isEqualTo(7L);
+            assertThat(saved.getExpiresAt()).isEqualTo(issued.getExpiresAt()).isAfter(before.plusMinutes(59));
+        }
+
+        @Test
+        @DisplayName("1.2 - issue_shouldGenerateDifferentValuesOnEachCall")
+        void issue_shouldGenerateDifferentValuesOnEachCall() {
+            // Act
+            IssuedToken first = secureTokenService.issue(ETokenType.TEAM_INVITATION, 1L, Duration.ofHours(24));
+            IssuedToken second = secureTokenService.issue(ETokenType.TEAM_INVITATION, 1L, Duration.ofHours(24));
+
+            // Assert
+            assertThat(first.getValue()).isNotEqualTo(second.getValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Token Lookup Tests")
+    class TokenLookupTests {
+
+        @Test
+        @DisplayName("2.1 - find_shouldLookUpByHashOfThePresentedValue")
+        void find_shouldLookUpByHashOfThePresentedValue() {
+            // Arrange
+            SecureToken stored = new SecureToken(SecureTokenService.hash("raw-token"), ETokenType.EMAIL_VERIFICATION,
+                    3L, OffsetDateTime.now().plusHours(1));
+            when(secureTokenRepository.findByTokenHashAndTokenType(SecureTokenService.hash("raw-token"), ETokenType.EMAIL_VERIFICATION))
+                    .thenReturn(Optional.of(stored));
+
+            // Act
+            Optional<SecureToken> result = secureTokenService.find(ETokenType.EMAIL_VERIFICATION, "raw-token");
+
+            // Assert
+            assertThat(result).contains(stored);
+            verify(secureTokenRepository, never()).findByTokenHashAndTokenType(eq("raw-token"), any());
+        }
+
+        @Test
+        @DisplayName("2.2 - find_whenValueIsBlank_shouldNotQueryTheRepository")
+        void find_whenValueIsBlank_shouldNotQueryTheRepository() {
+            // Act
+            Optional<SecureToken> result = secureTokenService.find(ETokenType.EMAIL_VERIFICATION, " ");
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(secureTokenRepository, never()).findByTokenHashAndTokenType(anyString(), any());
+        }
+    }
+}
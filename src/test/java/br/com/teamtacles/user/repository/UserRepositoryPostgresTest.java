@@ -0,0 +1,80 @@
+package br.com.teamtacles.user.repository;
+
+import br.com.teamtacles.user.model.User;
+import br.com.teamtacles.user.service.UserAvailabilityService;
+import br.com.teamtacles.utils.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRepositoryPostgresTest extends PostgresIntegrationTest {
+
+    private static final OffsetDateTime LONG_AGO = OffsetDateTime.parse("2025-01-01T10:00:00Z");
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("alice");
+        jdbcTemplate.update("UPDATE users SET created_at = ?, updated_at = ? WHERE id = ?", LONG_AGO, LONG_AGO, userId);
+    }
+
+    // Troca feita direto pela entidade, como faria o updateUser de outro nó: nada passa por register() aqui
+    private void renameOutsideRegister(String username, String email) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.setUsername(username);
+            user.setEmail(email);
+        });
+    }
+
+    @Nested
+    @DisplayName("1. Identity Change Tests")
+    class IdentityChangeTests {
+
+        @Test
+        @DisplayName("1.1 - streamIdentifiersUpdatedSince_afterRename_shouldReturnTheNewIdentifiersOfAnOldUser")
+        void streamIdentifiersUpdatedSince_afterRename_shouldReturnTheNewIdentifiersOfAnOldUser() {
+            // Arrange
+            OffsetDateTime beforeRename = OffsetDateTime.now().minusMinutes(1);
+            renameOutsideRegister("alicia", "alicia@example.com");
+
+            // Act
+            String[] identifiers = transactionTemplate.execute(status -> {
+                try (Stream<UserIdentifiers> users = userRepository.streamIdentifiersUpdatedSince(beforeRename)) {
+                    return users.map(user -> user.getUsername() + "/" + user.getEmail()).toArray(String[]::new);
+                }
+            });
+
+            // Assert
+            assertThat(identifiers).containsExactly("alicia/alicia@example.com");
+        }
+
+        @Test
+        @DisplayName("1.2 - refreshRecentUsers_afterRenameOutsideRegister_shouldReportTheNewNameAsTaken")
+        void refreshRecentUsers_afterRenameOutsideRegister_shouldReportTheNewNameAsTaken() {
+            // Arrange
+            userAvailabilityService.rebuild();
+            renameOutsideRegister("alicia", "alicia@example.com");
+
+            // Act
+            userAvailabilityService.refreshRecentUsers();
+
+            // Assert
+            assertThat(userAvailabilityService.checkAvailability("alicia", "alicia@example.com").getUsernameAvailable()).isFalse();
+            assertThat(userAvailabilityService.checkAvailability(null, "ALICIA@example.com").getEmailAvailable()).isFalse();
+        }
+    }
+}
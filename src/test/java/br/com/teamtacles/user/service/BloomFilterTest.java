@@ -0,0 +1,73 @@
+package br.com.teamtacles.user.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BloomFilterTest {
+
+    @Nested
+    @DisplayName("1. Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("1.1 - mightContain_whenValueWasAdded_shouldNeverReturnFalse")
+        void mightContain_whenValueWasAdded_shouldNeverReturnFalse() {
+            // Arrange
+            BloomFilter filter = BloomFilter.create(10_000, 0.01, 1024 * 1024);
+
+            // Act
+            IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+            // Assert
+            assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i));
+        }
+
+        @Test
+        @DisplayName("1.2 - mightContain_whenFilledToCapacity_shouldStayCloseToTheConfiguredFalsePositiveRate")
+        void mightContain_whenFilledToCapacity_shouldStayCloseToTheConfiguredFalsePositiveRate() {
+            // Arrange
+            BloomFilter filter = BloomFilter.create(10_000, 0.01, 1024 * 1024);
+            IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+            // Act
+            long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other" + i)).count();
+
+            // Assert
+            assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+            assertThat(filter.estimatedFalsePositiveRate()).isBetween(0.005, 0.02);
+            assertThat(filter.insertions()).isEqualTo(10_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Sizing Tests")
+    class SizingTests {
+
+        @Test
+        @DisplayName("2.1 - create_shouldSizeForTheFalsePositiveRateWithinTheMemoryCap")
+        void create_shouldSizeForTheFalsePositiveRateWithinTheMemoryCap() {
+            // Act
+            BloomFilter sized = BloomFilter.create(1_000_000, 0.01, 8 * 1024 * 1024);
+            BloomFilter capped = BloomFilter.create(1_000_000, 0.01, 64 * 1024);
+
+            // Assert - ~9.6 bits por item e 7 funções de hash para 1%
+            assertThat(sized.sizeInBytes()).isBetween(1_190_000L, 1_210_000L);
+            assertThat(sized.hashCount()).isEqualTo(7);
+            assertThat(capped.sizeInBytes()).isEqualTo(64 * 1024);
+            assertThat(capped.hashCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("2.2 - create_whenFalsePositiveRateIsOutOfRange_shouldFailFast")
+        void create_whenFalsePositiveRateIsOutOfRange_shouldFailFast() {
+            assertThatThrownBy(() -> BloomFilter.create(1000, 0, 1024)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BloomFilter.create(1000, 1, 1024)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package br.com.teamtacles.user.service;
+
+import br.com.teamtacles.user.dto.response.UserAvailabilityResponseDTO;
+import br.com.teamtacles.user.repository.UserIdentifiers;
+import br.com.teamtacles.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAvailabilityServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicReference<OffsetDateTime> now = new AtomicReference<>(OffsetDateTime.parse("2026-10-19T12:00:00Z"));
+
+    private UserAvailabilityService userAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        userAvailabilityService = new UserAvailabilityService(userRepository, meterRegistry, 1000, 0.01, DataSize.ofKilobytes(64),
+                Duration.ofMinutes(2), now::get);
+    }
+
+    private static UserIdentifiers identifiers(String username, String email) {
+        return new UserIdentifiers() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+
+    private double checks(String field, String result) {
+        return meterRegistry.get("teamtacles.user-availability.checks").tag("field", field).tag("result", result).counter().count();
+    }
+
+    @Nested
+    @DisplayName("1. Availability Check Tests")
+    class AvailabilityCheckTests {
+
+        @Test
+        @DisplayName("1.1 - checkAvailability_beforeFiltersAreLoaded_shouldAskTheDatabase")
+        void checkAvailability_beforeFiltersAreLoaded_shouldAskTheDatabase() {
+            // Arrange
+            when(userRepository.existsByUsername("alice")).thenReturn(true);
+
+            // Act
+            UserAvailabilityResponseDTO response = userAvailabilityService.checkAvailability("alice", null);
+
+            // Assert
+            assertThat(response.getUsernameAvailable()).isFalse();
+            assertThat(response.getEmailAvailable()).isNull();
+            assertThat(checks("username", "not-loaded")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.2 - checkAvailability_whenFilterRulesTheValueOut_shouldAnswerWithoutTheDatabase")
+        void checkAvailability_whenFilterRulesTheValueOut_shouldAnswerWithoutTheDatabase() {
+            // Arrange
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("alice", "Alice@Example.com")));
+            userAvailabilityService.rebuild();
+
+            // Act
+            UserAvailabilityResponseDTO response = userAvailabilityService.checkAvailability("bob", "bob@example.com");
+
+            // Assert
+            assertThat(response.getUsernameAvailable()).isTrue();
+            assertThat(response.getEmailAvailable()).isTrue();
+            verify(userRepository, never()).existsByUsername(anyString());
+            verify(userRepository, never()).existsByEmailIgnoreCase(anyString());
+            assertThat(checks("username", "filtered")).isEqualTo(1.0);
+            assertThat(checks("email", "filtered")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.3 - checkAvailability_whenFilterMightContainTheValue_shouldConfirmInTheDatabaseIgnoringEmailCase")
+        void checkAvailability_whenFilterMightContainTheValue_shouldConfirmInTheDatabaseIgnoringEmailCase() {
+            // Arrange
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("alice", "Alice@Example.com")));
+            when(userRepository.existsByEmailIgnoreCase("alice@example.com")).thenReturn(true);
+            userAvailabilityService.rebuild();
+
+            // Act
+            UserAvailabilityResponseDTO response = userAvailabilityService.checkAvailability(null, " ALICE@example.COM ");
+
+            // Assert
+            assertThat(response.getUsernameAvailable()).isNull();
+            assertThat(response.getEmailAvailable()).isFalse();
+            assertThat(checks("email", "taken")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("1.4 - checkAvailability_whenNothingIsProvided_shouldThrowIllegalArgumentException")
+        void checkAvailability_whenNothingIsProvided_shouldThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> userAvailabilityService.checkAvailability(" ", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Incremental Update Tests")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("2.1 - register_afterLoad_shouldMakeTheNewValuesGoToTheDatabase")
+        void register_afterLoad_shouldMakeTheNewValuesGoToTheDatabase() {
+            // Arrange
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.empty());
+            when(userRepository.existsByUsername("carol")).thenReturn(true);
+            userAvailabilityService.rebuild();
+
+            // Act
+            userAvailabilityService.register("carol", "carol@example.com");
+
+            // Assert
+            assertThat(userAvailabilityService.checkAvailability("carol", null).getUsernameAvailable()).isFalse();
+            verify(userRepository).existsByUsername("carol");
+        }
+
+        @Test
+        @DisplayName("2.2 - register_whileRebuilding_shouldReachTheFiltersBeingBuilt")
+        void register_whileRebuilding_shouldReachTheFiltersBeingBuilt() {
+            // Arrange
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("alice", "alice@example.com"))
+                    .peek(user -> userAvailabilityService.register("carol", "carol@example.com")));
+            when(userRepository.existsByUsername("carol")).thenReturn(true);
+
+            // Act
+            userAvailabilityService.rebuild();
+
+            // Assert
+            assertThat(userAvailabilityService.checkAvailability("carol", null).getUsernameAvailable()).isFalse();
+            assertThat(meterRegistry.get("teamtacles.user-availability.filter.entries").tag("field", "username").gauge().value())
+                    .isEqualTo(2.0);
+            assertThat(meterRegistry.get("teamtacles.user-availability.filter.bytes").tag("field", "email").gauge().value())
+                    .isPositive();
+        }
+
+        @Test
+        @DisplayName("2.3 - refreshRecentUsers_shouldAddUsersCreatedOnOtherNodesSinceTheLastRead")
+        void refreshRecentUsers_shouldAddUsersCreatedOnOtherNodesSinceTheLastRead() {
+            // Arrange
+            OffsetDateTime loadedAt = now.get();
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("alice", "alice@example.com")));
+            userAvailabilityService.rebuild();
+            now.set(loadedAt.plusSeconds(15));
+            // "dave" foi cadastrado em outro nó, sem passar por register() neste
+            when(userRepository.streamIdentifiersUpdatedSince(loadedAt.minusMinutes(2)))
+                    .thenReturn(Stream.of(identifiers("alice", "alice@example.com"), identifiers("dave", "Dave@Example.com")));
+            when(userRepository.existsByUsername("dave")).thenReturn(true);
+            when(userRepository.existsByEmailIgnoreCase("dave@example.com")).thenReturn(true);
+
+            // Act
+            userAvailabilityService.refreshRecentUsers();
+
+            // Assert
+            UserAvailabilityResponseDTO response = userAvailabilityService.checkAvailability("dave", "dave@example.com");
+            assertThat(response.getUsernameAvailable()).isFalse();
+            assertThat(response.getEmailAvailable()).isFalse();
+            assertThat(meterRegistry.get("teamtacles.user-availability.filter.entries").tag("field", "username").gauge().value())
+                    .isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("2.4 - refreshRecentUsers_shouldAddNamesChangedOnOtherNodesSinceTheLastRead")
+        void refreshRecentUsers_shouldAddNamesChangedOnOtherNodesSinceTheLastRead() {
+            // Arrange
+            OffsetDateTime loadedAt = now.get();
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.of(identifiers("alice", "alice@example.com")));
+            userAvailabilityService.rebuild();
+            now.set(loadedAt.plusSeconds(15));
+            // "alice" virou "alicia" (e trocou de e-mail) pelo updateUser de outro nó; o cadastro dela é anterior à carga
+            when(userRepository.streamIdentifiersUpdatedSince(loadedAt.minusMinutes(2)))
+                    .thenReturn(Stream.of(identifiers("alicia", "alicia@example.com")));
+            when(userRepository.existsByUsername("alicia")).thenReturn(true);
+            when(userRepository.existsByEmailIgnoreCase("alicia@example.com")).thenReturn(true);
+
+            // Act
+            userAvailabilityService.refreshRecentUsers();
+
+            // Assert
+            UserAvailabilityResponseDTO response = userAvailabilityService.checkAvailability("alicia", "alicia@example.com");
+            assertThat(response.getUsernameAvailable()).isFalse();
+            assertThat(response.getEmailAvailable()).isFalse();
+            verify(userRepository).existsByUsername("alicia");
+            verify(userRepository).existsByEmailIgnoreCase("alicia@example.com");
+        }
+
+        @Test
+        @DisplayName("2.5 - refreshRecentUsers_shouldStartEachReadWhereThePreviousOneStarted")
+        void refreshRecentUsers_shouldStartEachReadWhereThePreviousOneStarted() {
+            // Arrange
+            OffsetDateTime loadedAt = now.get();
+            when(userRepository.streamAllIdentifiers()).thenReturn(Stream.empty());
+            when(userRepository.streamIdentifiersUpdatedSince(any())).thenAnswer(invocation -> Stream.empty());
+            userAvailabilityService.rebuild();
+
+            // Act
+            now.set(loadedAt.plusSeconds(15));
+            userAvailabilityService.refreshRecentUsers();
+            now.set(loadedAt.plusSeconds(30));
+            userAvailabilityService.refreshRecentUsers();
+
+            // Assert
+            verify(userRepository).streamIdentifiersUpdatedSince(loadedAt.minusMinutes(2));
+            verify(userRepository).streamIdentifiersUpdatedSince(loadedAt.plusSeconds(15).minusMinutes(2));
+        }
+
+        @Test
+        @DisplayName("2.6 - refreshRecentUsers_beforeFirstLoad_shouldNotQueryTheDatabase")
+        void refreshRecentUsers_beforeFirstLoad_shouldNotQueryTheDatabase() {
+            // Act
+            userAvailabilityService.refreshRecentUsers();
+
+            // Assert
+            verifyNoInteractions(userRepository);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package br.com.teamtacles.user.service;
 
 import br.com.teamtacles.common.exception.*;
 import br.com.teamtacles.infrastructure.email.EmailService;
+import br.com.teamtacles.project.repository.ProjectCollectionVersionRepository;
 import br.com.teamtacles.project.repository.ProjectMemberRepository;
 import br.com.teamtacles.project.repository.ProjectRepository;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.SecureToken;
+import br.com.teamtacles.token.service.SecureTokenService;
 import br.com.teamtacles.user.dto.request.UserRequestRegisterDTO;
 import br.com.teamtacles.user.dto.request.UserRequestUpdateDTO;
 import br.com.teamtacles.user.dto.response.UserResponseDTO;
@@ -22,9 +26,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import br.com.teamtacles.user.mapper.UserMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -69,9 +74,16 @@ public class UserServiceTest {
     @Mock
     private EmailService emailService;
     @Mock
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
     @Mock
     private PasswordUpdateValidator passwordUpdateValidator;
+    @Mock
+    private SecureTokenService secureTokenService;
+    @Mock
+    private ProjectCollectionVersionRepository projectCollectionVersionRepository;
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
     @InjectMocks
     private UserService userService;
 
@@ -95,7 +107,9 @@ public class UserServiceTest {
             when(roleRepository.findByRoleName(any())).thenReturn(Optional.of(defaultRole));
             when(passwordEncoder.encode(validRequestDTO.getPassword())).thenReturn("encodedPassword123");
             when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(modelMapper.map(any(User.class), eq(UserResponseDTO.class)))
+            when(secureTokenService.issue(eq(ETokenType.EMAIL_VERIFICATION), any(), eq(Duration.ofHours(1))))
+                    .thenReturn(TestDataFactory.createIssuedToken("verification-token"));
+            when(userMapper.toUserResponseDTO(any(User.class)))
                     .thenAnswer(invocation -> {
                         User savedUser = invocation.getArgument(0);
                         return new UserResponseDTO(1L, savedUser.getUsername(), savedUser.getEmail(), true);
@@ -112,15 +126,14 @@ public class UserServiceTest {
 
             assertThat(savedUser.getPassword()).isEqualTo("encodedPassword123");
             assertThat(savedUser.isEnabled()).isFalse();
-            assertThat(savedUser.getVerificationToken()).isNotNull();
-            assertThat(savedUser.getVerificationTokenExpiry()).isNotNull();
 
             verify(userUniquenessValidator, times(1)).validate(validRequestDTO);
             verify(passwordMatchValidator, times(1)).validate(validRequestDTO.getPassword(), validRequestDTO.getPasswordConfirm());
             verify(emailService, times(1)).sendVerificationEmail(
                     eq(savedUser.getEmail()),
-                    eq(savedUser.getVerificationToken())
+                    eq("verification-token")
             );
+            verify(userAvailabilityService).register(savedUser.getUsername(), savedUser.getEmail());
         }
 
         @Test
@@ -198,27 +211,28 @@ public class UserServiceTest {
         void shouldVerifyUserSuccessfully_WhenTokenIsValidAndNotExpired() {
             // Given
             User unverifiedUser = TestDataFactory.createUnverifiedUser();
-            when(userRepository.findByVerificationToken(anyString())).thenReturn(Optional.of(unverifiedUser));
-            doNothing().when(userTokenValidator).validateVerificationToken(any(User.class));
+            SecureToken token = TestDataFactory.createSecureToken(ETokenType.EMAIL_VERIFICATION, unverifiedUser.getId());
+            when(secureTokenService.find(ETokenType.EMAIL_VERIFICATION, "valid-token")).thenReturn(Optional.of(token));
+            when(userRepository.findById(unverifiedUser.getId())).thenReturn(Optional.of(unverifiedUser));
 
             // When
             userService.verifyUser("valid-token");
 
             // Then
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+            verify(userTokenValidator).validateVerificationToken(token);
             verify(userRepository).save(userCaptor.capture());
             User savedUser = userCaptor.getValue();
 
             assertThat(savedUser.isEnabled()).isTrue();
-            assertThat(savedUser.getVerificationToken()).isNull();
-            assertThat(savedUser.getVerificationTokenExpiry()).isNull();
+            verify(secureTokenService).revoke(ETokenType.EMAIL_VERIFICATION, unverifiedUser.getId());
         }
 
         @Test
         @DisplayName("2.2 - shouldThrowException_WhenVerificationTokenIsInvalidOrNonExistent")
         void shouldThrowException_WhenVerificationTokenIsInvalidOrNonExistent() {
             // Given
-            when(userRepository.findByVerificationToken(anyString())).thenReturn(Optional.empty());
+            when(secureTokenService.find(ETokenType.EMAIL_VERIFICATION, "invalid-token")).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> userService.verifyUser("invalid-token"))
@@ -232,14 +246,16 @@ public class UserServiceTest {
         void shouldThrowException_WhenVerificationTokenIsExpired() {
             // Given
             User userWithExpiredToken = TestDataFactory.createUnverifiedUser();
-            when(userRepository.findByVerificationToken(anyString())).thenReturn(Optional.of(userWithExpiredToken));
-            doThrow(new ResourceNotFoundException("Token expired")).when(userTokenValidator).validateVerificationToken(any(User.class));
+            SecureToken expiredToken = TestDataFactory.createExpiredSecureToken(ETokenType.EMAIL_VERIFICATION, userWithExpiredToken.getId());
+            when(secureTokenService.find(ETokenType.EMAIL_VERIFICATION, "expired-token")).thenReturn(Optional.of(expiredToken));
+            doThrow(new ResourceNotFoundException("Token expired")).when(userTokenValidator).validateVerificationToken(expiredToken);
 
             // When & Then
             assertThatThrownBy(() -> userService.verifyUser("expired-token"))
                     .isInstanceOf(ResourceNotFoundException.class);
 
             verify(userRepository, never()).save(any());
+            verify(secureTokenService, never()).revoke(any(), any());
         }
     }
 
@@ -264,7 +280,7 @@ public class UserServiceTest {
             doNothing().when(passwordUpdateValidator).validate(any(UserRequestUpdateDTO.class), any(User.class));
 
             when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(modelMapper.map(any(User.class), eq(UserResponseDTO.class)))
+            when(userMapper.toUserResponseDTO(any(User.class)))
                     .thenReturn(new UserResponseDTO(existingUser.getId(), updateDTO.getUsername(), updateDTO.getEmail(), true));
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
@@ -368,6 +384,34 @@ public class UserServiceTest {
             verify(userRepository, never()).save(any(User.class));
         }
 
+        @Test
+        @DisplayName("3.7 - shouldBumpMemberListAndAssignedTaskVersions_WhenUsernameChanges")
+        void shouldBumpMemberListAndAssignedTaskVersions_WhenUsernameChanges() {
+            // Given
+            UserRequestUpdateDTO updateDTO = new UserRequestUpdateDTO("newUsername", null, null, null);
+
+            // When
+            userService.updateUser(updateDTO, existingUser);
+
+            // Then
+            verify(projectCollectionVersionRepository).bumpVersionsOfUserProjects(existingUser.getId());
+            verify(taskRepository).bumpVersionsOfTasksAssignedTo(existingUser.getId());
+        }
+
+        @Test
+        @DisplayName("3.8 - shouldNotBumpAnyVersion_WhenOnlyThePasswordChanges")
+        void shouldNotBumpAnyVersion_WhenOnlyThePasswordChanges() {
+            // Given
+            UserRequestUpdateDTO updateDTO = new UserRequestUpdateDTO(existingUser.getUsername(), null, "newPassword123", "newPassword123");
+
+            // When
+            userService.updateUser(updateDTO, existingUser);
+
+            // Then
+            verifyNoInteractions(projectCollectionVersionRepository);
+            verify(taskRepository, never()).bumpVersionsOfTasksAssignedTo(anyLong());
+        }
+
     }
 
     // PASSWORD RESET
@@ -380,11 +424,12 @@ public class UserServiceTest {
         void shouldResetPasswordSuccessfully_WhenTokenIsValid() {
             // Given
             User user = TestDataFactory.createValidUser();
-            user.assignPasswordResetToken("valid-token", OffsetDateTime.now().plusHours(1));
+            SecureToken token = TestDataFactory.createSecureToken(ETokenType.PASSWORD_RESET, user.getId());
             String newPassword = "newSecurePassword123";
 
-            when(userRepository.findByResetPasswordToken("valid-token")).thenReturn(Optional.of(user));
-            doNothing().when(userTokenValidator).validatePasswordResetToken(user);
+            when(secureTokenService.find(ETokenType.PASSWORD_RESET, "valid-token")).thenReturn(Optional.of(token));
+            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+            doNothing().when(userTokenValidator).validatePasswordResetToken(token);
             doNothing().when(passwordMatchValidator).validate(newPassword, newPassword);
             doNothing().when(newPasswordValidator).validate(newPassword, user.getPassword());
             when(passwordEncoder.encode(newPassword)).thenReturn("encodedNewPassword");
@@ -398,8 +443,7 @@ public class UserServiceTest {
             User savedUser = userCaptor.getValue();
 
             assertThat(savedUser.getPassword()).isEqualTo("encodedNewPassword");
-            assertThat(savedUser.getResetPasswordToken()).isNull();
-            assertThat(savedUser.getResetPasswordTokenExpiry()).isNull();
+            verify(secureTokenService).revoke(ETokenType.PASSWORD_RESET, user.getId());
         }
 
         @Test
@@ -407,7 +451,7 @@ public class UserServiceTest {
         void shouldThrowException_WhenResetTokenIsInvalidOrExpired() {
             // Given
             String invalidToken = "invalid-token";
-            when(userRepository.findByResetPasswordToken(invalidToken)).thenReturn(Optional.empty());
+            when(secureTokenService.find(ETokenType.PASSWORD_RESET, invalidToken)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> userService.resetPassword(invalidToken, "any", "any"))
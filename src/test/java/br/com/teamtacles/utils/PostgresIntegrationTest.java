@@ -0,0 +1,86 @@
+package br.com.teamtacles.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+
+// As consultas nativas exclusivas do PostgreSQL (ON CONFLICT, CTEs com UPDATE, UPDATE ... FROM) não rodam no H2 dos
+// demais testes; as subclasses sobem o contexto completo num PostgreSQL real, com as migrações de db/vendor/postgresql.
+// Um único container atende todas as classes, para que o contexto do Spring reaproveitado entre elas não aponte para
+// um banco já parado.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    // Tarefas, vínculos e atribuições caem por ON DELETE CASCADE
+    @BeforeEach
+    void clearDatabase() {
+        jdbcTemplate.update("DELETE FROM account_deletion_jobs");
+        jdbcTemplate.update("DELETE FROM project");
+        jdbcTemplate.update("DELETE FROM teams");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    protected long insertUser(String username) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (username, email, password, created_at, updated_at, enabled) VALUES (?, ?, 'x', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, TRUE) RETURNING id",
+                Long.class, username, username + "@example.com");
+    }
+
+    protected long insertTeam(String name, long ownerId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO teams (name, owner_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP) RETURNING id", Long.class, name, ownerId);
+    }
+
+    protected void insertTeamMember(long teamId, long userId, String role, boolean accepted, OffsetDateTime joinedAt) {
+        jdbcTemplate.update("INSERT INTO team_members (user_id, team_id, joined_at, accepted_invite, team_role) VALUES (?, ?, ?, ?, ?)",
+                userId, teamId, joinedAt, accepted, role);
+    }
+
+    protected long insertProject(String title, long ownerId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO project (title, owner_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP) RETURNING id", Long.class, title, ownerId);
+    }
+
+    protected void insertProjectMember(long projectId, long userId, String role, boolean accepted, OffsetDateTime joinedAt) {
+        jdbcTemplate.update("INSERT INTO project_members (project_id, user_id, joined_at, accepted_invite, project_role) VALUES (?, ?, ?, ?, ?)",
+                projectId, userId, joinedAt, accepted, role);
+    }
+
+    protected long insertTask(long projectId, String title, long ownerId) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks (title, status, updated_at, created_at, project_id, owner_id, order_key) "
+                        + "VALUES (?, 'TO_DO', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, ?, 'a0') RETURNING id",
+                Long.class, title, projectId, ownerId);
+    }
+
+    protected void insertTaskAssignment(long taskId, long userId, String role, OffsetDateTime assignedAt) {
+        jdbcTemplate.update("INSERT INTO task_assignments (task_id, user_id, task_role, assigned_at) VALUES (?, ?, ?, ?)",
+                taskId, userId, role, assignedAt);
+    }
+}
@@ -20,6 +20,11 @@ import br.com.teamtacles.team.dto.request.UpdateMemberRoleTeamRequestDTO;
 import br.com.teamtacles.team.enumeration.ETeamRole;
 import br.com.teamtacles.team.model.Team;
 import br.com.teamtacles.team.model.TeamMember;
+import br.com.teamtacles.token.enumeration.EInviteScope;
+import br.com.teamtacles.token.enumeration.ETokenType;
+import br.com.teamtacles.token.model.InviteLinkClaims;
+import br.com.teamtacles.token.model.IssuedToken;
+import br.com.teamtacles.token.model.SecureToken;
 import br.com.teamtacles.user.dto.request.UserRequestRegisterDTO;
 import br.com.teamtacles.user.enumeration.ERole;
 import br.com.teamtacles.user.model.Role;
@@ -63,7 +68,6 @@ public class TestDataFactory {
     public static User createUnverifiedUser() {
         User user = createValidUser();
         user.disableAccount();
-        user.assignVerificationToken("valid-token-123", OffsetDateTime.now().plusHours(1));
         return user;
     }
 
@@ -75,6 +79,30 @@ public class TestDataFactory {
         return new UserRequestRegisterDTO("testuser", "test@gmail.com", "Password123", "Password123");
     }
 
+    // ===================================================================================
+    // DOMÍNIO: Token
+    // ===================================================================================
+
+    public static SecureToken createSecureToken(ETokenType tokenType, Long subjectId) {
+        return new SecureToken("hashed-token", tokenType, subjectId, OffsetDateTime.now().plusHours(1));
+    }
+
+    public static SecureToken createExpiredSecureToken(ETokenType tokenType, Long subjectId) {
+        return new SecureToken("hashed-token", tokenType, subjectId, OffsetDateTime.now().minusDays(1));
+    }
+
+    public static IssuedToken createIssuedToken(String value) {
+        return new IssuedToken(value, OffsetDateTime.now().plusHours(24));
+    }
+
+    public static InviteLinkClaims createInviteLinkClaims(EInviteScope scope, Long targetId, String role, int generation) {
+        return new InviteLinkClaims(scope, targetId, role, OffsetDateTime.now().plusHours(1), generation);
+    }
+
+    public static InviteLinkClaims createExpiredInviteLinkClaims(EInviteScope scope, Long targetId, String role, int generation) {
+        return new InviteLinkClaims(scope, targetId, role, OffsetDateTime.now().minusHours(1), generation);
+    }
+
     // ===================================================================================
     // DOMÍNIO: Team
     // ===================================================================================
@@ -126,28 +154,18 @@ public class TestDataFactory {
         return new UpdateMemberRoleTeamRequestDTO(newRole);
     }
 
-    public static TeamMember createTeamMemberWithExpiredInvitation(User user, Team team, ETeamRole role) {
+    public static TeamMember createPendingTeamMember(User user, Team team, ETeamRole role) {
         TeamMember member = new TeamMember(user, team, role);
-        String token = member.generateInvitation();
-
-        // simulando a expiração
         try {
-            Field expiryField = TeamMember.class.getDeclaredField("invitationTokenExpiry");
-            expiryField.setAccessible(true);
-            ReflectionUtils.setField(expiryField, member, OffsetDateTime.now().minusDays(1));
+            Field idField = TeamMember.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            ReflectionUtils.setField(idField, member, user.getId() + 100);
         } catch (NoSuchFieldException e) {
-            throw new RuntimeException("Failed to set expiry date on TeamMember mock", e);
+            throw new RuntimeException(e);
         }
-
         return member;
     }
 
-    public static Team createTeamWithActiveInviteLink(User owner) {
-        Team team = createTeam(owner);
-        team.generateInviteLinkToken(); // Gera o token e a data de expiração
-        return team;
-    }
-
     public static TeamRequestUpdateDTO createTeamRequestUpdateDTO(String newName, String newDescription) {
         return new TeamRequestUpdateDTO(newName, newDescription);
     }
@@ -187,7 +205,6 @@ public class TestDataFactory {
 
     public static ProjectMember createPendingProjectMember(User user, Project project, EProjectRole role) {
         ProjectMember member = new ProjectMember(user, project, role);
-        member.generateInvitation();
 
         try {
             Field idField = ProjectMember.class.getDeclaredField("id");